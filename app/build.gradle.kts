@@ -32,6 +32,12 @@ android {
     buildFeatures {
         viewBinding = true
     }
+    testOptions {
+        // Benchmarks under src/test/.../benchmark only run with -Pbenchmarks.
+        unitTests.all {
+            it.systemProperty("githubclient.benchmarks", project.hasProperty("benchmarks").toString())
+        }
+    }
 }
 
 dependencies {
@@ -40,6 +46,7 @@ dependencies {
     implementation("com.google.android.material:material:1.11.0")
     implementation("androidx.constraintlayout:constraintlayout:2.1.4")
     implementation("androidx.fragment:fragment:1.6.2")
+    implementation("androidx.asynclayoutinflater:asynclayoutinflater:1.0.0")
 
     // ViewModel & LiveData for MVVM
     implementation("androidx.lifecycle:lifecycle-viewmodel:2.7.0")
@@ -52,12 +59,14 @@ dependencies {
 
     // Image Loading with Glide
     implementation("com.github.bumptech.glide:glide:4.16.0")
+    annotationProcessor("com.github.bumptech.glide:compiler:4.16.0")
 
     // Markdown Renderer
     implementation("org.markdownj:markdownj-core:0.4")
 
     // Testing
     testImplementation("junit:junit:4.13.2")
+    testImplementation("com.squareup.okhttp3:mockwebserver:4.11.0")
     androidTestImplementation("androidx.test.ext:junit:1.1.5")
     androidTestImplementation("androidx.test.espresso:espresso-core:3.5.1")
 }
\ No newline at end of file
@@ -70,7 +70,9 @@ public class AuthenticationActivity extends AppCompatActivity {
         // Xử lý khi đăng nhập thành công (cho cả mock và thật)
         if (state.getSession() != null && !loading) {
             // Chuyển sang MainActivity
-            Intent intent = new Intent(this, MainActivity.class);
+            // Clears the task so a main screen still bound to another account is not kept.
+            Intent intent = new Intent(this, MainActivity.class)
+                    .addFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK);
             startActivity(intent);
             finish(); // Đóng AuthenticationActivity
         }
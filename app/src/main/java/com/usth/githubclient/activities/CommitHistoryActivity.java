@@ -0,0 +1,113 @@
+package com.usth.githubclient.activities;
+
+import android.content.Context;
+import android.content.Intent;
+import android.os.Bundle;
+import android.text.TextUtils;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.lifecycle.ViewModelProvider;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.usth.githubclient.R;
+import com.usth.githubclient.adapters.CommitHistoryAdapter;
+import com.usth.githubclient.databinding.ActivityCommitHistoryBinding;
+import com.usth.githubclient.viewmodel.CommitHistoryViewModel;
+
+/**
+ * Shows the commit history of one branch, loading older commits as the list is scrolled.
+ */
+public class CommitHistoryActivity extends AppCompatActivity {
+
+    public static final String EXTRA_OWNER = "com.usth.githubclient.extra.EXTRA_OWNER";
+    public static final String EXTRA_REPO = "com.usth.githubclient.extra.EXTRA_REPO";
+    public static final String EXTRA_BRANCH = "com.usth.githubclient.extra.EXTRA_BRANCH";
+    private static final String DEFAULT_BRANCH = "HEAD";
+    // Rows left below the viewport when the next page is requested.
+    private static final int LOAD_MORE_THRESHOLD = 20;
+
+    private ActivityCommitHistoryBinding binding;
+    private CommitHistoryViewModel viewModel;
+    private CommitHistoryAdapter adapter;
+
+    /**
+     * Convenience helper to build an {@link Intent} pointing to this activity.
+     */
+    @NonNull
+    public static Intent createIntent(@NonNull Context context,
+                                      @NonNull String owner,
+                                      @NonNull String repo,
+                                      @Nullable String branch) {
+        Intent intent = new Intent(context, CommitHistoryActivity.class);
+        intent.putExtra(EXTRA_OWNER, owner);
+        intent.putExtra(EXTRA_REPO, repo);
+        if (!TextUtils.isEmpty(branch)) {
+            intent.putExtra(EXTRA_BRANCH, branch);
+        }
+        return intent;
+    }
+
+    @Override
+    protected void onCreate(@Nullable Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        binding = ActivityCommitHistoryBinding.inflate(getLayoutInflater());
+        setContentView(binding.getRoot());
+
+        String owner = getIntent().getStringExtra(EXTRA_OWNER);
+        String repo = getIntent().getStringExtra(EXTRA_REPO);
+        if (TextUtils.isEmpty(owner) || TextUtils.isEmpty(repo)) {
+            finish();
+            return;
+        }
+        String branch = getIntent().getStringExtra(EXTRA_BRANCH);
+        if (TextUtils.isEmpty(branch)) {
+            branch = DEFAULT_BRANCH;
+        }
+
+        setSupportActionBar(binding.toolbar);
+        if (getSupportActionBar() != null) {
+            getSupportActionBar().setDisplayHomeAsUpEnabled(true);
+            getSupportActionBar().setTitle(repo);
+            getSupportActionBar().setSubtitle(getString(R.string.history_subtitle, branch));
+        }
+        binding.toolbar.setNavigationOnClickListener(v -> finish());
+
+        adapter = new CommitHistoryAdapter();
+        LinearLayoutManager layoutManager = new LinearLayoutManager(this);
+        binding.historyList.setLayoutManager(layoutManager);
+        binding.historyList.setAdapter(adapter);
+        binding.historyList.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                if (dy > 0 && layoutManager.findLastVisibleItemPosition()
+                        >= adapter.getItemCount() - LOAD_MORE_THRESHOLD) {
+                    viewModel.loadMore();
+                }
+            }
+        });
+        binding.historyMessage.setOnClickListener(v -> viewModel.retry());
+
+        viewModel = new ViewModelProvider(this).get(CommitHistoryViewModel.class);
+        viewModel.getUiState().observe(this, this::renderState);
+        viewModel.open(owner, repo, branch);
+    }
+
+    private void renderState(@NonNull CommitHistoryViewModel.HistoryUiState state) {
+        binding.historyProgress.setVisibility(state.isLoading() ? View.VISIBLE : View.GONE);
+        adapter.submitList(state.getCommits());
+
+        String message = null;
+        if (state.getErrorMessage() != null) {
+            message = getString(R.string.history_error, state.getErrorMessage());
+        } else if (!state.isLoading() && state.getCommits().isEmpty()) {
+            message = getString(R.string.history_empty);
+        }
+        binding.historyMessage.setVisibility(message == null ? View.GONE : View.VISIBLE);
+        binding.historyMessage.setText(message);
+        binding.historyMessage.setClickable(state.getErrorMessage() != null);
+    }
+}
@@ -0,0 +1,110 @@
+package com.usth.githubclient.activities;
+
+import android.content.Context;
+import android.content.Intent;
+import android.os.Bundle;
+import android.text.TextUtils;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.lifecycle.ViewModelProvider;
+import androidx.recyclerview.widget.LinearLayoutManager;
+
+import com.usth.githubclient.R;
+import com.usth.githubclient.adapters.IssuesAdapter;
+import com.usth.githubclient.databinding.ActivityIssuesBinding;
+import com.usth.githubclient.viewmodel.IssuesViewModel;
+
+/**
+ * Lists the open issues and pull requests of a repository from the local store, synced
+ * incrementally each time the screen opens.
+ */
+public class IssuesActivity extends AppCompatActivity {
+
+    public static final String EXTRA_OWNER = "com.usth.githubclient.extra.EXTRA_OWNER";
+    public static final String EXTRA_REPO = "com.usth.githubclient.extra.EXTRA_REPO";
+    public static final String EXTRA_OPEN_ISSUES_COUNT = "com.usth.githubclient.extra.EXTRA_OPEN_ISSUES_COUNT";
+
+    private ActivityIssuesBinding binding;
+    private IssuesViewModel viewModel;
+    private IssuesAdapter adapter;
+
+    /**
+     * Convenience helper to build an {@link Intent} pointing to this activity.
+     */
+    @NonNull
+    public static Intent createIntent(@NonNull Context context,
+                                      @NonNull String owner,
+                                      @NonNull String repo,
+                                      int openIssuesCount) {
+        Intent intent = new Intent(context, IssuesActivity.class);
+        intent.putExtra(EXTRA_OWNER, owner);
+        intent.putExtra(EXTRA_REPO, repo);
+        intent.putExtra(EXTRA_OPEN_ISSUES_COUNT, openIssuesCount);
+        return intent;
+    }
+
+    @Override
+    protected void onCreate(@Nullable Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        binding = ActivityIssuesBinding.inflate(getLayoutInflater());
+        setContentView(binding.getRoot());
+
+        String owner = getIntent().getStringExtra(EXTRA_OWNER);
+        String repo = getIntent().getStringExtra(EXTRA_REPO);
+        if (TextUtils.isEmpty(owner) || TextUtils.isEmpty(repo)) {
+            finish();
+            return;
+        }
+        int openIssuesCount = getIntent().getIntExtra(EXTRA_OPEN_ISSUES_COUNT, 0);
+
+        setSupportActionBar(binding.toolbar);
+        if (getSupportActionBar() != null) {
+            getSupportActionBar().setDisplayHomeAsUpEnabled(true);
+            getSupportActionBar().setTitle(repo);
+        }
+        binding.toolbar.setNavigationOnClickListener(v -> finish());
+
+        adapter = new IssuesAdapter();
+        binding.issuesList.setLayoutManager(new LinearLayoutManager(this));
+        binding.issuesList.setAdapter(adapter);
+        binding.issuesMessage.setOnClickListener(v -> viewModel.refresh());
+        binding.issuesFilter.addOnButtonCheckedListener((group, checkedId, isChecked) -> {
+            if (!isChecked) {
+                return;
+            }
+            if (checkedId == R.id.issues_filter_issues) {
+                viewModel.setFilter(IssuesViewModel.Filter.ISSUES);
+            } else if (checkedId == R.id.issues_filter_pulls) {
+                viewModel.setFilter(IssuesViewModel.Filter.PULL_REQUESTS);
+            } else {
+                viewModel.setFilter(IssuesViewModel.Filter.ALL);
+            }
+        });
+
+        viewModel = new ViewModelProvider(this).get(IssuesViewModel.class);
+        viewModel.getUiState().observe(this, this::renderState);
+        viewModel.open(owner, repo, openIssuesCount);
+    }
+
+    private void renderState(@NonNull IssuesViewModel.IssuesUiState state) {
+        if (getSupportActionBar() != null) {
+            getSupportActionBar().setSubtitle(state.getTotalCount() == 0
+                    ? null : getString(R.string.issues_subtitle, state.getTotalCount()));
+        }
+        binding.issuesProgress.setVisibility(state.isSyncing() ? View.VISIBLE : View.GONE);
+        adapter.submitList(state.getIssues());
+
+        String message = null;
+        if (state.getErrorMessage() != null) {
+            message = getString(R.string.issues_error, state.getErrorMessage());
+        } else if (!state.isSyncing() && state.getIssues().isEmpty()) {
+            message = getString(R.string.issues_empty);
+        }
+        binding.issuesMessage.setVisibility(message == null ? View.GONE : View.VISIBLE);
+        binding.issuesMessage.setText(message);
+        binding.issuesMessage.setClickable(state.getErrorMessage() != null);
+    }
+}
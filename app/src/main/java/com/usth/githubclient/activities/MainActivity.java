@@ -6,28 +6,45 @@ import android.os.Bundle;
 import android.text.Editable;
 import android.text.TextUtils;
 import android.text.TextWatcher;
+import android.view.Menu;
+import android.view.MenuItem;
+import android.view.SubMenu;
 import android.view.View;
 import android.widget.Toast;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.fragment.app.Fragment;
+import androidx.fragment.app.FragmentManager;
+import androidx.fragment.app.FragmentTransaction;
+import androidx.lifecycle.ViewModelProvider;
+
+import com.google.android.material.badge.BadgeDrawable;
+import com.google.android.material.dialog.MaterialAlertDialogBuilder;
 
 import com.usth.githubclient.R;
+import com.usth.githubclient.adapters.ListItemViewPool;
 import com.usth.githubclient.data.remote.ApiClient;
 import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.remote.GithubGraphQlService;
+import com.usth.githubclient.data.repository.AuthRepository;
+import com.usth.githubclient.data.repository.GraphQlRepository;
 import com.usth.githubclient.data.repository.RepoRepository;
 import com.usth.githubclient.data.repository.UserRepository;
 import com.usth.githubclient.databinding.ActivityMainBinding;
 import com.usth.githubclient.di.ServiceLocator;
+import com.usth.githubclient.domain.collection.PersistentList;
 import com.usth.githubclient.domain.model.GitHubUserProfileDataEntry;
+import com.usth.githubclient.domain.model.MainScreenSnapshot;
 import com.usth.githubclient.domain.model.ReposDataEntry;
 import com.usth.githubclient.domain.model.UserSessionData;
+import com.usth.githubclient.domain.query.RepositoryQuery;
 import com.usth.githubclient.fragments.FollowersListFragment;
 import com.usth.githubclient.fragments.RepositoriesListFragment;
+import com.usth.githubclient.viewmodel.NotificationsViewModel;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -41,26 +58,35 @@ import java.util.concurrent.Executors;
 // Thêm "implements NavigationView.OnNavigationItemSelectedListener"
 public class MainActivity extends AppCompatActivity implements
         FollowersListFragment.OnFollowerSelectedListener,
-        RepositoriesListFragment.OnRepositorySelectedListener {
+        RepositoriesListFragment.OnRepositorySelectedListener,
+        ListItemViewPool.Provider {
     private static final String KEY_CURRENT_QUERY = "key_current_query";
     private static final String KEY_SELECTED_TAB = "key_selected_tab";
     private static final String DEFAULT_USERNAME = "octocat";
+    // Matches the REST default page size so both paths show the same amount of data.
+    private static final int MAIN_SCREEN_PAGE_SIZE = 30;
 
 
 
     private ActivityMainBinding binding;
     private FollowersListFragment followersFragment;
     private RepositoriesListFragment repositoriesFragment;
+    private ListItemViewPool listItemViewPool;
+    private NotificationsViewModel notificationsViewModel;
 
     private TextWatcher searchWatcher;
-    private final List<GitHubUserProfileDataEntry> allFollowers = new ArrayList<>();
-    private final List<ReposDataEntry> allRepositories = new ArrayList<>();
+    // Shared as-is with the fragments and adapters; replaced, never mutated.
+    private PersistentList<GitHubUserProfileDataEntry> allFollowers = PersistentList.empty();
+    private PersistentList<ReposDataEntry> allRepositories = PersistentList.empty();
     private final ExecutorService networkExecutor = Executors.newFixedThreadPool(2);
     private UserRepository userRepository;
     private RepoRepository repoRepository;
+    private GraphQlRepository graphQlRepository;
     private String activeUsername = DEFAULT_USERNAME;
     private boolean followersLoading;
     private boolean repositoriesLoading;
+    // Languages listed in the options menu, in item order.
+    private List<String> menuLanguages = Collections.emptyList();
     private CharSequence followersSummaryText;
     private CharSequence repositoriesSummaryText;
     private String currentQuery = "";
@@ -73,6 +99,7 @@ public class MainActivity extends AppCompatActivity implements
         super.onCreate(savedInstanceState);
         binding = ActivityMainBinding.inflate(getLayoutInflater());
         setContentView(binding.getRoot());
+        prewarmListRows();
 
         initialiseDataSources();
         activeUsername = resolveInitialUsername();
@@ -82,8 +109,10 @@ public class MainActivity extends AppCompatActivity implements
         setupToolbar();
 
         setupBottomNavigation();
+        setupNotificationsBadge();
 
         restoreState(savedInstanceState);
+        restoreTabFragments();
         setupSearchField();
 
         if (selectedNavigationItemId == R.id.nav_repositories) {
@@ -95,8 +124,25 @@ public class MainActivity extends AppCompatActivity implements
             binding.bottomNavigation.setSelectedItemId(R.id.nav_home);
         }
 
-        loadFollowersFromApi();
-        loadRepositoriesFromApi();
+        loadMainScreenData();
+    }
+
+    /** Starts inflating list rows in the background while the rest of the screen is set up. */
+    private void prewarmListRows() {
+        ListItemViewPool pool = getListItemViewPool();
+        pool.prewarm(R.layout.followers_list_item,
+                getResources().getInteger(R.integer.followers_rows_prewarm_count));
+        pool.prewarm(R.layout.repositories_list_item,
+                getResources().getInteger(R.integer.repositories_rows_prewarm_count));
+    }
+
+    @NonNull
+    @Override
+    public ListItemViewPool getListItemViewPool() {
+        if (listItemViewPool == null) {
+            listItemViewPool = new ListItemViewPool(this);
+        }
+        return listItemViewPool;
     }
 
     private void setupBottomNavigation() {
@@ -105,11 +151,16 @@ public class MainActivity extends AppCompatActivity implements
             if (id == R.id.nav_home) {
                 selectedNavigationItemId = R.id.nav_home;
                 showFollowersScreen();
+                invalidateOptionsMenu();
                 return true;
             } else if (id == R.id.nav_repositories) {
                 selectedNavigationItemId = R.id.nav_repositories;
                 showRepositoriesScreen();
+                invalidateOptionsMenu();
                 return true;
+            } else if (id == R.id.nav_notifications) {
+                startActivity(NotificationsActivity.createIntent(this));
+                return false;
             } else if (id == R.id.nav_profile) {
                 Intent intent = UserProfileActivity.createIntent(this, null);
                 startActivity(intent);
@@ -119,6 +170,38 @@ public class MainActivity extends AppCompatActivity implements
         });
     }
 
+    /** The unread count comes straight from the shared inbox index, kept fresh by polling. */
+    private void setupNotificationsBadge() {
+        notificationsViewModel = new ViewModelProvider(this).get(NotificationsViewModel.class);
+        notificationsViewModel.getUiState().observe(this, state -> {
+            if (binding == null) {
+                return;
+            }
+            if (state.getUnreadCount() > 0) {
+                BadgeDrawable badge = binding.bottomNavigation.getOrCreateBadge(R.id.nav_notifications);
+                badge.setNumber(state.getUnreadCount());
+                badge.setVisible(true);
+            } else {
+                binding.bottomNavigation.removeBadge(R.id.nav_notifications);
+            }
+        });
+    }
+
+    @Override
+    protected void onStart() {
+        super.onStart();
+        // Notifications need a signed-in user.
+        if (ServiceLocator.getInstance().authRepository().getCachedSession() != null) {
+            notificationsViewModel.startPolling();
+        }
+    }
+
+    @Override
+    protected void onStop() {
+        super.onStop();
+        notificationsViewModel.stopPolling();
+    }
+
     private void setupToolbar() {
         setSupportActionBar(binding.toolbar);
         binding.toolbar.setTitle(R.string.main_title);
@@ -155,13 +238,11 @@ public class MainActivity extends AppCompatActivity implements
         }
         binding.resultsSummary.setText(summary);
 
-        repositoriesFragment = null;
-        followersFragment = FollowersListFragment.newInstance();
-        getSupportFragmentManager()
-                .beginTransaction()
-                .replace(R.id.fragment_container, followersFragment, FollowersListFragment.TAG)
-                .commit();
-        filterFollowers(currentQuery);
+        if (followersFragment == null) {
+            followersFragment = FollowersListFragment.newInstance();
+            followersFragment.submitList(filterFollowerList(currentQuery));
+        }
+        showTab(followersFragment, FollowersListFragment.TAG, repositoriesFragment);
     }
 
     private void showRepositoriesScreen() {
@@ -169,7 +250,6 @@ public class MainActivity extends AppCompatActivity implements
         binding.searchInputLayout.setVisibility(View.GONE);
         binding.searchInputEditText.clearFocus();
 
-        followersFragment = null;
         CharSequence summary = repositoriesSummaryText;
         if (summary == null) {
             summary = repositoriesLoading
@@ -179,19 +259,61 @@ public class MainActivity extends AppCompatActivity implements
         }
         binding.resultsSummary.setText(summary);
 
-        repositoriesFragment = RepositoriesListFragment.newInstance();
-        getSupportFragmentManager()
-                .beginTransaction()
-                .replace(R.id.fragment_container, repositoriesFragment, RepositoriesListFragment.TAG)
-                .commit();
-        repositoriesFragment.submitList(allRepositories);
+        if (repositoriesFragment == null) {
+            repositoriesFragment = RepositoriesListFragment.newInstance();
+            repositoriesFragment.submitList(allRepositories);
+        }
+        showTab(repositoriesFragment, RepositoriesListFragment.TAG, followersFragment);
+    }
+
+    /**
+     * Shows {@code visible} and hides {@code hidden} instead of replacing one with the other, so
+     * each tab keeps its view hierarchy, adapter and scroll position while it is off screen. The
+     * fragment is only added the first time its tab is opened.
+     */
+    private void showTab(@NonNull Fragment visible, @NonNull String tag, @Nullable Fragment hidden) {
+        FragmentManager fragmentManager = getSupportFragmentManager();
+        FragmentTransaction transaction = fragmentManager.beginTransaction().setReorderingAllowed(true);
+        if (!visible.isAdded()) {
+            transaction.add(R.id.fragment_container, visible, tag);
+        } else if (visible.isHidden()) {
+            transaction.show(visible);
+        }
+        if (hidden != null && hidden.isAdded() && !hidden.isHidden()) {
+            transaction.hide(hidden);
+        }
+        if (!transaction.isEmpty()) {
+            transaction.commit();
+        }
+    }
+
+    /** Re-attaches the tab fragments the framework restored after a configuration change. */
+    private void restoreTabFragments() {
+        FragmentManager fragmentManager = getSupportFragmentManager();
+        Fragment followers = fragmentManager.findFragmentByTag(FollowersListFragment.TAG);
+        if (followers instanceof FollowersListFragment) {
+            followersFragment = (FollowersListFragment) followers;
+        }
+        Fragment repositories = fragmentManager.findFragmentByTag(RepositoriesListFragment.TAG);
+        if (repositories instanceof RepositoriesListFragment) {
+            repositoriesFragment = (RepositoriesListFragment) repositories;
+        }
     }
 
     private void initialiseDataSources() {
         ApiClient apiClient = new ApiClient();
         GithubApiService apiService = apiClient.createService(GithubApiService.class);
-        userRepository = new UserRepository(apiService, ServiceLocator.getInstance().userMapper());
-        repoRepository = new RepoRepository(apiService, ServiceLocator.getInstance().repoMapper());
+        userRepository = new UserRepository(apiService, ServiceLocator.getInstance().userMapper(),
+                ServiceLocator.getInstance().profileCache());
+        repoRepository = new RepoRepository(apiService, ServiceLocator.getInstance().repoMapper(),
+                ServiceLocator.getInstance().repoCache());
+        // GraphQL requires a token, so anonymous sessions stay on REST.
+        if (ServiceLocator.getInstance().authRepository().getCachedSession() != null) {
+            graphQlRepository = new GraphQlRepository(
+                    apiClient.createService(GithubGraphQlService.class),
+                    ServiceLocator.getInstance().userMapper(),
+                    ServiceLocator.getInstance().repoMapper());
+        }
     }
 
     @NonNull
@@ -203,6 +325,62 @@ public class MainActivity extends AppCompatActivity implements
         return DEFAULT_USERNAME;
     }
 
+    /**
+     * Loads followers and repositories in one GraphQL round trip when possible, falling back to the
+     * two REST calls if GraphQL is unavailable or fails.
+     */
+    private void loadMainScreenData() {
+        if (graphQlRepository == null) {
+            loadFollowersFromApi();
+            loadRepositoriesFromApi();
+            return;
+        }
+        followersLoading = true;
+        repositoriesLoading = true;
+        setFollowersSummary(getString(R.string.followers_loading_state));
+        setRepositoriesSummary(getString(R.string.repositories_loading_state));
+        networkExecutor.execute(() -> {
+            try {
+                MainScreenSnapshot snapshot = graphQlRepository.fetchMainScreen(
+                        activeUsername, MAIN_SCREEN_PAGE_SIZE, MAIN_SCREEN_PAGE_SIZE);
+                ServiceLocator.getInstance().profileCache().put(snapshot.getProfile());
+                for (GitHubUserProfileDataEntry follower : snapshot.getFollowers()) {
+                    ServiceLocator.getInstance().profileCache().put(follower);
+                }
+                runOnUiThread(() -> {
+                    if (binding == null) {
+                        return;
+                    }
+                    onFollowersLoaded(snapshot.getFollowers());
+                    onRepositoriesLoaded(snapshot.getRepositories());
+                });
+            } catch (IOException | RuntimeException exception) {
+                runOnUiThread(() -> {
+                    if (binding == null) {
+                        return;
+                    }
+                    loadFollowersFromApi();
+                    loadRepositoriesFromApi();
+                });
+            }
+        });
+    }
+
+    private void onFollowersLoaded(@NonNull List<GitHubUserProfileDataEntry> followers) {
+        followersLoading = false;
+        allFollowers = PersistentList.copyOf(followers);
+        filterFollowers(currentQuery);
+    }
+
+    private void onRepositoriesLoaded(@NonNull List<ReposDataEntry> repositories) {
+        repositoriesLoading = false;
+        allRepositories = PersistentList.copyOf(repositories);
+        updateRepositoriesSummary();
+        if (repositoriesFragment != null) {
+            repositoriesFragment.submitList(allRepositories);
+        }
+    }
+
     private void loadFollowersFromApi() {
         if (userRepository == null) {
             return;
@@ -216,10 +394,7 @@ public class MainActivity extends AppCompatActivity implements
                     if (binding == null) {
                         return;
                     }
-                    followersLoading = false;
-                    allFollowers.clear();
-                    allFollowers.addAll(followers);
-                    filterFollowers(currentQuery);
+                    onFollowersLoaded(followers);
                 });
             } catch (IOException exception) {
                 runOnUiThread(() -> {
@@ -227,7 +402,7 @@ public class MainActivity extends AppCompatActivity implements
                         return;
                     }
                     followersLoading = false;
-                    allFollowers.clear();
+                    allFollowers = PersistentList.empty();
                     if (followersFragment != null) {
                         followersFragment.submitList(Collections.emptyList());
                     }
@@ -251,13 +426,7 @@ public class MainActivity extends AppCompatActivity implements
                     if (binding == null) {
                         return;
                     }
-                    repositoriesLoading = false;
-                    allRepositories.clear();
-                    allRepositories.addAll(repositories);
-                    updateRepositoriesSummary();
-                    if (repositoriesFragment != null) {
-                        repositoriesFragment.submitList(allRepositories);
-                    }
+                    onRepositoriesLoaded(repositories);
                 });
             } catch (IOException exception) {
                 runOnUiThread(() -> {
@@ -265,7 +434,7 @@ public class MainActivity extends AppCompatActivity implements
                         return;
                     }
                     repositoriesLoading = false;
-                    allRepositories.clear();
+                    allRepositories = PersistentList.empty();
                     if (repositoriesFragment != null) {
                         repositoriesFragment.submitList(Collections.emptyList());
                     }
@@ -333,24 +502,24 @@ public class MainActivity extends AppCompatActivity implements
             return;
         }
 
-        List<GitHubUserProfileDataEntry> filteredFollowers;
-        String trimmedQuery = query.trim();
-        if (trimmedQuery.isEmpty()) {
-            filteredFollowers = new ArrayList<>(allFollowers);
-        } else {
-            String lowerQuery = trimmedQuery.toLowerCase(Locale.getDefault());
-            filteredFollowers = new ArrayList<>();
-            for (GitHubUserProfileDataEntry follower : allFollowers) {
-                if (matchesQuery(follower, lowerQuery)) {
-                    filteredFollowers.add(follower);
-                }
-            }
-        }
-
+        List<GitHubUserProfileDataEntry> filteredFollowers = filterFollowerList(query);
         if (followersFragment != null) {
             followersFragment.submitList(filteredFollowers);
         }
-        updateResultsSummary(trimmedQuery, filteredFollowers.size());
+        updateResultsSummary(query.trim(), filteredFollowers.size());
+    }
+
+    @NonNull
+    private List<GitHubUserProfileDataEntry> filterFollowerList(@NonNull String query) {
+        if (followersLoading) {
+            return Collections.emptyList();
+        }
+        String trimmedQuery = query.trim();
+        if (trimmedQuery.isEmpty()) {
+            return allFollowers;
+        }
+        String lowerQuery = trimmedQuery.toLowerCase(Locale.getDefault());
+        return allFollowers.filter(follower -> matchesQuery(follower, lowerQuery));
     }
 
     private boolean matchesQuery(GitHubUserProfileDataEntry follower, String lowerQuery) {
@@ -411,6 +580,170 @@ public class MainActivity extends AppCompatActivity implements
         Toast.makeText(this, R.string.repository_open_browser_error, Toast.LENGTH_SHORT).show();
     }
 
+    @Override
+    public boolean onCreateOptionsMenu(Menu menu) {
+        getMenuInflater().inflate(R.menu.repositories_query_menu, menu);
+        return true;
+    }
+
+    /**
+     * Lists the signed-in accounts. Picking one makes it active and reopens this screen with that
+     * account's client and caches; the others stay signed in and warm.
+     */
+    private void showAccountsDialog() {
+        AuthRepository authRepository = ServiceLocator.getInstance().authRepository();
+        List<UserSessionData> sessions = authRepository.getSessions();
+        String[] logins = new String[sessions.size()];
+        int checked = -1;
+        for (int i = 0; i < sessions.size(); i++) {
+            logins[i] = sessions.get(i).getUsername();
+            if (logins[i].equalsIgnoreCase(authRepository.getActiveLogin())) {
+                checked = i;
+            }
+        }
+        MaterialAlertDialogBuilder builder = new MaterialAlertDialogBuilder(this)
+                .setTitle(R.string.accounts_title)
+                .setPositiveButton(R.string.accounts_add, (dialog, which) ->
+                        startActivity(new Intent(this, AuthenticationActivity.class)));
+        if (logins.length == 0) {
+            builder.setMessage(R.string.accounts_none);
+        } else {
+            int active = checked;
+            builder.setSingleChoiceItems(logins, checked, (dialog, which) -> {
+                dialog.dismiss();
+                if (which != active) {
+                    authRepository.switchAccount(logins[which]);
+                    restartMainScreen();
+                }
+            });
+        }
+        if (checked >= 0) {
+            builder.setNegativeButton(R.string.accounts_sign_out, (dialog, which) -> {
+                ServiceLocator.getInstance().signOut(this);
+                if (authRepository.getCachedSession() != null) {
+                    restartMainScreen();
+                } else {
+                    startActivity(new Intent(this, AuthenticationActivity.class)
+                            .addFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK));
+                }
+            });
+        }
+        builder.show();
+    }
+
+    /** View models keep the account they were created for, so the task restarts rather than recreating. */
+    private void restartMainScreen() {
+        startActivity(new Intent(this, MainActivity.class)
+                .addFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK));
+    }
+
+    /** The sort, filter and grouping items only apply to the repositories tab. */
+    @Override
+    public boolean onPrepareOptionsMenu(Menu menu) {
+        boolean visible = selectedNavigationItemId == R.id.nav_repositories
+                && repositoriesFragment != null;
+        for (int i = 0; i < menu.size(); i++) {
+            menu.getItem(i).setVisible(visible);
+        }
+        menu.findItem(R.id.menu_accounts).setVisible(true);
+        if (!visible) {
+            return super.onPrepareOptionsMenu(menu);
+        }
+
+        RepositoryQuery query = repositoriesFragment.getQuery();
+        menu.findItem(sortMenuItemId(query.getSortField())).setChecked(true);
+        menu.findItem(R.id.filter_hide_forks)
+                .setChecked(query.getForks() == RepositoryQuery.Inclusion.EXCLUDE);
+        menu.findItem(R.id.filter_hide_archived)
+                .setChecked(query.getArchived() == RepositoryQuery.Inclusion.EXCLUDE);
+        menu.findItem(R.id.filter_only_private)
+                .setChecked(query.getPrivateRepositories() == RepositoryQuery.Inclusion.ONLY);
+        menu.findItem(R.id.group_by_language).setChecked(query.isGroupByLanguage());
+
+        // Item Menu.FIRST is "all languages", Menu.FIRST + 1 + i is menuLanguages.get(i).
+        SubMenu languageMenu = menu.findItem(R.id.menu_repositories_language).getSubMenu();
+        languageMenu.clear();
+        menuLanguages = repositoriesFragment.getAvailableLanguages();
+        int languageGroup = R.id.menu_repositories_language;
+        languageMenu.add(languageGroup, Menu.FIRST, Menu.NONE, R.string.repositories_language_any)
+                .setChecked(query.getLanguage() == null);
+        for (int i = 0; i < menuLanguages.size(); i++) {
+            String language = menuLanguages.get(i);
+            languageMenu.add(languageGroup, Menu.FIRST + 1 + i, Menu.NONE, language)
+                    .setChecked(language.equals(query.getLanguage()));
+        }
+        languageMenu.setGroupCheckable(languageGroup, true, true);
+        return super.onPrepareOptionsMenu(menu);
+    }
+
+    @Override
+    public boolean onOptionsItemSelected(@NonNull MenuItem item) {
+        if (item.getItemId() == R.id.menu_accounts) {
+            showAccountsDialog();
+            return true;
+        }
+        if (repositoriesFragment == null) {
+            return super.onOptionsItemSelected(item);
+        }
+        if (item.getItemId() == R.id.menu_repositories_starred) {
+            startActivity(StarredRepositoriesActivity.createIntent(this, activeUsername));
+            return true;
+        }
+        if (item.getItemId() == R.id.menu_repositories_org_dashboard) {
+            startActivity(OrgDashboardActivity.createIntent(this, null));
+            return true;
+        }
+        RepositoryQuery query = repositoriesFragment.getQuery();
+        RepositoryQuery.Builder next = query.toBuilder();
+        int id = item.getItemId();
+        if (item.getGroupId() == R.id.menu_repositories_language) {
+            int position = id - Menu.FIRST - 1;
+            next.language(position >= 0 && position < menuLanguages.size()
+                    ? menuLanguages.get(position)
+                    : null);
+        } else if (id == R.id.sort_api_order) {
+            next.sort(RepositoryQuery.SortField.API_ORDER, false);
+        } else if (id == R.id.sort_stars) {
+            next.sort(RepositoryQuery.SortField.STARS, true);
+        } else if (id == R.id.sort_forks) {
+            next.sort(RepositoryQuery.SortField.FORKS, true);
+        } else if (id == R.id.sort_pushed) {
+            next.sort(RepositoryQuery.SortField.PUSHED_AT, true);
+        } else if (id == R.id.sort_name) {
+            next.sort(RepositoryQuery.SortField.NAME, false);
+        } else if (id == R.id.filter_hide_forks) {
+            next.forks(item.isChecked() ? RepositoryQuery.Inclusion.ANY : RepositoryQuery.Inclusion.EXCLUDE);
+        } else if (id == R.id.filter_hide_archived) {
+            next.archived(item.isChecked() ? RepositoryQuery.Inclusion.ANY : RepositoryQuery.Inclusion.EXCLUDE);
+        } else if (id == R.id.filter_only_private) {
+            next.privateRepositories(
+                    item.isChecked() ? RepositoryQuery.Inclusion.ANY : RepositoryQuery.Inclusion.ONLY);
+        } else if (id == R.id.group_by_language) {
+            next.groupByLanguage(!item.isChecked());
+        } else {
+            return super.onOptionsItemSelected(item);
+        }
+        repositoriesFragment.setQuery(next.build());
+        invalidateOptionsMenu();
+        return true;
+    }
+
+    private static int sortMenuItemId(@NonNull RepositoryQuery.SortField sortField) {
+        switch (sortField) {
+            case STARS:
+                return R.id.sort_stars;
+            case FORKS:
+                return R.id.sort_forks;
+            case PUSHED_AT:
+                return R.id.sort_pushed;
+            case NAME:
+                return R.id.sort_name;
+            case API_ORDER:
+            default:
+                return R.id.sort_api_order;
+        }
+    }
+
     @Override
     protected void onSaveInstanceState(@NonNull Bundle outState) {
         super.onSaveInstanceState(outState);
@@ -428,6 +761,10 @@ public class MainActivity extends AppCompatActivity implements
         searchWatcher = null;
         followersFragment = null;
         repositoriesFragment = null;
+        if (listItemViewPool != null) {
+            listItemViewPool.release();
+            listItemViewPool = null;
+        }
         networkExecutor.shutdownNow();
     }
 
@@ -0,0 +1,88 @@
+package com.usth.githubclient.activities;
+
+import android.content.Context;
+import android.content.Intent;
+import android.os.Bundle;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.lifecycle.ViewModelProvider;
+import androidx.recyclerview.widget.LinearLayoutManager;
+
+import com.usth.githubclient.R;
+import com.usth.githubclient.adapters.NotificationsAdapter;
+import com.usth.githubclient.databinding.ActivityNotificationsBinding;
+import com.usth.githubclient.viewmodel.NotificationsViewModel;
+
+/**
+ * Shows the notifications inbox of the signed-in user, kept current while the screen is visible.
+ */
+public class NotificationsActivity extends AppCompatActivity {
+
+    private ActivityNotificationsBinding binding;
+    private NotificationsViewModel viewModel;
+    private NotificationsAdapter adapter;
+
+    /**
+     * Convenience helper to build an {@link Intent} pointing to this activity.
+     */
+    @NonNull
+    public static Intent createIntent(@NonNull Context context) {
+        return new Intent(context, NotificationsActivity.class);
+    }
+
+    @Override
+    protected void onCreate(@Nullable Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        binding = ActivityNotificationsBinding.inflate(getLayoutInflater());
+        setContentView(binding.getRoot());
+
+        setSupportActionBar(binding.toolbar);
+        if (getSupportActionBar() != null) {
+            getSupportActionBar().setDisplayHomeAsUpEnabled(true);
+        }
+        binding.toolbar.setNavigationOnClickListener(v -> finish());
+
+        adapter = new NotificationsAdapter();
+        binding.notificationsList.setLayoutManager(new LinearLayoutManager(this));
+        binding.notificationsList.setAdapter(adapter);
+        binding.notificationsMessage.setOnClickListener(v -> viewModel.retry());
+
+        viewModel = new ViewModelProvider(this).get(NotificationsViewModel.class);
+        viewModel.getUiState().observe(this, this::renderState);
+    }
+
+    @Override
+    protected void onStart() {
+        super.onStart();
+        viewModel.startPolling();
+    }
+
+    @Override
+    protected void onStop() {
+        super.onStop();
+        viewModel.stopPolling();
+    }
+
+    private void renderState(@NonNull NotificationsViewModel.NotificationsUiState state) {
+        binding.notificationsProgress.setVisibility(state.isLoading() ? View.VISIBLE : View.GONE);
+        adapter.submitList(state.getThreads());
+        if (getSupportActionBar() != null) {
+            getSupportActionBar().setSubtitle(state.getUnreadCount() == 0
+                    ? null
+                    : getString(R.string.notifications_unread, state.getUnreadCount()));
+        }
+
+        String message = null;
+        if (state.getErrorMessage() != null) {
+            message = getString(R.string.notifications_error, state.getErrorMessage());
+        } else if (!state.isLoading() && state.getThreads().isEmpty()) {
+            message = getString(R.string.notifications_empty);
+        }
+        binding.notificationsMessage.setVisibility(message == null ? View.GONE : View.VISIBLE);
+        binding.notificationsMessage.setText(message);
+        binding.notificationsMessage.setClickable(state.getErrorMessage() != null);
+    }
+}
@@ -0,0 +1,121 @@
+package com.usth.githubclient.activities;
+
+import android.content.Context;
+import android.content.Intent;
+import android.os.Bundle;
+import android.text.TextUtils;
+import android.text.format.DateUtils;
+import android.view.View;
+import android.view.inputmethod.EditorInfo;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.lifecycle.ViewModelProvider;
+
+import com.usth.githubclient.R;
+import com.usth.githubclient.databinding.ActivityOrgDashboardBinding;
+import com.usth.githubclient.domain.model.OrgSummary;
+import com.usth.githubclient.viewmodel.OrgDashboardViewModel;
+
+/**
+ * Totals over an organization's repositories and members. A dashboard opened before shows its
+ * stored numbers at once while they are recomputed.
+ */
+public class OrgDashboardActivity extends AppCompatActivity {
+
+    public static final String EXTRA_ORGANIZATION = "com.usth.githubclient.extra.EXTRA_ORGANIZATION";
+
+    private ActivityOrgDashboardBinding binding;
+    private OrgDashboardViewModel viewModel;
+
+    /**
+     * Convenience helper to build an {@link Intent} pointing to this activity; without an
+     * {@code organization} the screen asks for one.
+     */
+    @NonNull
+    public static Intent createIntent(@NonNull Context context, @Nullable String organization) {
+        Intent intent = new Intent(context, OrgDashboardActivity.class);
+        if (!TextUtils.isEmpty(organization)) {
+            intent.putExtra(EXTRA_ORGANIZATION, organization);
+        }
+        return intent;
+    }
+
+    @Override
+    protected void onCreate(@Nullable Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        binding = ActivityOrgDashboardBinding.inflate(getLayoutInflater());
+        setContentView(binding.getRoot());
+
+        setSupportActionBar(binding.toolbar);
+        if (getSupportActionBar() != null) {
+            getSupportActionBar().setDisplayHomeAsUpEnabled(true);
+            getSupportActionBar().setTitle(R.string.title_org_dashboard);
+        }
+        binding.toolbar.setNavigationOnClickListener(v -> finish());
+
+        viewModel = new ViewModelProvider(this).get(OrgDashboardViewModel.class);
+        viewModel.getUiState().observe(this, this::renderState);
+
+        binding.orgInput.setOnEditorActionListener((view, actionId, event) -> {
+            if (actionId != EditorInfo.IME_ACTION_GO) {
+                return false;
+            }
+            viewModel.open(String.valueOf(binding.orgInput.getText()));
+            return true;
+        });
+        binding.orgMessage.setOnClickListener(v -> viewModel.refresh());
+
+        String organization = getIntent().getStringExtra(EXTRA_ORGANIZATION);
+        if (savedInstanceState == null && !TextUtils.isEmpty(organization)) {
+            binding.orgInput.setText(organization);
+            viewModel.open(organization);
+        }
+    }
+
+    private void renderState(@NonNull OrgDashboardViewModel.OrgDashboardUiState state) {
+        binding.orgProgress.setVisibility(state.isLoading() ? View.VISIBLE : View.GONE);
+        binding.orgMessage.setVisibility(state.getErrorMessage() == null ? View.GONE : View.VISIBLE);
+        binding.orgMessage.setText(state.getErrorMessage() == null
+                ? null : getString(R.string.org_dashboard_error, state.getErrorMessage()));
+
+        OrgSummary summary = state.getSummary();
+        if (getSupportActionBar() != null) {
+            getSupportActionBar().setSubtitle(summary == null ? null : summary.getOrganization());
+        }
+        binding.orgSummary.setText(summary == null ? null : describe(summary));
+    }
+
+    private CharSequence describe(@NonNull OrgSummary summary) {
+        StringBuilder text = new StringBuilder();
+        text.append(getString(R.string.org_dashboard_totals, summary.getRepositoryCount(),
+                summary.getForkCount(), summary.getArchivedCount(), summary.getStars(),
+                summary.getForks(), summary.getOpenIssues()));
+        text.append("\n\n").append(getString(R.string.org_dashboard_members, summary.getMemberCount()));
+        if (!summary.getMemberSample().isEmpty()) {
+            text.append('\n').append(TextUtils.join(", ", summary.getMemberSample()));
+        }
+        if (!summary.getTopRepositories().isEmpty()) {
+            text.append("\n\n").append(getString(R.string.org_dashboard_top));
+            for (OrgSummary.TopRepository repository : summary.getTopRepositories()) {
+                text.append('\n').append(getString(R.string.org_dashboard_top_item,
+                        repository.getName(), repository.getStars()));
+            }
+        }
+        if (!summary.getLanguages().isEmpty()) {
+            text.append("\n\n").append(getString(R.string.org_dashboard_languages));
+            for (OrgSummary.LanguageCount language : summary.getLanguages()) {
+                text.append('\n').append(getString(R.string.org_dashboard_language_item,
+                        language.getLanguage(), language.getRepositoryCount()));
+            }
+        }
+        text.append("\n\n").append(getString(R.string.org_dashboard_computed,
+                DateUtils.getRelativeTimeSpanString(summary.getComputedAt().toEpochMilli(),
+                        System.currentTimeMillis(), DateUtils.MINUTE_IN_MILLIS)));
+        if (summary.isTruncated()) {
+            text.append('\n').append(getString(R.string.org_dashboard_truncated));
+        }
+        return text;
+    }
+}
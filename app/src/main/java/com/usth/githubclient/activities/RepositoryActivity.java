@@ -1,16 +1,26 @@
 package com.usth.githubclient.activities;
 
+import android.content.Context;
+import android.content.Intent;
 import android.os.Bundle;
+import android.text.TextUtils;
 import android.view.View;
 import android.widget.Toast;
 
+import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.lifecycle.ViewModelProvider;
+import androidx.recyclerview.widget.LinearLayoutManager;
 
 // 1. Import class Binding
+import com.usth.githubclient.R;
+import com.usth.githubclient.adapters.ReadmeChunkAdapter;
 import com.usth.githubclient.databinding.ActivityRepositoryBinding;
+import com.usth.githubclient.domain.model.ContributorStats;
 import com.usth.githubclient.domain.model.ReposDataEntry;
 import com.usth.githubclient.fragments.RepositoriesListFragment;
+import com.usth.githubclient.viewmodel.ContributorsViewModel;
+import com.usth.githubclient.viewmodel.ReadmeViewModel;
 import com.usth.githubclient.viewmodel.RepoViewModel;
 
 import java.util.Locale;
@@ -18,11 +28,29 @@ import java.util.Locale;
 public class RepositoryActivity extends AppCompatActivity implements
         RepositoriesListFragment.OnRepositorySelectedListener {
 
+    public static final String EXTRA_OWNER = "com.usth.githubclient.extra.EXTRA_OWNER";
+    public static final String EXTRA_REPO = "com.usth.githubclient.extra.EXTRA_REPO";
+
     private RepoViewModel viewModel;
+    private ReadmeViewModel readmeViewModel;
+    private ContributorsViewModel contributorsViewModel;
+    private ReadmeChunkAdapter readmeAdapter;
 
     // 2. Khai báo biến binding
     private ActivityRepositoryBinding binding;
 
+    /**
+     * Convenience helper to build an {@link Intent} showing {@code owner/repo}; served from the
+     * repository cache when the repository was listed recently.
+     */
+    @NonNull
+    public static Intent createIntent(@NonNull Context context, @NonNull String owner, @NonNull String repo) {
+        Intent intent = new Intent(context, RepositoryActivity.class);
+        intent.putExtra(EXTRA_OWNER, owner);
+        intent.putExtra(EXTRA_REPO, repo);
+        return intent;
+    }
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -32,6 +60,14 @@ public class RepositoryActivity extends AppCompatActivity implements
         setContentView(binding.getRoot());
 
         viewModel = new ViewModelProvider(this).get(RepoViewModel.class);
+        readmeViewModel = new ViewModelProvider(this).get(ReadmeViewModel.class);
+        contributorsViewModel = new ViewModelProvider(this).get(ContributorsViewModel.class);
+
+        readmeAdapter = new ReadmeChunkAdapter();
+        binding.readmeList.setLayoutManager(new LinearLayoutManager(this));
+        binding.readmeList.setAdapter(readmeAdapter);
+        readmeViewModel.getUiState().observe(this, this::renderReadme);
+        contributorsViewModel.getUiState().observe(this, this::renderContributors);
 
         // 4. Lắng nghe sự thay đổi và cập nhật UI thông qua binding
         viewModel.getRepositoryDetailState().observe(this, detailState -> {
@@ -47,13 +83,84 @@ public class RepositoryActivity extends AppCompatActivity implements
 
                 // Hiển thị badge nếu là mock data
                 binding.mockDataBadge.setVisibility(detailState.isUsingMockData() ? View.VISIBLE : View.GONE);
+
+                String owner = repo.getOwnerLogin().orElse(null);
+                binding.browseFilesButton.setVisibility(owner == null || detailState.isUsingMockData()
+                        ? View.GONE : View.VISIBLE);
+                binding.browseFilesButton.setOnClickListener(owner == null ? null : v -> startActivity(
+                        RepositoryFilesActivity.createIntent(this, owner, repo.getName(),
+                                repo.getDefaultBranch().orElse(null))));
+                binding.historyButton.setVisibility(binding.browseFilesButton.getVisibility());
+                binding.historyButton.setOnClickListener(owner == null ? null : v -> startActivity(
+                        CommitHistoryActivity.createIntent(this, owner, repo.getName(),
+                                repo.getDefaultBranch().orElse(null))));
+                binding.issuesButton.setVisibility(binding.browseFilesButton.getVisibility());
+                binding.issuesButton.setOnClickListener(owner == null ? null : v -> startActivity(
+                        IssuesActivity.createIntent(this, owner, repo.getName(), repo.getOpenIssuesCount())));
+            } else {
+                binding.browseFilesButton.setVisibility(View.GONE);
+                binding.historyButton.setVisibility(View.GONE);
+                binding.issuesButton.setVisibility(View.GONE);
             }
+            readmeViewModel.loadReadme(detailState.hasRepository() ? detailState.getRepository() : null);
+            contributorsViewModel.load(detailState.hasRepository() && !detailState.isUsingMockData()
+                    ? detailState.getRepository() : null);
         });
 
+        String extraOwner = getIntent().getStringExtra(EXTRA_OWNER);
+        String extraRepo = getIntent().getStringExtra(EXTRA_REPO);
+        boolean singleRepository = !TextUtils.isEmpty(extraOwner) && !TextUtils.isEmpty(extraRepo);
+        if (singleRepository) {
+            viewModel.getRepositoriesState().observe(this, state -> {
+                if (state.getErrorMessage() != null) {
+                    Toast.makeText(this, state.getErrorMessage(), Toast.LENGTH_SHORT).show();
+                }
+            });
+        }
+
         // Load repositories lần đầu
         if (savedInstanceState == null) {
-            viewModel.loadRepositories(null);
+            if (singleRepository) {
+                viewModel.openRepository(extraOwner, extraRepo);
+            } else {
+                viewModel.loadRepositories(null);
+            }
+        }
+    }
+
+    private void renderReadme(ReadmeViewModel.ReadmeUiState state) {
+        readmeAdapter.submitList(state.getChunks());
+        String status = null;
+        if (state.getErrorMessage() != null) {
+            status = getString(R.string.repository_readme_error, state.getErrorMessage());
+        } else if (state.isMissing()) {
+            status = getString(R.string.repository_readme_missing);
+        } else if (state.isLoading() && state.getChunks().isEmpty()) {
+            status = getString(R.string.repository_readme_loading);
+        }
+        binding.readmeStatus.setVisibility(status == null ? View.GONE : View.VISIBLE);
+        binding.readmeStatus.setText(status);
+    }
+
+    private void renderContributors(ContributorsViewModel.ContributorsUiState state) {
+        String text = null;
+        if (state.getErrorMessage() != null) {
+            text = getString(R.string.contributors_error, state.getErrorMessage());
+        } else if (state.isLoading()) {
+            text = getString(R.string.contributors_loading);
+        } else if (!state.getLeaders().isEmpty()) {
+            StringBuilder builder = new StringBuilder(
+                    getString(R.string.contributors_header, state.getTotalCount()));
+            for (int i = 0; i < state.getLeaders().size(); i++) {
+                ContributorStats contributor = state.getLeaders().get(i);
+                builder.append('\n').append(getString(R.string.contributors_item, i + 1,
+                        contributor.getLogin(), contributor.getCommits(),
+                        contributor.getAdditions(), contributor.getDeletions()));
+            }
+            text = builder.toString();
         }
+        binding.contributorsSummary.setVisibility(text == null ? View.GONE : View.VISIBLE);
+        binding.contributorsSummary.setText(text);
     }
 
     @Override
@@ -0,0 +1,130 @@
+package com.usth.githubclient.activities;
+
+import android.content.Context;
+import android.content.Intent;
+import android.os.Bundle;
+import android.text.TextUtils;
+import android.text.format.Formatter;
+import android.view.View;
+import android.widget.Toast;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.lifecycle.ViewModelProvider;
+import androidx.recyclerview.widget.LinearLayoutManager;
+
+import com.usth.githubclient.R;
+import com.usth.githubclient.adapters.FileContentAdapter;
+import com.usth.githubclient.adapters.FileTreeAdapter;
+import com.usth.githubclient.databinding.ActivityRepositoryFilesBinding;
+import com.usth.githubclient.domain.model.GitTree;
+import com.usth.githubclient.viewmodel.RepositoryFilesViewModel;
+
+/**
+ * Browses the files of a repository one directory at a time and shows text files.
+ */
+public class RepositoryFilesActivity extends AppCompatActivity {
+
+    public static final String EXTRA_OWNER = "com.usth.githubclient.extra.EXTRA_OWNER";
+    public static final String EXTRA_REPO = "com.usth.githubclient.extra.EXTRA_REPO";
+    public static final String EXTRA_REF = "com.usth.githubclient.extra.EXTRA_REF";
+    private static final String DEFAULT_REF = "HEAD";
+
+    private ActivityRepositoryFilesBinding binding;
+    private RepositoryFilesViewModel viewModel;
+    private FileTreeAdapter treeAdapter;
+    private FileContentAdapter contentAdapter;
+
+    /**
+     * Convenience helper to build an {@link Intent} pointing to this activity.
+     */
+    @NonNull
+    public static Intent createIntent(@NonNull Context context,
+                                      @NonNull String owner,
+                                      @NonNull String repo,
+                                      @Nullable String ref) {
+        Intent intent = new Intent(context, RepositoryFilesActivity.class);
+        intent.putExtra(EXTRA_OWNER, owner);
+        intent.putExtra(EXTRA_REPO, repo);
+        if (!TextUtils.isEmpty(ref)) {
+            intent.putExtra(EXTRA_REF, ref);
+        }
+        return intent;
+    }
+
+    @Override
+    protected void onCreate(@Nullable Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        binding = ActivityRepositoryFilesBinding.inflate(getLayoutInflater());
+        setContentView(binding.getRoot());
+
+        String owner = getIntent().getStringExtra(EXTRA_OWNER);
+        String repo = getIntent().getStringExtra(EXTRA_REPO);
+        if (TextUtils.isEmpty(owner) || TextUtils.isEmpty(repo)) {
+            finish();
+            return;
+        }
+        String ref = getIntent().getStringExtra(EXTRA_REF);
+
+        setSupportActionBar(binding.toolbar);
+        if (getSupportActionBar() != null) {
+            getSupportActionBar().setDisplayHomeAsUpEnabled(true);
+            getSupportActionBar().setTitle(repo);
+        }
+        binding.toolbar.setNavigationOnClickListener(v -> onBackPressed());
+
+        treeAdapter = new FileTreeAdapter(this::onEntryClicked);
+        binding.filesList.setLayoutManager(new LinearLayoutManager(this));
+        binding.filesList.setAdapter(treeAdapter);
+        contentAdapter = new FileContentAdapter();
+        binding.fileContent.setLayoutManager(new LinearLayoutManager(this));
+        binding.fileContent.setAdapter(contentAdapter);
+        binding.filesMessage.setOnClickListener(v -> viewModel.retry());
+
+        viewModel = new ViewModelProvider(this).get(RepositoryFilesViewModel.class);
+        viewModel.getUiState().observe(this, this::renderState);
+        viewModel.open(owner, repo, TextUtils.isEmpty(ref) ? DEFAULT_REF : ref);
+    }
+
+    private void onEntryClicked(@NonNull GitTree.Entry entry) {
+        if (entry.getType() == GitTree.Type.SUBMODULE) {
+            Toast.makeText(this, getString(R.string.files_submodule, entry.getName()), Toast.LENGTH_SHORT).show();
+            return;
+        }
+        viewModel.openEntry(entry);
+    }
+
+    private void renderState(@NonNull RepositoryFilesViewModel.FilesUiState state) {
+        if (getSupportActionBar() != null) {
+            getSupportActionBar().setSubtitle(state.getPath().isEmpty() ? null : state.getPath());
+        }
+        binding.filesProgress.setVisibility(state.isLoading() ? View.VISIBLE : View.GONE);
+
+        boolean showingFile = state.getFileEntry() != null;
+        binding.filesList.setVisibility(showingFile ? View.GONE : View.VISIBLE);
+        binding.fileContent.setVisibility(showingFile ? View.VISIBLE : View.GONE);
+        treeAdapter.submitList(state.getEntries());
+        contentAdapter.setContent(state.isBinary() ? null : state.getFileContent());
+
+        String message = null;
+        if (state.getErrorMessage() != null) {
+            message = getString(R.string.files_error, state.getErrorMessage());
+        } else if (state.isBinary()) {
+            message = getString(R.string.files_binary,
+                    Formatter.formatShortFileSize(this, state.getFileContent().getSize()));
+        } else if (state.isTruncated()) {
+            message = getString(R.string.files_tree_truncated);
+        }
+        binding.filesMessage.setVisibility(message == null ? View.GONE : View.VISIBLE);
+        binding.filesMessage.setText(message);
+        binding.filesMessage.setClickable(state.getErrorMessage() != null);
+    }
+
+    @Override
+    public void onBackPressed() {
+        if (viewModel == null || !viewModel.navigateUp()) {
+            super.onBackPressed();
+        }
+    }
+}
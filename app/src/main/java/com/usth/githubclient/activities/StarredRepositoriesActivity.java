@@ -0,0 +1,104 @@
+package com.usth.githubclient.activities;
+
+import android.content.Context;
+import android.content.Intent;
+import android.os.Bundle;
+import android.text.TextUtils;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.fragment.app.Fragment;
+import androidx.lifecycle.ViewModelProvider;
+
+import com.usth.githubclient.R;
+import com.usth.githubclient.databinding.ActivityStarredRepositoriesBinding;
+import com.usth.githubclient.domain.model.ReposDataEntry;
+import com.usth.githubclient.fragments.RepositoriesListFragment;
+import com.usth.githubclient.viewmodel.StarredRepositoriesViewModel;
+
+/**
+ * Lists every repository a user starred. Opening one shows it from the repository cache the list
+ * filled, without another request.
+ */
+public class StarredRepositoriesActivity extends AppCompatActivity implements
+        RepositoriesListFragment.OnRepositorySelectedListener {
+
+    public static final String EXTRA_USERNAME = "com.usth.githubclient.extra.EXTRA_USERNAME";
+
+    private ActivityStarredRepositoriesBinding binding;
+    private StarredRepositoriesViewModel viewModel;
+    private RepositoriesListFragment listFragment;
+
+    /**
+     * Convenience helper to build an {@link Intent} pointing to this activity; {@code username}
+     * {@code null} lists the signed-in user's stars.
+     */
+    @NonNull
+    public static Intent createIntent(@NonNull Context context, @Nullable String username) {
+        Intent intent = new Intent(context, StarredRepositoriesActivity.class);
+        if (!TextUtils.isEmpty(username)) {
+            intent.putExtra(EXTRA_USERNAME, username);
+        }
+        return intent;
+    }
+
+    @Override
+    protected void onCreate(@Nullable Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        binding = ActivityStarredRepositoriesBinding.inflate(getLayoutInflater());
+        setContentView(binding.getRoot());
+
+        String username = getIntent().getStringExtra(EXTRA_USERNAME);
+        setSupportActionBar(binding.toolbar);
+        if (getSupportActionBar() != null) {
+            getSupportActionBar().setDisplayHomeAsUpEnabled(true);
+            getSupportActionBar().setTitle(R.string.title_starred);
+            getSupportActionBar().setSubtitle(username);
+        }
+        binding.toolbar.setNavigationOnClickListener(v -> finish());
+        binding.starredMessage.setOnClickListener(v -> viewModel.retry());
+
+        Fragment existing = getSupportFragmentManager().findFragmentByTag(RepositoriesListFragment.TAG);
+        if (existing instanceof RepositoriesListFragment) {
+            listFragment = (RepositoriesListFragment) existing;
+        } else {
+            listFragment = RepositoriesListFragment.newInstance();
+            getSupportFragmentManager().beginTransaction()
+                    .replace(R.id.starred_container, listFragment, RepositoriesListFragment.TAG)
+                    .commit();
+        }
+
+        viewModel = new ViewModelProvider(this).get(StarredRepositoriesViewModel.class);
+        viewModel.getUiState().observe(this, this::renderState);
+        viewModel.load(username);
+    }
+
+    private void renderState(@NonNull StarredRepositoriesViewModel.StarredUiState state) {
+        binding.starredProgress.setVisibility(state.isLoading() ? View.VISIBLE : View.GONE);
+        listFragment.submitList(state.getRepositories());
+
+        String message = null;
+        if (state.getErrorMessage() != null) {
+            message = getString(R.string.starred_error, state.getErrorMessage());
+        } else if (!state.isLoading() && state.getRepositories().isEmpty()) {
+            message = getString(R.string.starred_empty);
+        }
+        binding.starredMessage.setVisibility(message == null ? View.GONE : View.VISIBLE);
+        binding.starredMessage.setText(message);
+        binding.starredMessage.setClickable(state.getErrorMessage() != null);
+        if (getSupportActionBar() != null && !state.isLoading() && !state.getRepositories().isEmpty()) {
+            getSupportActionBar().setSubtitle(getString(R.string.starred_count, state.getRepositories().size()));
+        }
+    }
+
+    @Override
+    public void onRepositorySelected(@NonNull ReposDataEntry repository) {
+        String owner = repository.getOwnerLogin().orElse(null);
+        if (owner == null) {
+            return;
+        }
+        startActivity(RepositoryActivity.createIntent(this, owner, repository.getName()));
+    }
+}
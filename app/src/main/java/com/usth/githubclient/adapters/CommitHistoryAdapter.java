@@ -0,0 +1,75 @@
+package com.usth.githubclient.adapters;
+
+import android.text.format.DateUtils;
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.usth.githubclient.R;
+import com.usth.githubclient.databinding.CommitItemBinding;
+import com.usth.githubclient.domain.model.CommitSummary;
+
+/**
+ * Adapter listing the commits of a history, newest first.
+ */
+public class CommitHistoryAdapter extends ListAdapter<CommitSummary, CommitHistoryAdapter.CommitViewHolder> {
+
+    private static final int SHORT_SHA_LENGTH = 7;
+
+    private static final DiffUtil.ItemCallback<CommitSummary> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<CommitSummary>() {
+                @Override
+                public boolean areItemsTheSame(@NonNull CommitSummary oldItem,
+                                               @NonNull CommitSummary newItem) {
+                    return oldItem.getSha().equals(newItem.getSha());
+                }
+
+                @Override
+                public boolean areContentsTheSame(@NonNull CommitSummary oldItem,
+                                                  @NonNull CommitSummary newItem) {
+                    // Commits are immutable.
+                    return true;
+                }
+            };
+
+    public CommitHistoryAdapter() {
+        super(DIFF_CALLBACK);
+    }
+
+    @NonNull
+    @Override
+    public CommitViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        return new CommitViewHolder(CommitItemBinding.inflate(
+                LayoutInflater.from(parent.getContext()), parent, false));
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull CommitViewHolder holder, int position) {
+        holder.bind(getItem(position));
+    }
+
+    static class CommitViewHolder extends RecyclerView.ViewHolder {
+
+        private final CommitItemBinding binding;
+
+        CommitViewHolder(@NonNull CommitItemBinding binding) {
+            super(binding.getRoot());
+            this.binding = binding;
+        }
+
+        void bind(@NonNull CommitSummary commit) {
+            binding.commitHeadline.setText(commit.getHeadline());
+            String author = commit.getAuthorLogin().orElse(commit.getAuthorName());
+            CharSequence when = commit.getAuthoredAt()
+                    .map(instant -> DateUtils.getRelativeTimeSpanString(instant.toEpochMilli(),
+                            System.currentTimeMillis(), DateUtils.MINUTE_IN_MILLIS))
+                    .orElse("");
+            binding.commitDetails.setText(itemView.getContext().getString(R.string.history_item_details,
+                    commit.getSha().substring(0, SHORT_SHA_LENGTH), author, when));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.usth.githubclient.adapters;
+
+import android.annotation.SuppressLint;
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.usth.githubclient.data.local.MappedTextFile;
+import com.usth.githubclient.databinding.FileContentChunkItemBinding;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adapter showing a {@link MappedTextFile} one row per item. Rows are decoded in pages of
+ * {@link #PAGE_ROWS} when first bound and only the last {@link #MAX_PAGES} pages are kept, so
+ * memory stays flat however long the file is. A page is at most a few hundred KB of mapped memory.
+ */
+public class FileContentAdapter extends RecyclerView.Adapter<FileContentAdapter.RowViewHolder> {
+
+    private static final int PAGE_ROWS = 64;
+    private static final int MAX_PAGES = 8;
+
+    private final Map<Integer, List<String>> pages =
+            new LinkedHashMap<Integer, List<String>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, List<String>> eldest) {
+                    return size() > MAX_PAGES;
+                }
+            };
+    private MappedTextFile content;
+
+    public FileContentAdapter() {
+        setHasStableIds(true);
+    }
+
+    /** Shows {@code content}, or nothing when {@code null}. */
+    @SuppressLint("NotifyDataSetChanged")
+    public void setContent(@Nullable MappedTextFile content) {
+        if (content == this.content) {
+            return;
+        }
+        this.content = content;
+        pages.clear();
+        // A different file: nothing to diff against.
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public int getItemCount() {
+        return content == null ? 0 : content.getRowCount();
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return position;
+    }
+
+    @NonNull
+    @Override
+    public RowViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        return new RowViewHolder(FileContentChunkItemBinding.inflate(
+                LayoutInflater.from(parent.getContext()), parent, false));
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull RowViewHolder holder, int position) {
+        int page = position / PAGE_ROWS;
+        List<String> rows = pages.get(page);
+        if (rows == null) {
+            rows = content.readRows(page * PAGE_ROWS, PAGE_ROWS);
+            pages.put(page, rows);
+        }
+        holder.binding.fileContentChunk.setText(rows.get(position - page * PAGE_ROWS));
+    }
+
+    static class RowViewHolder extends RecyclerView.ViewHolder {
+
+        private final FileContentChunkItemBinding binding;
+
+        RowViewHolder(@NonNull FileContentChunkItemBinding binding) {
+            super(binding.getRoot());
+            this.binding = binding;
+        }
+    }
+}
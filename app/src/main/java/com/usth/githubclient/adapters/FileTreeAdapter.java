@@ -0,0 +1,88 @@
+package com.usth.githubclient.adapters;
+
+import android.graphics.Typeface;
+import android.text.format.Formatter;
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.usth.githubclient.databinding.FileTreeItemBinding;
+import com.usth.githubclient.domain.model.GitTree;
+
+/**
+ * Adapter listing the entries of one repository directory; directories are shown in bold.
+ */
+public class FileTreeAdapter extends ListAdapter<GitTree.Entry, FileTreeAdapter.EntryViewHolder> {
+
+    private static final DiffUtil.ItemCallback<GitTree.Entry> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<GitTree.Entry>() {
+                @Override
+                public boolean areItemsTheSame(@NonNull GitTree.Entry oldItem,
+                                               @NonNull GitTree.Entry newItem) {
+                    return oldItem.getName().equals(newItem.getName())
+                            && oldItem.getType() == newItem.getType();
+                }
+
+                @Override
+                public boolean areContentsTheSame(@NonNull GitTree.Entry oldItem,
+                                                  @NonNull GitTree.Entry newItem) {
+                    return oldItem.equals(newItem);
+                }
+            };
+
+    private final OnEntryClickListener listener;
+
+    public FileTreeAdapter(@NonNull OnEntryClickListener listener) {
+        super(DIFF_CALLBACK);
+        this.listener = listener;
+    }
+
+    @NonNull
+    @Override
+    public EntryViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        return new EntryViewHolder(FileTreeItemBinding.inflate(
+                LayoutInflater.from(parent.getContext()), parent, false), listener);
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull EntryViewHolder holder, int position) {
+        holder.bind(getItem(position));
+    }
+
+    static class EntryViewHolder extends RecyclerView.ViewHolder {
+
+        private final FileTreeItemBinding binding;
+        private GitTree.Entry entry;
+
+        EntryViewHolder(@NonNull FileTreeItemBinding binding, @NonNull OnEntryClickListener listener) {
+            super(binding.getRoot());
+            this.binding = binding;
+            itemView.setOnClickListener(v -> {
+                if (entry != null) {
+                    listener.onEntryClicked(entry);
+                }
+            });
+        }
+
+        void bind(@NonNull GitTree.Entry entry) {
+            this.entry = entry;
+            binding.fileName.setText(entry.getName());
+            binding.fileName.setTypeface(null,
+                    entry.getType() == GitTree.Type.DIRECTORY ? Typeface.BOLD : Typeface.NORMAL);
+            binding.fileSize.setText(entry.getType() == GitTree.Type.FILE
+                    ? Formatter.formatShortFileSize(itemView.getContext(), entry.getSize())
+                    : null);
+        }
+    }
+
+    /**
+     * Callback invoked when a directory entry is tapped.
+     */
+    public interface OnEntryClickListener {
+        void onEntryClicked(@NonNull GitTree.Entry entry);
+    }
+}
@@ -0,0 +1,68 @@
+package com.usth.githubclient.adapters;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.usth.githubclient.domain.model.GitHubUserProfileDataEntry;
+
+/**
+ * Bind-ready follower row. Every text is formatted when the row is built, so binding it is only a
+ * few {@code setText} calls plus the avatar request; a {@code null} bio hides the view.
+ */
+public final class FollowerRow {
+
+    private final GitHubUserProfileDataEntry follower;
+    private final CharSequence displayName;
+    private final CharSequence username;
+    private final CharSequence bio;
+    private final CharSequence stats;
+    private final String avatarUrl;
+
+    FollowerRow(@NonNull GitHubUserProfileDataEntry follower,
+                @NonNull CharSequence displayName,
+                @NonNull CharSequence username,
+                @Nullable CharSequence bio,
+                @NonNull CharSequence stats,
+                @Nullable String avatarUrl) {
+        this.follower = follower;
+        this.displayName = displayName;
+        this.username = username;
+        this.bio = bio;
+        this.stats = stats;
+        this.avatarUrl = avatarUrl;
+    }
+
+    public long getId() {
+        return follower.getId();
+    }
+
+    @NonNull
+    public GitHubUserProfileDataEntry getFollower() {
+        return follower;
+    }
+
+    @NonNull
+    public CharSequence getDisplayName() {
+        return displayName;
+    }
+
+    @NonNull
+    public CharSequence getUsername() {
+        return username;
+    }
+
+    @Nullable
+    public CharSequence getBio() {
+        return bio;
+    }
+
+    @NonNull
+    public CharSequence getStats() {
+        return stats;
+    }
+
+    @Nullable
+    public String getAvatarUrl() {
+        return avatarUrl;
+    }
+}
@@ -1,7 +1,5 @@
 package com.usth.githubclient.adapters;
 
-import android.text.TextUtils;
-import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 
@@ -10,98 +8,100 @@ import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
-import com.bumptech.glide.Glide;
 import com.usth.githubclient.R;
 import com.usth.githubclient.databinding.FollowersListItemBinding;
 import com.usth.githubclient.domain.model.GitHubUserProfileDataEntry;
+import com.usth.githubclient.image.AvatarLoader;
 
 /**
- * Adapter responsible for rendering follower entries inside a RecyclerView.
+ * Adapter responsible for rendering follower rows inside a RecyclerView. Rows arrive fully
+ * formatted from {@link RowModelFactory}, so binding only sets texts and requests the avatar
+ * through the shared {@link AvatarLoader}.
  */
-public class FollowersListAdapter extends ListAdapter<GitHubUserProfileDataEntry, FollowersListAdapter.FollowerViewHolder> {
+public class FollowersListAdapter extends ListAdapter<FollowerRow, FollowersListAdapter.FollowerViewHolder> {
 
-    private static final DiffUtil.ItemCallback<GitHubUserProfileDataEntry> DIFF_CALLBACK =
-            new DiffUtil.ItemCallback<GitHubUserProfileDataEntry>() {
+    private static final DiffUtil.ItemCallback<FollowerRow> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<FollowerRow>() {
                 @Override
-                public boolean areItemsTheSame(@NonNull GitHubUserProfileDataEntry oldItem,
-                                               @NonNull GitHubUserProfileDataEntry newItem) {
+                public boolean areItemsTheSame(@NonNull FollowerRow oldItem,
+                                               @NonNull FollowerRow newItem) {
                     return oldItem.getId() == newItem.getId();
                 }
 
                 @Override
-                public boolean areContentsTheSame(@NonNull GitHubUserProfileDataEntry oldItem,
-                                                  @NonNull GitHubUserProfileDataEntry newItem) {
-                    // So sánh trực tiếp các đối tượng Optional và sửa tên phương thức
-                    return oldItem.getUsername().equals(newItem.getUsername())
-                            && oldItem.getDisplayName().equals(newItem.getDisplayName())
-                            && oldItem.getBio().equals(newItem.getBio())
-                            && oldItem.getFollowersCount() == newItem.getFollowersCount()
-                            && oldItem.getPublicReposCount() == newItem.getPublicReposCount()
-                            && oldItem.getAvatarUrl().equals(newItem.getAvatarUrl());
+                public boolean areContentsTheSame(@NonNull FollowerRow oldItem,
+                                                  @NonNull FollowerRow newItem) {
+                    // Rows are cached per entity, so unchanged entries are usually the same instance.
+                    return oldItem == newItem
+                            || oldItem.getFollower().equals(newItem.getFollower());
                 }
             };
 
     private final OnFollowerClickListener listener;
-
-    public FollowersListAdapter(@NonNull OnFollowerClickListener listener) {
+    private final AvatarLoader avatarLoader;
+    private final int avatarSizePx;
+    private final ListItemViewPool viewPool;
+
+    public FollowersListAdapter(@NonNull OnFollowerClickListener listener,
+                                @NonNull AvatarLoader avatarLoader,
+                                int avatarSizePx,
+                                @NonNull ListItemViewPool viewPool) {
         super(DIFF_CALLBACK);
         this.listener = listener;
+        this.avatarLoader = avatarLoader;
+        this.avatarSizePx = avatarSizePx;
+        this.viewPool = viewPool;
+    }
+
+    @Override
+    public int getItemViewType(int position) {
+        // Unique across adapters because the recycled view pool is shared.
+        return R.layout.followers_list_item;
     }
 
     @NonNull
     @Override
     public FollowerViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
-        LayoutInflater inflater = LayoutInflater.from(parent.getContext());
-        FollowersListItemBinding binding = FollowersListItemBinding.inflate(inflater, parent, false);
-        return new FollowerViewHolder(binding);
+        View view = viewPool.obtain(R.layout.followers_list_item, parent);
+        return new FollowerViewHolder(FollowersListItemBinding.bind(view));
     }
 
     @Override
     public void onBindViewHolder(@NonNull FollowerViewHolder holder, int position) {
-        holder.bind(getItem(position));
+        FollowerRow row = getItem(position);
+        holder.bind(row, listener);
+        avatarLoader.load(holder.binding.avatar, row.getAvatarUrl(), avatarSizePx);
     }
 
-    class FollowerViewHolder extends RecyclerView.ViewHolder {
+    /**
+     * Static because pooled holders outlive the adapter that created them; the click listener is
+     * refreshed on every bind.
+     */
+    static class FollowerViewHolder extends RecyclerView.ViewHolder {
 
         private final FollowersListItemBinding binding;
+        private FollowerRow row;
+        private OnFollowerClickListener listener;
 
         FollowerViewHolder(@NonNull FollowersListItemBinding binding) {
             super(binding.getRoot());
             this.binding = binding;
+            itemView.setOnClickListener(v -> {
+                if (row != null && listener != null) {
+                    listener.onFollowerClicked(row.getFollower());
+                }
+            });
         }
 
-        void bind(GitHubUserProfileDataEntry follower) {
-            // Sử dụng orElse để lấy giá trị từ Optional, nếu không có thì dùng username
-            String displayName = follower.getDisplayName().orElse(follower.getUsername());
-            binding.displayName.setText(displayName);
-            binding.username.setText(itemView.getResources()
-                    .getString(R.string.followers_username_format, follower.getUsername()));
-
-            // Lấy giá trị từ Optional và kiểm tra
-            String bioText = follower.getBio().orElse(null);
-            if (TextUtils.isEmpty(bioText)) {
-                binding.bio.setVisibility(View.GONE);
-                binding.bio.setText(null);
-            } else {
-                binding.bio.setVisibility(View.VISIBLE);
-                binding.bio.setText(bioText);
-            }
-
-            // Sửa lại tên phương thức cho chính xác
-            binding.stats.setText(itemView.getResources().getString(
-                    R.string.followers_stats_format,
-                    follower.getPublicReposCount(),
-                    follower.getFollowersCount()));
-
-            // Lấy URL từ Optional trước khi truyền vào Glide
-            Glide.with(binding.avatar)
-                    .load(follower.getAvatarUrl().orElse(null))
-                    .placeholder(R.drawable.ic_avatar_placeholder)
-                    .error(R.drawable.ic_avatar_placeholder)
-                    .circleCrop()
-                    .into(binding.avatar);
-
-            itemView.setOnClickListener(v -> listener.onFollowerClicked(follower));
+        void bind(@NonNull FollowerRow row, @NonNull OnFollowerClickListener listener) {
+            this.row = row;
+            this.listener = listener;
+            binding.displayName.setText(row.getDisplayName());
+            binding.username.setText(row.getUsername());
+            CharSequence bio = row.getBio();
+            binding.bio.setVisibility(bio == null ? View.GONE : View.VISIBLE);
+            binding.bio.setText(bio);
+            binding.stats.setText(row.getStats());
         }
     }
 
@@ -111,4 +111,4 @@ public class FollowersListAdapter extends ListAdapter<GitHubUserProfileDataEntry
     public interface OnFollowerClickListener {
         void onFollowerClicked(@NonNull GitHubUserProfileDataEntry follower);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+package com.usth.githubclient.adapters;
+
+import android.text.format.DateUtils;
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.usth.githubclient.R;
+import com.usth.githubclient.databinding.IssueItemBinding;
+import com.usth.githubclient.domain.model.IssueSummary;
+
+/**
+ * Adapter listing issues and pull requests, most recently updated first.
+ */
+public class IssuesAdapter extends ListAdapter<IssueSummary, IssuesAdapter.IssueViewHolder> {
+
+    private static final DiffUtil.ItemCallback<IssueSummary> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<IssueSummary>() {
+                @Override
+                public boolean areItemsTheSame(@NonNull IssueSummary oldItem,
+                                               @NonNull IssueSummary newItem) {
+                    return oldItem.getNumber() == newItem.getNumber();
+                }
+
+                @Override
+                public boolean areContentsTheSame(@NonNull IssueSummary oldItem,
+                                                  @NonNull IssueSummary newItem) {
+                    return oldItem.equals(newItem);
+                }
+            };
+
+    public IssuesAdapter() {
+        super(DIFF_CALLBACK);
+    }
+
+    @NonNull
+    @Override
+    public IssueViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        return new IssueViewHolder(IssueItemBinding.inflate(
+                LayoutInflater.from(parent.getContext()), parent, false));
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull IssueViewHolder holder, int position) {
+        holder.bind(getItem(position));
+    }
+
+    static class IssueViewHolder extends RecyclerView.ViewHolder {
+
+        private final IssueItemBinding binding;
+
+        IssueViewHolder(@NonNull IssueItemBinding binding) {
+            super(binding.getRoot());
+            this.binding = binding;
+        }
+
+        void bind(@NonNull IssueSummary issue) {
+            binding.issueTitle.setText(issue.getTitle());
+            CharSequence updated = DateUtils.getRelativeTimeSpanString(
+                    issue.getUpdatedAt().toEpochMilli(), System.currentTimeMillis(),
+                    DateUtils.MINUTE_IN_MILLIS);
+            binding.issueDetails.setText(itemView.getContext().getString(
+                    issue.isPullRequest() ? R.string.issues_item_details_pull : R.string.issues_item_details,
+                    issue.getNumber(), issue.getAuthorLogin().orElse(""), updated));
+        }
+    }
+}
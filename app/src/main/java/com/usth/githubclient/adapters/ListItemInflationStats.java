@@ -0,0 +1,61 @@
+package com.usth.githubclient.adapters;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts list row inflations for the current process, split by where they happened, so the
+ * pre-warm size can be tuned: every synchronous inflation is one the main thread paid for.
+ */
+public final class ListItemInflationStats {
+
+    private static final ListItemInflationStats SESSION = new ListItemInflationStats();
+
+    private final AtomicLong prewarmed = new AtomicLong();
+    private final AtomicLong prewarmedUsed = new AtomicLong();
+    private final AtomicLong synchronous = new AtomicLong();
+
+    private ListItemInflationStats() {
+    }
+
+    public static ListItemInflationStats session() {
+        return SESSION;
+    }
+
+    void recordPrewarmed() {
+        prewarmed.incrementAndGet();
+    }
+
+    void recordPrewarmedUsed() {
+        prewarmedUsed.incrementAndGet();
+    }
+
+    void recordSynchronous() {
+        synchronous.incrementAndGet();
+    }
+
+    /** Rows inflated in the background ahead of time. */
+    public long getPrewarmedInflations() {
+        return prewarmed.get();
+    }
+
+    /** Pre-inflated rows that were handed to an adapter. */
+    public long getPrewarmedUsed() {
+        return prewarmedUsed.get();
+    }
+
+    /** Rows inflated on the main thread because no pre-inflated row was available. */
+    public long getSynchronousInflations() {
+        return synchronous.get();
+    }
+
+    public long getTotalInflations() {
+        return getPrewarmedInflations() + getSynchronousInflations();
+    }
+
+    @Override
+    public String toString() {
+        return "ListItemInflationStats{prewarmed=" + getPrewarmedInflations()
+                + ", prewarmedUsed=" + getPrewarmedUsed()
+                + ", synchronous=" + getSynchronousInflations() + '}';
+    }
+}
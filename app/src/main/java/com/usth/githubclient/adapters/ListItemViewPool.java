@@ -0,0 +1,103 @@
+package com.usth.githubclient.adapters;
+
+import android.content.Context;
+import android.util.SparseArray;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.asynclayoutinflater.view.AsyncLayoutInflater;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.ArrayDeque;
+
+/**
+ * Row views shared by every list screen of one activity.
+ * <p>
+ * {@link #prewarm(int, int)} inflates rows on a background thread right after start-up, and
+ * adapters take them through {@link #obtain(int, ViewGroup)} before falling back to inflating on
+ * the main thread. The {@link RecyclerView.RecycledViewPool} lets scrapped rows survive a list
+ * being torn down and re-created. Both are tied to the activity: its themed context inflated the
+ * views, so keeping them for the whole process would leak it.
+ * <p>
+ * Adapters must use the row layout id as their view type so types never collide in the shared
+ * pool. Call from the main thread.
+ */
+public final class ListItemViewPool {
+
+    private static final int DEFAULT_MAX_RECYCLED_VIEWS = 5;
+
+    private final RecyclerView.RecycledViewPool recycledViewPool = new RecyclerView.RecycledViewPool();
+    private final SparseArray<ArrayDeque<View>> prewarmedViews = new SparseArray<>();
+    private final LayoutInflater inflater;
+    private final AsyncLayoutInflater asyncInflater;
+    // Supplies layout params during background inflation; rows are re-parented by RecyclerView.
+    private final ViewGroup inflationParent;
+    private boolean released;
+
+    public ListItemViewPool(@NonNull Context context) {
+        inflater = LayoutInflater.from(context);
+        asyncInflater = new AsyncLayoutInflater(context);
+        inflationParent = new FrameLayout(context);
+    }
+
+    /**
+     * Inflates {@code count} rows of {@code layoutRes} off the main thread and sizes the recycled
+     * pool so that many rows of the type can be kept.
+     */
+    public void prewarm(@LayoutRes int layoutRes, int count) {
+        recycledViewPool.setMaxRecycledViews(layoutRes, Math.max(DEFAULT_MAX_RECYCLED_VIEWS, count));
+        for (int i = 0; i < count; i++) {
+            asyncInflater.inflate(layoutRes, inflationParent, (view, resid, parent) -> {
+                if (released) {
+                    return;
+                }
+                queueFor(resid).addLast(view);
+                ListItemInflationStats.session().recordPrewarmed();
+            });
+        }
+    }
+
+    /** Returns a pre-inflated row of {@code layoutRes}, inflating one synchronously if none is left. */
+    @NonNull
+    public View obtain(@LayoutRes int layoutRes, @NonNull ViewGroup parent) {
+        ArrayDeque<View> queue = prewarmedViews.get(layoutRes);
+        View view = queue == null ? null : queue.pollFirst();
+        if (view != null) {
+            ListItemInflationStats.session().recordPrewarmedUsed();
+            return view;
+        }
+        ListItemInflationStats.session().recordSynchronous();
+        return inflater.inflate(layoutRes, parent, false);
+    }
+
+    @NonNull
+    public RecyclerView.RecycledViewPool getRecycledViewPool() {
+        return recycledViewPool;
+    }
+
+    /** Drops every cached row; late background inflations are discarded. */
+    public void release() {
+        released = true;
+        prewarmedViews.clear();
+        recycledViewPool.clear();
+    }
+
+    private ArrayDeque<View> queueFor(@LayoutRes int layoutRes) {
+        ArrayDeque<View> queue = prewarmedViews.get(layoutRes);
+        if (queue == null) {
+            queue = new ArrayDeque<>();
+            prewarmedViews.put(layoutRes, queue);
+        }
+        return queue;
+    }
+
+    /** Implemented by hosts that share one pool between their list fragments. */
+    public interface Provider {
+        @NonNull
+        ListItemViewPool getListItemViewPool();
+    }
+}
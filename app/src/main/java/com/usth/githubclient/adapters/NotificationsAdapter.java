@@ -0,0 +1,71 @@
+package com.usth.githubclient.adapters;
+
+import android.graphics.Typeface;
+import android.text.format.DateUtils;
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.usth.githubclient.R;
+import com.usth.githubclient.databinding.NotificationItemBinding;
+import com.usth.githubclient.domain.model.NotificationThread;
+
+/**
+ * Adapter listing notification threads; unread threads are shown in bold.
+ */
+public class NotificationsAdapter extends ListAdapter<NotificationThread, NotificationsAdapter.ThreadViewHolder> {
+
+    private static final DiffUtil.ItemCallback<NotificationThread> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<NotificationThread>() {
+                @Override
+                public boolean areItemsTheSame(@NonNull NotificationThread oldItem,
+                                               @NonNull NotificationThread newItem) {
+                    return oldItem.getId() == newItem.getId();
+                }
+
+                @Override
+                public boolean areContentsTheSame(@NonNull NotificationThread oldItem,
+                                                  @NonNull NotificationThread newItem) {
+                    return oldItem.equals(newItem);
+                }
+            };
+
+    public NotificationsAdapter() {
+        super(DIFF_CALLBACK);
+    }
+
+    @NonNull
+    @Override
+    public ThreadViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        return new ThreadViewHolder(NotificationItemBinding.inflate(
+                LayoutInflater.from(parent.getContext()), parent, false));
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull ThreadViewHolder holder, int position) {
+        holder.bind(getItem(position));
+    }
+
+    static class ThreadViewHolder extends RecyclerView.ViewHolder {
+
+        private final NotificationItemBinding binding;
+
+        ThreadViewHolder(@NonNull NotificationItemBinding binding) {
+            super(binding.getRoot());
+            this.binding = binding;
+        }
+
+        void bind(@NonNull NotificationThread thread) {
+            binding.notificationTitle.setText(thread.getTitle());
+            binding.notificationTitle.setTypeface(null, thread.isUnread() ? Typeface.BOLD : Typeface.NORMAL);
+            CharSequence updated = DateUtils.getRelativeTimeSpanString(
+                    thread.getUpdatedAt().toEpochMilli(), System.currentTimeMillis(), DateUtils.MINUTE_IN_MILLIS);
+            binding.notificationDetails.setText(itemView.getContext().getString(
+                    R.string.notifications_item_details, thread.getRepoName(), thread.getReason(), updated));
+        }
+    }
+}
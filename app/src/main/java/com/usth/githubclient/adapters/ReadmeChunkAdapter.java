@@ -0,0 +1,62 @@
+package com.usth.githubclient.adapters;
+
+import android.text.method.LinkMovementMethod;
+import android.view.LayoutInflater;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.usth.githubclient.databinding.ReadmeChunkItemBinding;
+
+/**
+ * Adapter showing a rendered README as a list of chunks, so only the visible part of a long
+ * document is laid out. Chunks arrive already converted to spans.
+ */
+public class ReadmeChunkAdapter extends ListAdapter<CharSequence, ReadmeChunkAdapter.ChunkViewHolder> {
+
+    private static final DiffUtil.ItemCallback<CharSequence> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<CharSequence>() {
+                @Override
+                public boolean areItemsTheSame(@NonNull CharSequence oldItem,
+                                               @NonNull CharSequence newItem) {
+                    // Appending chunks keeps the earlier instances, a new README replaces them all.
+                    return oldItem == newItem;
+                }
+
+                @Override
+                public boolean areContentsTheSame(@NonNull CharSequence oldItem,
+                                                  @NonNull CharSequence newItem) {
+                    return oldItem == newItem;
+                }
+            };
+
+    public ReadmeChunkAdapter() {
+        super(DIFF_CALLBACK);
+    }
+
+    @NonNull
+    @Override
+    public ChunkViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        return new ChunkViewHolder(ReadmeChunkItemBinding.inflate(
+                LayoutInflater.from(parent.getContext()), parent, false));
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull ChunkViewHolder holder, int position) {
+        holder.binding.readmeChunk.setText(getItem(position));
+    }
+
+    static class ChunkViewHolder extends RecyclerView.ViewHolder {
+
+        private final ReadmeChunkItemBinding binding;
+
+        ChunkViewHolder(@NonNull ReadmeChunkItemBinding binding) {
+            super(binding.getRoot());
+            this.binding = binding;
+            binding.readmeChunk.setMovementMethod(LinkMovementMethod.getInstance());
+        }
+    }
+}
@@ -1,136 +1,136 @@
 package com.usth.githubclient.adapters;
 
 import android.text.TextUtils;
-import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.usth.githubclient.R;
 import com.usth.githubclient.databinding.RepositoriesListItemBinding;
+import com.usth.githubclient.databinding.RepositoriesSectionHeaderBinding;
 import com.usth.githubclient.domain.model.ReposDataEntry;
 
-import java.text.NumberFormat;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Locale;
-
 /**
- * Adapter responsible for rendering repository entries inside a RecyclerView.
+ * Adapter responsible for rendering repository rows inside a RecyclerView. Rows arrive fully
+ * formatted from {@link RowModelFactory}, so binding does not allocate. Section rows render as
+ * language group headers.
  */
-public class ReposListAdapter extends ListAdapter<ReposDataEntry, ReposListAdapter.RepositoryViewHolder> {
+public class ReposListAdapter extends ListAdapter<RepositoryRow, RecyclerView.ViewHolder> {
 
-    private static final DiffUtil.ItemCallback<ReposDataEntry> DIFF_CALLBACK =
-            new DiffUtil.ItemCallback<ReposDataEntry>() {
+    private static final DiffUtil.ItemCallback<RepositoryRow> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<RepositoryRow>() {
                 @Override
-                public boolean areItemsTheSame(@NonNull ReposDataEntry oldItem,
-                                               @NonNull ReposDataEntry newItem) {
+                public boolean areItemsTheSame(@NonNull RepositoryRow oldItem,
+                                               @NonNull RepositoryRow newItem) {
                     return oldItem.getId() == newItem.getId();
                 }
 
                 @Override
-                public boolean areContentsTheSame(@NonNull ReposDataEntry oldItem,
-                                                  @NonNull ReposDataEntry newItem) {
-                    return oldItem.equals(newItem);
+                public boolean areContentsTheSame(@NonNull RepositoryRow oldItem,
+                                                  @NonNull RepositoryRow newItem) {
+                    // Rows are cached per entity, so unchanged entries are usually the same instance.
+                    if (oldItem == newItem) {
+                        return true;
+                    }
+                    if (oldItem.isSection() || newItem.isSection()) {
+                        return oldItem.isSection() == newItem.isSection()
+                                && TextUtils.equals(oldItem.getName(), newItem.getName());
+                    }
+                    return oldItem.getRepository().equals(newItem.getRepository());
                 }
             };
 
     private final OnRepositoryClickListener listener;
+    private final ListItemViewPool viewPool;
 
-    public ReposListAdapter(@NonNull OnRepositoryClickListener listener) {
+    public ReposListAdapter(@NonNull OnRepositoryClickListener listener,
+                            @NonNull ListItemViewPool viewPool) {
         super(DIFF_CALLBACK);
         this.listener = listener;
+        this.viewPool = viewPool;
+    }
+
+    @Override
+    public int getItemViewType(int position) {
+        // Unique across adapters because the recycled view pool is shared.
+        return getItem(position).isSection()
+                ? R.layout.repositories_section_header
+                : R.layout.repositories_list_item;
     }
 
     @NonNull
     @Override
-    public RepositoryViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
-        LayoutInflater inflater = LayoutInflater.from(parent.getContext());
-        RepositoriesListItemBinding binding =
-                RepositoriesListItemBinding.inflate(inflater, parent, false);
-        return new RepositoryViewHolder(binding);
+    public RecyclerView.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        View view = viewPool.obtain(viewType, parent);
+        if (viewType == R.layout.repositories_section_header) {
+            return new SectionViewHolder(RepositoriesSectionHeaderBinding.bind(view));
+        }
+        return new RepositoryViewHolder(RepositoriesListItemBinding.bind(view));
     }
 
     @Override
-    public void onBindViewHolder(@NonNull RepositoryViewHolder holder, int position) {
-        holder.bind(getItem(position));
+    public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position) {
+        RepositoryRow row = getItem(position);
+        if (holder instanceof SectionViewHolder) {
+            ((SectionViewHolder) holder).bind(row);
+        } else {
+            ((RepositoryViewHolder) holder).bind(row, listener);
+        }
     }
 
-    class RepositoryViewHolder extends RecyclerView.ViewHolder {
+    static class SectionViewHolder extends RecyclerView.ViewHolder {
 
-        private final RepositoriesListItemBinding binding;
-        private final NumberFormat numberFormat = NumberFormat.getInstance(Locale.getDefault());
+        private final RepositoriesSectionHeaderBinding binding;
 
-        RepositoryViewHolder(@NonNull RepositoriesListItemBinding binding) {
+        SectionViewHolder(@NonNull RepositoriesSectionHeaderBinding binding) {
             super(binding.getRoot());
             this.binding = binding;
         }
 
-        void bind(@NonNull ReposDataEntry repository) {
-            binding.repositoryName.setText(repository.getName());
-
-            String fullName = repository.getFullName().orElse(null);
-            if (TextUtils.isEmpty(fullName) || fullName.equals(repository.getName())) {
-                binding.repositoryFullName.setVisibility(View.GONE);
-                binding.repositoryFullName.setText(null);
-            } else {
-                binding.repositoryFullName.setVisibility(View.VISIBLE);
-                binding.repositoryFullName.setText(fullName);
-            }
-
-            String description = repository.getDescription().orElse(null);
-            if (TextUtils.isEmpty(description)) {
-                binding.repositoryDescription.setVisibility(View.GONE);
-                binding.repositoryDescription.setText(null);
-            } else {
-                binding.repositoryDescription.setVisibility(View.VISIBLE);
-                binding.repositoryDescription.setText(description);
-            }
-
-            bindMeta(repository);
-            bindStats(repository);
-
-            itemView.setOnClickListener(v -> listener.onRepositoryClicked(repository));
+        void bind(@NonNull RepositoryRow row) {
+            binding.sectionTitle.setText(row.getName());
         }
+    }
 
-        private void bindMeta(@NonNull ReposDataEntry repository) {
-            List<String> metaParts = new ArrayList<>();
-            repository.getLanguage().ifPresent(language -> {
-                if (!TextUtils.isEmpty(language)) {
-                    metaParts.add(language);
-                }
-            });
-            repository.getDefaultBranch().ifPresent(branch -> {
-                if (!TextUtils.isEmpty(branch)) {
-                    metaParts.add(branch);
+    /**
+     * Static because pooled holders outlive the adapter that created them; the click listener is
+     * refreshed on every bind.
+     */
+    static class RepositoryViewHolder extends RecyclerView.ViewHolder {
+
+        private final RepositoriesListItemBinding binding;
+        private RepositoryRow row;
+        private OnRepositoryClickListener listener;
+
+        RepositoryViewHolder(@NonNull RepositoriesListItemBinding binding) {
+            super(binding.getRoot());
+            this.binding = binding;
+            itemView.setOnClickListener(v -> {
+                if (row != null && listener != null) {
+                    listener.onRepositoryClicked(row.getRepository());
                 }
             });
-
-            if (metaParts.isEmpty()) {
-                binding.repositoryMeta.setVisibility(View.GONE);
-                binding.repositoryMeta.setText(null);
-            } else {
-                binding.repositoryMeta.setVisibility(View.VISIBLE);
-                binding.repositoryMeta.setText(TextUtils.join(" • ", metaParts));
-            }
         }
 
-        private void bindStats(@NonNull ReposDataEntry repository) {
-            List<String> stats = new ArrayList<>();
-            stats.add(formatStat(R.string.repository_stats_stars, repository.getStargazersCount()));
-            stats.add(formatStat(R.string.repository_stats_forks, repository.getForksCount()));
-            stats.add(formatStat(R.string.repository_stats_watchers, repository.getWatchersCount()));
-            stats.add(formatStat(R.string.repository_stats_open_issues, repository.getOpenIssuesCount()));
-            binding.repositoryStats.setText(TextUtils.join(" • ", stats));
+        void bind(@NonNull RepositoryRow row, @NonNull OnRepositoryClickListener listener) {
+            this.row = row;
+            this.listener = listener;
+            binding.repositoryName.setText(row.getName());
+            setOptionalText(binding.repositoryFullName, row.getFullName());
+            setOptionalText(binding.repositoryDescription, row.getDescription());
+            setOptionalText(binding.repositoryMeta, row.getMeta());
+            binding.repositoryStats.setText(row.getStats());
         }
 
-        private String formatStat(int labelResId, int count) {
-            String formattedCount = numberFormat.format(Math.max(count, 0));
-            return itemView.getContext().getString(labelResId, formattedCount);
+        private void setOptionalText(@NonNull TextView view, @Nullable CharSequence text) {
+            view.setVisibility(text == null ? View.GONE : View.VISIBLE);
+            view.setText(text);
         }
     }
 
@@ -140,4 +140,4 @@ public class ReposListAdapter extends ListAdapter<ReposDataEntry, ReposListAdapt
     public interface OnRepositoryClickListener {
         void onRepositoryClicked(@NonNull ReposDataEntry repository);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,99 @@
+package com.usth.githubclient.adapters;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.usth.githubclient.domain.model.ReposDataEntry;
+
+/**
+ * Bind-ready repository row. Every text is formatted when the row is built, so binding it is
+ * only a few {@code setText} calls; a {@code null} text means the view is hidden.
+ * <p>
+ * A row is either a repository or, when the list is grouped, a section header carrying only
+ * {@link #getName()}.
+ */
+public final class RepositoryRow {
+
+    private final ReposDataEntry repository;
+    private final long sectionId;
+    private final CharSequence name;
+    private final CharSequence fullName;
+    private final CharSequence description;
+    private final CharSequence meta;
+    private final CharSequence stats;
+
+    RepositoryRow(@NonNull ReposDataEntry repository,
+                  @NonNull CharSequence name,
+                  @Nullable CharSequence fullName,
+                  @Nullable CharSequence description,
+                  @Nullable CharSequence meta,
+                  @NonNull CharSequence stats) {
+        this.repository = repository;
+        this.sectionId = 0L;
+        this.name = name;
+        this.fullName = fullName;
+        this.description = description;
+        this.meta = meta;
+        this.stats = stats;
+    }
+
+    private RepositoryRow(long sectionId, @NonNull CharSequence title) {
+        this.repository = null;
+        this.sectionId = sectionId;
+        this.name = title;
+        this.fullName = null;
+        this.description = null;
+        this.meta = null;
+        this.stats = "";
+    }
+
+    /** Header row; {@code sectionId} must be negative so it never collides with repository ids. */
+    static RepositoryRow section(long sectionId, @NonNull CharSequence title) {
+        if (sectionId >= 0L) {
+            throw new IllegalArgumentException("sectionId must be negative");
+        }
+        return new RepositoryRow(sectionId, title);
+    }
+
+    public boolean isSection() {
+        return repository == null;
+    }
+
+    public long getId() {
+        return repository == null ? sectionId : repository.getId();
+    }
+
+    /** The repository shown by this row; throws for section headers. */
+    @NonNull
+    public ReposDataEntry getRepository() {
+        if (repository == null) {
+            throw new IllegalStateException("Section rows have no repository");
+        }
+        return repository;
+    }
+
+    @NonNull
+    public CharSequence getName() {
+        return name;
+    }
+
+    @Nullable
+    public CharSequence getFullName() {
+        return fullName;
+    }
+
+    @Nullable
+    public CharSequence getDescription() {
+        return description;
+    }
+
+    @Nullable
+    public CharSequence getMeta() {
+        return meta;
+    }
+
+    @NonNull
+    public CharSequence getStats() {
+        return stats;
+    }
+}
@@ -0,0 +1,205 @@
+package com.usth.githubclient.adapters;
+
+import android.content.res.Resources;
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.usth.githubclient.R;
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.model.GitHubUserProfileDataEntry;
+import com.usth.githubclient.domain.model.ReposDataEntry;
+import com.usth.githubclient.domain.query.RepositoryQueryResult;
+
+import java.text.NumberFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Builds {@link RepositoryRow} and {@link FollowerRow} instances from domain entities. Meant to run
+ * off the main thread; all methods are synchronized.
+ * <p>
+ * Rows are cached by entity id. A cached row is reused while the entity it was built from is still
+ * equal to the new one, so the entity's value acts as its version and unchanged rows are never
+ * formatted twice.
+ */
+public final class RowModelFactory {
+
+    private static final int DEFAULT_MAX_ENTRIES = 1_000;
+    private static final String SEPARATOR = " • ";
+
+    private final Resources resources;
+    private final NumberFormat numberFormat = NumberFormat.getInstance(Locale.getDefault());
+    private final Map<Long, RepositoryRow> repositoryRows;
+    private final Map<Long, FollowerRow> followerRows;
+    // Full profiles that supersede the minimal list entries with the same id.
+    private final Map<Long, GitHubUserProfileDataEntry> enrichedProfiles;
+
+    public RowModelFactory(@NonNull Resources resources) {
+        this(resources, DEFAULT_MAX_ENTRIES);
+    }
+
+    public RowModelFactory(@NonNull Resources resources, int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be > 0");
+        }
+        this.resources = Objects.requireNonNull(resources, "resources == null");
+        this.repositoryRows = lruMap(maxEntries);
+        this.followerRows = lruMap(maxEntries);
+        this.enrichedProfiles = lruMap(maxEntries);
+    }
+
+    @NonNull
+    public synchronized List<RepositoryRow> repositoryRows(@NonNull List<ReposDataEntry> repositories) {
+        PersistentList.Builder<RepositoryRow> rows = PersistentList.builder();
+        for (ReposDataEntry repository : repositories) {
+            rows.add(repositoryRow(repository));
+        }
+        return rows.build();
+    }
+
+    /**
+     * Rows for a query result, with a section header in front of every language group when the
+     * query groups by language.
+     */
+    @NonNull
+    public synchronized List<RepositoryRow> repositoryRows(@NonNull RepositoryQueryResult result) {
+        List<RepositoryQueryResult.LanguageGroup> groups = result.getGroups();
+        if (groups.isEmpty()) {
+            return repositoryRows(result.getRepositories());
+        }
+        List<ReposDataEntry> repositories = result.getRepositories();
+        PersistentList.Builder<RepositoryRow> rows = PersistentList.builder();
+        for (RepositoryQueryResult.LanguageGroup group : groups) {
+            rows.add(sectionRow(group));
+            int end = group.getStart() + group.getSize();
+            for (int position = group.getStart(); position < end; position++) {
+                rows.add(repositoryRow(repositories.get(position)));
+            }
+        }
+        return rows.build();
+    }
+
+    @NonNull
+    public synchronized RepositoryRow repositoryRow(@NonNull ReposDataEntry repository) {
+        RepositoryRow cached = repositoryRows.get(repository.getId());
+        if (cached != null && cached.getRepository().equals(repository)) {
+            return cached;
+        }
+        RepositoryRow row = buildRepositoryRow(repository);
+        repositoryRows.put(repository.getId(), row);
+        return row;
+    }
+
+    /**
+     * Builds rows for {@code followers}, substituting any full profile recorded through
+     * {@link #rememberEnrichedProfiles(List)} for the minimal entry with the same id.
+     */
+    @NonNull
+    public synchronized List<FollowerRow> followerRows(@NonNull List<GitHubUserProfileDataEntry> followers) {
+        PersistentList.Builder<FollowerRow> rows = PersistentList.builder();
+        for (GitHubUserProfileDataEntry follower : followers) {
+            rows.add(followerRow(follower));
+        }
+        return rows.build();
+    }
+
+    @NonNull
+    public synchronized FollowerRow followerRow(@NonNull GitHubUserProfileDataEntry follower) {
+        GitHubUserProfileDataEntry enriched = enrichedProfiles.get(follower.getId());
+        GitHubUserProfileDataEntry source = enriched != null ? enriched : follower;
+        FollowerRow cached = followerRows.get(source.getId());
+        if (cached != null && cached.getFollower().equals(source)) {
+            return cached;
+        }
+        FollowerRow row = buildFollowerRow(source);
+        followerRows.put(source.getId(), row);
+        return row;
+    }
+
+    /** Records full profiles so later {@link #followerRows(List)} calls render them instead. */
+    public synchronized void rememberEnrichedProfiles(@NonNull List<GitHubUserProfileDataEntry> profiles) {
+        for (GitHubUserProfileDataEntry profile : profiles) {
+            enrichedProfiles.put(profile.getId(), profile);
+        }
+    }
+
+    private RepositoryRow buildRepositoryRow(@NonNull ReposDataEntry repository) {
+        String fullName = repository.getFullName().orElse(null);
+        if (TextUtils.isEmpty(fullName) || fullName.equals(repository.getName())) {
+            fullName = null;
+        }
+        String description = repository.getDescription().orElse(null);
+        if (TextUtils.isEmpty(description)) {
+            description = null;
+        }
+
+        StringBuilder meta = new StringBuilder();
+        appendPart(meta, repository.getLanguage().orElse(null));
+        appendPart(meta, repository.getDefaultBranch().orElse(null));
+
+        StringBuilder stats = new StringBuilder();
+        appendPart(stats, formatStat(R.string.repository_stats_stars, repository.getStargazersCount()));
+        appendPart(stats, formatStat(R.string.repository_stats_forks, repository.getForksCount()));
+        appendPart(stats, formatStat(R.string.repository_stats_watchers, repository.getWatchersCount()));
+        appendPart(stats, formatStat(R.string.repository_stats_open_issues, repository.getOpenIssuesCount()));
+
+        return new RepositoryRow(
+                repository,
+                repository.getName(),
+                fullName,
+                description,
+                meta.length() == 0 ? null : meta.toString(),
+                stats.toString());
+    }
+
+    private RepositoryRow sectionRow(@NonNull RepositoryQueryResult.LanguageGroup group) {
+        String language = group.getLanguage();
+        String label = language == null
+                ? resources.getString(R.string.repositories_group_no_language)
+                : language;
+        // Ids stay stable per language so DiffUtil moves headers instead of rebinding them.
+        long id = language == null ? -1L : -2L - (language.hashCode() & 0xffffffffL);
+        return RepositoryRow.section(id, resources.getString(
+                R.string.repositories_group_header, label, numberFormat.format(group.getSize())));
+    }
+
+    private FollowerRow buildFollowerRow(@NonNull GitHubUserProfileDataEntry follower) {
+        String bio = follower.getBio().orElse(null);
+        return new FollowerRow(
+                follower,
+                follower.getDisplayName().orElse(follower.getUsername()),
+                resources.getString(R.string.followers_username_format, follower.getUsername()),
+                TextUtils.isEmpty(bio) ? null : bio,
+                resources.getString(R.string.followers_stats_format,
+                        follower.getPublicReposCount(), follower.getFollowersCount()),
+                follower.getAvatarUrl().orElse(null));
+    }
+
+    private String formatStat(int labelResId, int count) {
+        return resources.getString(labelResId, numberFormat.format(Math.max(count, 0)));
+    }
+
+    private static void appendPart(@NonNull StringBuilder builder, @Nullable String part) {
+        if (TextUtils.isEmpty(part)) {
+            return;
+        }
+        if (builder.length() > 0) {
+            builder.append(SEPARATOR);
+        }
+        builder.append(part);
+    }
+
+    private static <V> Map<Long, V> lruMap(int maxEntries) {
+        return new LinkedHashMap<Long, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+}
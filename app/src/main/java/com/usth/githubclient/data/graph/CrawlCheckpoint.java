@@ -0,0 +1,108 @@
+package com.usth.githubclient.data.graph;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Binary snapshot of a crawl in progress so that {@link SocialGraphCrawler} can resume after the
+ * process dies or the rate limit forces a pause.
+ * <p>
+ * The file is written to a sibling temp file and renamed, so a crash mid-write never leaves a
+ * truncated checkpoint behind.
+ */
+final class CrawlCheckpoint {
+
+    private static final int MAGIC = 0x47524146; // "GRAF"
+    private static final int VERSION = 1;
+
+    final String seedLogin;
+    final int maxDepth;
+    final SocialGraph graph;
+
+    CrawlCheckpoint(String seedLogin, int maxDepth, SocialGraph graph) {
+        this.seedLogin = seedLogin;
+        this.maxDepth = maxDepth;
+        this.graph = graph;
+    }
+
+    boolean matches(String login, int depth) {
+        return maxDepth == depth
+                && seedLogin.toLowerCase(Locale.ROOT).equals(login.toLowerCase(Locale.ROOT));
+    }
+
+    static void write(File file, String seedLogin, int maxDepth, SocialGraph graph) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Unable to create checkpoint directory " + parent);
+        }
+        File temp = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(seedLogin);
+            out.writeInt(maxDepth);
+            int nodes = graph.nodeCount();
+            out.writeInt(nodes);
+            for (int i = 0; i < nodes; i++) {
+                out.writeLong(graph.idAt(i));
+                out.writeUTF(graph.loginAt(i));
+                out.writeInt(graph.depthAt(i));
+                out.writeBoolean(graph.isExpanded(i));
+            }
+            int edges = graph.edgeCount();
+            out.writeInt(edges);
+            for (int i = 0; i < edges; i++) {
+                out.writeLong(graph.edgeAt(i));
+            }
+        }
+        if (!temp.renameTo(file)) {
+            // Some file systems refuse to rename over an existing file.
+            if (!file.delete() || !temp.renameTo(file)) {
+                throw new IOException("Unable to move checkpoint into place: " + file);
+            }
+        }
+    }
+
+    /** Returns the stored checkpoint or {@code null} if the file is missing or unreadable. */
+    static CrawlCheckpoint read(File file) {
+        if (file == null || !file.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            String seedLogin = in.readUTF();
+            int maxDepth = in.readInt();
+            SocialGraph graph = new SocialGraph();
+            int nodes = in.readInt();
+            for (int i = 0; i < nodes; i++) {
+                long id = in.readLong();
+                String login = in.readUTF();
+                int depth = in.readInt();
+                boolean expanded = in.readBoolean();
+                int index = graph.addNodeIfAbsent(id, login, depth, Integer.MAX_VALUE);
+                if (expanded) {
+                    graph.markExpanded(index);
+                }
+            }
+            int edges = in.readInt();
+            for (int i = 0; i < edges; i++) {
+                long edge = in.readLong();
+                graph.addEdge((int) (edge >>> 32), (int) edge);
+            }
+            return new CrawlCheckpoint(seedLogin, maxDepth, graph);
+        } catch (IOException ignored) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.usth.githubclient.data.graph;
+
+import com.usth.githubclient.domain.collection.LongArrayList;
+import com.usth.githubclient.domain.collection.LongIdSet;
+import com.usth.githubclient.domain.collection.LongIntHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Follower graph discovered by {@link SocialGraphCrawler}.
+ * <p>
+ * Nodes are numbered densely in discovery order; GitHub ids map to node indexes through a primitive
+ * hash map and every edge is a single packed {@code long} ({@code follower << 32 | followee}). The
+ * adjacency lists used by the query methods are built lazily in compressed (CSR) form.
+ */
+public final class SocialGraph {
+
+    private static final int MISSING = -1;
+
+    private final LongIntHashMap indexById = new LongIntHashMap(256);
+    private final LongArrayList ids = new LongArrayList(256);
+    private final List<String> logins = new ArrayList<>();
+    private int[] depths = new int[256];
+    private final BitSet expanded = new BitSet();
+
+    private final LongIntHashMap edgeSet = new LongIntHashMap(1024);
+    private final LongArrayList edges = new LongArrayList(1024);
+
+    private int[] outOffsets;
+    private int[] outTargets;
+    private int[] inOffsets;
+    private int[] inTargets;
+
+    public int nodeCount() {
+        return ids.size();
+    }
+
+    public int edgeCount() {
+        return edges.size();
+    }
+
+    public int indexOf(long userId) {
+        return indexById.get(userId, MISSING);
+    }
+
+    public long idAt(int index) {
+        return ids.get(index);
+    }
+
+    public String loginAt(int index) {
+        return logins.get(index);
+    }
+
+    /** Hop distance from the seed account. */
+    public int depthAt(int index) {
+        checkIndex(index);
+        return depths[index];
+    }
+
+    public boolean isExpanded(int index) {
+        checkIndex(index);
+        return expanded.get(index);
+    }
+
+    public int countAtDepth(int depth) {
+        int count = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            if (depths[i] == depth) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** Ids of crawled accounts following the node at {@code index}. */
+    public synchronized LongIdSet followersOf(int index) {
+        ensureAdjacency();
+        return collectIds(inOffsets, inTargets, index);
+    }
+
+    /** Ids of crawled accounts the node at {@code index} follows. */
+    public synchronized LongIdSet followingOf(int index) {
+        ensureAdjacency();
+        return collectIds(outOffsets, outTargets, index);
+    }
+
+    /** Accounts that both follow and are followed by the node at {@code index}. */
+    public LongIdSet mutualsOf(int index) {
+        return followersOf(index).intersect(followingOf(index));
+    }
+
+    /**
+     * Node indexes ordered by how many crawled accounts follow them, most-followed first.
+     */
+    public synchronized int[] mostConnected(int limit) {
+        ensureAdjacency();
+        int count = ids.size();
+        long[] ranked = new long[count];
+        for (int i = 0; i < count; i++) {
+            int inDegree = inOffsets[i + 1] - inOffsets[i];
+            // Negate the degree so an ascending sort yields the highest degrees first.
+            ranked[i] = ((long) -inDegree << 32) | i;
+        }
+        Arrays.sort(ranked);
+        int[] result = new int[Math.min(Math.max(limit, 0), count)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (int) (ranked[i] & 0xFFFFFFFFL);
+        }
+        return result;
+    }
+
+    // === Mutation, used by the crawler and the checkpoint reader ===
+
+    /**
+     * Adds a node unless it is already known or {@code maxNodes} is reached.
+     *
+     * @return the node index, or {@code -1} when the graph is full.
+     */
+    synchronized int addNodeIfAbsent(long userId, String login, int depth, int maxNodes) {
+        int existing = indexById.get(userId, MISSING);
+        if (existing != MISSING) {
+            return existing;
+        }
+        if (ids.size() >= maxNodes) {
+            return MISSING;
+        }
+        int index = ids.size();
+        indexById.put(userId, index);
+        ids.add(userId);
+        logins.add(login);
+        if (index == depths.length) {
+            depths = Arrays.copyOf(depths, depths.length << 1);
+        }
+        depths[index] = depth;
+        invalidateAdjacency();
+        return index;
+    }
+
+    synchronized void addEdge(int followerIndex, int followeeIndex) {
+        long packed = ((long) followerIndex << 32) | (followeeIndex & 0xFFFFFFFFL);
+        if (edgeSet.putIfAbsent(packed, 0, MISSING) == MISSING) {
+            edges.add(packed);
+            invalidateAdjacency();
+        }
+    }
+
+    synchronized void markExpanded(int index) {
+        checkIndex(index);
+        expanded.set(index);
+    }
+
+    synchronized long edgeAt(int position) {
+        return edges.get(position);
+    }
+
+    /** Unexpanded node indexes at {@code depth}, in discovery order. */
+    synchronized int[] frontierAt(int depth) {
+        int[] frontier = new int[ids.size()];
+        int count = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            if (depths[i] == depth && !expanded.get(i)) {
+                frontier[count++] = i;
+            }
+        }
+        return Arrays.copyOf(frontier, count);
+    }
+
+    private void invalidateAdjacency() {
+        outOffsets = null;
+        inOffsets = null;
+    }
+
+    private void ensureAdjacency() {
+        if (outOffsets != null) {
+            return;
+        }
+        int nodes = ids.size();
+        int edgeTotal = edges.size();
+        int[] outCounts = new int[nodes + 1];
+        int[] inCounts = new int[nodes + 1];
+        for (int i = 0; i < edgeTotal; i++) {
+            long edge = edges.get(i);
+            outCounts[(int) (edge >>> 32) + 1]++;
+            inCounts[(int) edge + 1]++;
+        }
+        for (int i = 0; i < nodes; i++) {
+            outCounts[i + 1] += outCounts[i];
+            inCounts[i + 1] += inCounts[i];
+        }
+        int[] outCursor = Arrays.copyOf(outCounts, nodes);
+        int[] inCursor = Arrays.copyOf(inCounts, nodes);
+        int[] outs = new int[edgeTotal];
+        int[] ins = new int[edgeTotal];
+        for (int i = 0; i < edgeTotal; i++) {
+            long edge = edges.get(i);
+            int from = (int) (edge >>> 32);
+            int to = (int) edge;
+            outs[outCursor[from]++] = to;
+            ins[inCursor[to]++] = from;
+        }
+        outOffsets = outCounts;
+        outTargets = outs;
+        inOffsets = inCounts;
+        inTargets = ins;
+    }
+
+    private LongIdSet collectIds(int[] offsets, int[] targets, int index) {
+        checkIndex(index);
+        LongIdSet.Builder builder = LongIdSet.builder(offsets[index + 1] - offsets[index]);
+        for (int i = offsets[index]; i < offsets[index + 1]; i++) {
+            builder.add(ids.get(targets[i]));
+        }
+        return builder.build();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= ids.size()) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + ids.size());
+        }
+    }
+}
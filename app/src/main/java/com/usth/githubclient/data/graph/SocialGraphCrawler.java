@@ -0,0 +1,362 @@
+package com.usth.githubclient.data.graph;
+
+import com.usth.githubclient.data.remote.RateLimitBudget;
+import com.usth.githubclient.data.repository.UserRepository;
+import com.usth.githubclient.domain.model.GitHubUserProfileDataEntry;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Breadth-first crawler over the follower/following graph of a seed account.
+ * <p>
+ * Levels are processed one at a time. Within a level, node expansions (fetching the followers and
+ * following pages of one account) run on a bounded worker pool whose effective width follows
+ * {@link RateLimitBudget#recommendedConcurrency(int, long)}. Results are merged on the calling
+ * thread only, so the graph structures need no extra locking, and the graph is checkpointed as it
+ * grows so an interrupted crawl can resume where it stopped.
+ */
+public final class SocialGraphCrawler {
+
+    private final UserRepository userRepository;
+    private final RateLimitBudget budget;
+    private final Config config;
+
+    private volatile boolean cancelled;
+
+    public SocialGraphCrawler(UserRepository userRepository, RateLimitBudget budget, Config config) {
+        this.userRepository = Objects.requireNonNull(userRepository, "userRepository == null");
+        this.budget = Objects.requireNonNull(budget, "budget == null");
+        this.config = Objects.requireNonNull(config, "config == null");
+    }
+
+    /** Requests the running crawl to stop; it checkpoints and throws {@link InterruptedIOException}. */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Crawls the neighbourhood of {@code seedLogin} up to {@link Config#maxDepth} hops, resuming from
+     * the configured checkpoint when it belongs to the same seed and depth.
+     */
+    public SocialGraph crawl(String seedLogin, ProgressListener listener) throws IOException {
+        Objects.requireNonNull(seedLogin, "seedLogin == null");
+        cancelled = false;
+
+        SocialGraph graph = restoreOrSeed(seedLogin);
+        ExecutorService workers = Executors.newFixedThreadPool(config.maxWorkers);
+        try {
+            for (int depth = 0; depth < config.maxDepth; depth++) {
+                crawlLevel(seedLogin, graph, depth, workers, listener);
+                saveCheckpoint(seedLogin, graph);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        return graph;
+    }
+
+    public SocialGraph crawl(String seedLogin) throws IOException {
+        return crawl(seedLogin, null);
+    }
+
+    private SocialGraph restoreOrSeed(String seedLogin) throws IOException {
+        CrawlCheckpoint checkpoint = CrawlCheckpoint.read(config.checkpointFile);
+        if (checkpoint != null && checkpoint.matches(seedLogin, config.maxDepth)) {
+            return checkpoint.graph;
+        }
+        GitHubUserProfileDataEntry seed = userRepository.fetchUserProfile(seedLogin);
+        SocialGraph graph = new SocialGraph();
+        graph.addNodeIfAbsent(seed.getId(), seed.getUsername(), 0, config.maxNodes);
+        return graph;
+    }
+
+    private void crawlLevel(String seedLogin,
+                            SocialGraph graph,
+                            int depth,
+                            ExecutorService workers,
+                            ProgressListener listener) throws IOException {
+        int[] frontier = graph.frontierAt(depth);
+        CompletionService<Expansion> completion = new ExecutorCompletionService<>(workers);
+        int next = 0;
+        int inFlight = 0;
+        int sinceCheckpoint = 0;
+
+        while (next < frontier.length || inFlight > 0) {
+            if (cancelled) {
+                throw stopCancelled(seedLogin, graph);
+            }
+
+            int allowed = budget.recommendedConcurrency(config.maxWorkers, System.currentTimeMillis());
+            boolean graphFull = graph.nodeCount() >= config.maxNodes;
+            while (!graphFull && next < frontier.length && inFlight < allowed) {
+                int nodeIndex = frontier[next++];
+                String login = graph.loginAt(nodeIndex);
+                completion.submit(() -> expand(nodeIndex, login));
+                inFlight++;
+            }
+
+            if (inFlight == 0) {
+                if (graphFull || next >= frontier.length) {
+                    break;
+                }
+                // Only the reserve is left; wait for the window to reset.
+                pauseForBudget();
+                continue;
+            }
+
+            Expansion expansion;
+            try {
+                expansion = awaitNext(completion);
+            } catch (InterruptedIOException exception) {
+                if (cancelled) {
+                    throw stopCancelled(seedLogin, graph);
+                }
+                throw exception;
+            }
+            inFlight--;
+            // An expansion finishing after cancel() may be partial; merging it would mark the node
+            // expanded and a resumed crawl would never fetch its remaining pages.
+            if (cancelled) {
+                throw stopCancelled(seedLogin, graph);
+            }
+            merge(graph, expansion, depth);
+            if (listener != null) {
+                listener.onNodeExpanded(graph.loginAt(expansion.nodeIndex), depth, graph.nodeCount());
+            }
+            if (++sinceCheckpoint >= config.checkpointInterval) {
+                saveCheckpoint(seedLogin, graph);
+                sinceCheckpoint = 0;
+            }
+        }
+    }
+
+    /** Either every page of {@code login} or an {@link InterruptedIOException}, never a part. */
+    private Expansion expand(int nodeIndex, String login) throws IOException {
+        List<GitHubUserProfileDataEntry> followers = new ArrayList<>();
+        List<GitHubUserProfileDataEntry> following = new ArrayList<>();
+        for (int page = 1; page <= config.maxPagesPerNode; page++) {
+            throwIfCancelled();
+            List<GitHubUserProfileDataEntry> batch =
+                    userRepository.fetchFollowers(login, config.perPage, page);
+            followers.addAll(batch);
+            if (batch.size() < config.perPage) {
+                break;
+            }
+        }
+        for (int page = 1; page <= config.maxPagesPerNode; page++) {
+            throwIfCancelled();
+            List<GitHubUserProfileDataEntry> batch =
+                    userRepository.fetchFollowing(login, config.perPage, page);
+            following.addAll(batch);
+            if (batch.size() < config.perPage) {
+                break;
+            }
+        }
+        throwIfCancelled();
+        return new Expansion(nodeIndex, followers, following);
+    }
+
+    private void throwIfCancelled() throws InterruptedIOException {
+        if (cancelled) {
+            throw new InterruptedIOException("Crawl cancelled");
+        }
+    }
+
+    /** Checkpoints what was merged so far and returns the exception ending the crawl. */
+    private InterruptedIOException stopCancelled(String seedLogin, SocialGraph graph) throws IOException {
+        saveCheckpoint(seedLogin, graph);
+        return new InterruptedIOException("Crawl cancelled");
+    }
+
+    private Expansion awaitNext(CompletionService<Expansion> completion) throws IOException {
+        try {
+            return completion.take().get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Crawl interrupted");
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Crawler worker failed", cause);
+        }
+    }
+
+    private void merge(SocialGraph graph, Expansion expansion, int depth) {
+        int node = expansion.nodeIndex;
+        for (GitHubUserProfileDataEntry follower : expansion.followers) {
+            int index = graph.addNodeIfAbsent(
+                    follower.getId(), follower.getUsername(), depth + 1, config.maxNodes);
+            if (index >= 0) {
+                graph.addEdge(index, node);
+            }
+        }
+        for (GitHubUserProfileDataEntry followee : expansion.following) {
+            int index = graph.addNodeIfAbsent(
+                    followee.getId(), followee.getUsername(), depth + 1, config.maxNodes);
+            if (index >= 0) {
+                graph.addEdge(node, index);
+            }
+        }
+        graph.markExpanded(node);
+    }
+
+    private void pauseForBudget() throws IOException {
+        long wait = budget.millisUntilReset(System.currentTimeMillis());
+        wait = Math.max(config.minPauseMillis, Math.min(wait, config.maxPauseMillis));
+        try {
+            Thread.sleep(wait);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Crawl interrupted while waiting for rate limit");
+        }
+    }
+
+    private void saveCheckpoint(String seedLogin, SocialGraph graph) throws IOException {
+        if (config.checkpointFile != null) {
+            CrawlCheckpoint.write(config.checkpointFile, seedLogin, config.maxDepth, graph);
+        }
+    }
+
+    /** Receives progress from the crawling thread. */
+    public interface ProgressListener {
+        void onNodeExpanded(String login, int depth, int discoveredNodes);
+    }
+
+    private static final class Expansion {
+        final int nodeIndex;
+        final List<GitHubUserProfileDataEntry> followers;
+        final List<GitHubUserProfileDataEntry> following;
+
+        Expansion(int nodeIndex,
+                  List<GitHubUserProfileDataEntry> followers,
+                  List<GitHubUserProfileDataEntry> following) {
+            this.nodeIndex = nodeIndex;
+            this.followers = Collections.unmodifiableList(followers);
+            this.following = Collections.unmodifiableList(following);
+        }
+    }
+
+    /** Tuning knobs for a crawl. */
+    public static final class Config {
+
+        final int maxDepth;
+        final int maxWorkers;
+        final int maxNodes;
+        final int perPage;
+        final int maxPagesPerNode;
+        final int checkpointInterval;
+        final long minPauseMillis;
+        final long maxPauseMillis;
+        final File checkpointFile;
+
+        private Config(Builder builder) {
+            this.maxDepth = builder.maxDepth;
+            this.maxWorkers = builder.maxWorkers;
+            this.maxNodes = builder.maxNodes;
+            this.perPage = builder.perPage;
+            this.maxPagesPerNode = builder.maxPagesPerNode;
+            this.checkpointInterval = builder.checkpointInterval;
+            this.minPauseMillis = builder.minPauseMillis;
+            this.maxPauseMillis = builder.maxPauseMillis;
+            this.checkpointFile = builder.checkpointFile;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        public static final class Builder {
+
+            private int maxDepth = 2;
+            private int maxWorkers = 4;
+            private int maxNodes = 50_000;
+            private int perPage = 100;
+            private int maxPagesPerNode = 5;
+            private int checkpointInterval = 25;
+            private long minPauseMillis = 1_000L;
+            private long maxPauseMillis = 60_000L;
+            private File checkpointFile;
+
+            private Builder() {
+            }
+
+            public Builder maxDepth(int maxDepth) {
+                if (maxDepth < 1) {
+                    throw new IllegalArgumentException("maxDepth must be >= 1");
+                }
+                this.maxDepth = maxDepth;
+                return this;
+            }
+
+            public Builder maxWorkers(int maxWorkers) {
+                if (maxWorkers < 1) {
+                    throw new IllegalArgumentException("maxWorkers must be >= 1");
+                }
+                this.maxWorkers = maxWorkers;
+                return this;
+            }
+
+            public Builder maxNodes(int maxNodes) {
+                if (maxNodes < 1) {
+                    throw new IllegalArgumentException("maxNodes must be >= 1");
+                }
+                this.maxNodes = maxNodes;
+                return this;
+            }
+
+            public Builder perPage(int perPage) {
+                if (perPage < 1 || perPage > 100) {
+                    throw new IllegalArgumentException("perPage must be within 1..100");
+                }
+                this.perPage = perPage;
+                return this;
+            }
+
+            public Builder maxPagesPerNode(int maxPagesPerNode) {
+                if (maxPagesPerNode < 1) {
+                    throw new IllegalArgumentException("maxPagesPerNode must be >= 1");
+                }
+                this.maxPagesPerNode = maxPagesPerNode;
+                return this;
+            }
+
+            public Builder checkpointInterval(int checkpointInterval) {
+                if (checkpointInterval < 1) {
+                    throw new IllegalArgumentException("checkpointInterval must be >= 1");
+                }
+                this.checkpointInterval = checkpointInterval;
+                return this;
+            }
+
+            public Builder pauseBounds(long minPauseMillis, long maxPauseMillis) {
+                if (minPauseMillis < 0L || maxPauseMillis < minPauseMillis) {
+                    throw new IllegalArgumentException("invalid pause bounds");
+                }
+                this.minPauseMillis = minPauseMillis;
+                this.maxPauseMillis = maxPauseMillis;
+                return this;
+            }
+
+            public Builder checkpointFile(File checkpointFile) {
+                this.checkpointFile = checkpointFile;
+                return this;
+            }
+
+            public Config build() {
+                return new Config(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,516 @@
+package com.usth.githubclient.data.local;
+
+import com.usth.githubclient.domain.collection.LongIntHashMap;
+import com.usth.githubclient.domain.model.CommitSummary;
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import okio.ByteString;
+
+/**
+ * Disk cache of commit histories in a compact binary format, so a history seen before opens
+ * without a request however long it is.
+ * <p>
+ * Commit summaries are immutable, so they are appended once to {@code commits.dat} and never
+ * revalidated. A history is the list of commits reachable from one head SHA, in API order; it is
+ * immutable too, so it is stored under that SHA as a file of fixed 24-byte entries (the binary SHA
+ * and the offset of its summary). Reading page {@code n} of a 100k-commit history is one seek into
+ * each file, and nothing is loaded up front. Only the branch to head mapping changes; it is kept
+ * with its ETag in a small refs file.
+ * <p>
+ * Histories unused for {@link #DEFAULT_TTL_MILLIS} are deleted. When {@code commits.dat} outgrows
+ * its budget everything is dropped and rebuilt from the network; a generation number written in
+ * every file keeps stale offsets from being followed.
+ */
+public final class CommitCache {
+
+    static final long DEFAULT_TTL_MILLIS = TimeUnit.DAYS.toMillis(30);
+    private static final long DEFAULT_MAX_SUMMARY_BYTES = 32L * 1024 * 1024;
+    private static final int MAGIC = 0x434d5431;
+    private static final int SUMMARIES_HEADER_BYTES = 8;
+    private static final int HISTORY_HEADER_BYTES = 8;
+    private static final int SHA_BYTES = 20;
+    private static final int ENTRY_BYTES = SHA_BYTES + 4;
+    private static final int MAX_DECODED = 2_000;
+    private static final int MAX_REFS = 200;
+    private static final int MISSING = -1;
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final Pattern SHA = Pattern.compile("[0-9a-f]{40}");
+
+    private final File directory;
+    private final File summariesFile;
+    private final File historyDirectory;
+    private final File refsFile;
+    private final long maxSummaryBytes;
+    private final long ttlMillis;
+    private final LinkedHashMap<String, CommitSummary> decoded = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, RefValidator> refs;
+    private int generation = MISSING;
+    private LongIntHashMap index;
+
+    public CommitCache(File directory) {
+        this(directory, DEFAULT_MAX_SUMMARY_BYTES, DEFAULT_TTL_MILLIS);
+    }
+
+    public CommitCache(File directory, long maxSummaryBytes, long ttlMillis) {
+        if (maxSummaryBytes <= SUMMARIES_HEADER_BYTES) {
+            throw new IllegalArgumentException("maxSummaryBytes too small");
+        }
+        if (ttlMillis <= 0L) {
+            throw new IllegalArgumentException("ttlMillis must be > 0");
+        }
+        this.directory = Objects.requireNonNull(directory, "directory == null");
+        this.summariesFile = new File(directory, "commits.dat");
+        this.historyDirectory = new File(directory, "history");
+        this.refsFile = new File(directory, "refs");
+        this.maxSummaryBytes = maxSummaryBytes;
+        this.ttlMillis = ttlMillis;
+        refs = new LinkedHashMap<String, RefValidator>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RefValidator> eldest) {
+                return size() > MAX_REFS;
+            }
+        };
+        loadRefs();
+        pruneExpiredHistories();
+    }
+
+    public synchronized RefValidator getRef(String owner, String repo, String branch) {
+        return refs.get(refKey(owner, repo, branch));
+    }
+
+    public synchronized void putRef(String owner, String repo, String branch, RefValidator validator) {
+        refs.put(refKey(owner, repo, branch), Objects.requireNonNull(validator, "validator == null"));
+        saveRefs();
+    }
+
+    /** Cached shape of the history of {@code headSha}, or {@code null} when nothing is cached. */
+    public synchronized HistoryInfo getHistory(String headSha) throws IOException {
+        File file = historyFile(headSha);
+        if (!file.isFile() || openSummaries() < 0) {
+            return null;
+        }
+        try (RandomAccessFile history = new RandomAccessFile(file, "r")) {
+            if (history.length() < HISTORY_HEADER_BYTES || history.readInt() != generation) {
+                file.delete();
+                return null;
+            }
+            int nextPage = history.readInt();
+            int size = (int) ((history.length() - HISTORY_HEADER_BYTES) / ENTRY_BYTES);
+            return new HistoryInfo(size, nextPage);
+        }
+    }
+
+    /**
+     * Reads commits {@code [start, start + count)} of the history of {@code headSha}, clamped to what
+     * is cached. Returns {@code null} when the history or one of its summaries is missing.
+     */
+    public synchronized List<CommitSummary> readHistory(String headSha, int start, int count)
+            throws IOException {
+        HistoryInfo info = getHistory(headSha);
+        if (info == null) {
+            return null;
+        }
+        int end = (int) Math.min((long) start + count, info.getSize());
+        List<CommitSummary> commits = new ArrayList<>(Math.max(0, end - start));
+        if (start >= end) {
+            return commits;
+        }
+        File file = historyFile(headSha);
+        byte[] entries = new byte[(end - start) * ENTRY_BYTES];
+        try (RandomAccessFile history = new RandomAccessFile(file, "r");
+             RandomAccessFile summaries = new RandomAccessFile(summariesFile, "r")) {
+            history.seek(HISTORY_HEADER_BYTES + (long) start * ENTRY_BYTES);
+            history.readFully(entries);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(entries));
+            byte[] sha = new byte[SHA_BYTES];
+            for (int i = start; i < end; i++) {
+                in.readFully(sha);
+                int offset = in.readInt();
+                String hex = ByteString.of(sha).hex();
+                CommitSummary summary = decoded.get(hex);
+                if (summary == null) {
+                    summary = readSummary(summaries, offset, hex);
+                    if (summary == null) {
+                        return null;
+                    }
+                    decode(summary);
+                }
+                commits.add(summary);
+            }
+        }
+        // Best effort: keeps recently read histories from expiring.
+        file.setLastModified(System.currentTimeMillis());
+        return commits;
+    }
+
+    /**
+     * Appends {@code commits} to the history of {@code headSha} if it currently holds exactly
+     * {@code expectedSize} commits; pages arriving out of order are not stored. {@code nextPage} is
+     * the API page that continues the history, or 0 when it is complete.
+     */
+    public synchronized void appendHistory(String headSha, int expectedSize, List<CommitSummary> commits,
+                                           int nextPage) throws IOException {
+        Objects.requireNonNull(commits, "commits == null");
+        File file = historyFile(headSha);
+        HistoryInfo info = getHistory(headSha);
+        if ((info == null ? 0 : info.getSize()) != expectedSize) {
+            return;
+        }
+        int[] offsets = new int[commits.size()];
+        int startGeneration = openSummaries();
+        for (int i = 0; i < commits.size(); i++) {
+            offsets[i] = putSummary(commits.get(i));
+        }
+        if (generation != startGeneration) {
+            // commits.dat was full and started over, dropping every history; start this one again.
+            if (expectedSize > 0) {
+                return;
+            }
+            startGeneration = generation;
+            for (int i = 0; i < commits.size(); i++) {
+                offsets[i] = putSummary(commits.get(i));
+            }
+            if (generation != startGeneration) {
+                return;
+            }
+        }
+        if (!historyDirectory.isDirectory() && !historyDirectory.mkdirs() && !historyDirectory.isDirectory()) {
+            throw new IOException("Unable to create " + historyDirectory);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(commits.size() * ENTRY_BYTES);
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (int i = 0; i < commits.size(); i++) {
+            out.write(ByteString.decodeHex(commits.get(i).getSha()).toByteArray());
+            out.writeInt(offsets[i]);
+        }
+        try (RandomAccessFile history = new RandomAccessFile(file, "rw")) {
+            history.writeInt(generation);
+            history.writeInt(nextPage);
+            history.seek(HISTORY_HEADER_BYTES + (long) expectedSize * ENTRY_BYTES);
+            history.write(bytes.toByteArray());
+        }
+    }
+
+    /** Summary of commit {@code sha} if it was ever stored. */
+    public synchronized CommitSummary getSummary(String sha) throws IOException {
+        requireSha(sha);
+        CommitSummary summary = decoded.get(sha);
+        if (summary != null || openSummaries() < 0) {
+            return summary;
+        }
+        int offset = index().get(key(sha), MISSING);
+        if (offset == MISSING) {
+            return null;
+        }
+        try (RandomAccessFile summaries = new RandomAccessFile(summariesFile, "r")) {
+            summary = readSummary(summaries, offset, sha);
+        }
+        if (summary != null) {
+            decode(summary);
+        }
+        return summary;
+    }
+
+    /** Drops every cached commit, history and ref. */
+    public synchronized void clear() {
+        refs.clear();
+        refsFile.delete();
+        resetSummaries();
+    }
+
+    /** Stores {@code summary} unless present and returns the offset of its record. */
+    private int putSummary(CommitSummary summary) throws IOException {
+        requireSha(summary.getSha());
+        if (openSummaries() < 0) {
+            resetSummaries();
+        }
+        long key = key(summary.getSha());
+        int existing = index().get(key, MISSING);
+        if (existing != MISSING) {
+            return existing;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeShort(0);
+        out.write(ByteString.decodeHex(summary.getSha()).toByteArray());
+        out.writeLong(summary.getAuthoredAt().map(Instant::toEpochMilli).orElse(NO_DATE));
+        out.writeUTF(summary.getHeadline());
+        out.writeUTF(summary.getAuthorName());
+        out.writeUTF(summary.getAuthorLogin().orElse(""));
+        byte[] record = bytes.toByteArray();
+        int length = record.length - 2;
+        if (length > 0xffff) {
+            throw new IOException("Commit " + summary.getSha() + " is too large to cache");
+        }
+        record[0] = (byte) (length >>> 8);
+        record[1] = (byte) length;
+
+        if (summariesFile.length() + record.length > maxSummaryBytes) {
+            resetSummaries();
+        }
+        int offset;
+        try (RandomAccessFile summaries = new RandomAccessFile(summariesFile, "rw")) {
+            offset = (int) summaries.length();
+            summaries.seek(offset);
+            summaries.write(record);
+        }
+        index().put(key, offset);
+        decode(summary);
+        return offset;
+    }
+
+    private CommitSummary readSummary(RandomAccessFile summaries, int offset, String sha) throws IOException {
+        if (offset < SUMMARIES_HEADER_BYTES || offset + 2L > summaries.length()) {
+            return null;
+        }
+        summaries.seek(offset);
+        int length = summaries.readUnsignedShort();
+        if (offset + 2L + length > summaries.length()) {
+            return null;
+        }
+        byte[] record = new byte[length];
+        summaries.readFully(record);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        byte[] stored = new byte[SHA_BYTES];
+        in.readFully(stored);
+        if (!ByteString.of(stored).hex().equals(sha)) {
+            return null;
+        }
+        long authoredAt = in.readLong();
+        String headline = in.readUTF();
+        String authorName = in.readUTF();
+        String login = in.readUTF();
+        return new CommitSummary(sha, headline, authorName, login.isEmpty() ? null : login,
+                authoredAt == NO_DATE ? null : Instant.ofEpochMilli(authoredAt));
+    }
+
+    /** Reads the generation of {@code commits.dat} once; negative when it is missing or foreign. */
+    private int openSummaries() throws IOException {
+        if (generation != MISSING) {
+            return generation;
+        }
+        if (!summariesFile.isFile()) {
+            return MISSING;
+        }
+        try (DataInputStream in = new DataInputStream(new FileInputStream(summariesFile))) {
+            if (in.readInt() == MAGIC) {
+                generation = in.readInt() & Integer.MAX_VALUE;
+            }
+        } catch (EOFException ignored) {
+            // Truncated: treated as missing.
+        }
+        return generation;
+    }
+
+    /** SHA-to-offset index of {@code commits.dat}, built by one scan on the first write or lookup. */
+    private LongIntHashMap index() throws IOException {
+        if (index != null) {
+            return index;
+        }
+        LongIntHashMap built = new LongIntHashMap();
+        if (openSummaries() >= 0) {
+            try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(new FileInputStream(summariesFile)))) {
+                skipFully(in, SUMMARIES_HEADER_BYTES);
+                long offset = SUMMARIES_HEADER_BYTES;
+                long length = summariesFile.length();
+                byte[] sha = new byte[SHA_BYTES];
+                while (offset + 2 + SHA_BYTES <= length) {
+                    int recordLength = in.readUnsignedShort();
+                    in.readFully(sha);
+                    built.put(key(ByteString.of(sha).hex()), (int) offset);
+                    skipFully(in, recordLength - SHA_BYTES);
+                    offset += 2 + recordLength;
+                }
+            } catch (EOFException ignored) {
+                // A torn last record is simply not indexed.
+            }
+        }
+        index = built;
+        return index;
+    }
+
+    private static void skipFully(DataInputStream in, int count) throws IOException {
+        int remaining = count;
+        while (remaining > 0) {
+            int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new EOFException();
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /** Starts a new, empty {@code commits.dat} and drops every history pointing into the old one. */
+    private void resetSummaries() {
+        File[] histories = historyDirectory.listFiles();
+        if (histories != null) {
+            for (File file : histories) {
+                file.delete();
+            }
+        }
+        decoded.clear();
+        index = new LongIntHashMap();
+        generation = (int) (System.nanoTime() & Integer.MAX_VALUE);
+        if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory()) {
+            generation = MISSING;
+            return;
+        }
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(summariesFile))) {
+            out.writeInt(MAGIC);
+            out.writeInt(generation);
+        } catch (IOException exception) {
+            summariesFile.delete();
+            generation = MISSING;
+        }
+    }
+
+    private void decode(CommitSummary summary) {
+        decoded.put(summary.getSha(), summary);
+        if (decoded.size() > MAX_DECODED) {
+            decoded.remove(decoded.keySet().iterator().next());
+        }
+    }
+
+    private void pruneExpiredHistories() {
+        File[] histories = historyDirectory.listFiles();
+        if (histories == null) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - ttlMillis;
+        for (File file : histories) {
+            if (file.lastModified() < cutoff) {
+                file.delete();
+            }
+        }
+    }
+
+    private void loadRefs() {
+        if (!refsFile.isFile()) {
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(refsFile), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", -1);
+                if (fields.length == 3 && SHA.matcher(fields[2]).matches()) {
+                    refs.put(fields[0], new RefValidator(fields[1].isEmpty() ? null : fields[1], fields[2]));
+                }
+            }
+        } catch (IOException ignored) {
+            refs.clear();
+        }
+    }
+
+    private void saveRefs() {
+        if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory()) {
+            return;
+        }
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(refsFile), StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, RefValidator> entry : refs.entrySet()) {
+                RefValidator ref = entry.getValue();
+                writer.write(entry.getKey() + '\t' + (ref.getEtag() == null ? "" : ref.getEtag())
+                        + '\t' + ref.getHeadSha() + '\n');
+            }
+        } catch (IOException ignored) {
+            // Refs only save a request; losing them is harmless.
+            refsFile.delete();
+        }
+    }
+
+    private File historyFile(String headSha) {
+        return new File(historyDirectory, requireSha(headSha));
+    }
+
+    private static String refKey(String owner, String repo, String branch) {
+        Objects.requireNonNull(owner, "owner == null");
+        Objects.requireNonNull(repo, "repo == null");
+        Objects.requireNonNull(branch, "branch == null");
+        // Tabs and newlines cannot appear in GitHub names, so the key is safe in the refs file.
+        return owner.toLowerCase(Locale.ROOT) + '/' + repo.toLowerCase(Locale.ROOT)
+                + '/' + branch;
+    }
+
+    /** First 63 bits of the SHA; enough to tell commits apart, and records hold the full SHA. */
+    private static long key(String sha) {
+        return Long.parseUnsignedLong(sha.substring(0, 16), 16) >>> 1;
+    }
+
+    private static String requireSha(String sha) {
+        Objects.requireNonNull(sha, "sha == null");
+        if (!SHA.matcher(sha).matches()) {
+            throw new IllegalArgumentException("Not a SHA: " + sha);
+        }
+        return sha;
+    }
+
+    /** Shape of a cached history. */
+    public static final class HistoryInfo {
+
+        private final int size;
+        private final int nextPage;
+
+        HistoryInfo(int size, int nextPage) {
+            this.size = size;
+            this.nextPage = nextPage;
+        }
+
+        /** Commits cached, from the head. */
+        public int getSize() {
+            return size;
+        }
+
+        /** API page that continues the history, or 0 when it is complete. */
+        public int getNextPage() {
+            return nextPage;
+        }
+
+        public boolean isComplete() {
+            return nextPage == 0;
+        }
+    }
+
+    /** What a conditional request for a branch head needs. */
+    public static final class RefValidator {
+
+        private final String etag;
+        private final String headSha;
+
+        public RefValidator(String etag, String headSha) {
+            this.etag = etag;
+            this.headSha = requireSha(headSha);
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getHeadSha() {
+            return headSha;
+        }
+    }
+}
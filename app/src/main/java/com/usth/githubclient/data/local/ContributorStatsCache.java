@@ -0,0 +1,83 @@
+package com.usth.githubclient.data.local;
+
+import com.usth.githubclient.domain.model.ContributorStats;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Process-wide LRU cache of contributor leaderboards keyed by {@code owner/repo}.
+ * <p>
+ * GitHub computes these statistics on demand, which can take several polls, so an entry is kept
+ * until the repository's {@code pushedAt} moves: nothing else changes commit counts.
+ */
+public final class ContributorStatsCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = 200;
+
+    private final Map<String, Entry> entries;
+
+    public ContributorStatsCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public ContributorStatsCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be > 0");
+        }
+        entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public synchronized Entry get(String owner, String repo) {
+        return entries.get(key(owner, repo));
+    }
+
+    public synchronized void put(String owner, String repo, Entry entry) {
+        entries.put(key(owner, repo), Objects.requireNonNull(entry, "entry == null"));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private static String key(String owner, String repo) {
+        Objects.requireNonNull(owner, "owner == null");
+        Objects.requireNonNull(repo, "repo == null");
+        return (owner + '/' + repo).toLowerCase(Locale.ROOT);
+    }
+
+    /** Leaderboard of one repository as of {@link #getPushedAt()}. */
+    public static final class Entry {
+
+        private final Instant pushedAt;
+        private final List<ContributorStats> contributors;
+
+        public Entry(Instant pushedAt, List<ContributorStats> contributors) {
+            this.pushedAt = pushedAt;
+            this.contributors = Collections.unmodifiableList(
+                    new ArrayList<>(Objects.requireNonNull(contributors, "contributors == null")));
+        }
+
+        public Instant getPushedAt() {
+            return pushedAt;
+        }
+
+        public List<ContributorStats> getContributors() {
+            return contributors;
+        }
+
+        public boolean isCurrentFor(Instant pushedAt) {
+            return Objects.equals(this.pushedAt, pushedAt);
+        }
+    }
+}
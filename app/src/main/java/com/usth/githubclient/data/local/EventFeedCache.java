@@ -0,0 +1,102 @@
+package com.usth.githubclient.data.local;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Process-wide polling state of activity feeds: per feed the ETag of the last response, when the
+ * next poll is allowed and the events seen so far. Only the most recently polled feeds are kept.
+ */
+public final class EventFeedCache {
+
+    /** GitHub serves at most 300 events per feed, so holding more would never help. */
+    public static final int DEFAULT_EVENTS_PER_FEED = 300;
+    private static final int DEFAULT_MAX_FEEDS = 16;
+
+    private final int eventsPerFeed;
+    private final Map<String, Feed> feeds;
+
+    public EventFeedCache() {
+        this(DEFAULT_MAX_FEEDS, DEFAULT_EVENTS_PER_FEED);
+    }
+
+    public EventFeedCache(int maxFeeds, int eventsPerFeed) {
+        if (maxFeeds <= 0) {
+            throw new IllegalArgumentException("maxFeeds must be > 0");
+        }
+        if (eventsPerFeed <= 0) {
+            throw new IllegalArgumentException("eventsPerFeed must be > 0");
+        }
+        this.eventsPerFeed = eventsPerFeed;
+        feeds = new LinkedHashMap<String, Feed>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Feed> eldest) {
+                return size() > maxFeeds;
+            }
+        };
+    }
+
+    /** State of feed {@code name} of {@code username}, created empty on first use. */
+    public synchronized Feed feed(String name, String username) {
+        Objects.requireNonNull(name, "name == null");
+        Objects.requireNonNull(username, "username == null");
+        String key = name + '/' + username.toLowerCase(Locale.ROOT);
+        Feed feed = feeds.get(key);
+        if (feed == null) {
+            feed = new Feed(new EventRingBuffer(eventsPerFeed));
+            feeds.put(key, feed);
+        }
+        return feed;
+    }
+
+    public synchronized void clear() {
+        feeds.clear();
+    }
+
+    /**
+     * Mutable state of one feed. Callers synchronize on the instance to read or change it, and
+     * hold {@link #pollLock()} while polling it.
+     */
+    public static final class Feed {
+
+        private final EventRingBuffer events;
+        private final Object pollLock = new Object();
+        private String etag;
+        private long nextPollAtMillis;
+
+        Feed(EventRingBuffer events) {
+            this.events = events;
+        }
+
+        /**
+         * Held for a whole poll, request included, so two screens never send the same request
+         * at once; readers only take the instance's lock and never wait on the network.
+         */
+        public Object pollLock() {
+            return pollLock;
+        }
+
+        public EventRingBuffer getEvents() {
+            return events;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public void setEtag(String etag) {
+            this.etag = etag;
+        }
+
+        /** Wall-clock time before which the feed must not be requested again. */
+        public long getNextPollAtMillis() {
+            return nextPollAtMillis;
+        }
+
+        public void setNextPollAtMillis(long nextPollAtMillis) {
+            this.nextPollAtMillis = nextPollAtMillis;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.usth.githubclient.data.local;
+
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.model.FeedEvent;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Fixed-capacity ring of feed events, de-duplicated by event id. Once full, each new event
+ * overwrites the oldest one, so a feed polled for hours never holds more than {@code capacity}
+ * events. Not thread-safe.
+ */
+public final class EventRingBuffer {
+
+    private final FeedEvent[] slots;
+    private final Set<Long> ids;
+    private int head;
+    private int size;
+
+    public EventRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be > 0");
+        }
+        slots = new FeedEvent[capacity];
+        ids = new HashSet<>(capacity * 2);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    public boolean contains(long id) {
+        return ids.contains(id);
+    }
+
+    /**
+     * Adds the events of one feed page, given newest first as the API returns them, and skips the
+     * ones already held. Returns how many were new.
+     */
+    public int addAll(List<FeedEvent> newestFirst) {
+        Objects.requireNonNull(newestFirst, "newestFirst == null");
+        int added = 0;
+        // Oldest first, so the newest events are the last to be overwritten.
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            FeedEvent event = newestFirst.get(i);
+            if (event != null && add(event)) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /** Adds {@code event} as the newest one unless its id is already held. */
+    public boolean add(FeedEvent event) {
+        if (!ids.add(event.getId())) {
+            return false;
+        }
+        FeedEvent evicted = slots[head];
+        if (evicted != null) {
+            ids.remove(evicted.getId());
+        }
+        slots[head] = event;
+        head = (head + 1) % slots.length;
+        size = Math.min(size + 1, slots.length);
+        return true;
+    }
+
+    /** The held events, newest first. */
+    public PersistentList<FeedEvent> snapshot() {
+        PersistentList.Builder<FeedEvent> builder = PersistentList.builder();
+        for (int i = 1; i <= size; i++) {
+            builder.add(slots[(head - i + slots.length) % slots.length]);
+        }
+        return builder.build();
+    }
+}
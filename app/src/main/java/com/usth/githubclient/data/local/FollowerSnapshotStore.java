@@ -0,0 +1,90 @@
+package com.usth.githubclient.data.local;
+
+import com.usth.githubclient.domain.collection.LongIdSet;
+import com.usth.githubclient.domain.model.FollowerChange;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * In-memory store of the last known follower id set per user plus a bounded change log.
+ * <p>
+ * Only ids are kept (as a sorted {@code long[]}), never the follower models, so tracking an account
+ * with tens of thousands of followers costs a few hundred kilobytes.
+ */
+public final class FollowerSnapshotStore {
+
+    private static final int DEFAULT_MAX_LOG_ENTRIES = 1_000;
+
+    private final int maxLogEntries;
+    private final Map<String, LongIdSet> snapshots = new HashMap<>();
+    private final Map<String, ArrayDeque<FollowerChange>> changeLogs = new HashMap<>();
+
+    public FollowerSnapshotStore() {
+        this(DEFAULT_MAX_LOG_ENTRIES);
+    }
+
+    public FollowerSnapshotStore(int maxLogEntries) {
+        if (maxLogEntries <= 0) {
+            throw new IllegalArgumentException("maxLogEntries must be > 0");
+        }
+        this.maxLogEntries = maxLogEntries;
+    }
+
+    /** Returns the last committed snapshot, or {@code null} if the user was never synced. */
+    public synchronized LongIdSet getSnapshot(String username) {
+        return snapshots.get(key(username));
+    }
+
+    public synchronized void putSnapshot(String username, LongIdSet followerIds) {
+        snapshots.put(key(username), Objects.requireNonNull(followerIds, "followerIds == null"));
+    }
+
+    /** Appends a change, dropping the oldest entries once the log is full. */
+    public synchronized void appendChange(String username, FollowerChange change) {
+        Objects.requireNonNull(change, "change == null");
+        ArrayDeque<FollowerChange> log = changeLogs.get(key(username));
+        if (log == null) {
+            log = new ArrayDeque<>();
+            changeLogs.put(key(username), log);
+        }
+        log.addLast(change);
+        while (log.size() > maxLogEntries) {
+            log.removeFirst();
+        }
+    }
+
+    /** Returns the change log for {@code username}, newest entry first. */
+    public synchronized List<FollowerChange> getChangeLog(String username) {
+        ArrayDeque<FollowerChange> log = changeLogs.get(key(username));
+        if (log == null || log.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<FollowerChange> copy = new ArrayList<>(log.size());
+        Iterator<FollowerChange> iterator = log.descendingIterator();
+        while (iterator.hasNext()) {
+            copy.add(iterator.next());
+        }
+        return Collections.unmodifiableList(copy);
+    }
+
+    public synchronized void clear(String username) {
+        snapshots.remove(key(username));
+        changeLogs.remove(key(username));
+    }
+
+    public synchronized void clearAll() {
+        snapshots.clear();
+        changeLogs.clear();
+    }
+
+    private static String key(String username) {
+        return Objects.requireNonNull(username, "username == null").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,258 @@
+package com.usth.githubclient.data.local;
+
+import com.usth.githubclient.domain.model.GitTree;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed cache of git objects keyed by SHA. Identical directories and files across
+ * branches, forks and repositories are stored once, and an entry never needs revalidation.
+ * <p>
+ * Trees are small and kept in memory, bounded by their total number of entries. Blobs are streamed
+ * to files named by SHA in {@code directory}, bounded by total bytes; files survive restarts and
+ * their LRU order is rebuilt from modification times. Both levels evict least recently used first.
+ */
+public final class GitObjectCache {
+
+    private static final int DEFAULT_MAX_TREE_ENTRIES = 20_000;
+    private static final long DEFAULT_MAX_BLOB_BYTES = 50L * 1024 * 1024;
+    private static final int MAX_REFS = 200;
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final Pattern SHA = Pattern.compile("[0-9a-f]{40}([0-9a-f]{24})?");
+
+    private final File directory;
+    private final int maxTreeEntries;
+    private final long maxBlobBytes;
+    private final LinkedHashMap<String, GitTree> trees = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, Long> blobs = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, RefValidator> refs;
+    private int treeEntries;
+    private long blobBytes;
+
+    public GitObjectCache(File directory) {
+        this(directory, DEFAULT_MAX_TREE_ENTRIES, DEFAULT_MAX_BLOB_BYTES);
+    }
+
+    public GitObjectCache(File directory, int maxTreeEntries, long maxBlobBytes) {
+        if (maxTreeEntries <= 0) {
+            throw new IllegalArgumentException("maxTreeEntries must be > 0");
+        }
+        if (maxBlobBytes <= 0L) {
+            throw new IllegalArgumentException("maxBlobBytes must be > 0");
+        }
+        this.directory = Objects.requireNonNull(directory, "directory == null");
+        this.maxTreeEntries = maxTreeEntries;
+        this.maxBlobBytes = maxBlobBytes;
+        refs = new LinkedHashMap<String, RefValidator>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RefValidator> eldest) {
+                return size() > MAX_REFS;
+            }
+        };
+        loadBlobIndex();
+    }
+
+    public synchronized GitTree getTree(String sha) {
+        return trees.get(requireSha(sha));
+    }
+
+    public synchronized void putTree(GitTree tree) {
+        Objects.requireNonNull(tree, "tree == null");
+        GitTree previous = trees.put(requireSha(tree.getSha()), tree);
+        if (previous != null) {
+            treeEntries -= weight(previous);
+        }
+        treeEntries += weight(tree);
+        Iterator<Map.Entry<String, GitTree>> eldest = trees.entrySet().iterator();
+        while (treeEntries > maxTreeEntries && eldest.hasNext()) {
+            Map.Entry<String, GitTree> entry = eldest.next();
+            if (entry.getValue() == tree) {
+                continue;
+            }
+            treeEntries -= weight(entry.getValue());
+            eldest.remove();
+        }
+    }
+
+    /** Returns the cached file holding blob {@code sha}, or {@code null}. Counts as a use. */
+    public File getBlob(String sha) {
+        File file = blobFile(sha);
+        synchronized (this) {
+            // get() rather than containsKey() so the access is recorded.
+            Long size = blobs.get(sha);
+            if (size == null) {
+                return null;
+            }
+            if (!file.isFile()) {
+                blobs.remove(sha);
+                blobBytes -= size;
+                return null;
+            }
+        }
+        // Best effort: keeps the LRU order across restarts.
+        file.setLastModified(System.currentTimeMillis());
+        return file;
+    }
+
+    /**
+     * Streams {@code content} into the cache as blob {@code sha} and returns its file. The stream is
+     * copied through a small buffer, never held in memory; it is not closed here.
+     */
+    public File putBlob(String sha, InputStream content) throws IOException {
+        Objects.requireNonNull(content, "content == null");
+        File target = blobFile(sha);
+        if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory()) {
+            throw new IOException("Unable to create " + directory);
+        }
+        File temp = File.createTempFile(sha, TEMP_SUFFIX, directory);
+        long size = 0L;
+        try (OutputStream out = new FileOutputStream(temp)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                size += read;
+            }
+        } catch (IOException exception) {
+            temp.delete();
+            throw exception;
+        }
+
+        List<File> evicted = new ArrayList<>();
+        synchronized (this) {
+            // Same SHA means same bytes, so a concurrent writer that got here first is as good.
+            if (!temp.renameTo(target)) {
+                temp.delete();
+                if (!target.isFile()) {
+                    throw new IOException("Unable to store blob " + sha);
+                }
+            }
+            Long previous = blobs.put(sha, size);
+            if (previous != null) {
+                blobBytes -= previous;
+            }
+            blobBytes += size;
+            Iterator<Map.Entry<String, Long>> eldest = blobs.entrySet().iterator();
+            while (blobBytes > maxBlobBytes && eldest.hasNext()) {
+                Map.Entry<String, Long> entry = eldest.next();
+                // A blob larger than the whole budget is kept until the next insertion.
+                if (entry.getKey().equals(sha)) {
+                    continue;
+                }
+                blobBytes -= entry.getValue();
+                evicted.add(blobFile(entry.getKey()));
+                eldest.remove();
+            }
+        }
+        for (File file : evicted) {
+            file.delete();
+        }
+        return target;
+    }
+
+    public synchronized long getBlobBytes() {
+        return blobBytes;
+    }
+
+    public synchronized RefValidator getRef(String owner, String repo, String ref) {
+        return refs.get(refKey(owner, repo, ref));
+    }
+
+    public synchronized void putRef(String owner, String repo, String ref, RefValidator validator) {
+        refs.put(refKey(owner, repo, ref), Objects.requireNonNull(validator, "validator == null"));
+    }
+
+    /** Drops every tree and deletes every blob file. */
+    public void clear() {
+        List<File> files = new ArrayList<>();
+        synchronized (this) {
+            for (String sha : blobs.keySet()) {
+                files.add(blobFile(sha));
+            }
+            trees.clear();
+            blobs.clear();
+            refs.clear();
+            treeEntries = 0;
+            blobBytes = 0L;
+        }
+        for (File file : files) {
+            file.delete();
+        }
+    }
+
+    private void loadBlobIndex() {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        List<File> cached = new ArrayList<>(files.length);
+        for (File file : files) {
+            if (file.getName().endsWith(TEMP_SUFFIX)) {
+                // Left over from a write that did not finish.
+                file.delete();
+            } else if (file.isFile() && SHA.matcher(file.getName()).matches()) {
+                cached.add(file);
+            }
+        }
+        cached.sort((a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+        for (File file : cached) {
+            blobs.put(file.getName(), file.length());
+            blobBytes += file.length();
+        }
+    }
+
+    private File blobFile(String sha) {
+        return new File(directory, requireSha(sha));
+    }
+
+    private static int weight(GitTree tree) {
+        return Math.max(1, tree.getEntries().size());
+    }
+
+    private static String requireSha(String sha) {
+        Objects.requireNonNull(sha, "sha == null");
+        // Also keeps file names inside the cache directory.
+        if (!SHA.matcher(sha).matches()) {
+            throw new IllegalArgumentException("Not a git object id: " + sha);
+        }
+        return sha;
+    }
+
+    private static String refKey(String owner, String repo, String ref) {
+        return Objects.requireNonNull(owner, "owner == null").toLowerCase(Locale.ROOT)
+                + '/' + Objects.requireNonNull(repo, "repo == null").toLowerCase(Locale.ROOT)
+                + '@' + Objects.requireNonNull(ref, "ref == null");
+    }
+
+    /** The ETag and root tree SHA last seen for a branch. */
+    public static final class RefValidator {
+
+        private final String etag;
+        private final String treeSha;
+
+        public RefValidator(String etag, String treeSha) {
+            this.etag = etag;
+            this.treeSha = Objects.requireNonNull(treeSha, "treeSha == null");
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getTreeSha() {
+            return treeSha;
+        }
+    }
+}
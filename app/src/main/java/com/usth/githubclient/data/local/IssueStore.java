@@ -0,0 +1,336 @@
+package com.usth.githubclient.data.local;
+
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.model.IssueSummary;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Local copy of the open issues and pull requests of repositories, kept on disk so a repository
+ * with thousands of them opens without a request.
+ * <p>
+ * Each repository has an append-only log of upserts, removals and sync watermarks; loading it
+ * replays the log into a map by issue number, and it is rewritten compactly once it holds mostly
+ * superseded records. The list the UI reads is kept sorted by update time: a sync re-sorts only the
+ * issues it changed and merges them into the previous order. A few repositories stay loaded.
+ */
+public final class IssueStore {
+
+    private static final int MAGIC = 0x49535331;
+    private static final byte RECORD_PUT = 1;
+    private static final byte RECORD_REMOVE = 2;
+    private static final byte RECORD_WATERMARK = 3;
+    private static final int FLAG_OPEN = 1;
+    private static final int FLAG_PULL_REQUEST = 2;
+    private static final int MAX_LOADED = 4;
+    private static final int MIN_COMPACT_RECORDS = 256;
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9._-]+");
+    private static final Comparator<IssueSummary> NEWEST_FIRST = (a, b) -> {
+        int byTime = b.getUpdatedAt().compareTo(a.getUpdatedAt());
+        return byTime != 0 ? byTime : Integer.compare(b.getNumber(), a.getNumber());
+    };
+
+    private final File directory;
+    private final Map<String, Issues> loaded = new LinkedHashMap<String, Issues>(8, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Issues> eldest) {
+            return size() > MAX_LOADED;
+        }
+    };
+
+    public IssueStore(File directory) {
+        this.directory = Objects.requireNonNull(directory, "directory == null");
+    }
+
+    /**
+     * Server time of the last completed sync, the {@code since} of the next one; {@code null} when
+     * the repository was never fully synced.
+     */
+    public synchronized Instant getWatermark(String owner, String repo) throws IOException {
+        return issues(owner, repo).watermark;
+    }
+
+    public synchronized int size(String owner, String repo) throws IOException {
+        return issues(owner, repo).byNumber.size();
+    }
+
+    /** Every stored issue, most recently updated first. */
+    public synchronized PersistentList<IssueSummary> snapshot(String owner, String repo) throws IOException {
+        return issues(owner, repo).sorted();
+    }
+
+    /**
+     * Drops everything stored for the repository before a full sync. {@code expectedSize} sizes
+     * the index for the issues about to arrive.
+     */
+    public synchronized void beginFullSync(String owner, String repo, int expectedSize) throws IOException {
+        String key = key(owner, repo);
+        Issues issues = new Issues(Math.max(0, expectedSize));
+        loaded.put(key, issues);
+        File file = file(key);
+        if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory()) {
+            throw new IOException("Unable to create " + directory);
+        }
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeInt(MAGIC);
+        }
+    }
+
+    /**
+     * Stores open issues and removes closed ones. Returns how many issues were added, changed or
+     * removed; copies identical to the stored ones are ignored.
+     */
+    public synchronized int upsert(String owner, String repo, List<IssueSummary> updates) throws IOException {
+        Objects.requireNonNull(updates, "updates == null");
+        String key = key(owner, repo);
+        Issues issues = issues(owner, repo);
+        List<IssueSummary> changed = new ArrayList<>();
+        for (IssueSummary issue : updates) {
+            if (issue == null) {
+                continue;
+            }
+            IssueSummary previous = issues.byNumber.get(issue.getNumber());
+            if (issue.isOpen() ? issue.equals(previous) : previous == null) {
+                continue;
+            }
+            if (issue.isOpen()) {
+                issues.byNumber.put(issue.getNumber(), issue);
+            } else {
+                issues.byNumber.remove(issue.getNumber());
+            }
+            issues.dirty.add(issue.getNumber());
+            changed.add(issue);
+        }
+        if (!changed.isEmpty()) {
+            append(key, issues, changed, null);
+        }
+        return changed.size();
+    }
+
+    /** Records that everything updated before {@code watermark} is stored. */
+    public synchronized void setWatermark(String owner, String repo, Instant watermark) throws IOException {
+        Objects.requireNonNull(watermark, "watermark == null");
+        String key = key(owner, repo);
+        Issues issues = issues(owner, repo);
+        issues.watermark = watermark;
+        append(key, issues, new ArrayList<>(0), watermark);
+    }
+
+    /** Forgets every repository, e.g. when the user signs out. */
+    public synchronized void clear() {
+        loaded.clear();
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+    }
+
+    private Issues issues(String owner, String repo) throws IOException {
+        String key = key(owner, repo);
+        Issues issues = loaded.get(key);
+        if (issues == null) {
+            issues = load(file(key));
+            if (issues.torn) {
+                // Records appended after the torn bytes would be replayed misaligned.
+                rewrite(file(key), issues);
+                issues.torn = false;
+            }
+            loaded.put(key, issues);
+        }
+        return issues;
+    }
+
+    private void append(String key, Issues issues, List<IssueSummary> changed, Instant watermark)
+            throws IOException {
+        File file = file(key);
+        if (!file.isFile()) {
+            // Lost or never written: start the log over from what is in memory.
+            rewrite(file, issues);
+            return;
+        }
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(file, true)))) {
+            for (IssueSummary issue : changed) {
+                if (issue.isOpen()) {
+                    writePut(out, issue);
+                } else {
+                    out.writeByte(RECORD_REMOVE);
+                    out.writeInt(issue.getNumber());
+                }
+            }
+            if (watermark != null) {
+                out.writeByte(RECORD_WATERMARK);
+                out.writeLong(watermark.toEpochMilli());
+            }
+        }
+        issues.records += changed.size() + (watermark == null ? 0 : 1);
+        if (issues.records > MIN_COMPACT_RECORDS && issues.records > 2 * issues.byNumber.size()) {
+            rewrite(file, issues);
+        }
+    }
+
+    /** Writes the log anew with one record per stored issue. */
+    private void rewrite(File file, Issues issues) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory()) {
+            throw new IOException("Unable to create " + directory);
+        }
+        File temp = new File(directory, file.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            for (IssueSummary issue : issues.byNumber.values()) {
+                writePut(out, issue);
+            }
+            if (issues.watermark != null) {
+                out.writeByte(RECORD_WATERMARK);
+                out.writeLong(issues.watermark.toEpochMilli());
+            }
+        }
+        if (!temp.renameTo(file)) {
+            temp.delete();
+            throw new IOException("Unable to write " + file);
+        }
+        issues.records = issues.byNumber.size() + (issues.watermark == null ? 0 : 1);
+    }
+
+    private static void writePut(DataOutputStream out, IssueSummary issue) throws IOException {
+        out.writeByte(RECORD_PUT);
+        out.writeInt(issue.getNumber());
+        out.writeByte((issue.isOpen() ? FLAG_OPEN : 0) | (issue.isPullRequest() ? FLAG_PULL_REQUEST : 0));
+        out.writeUTF(issue.getTitle());
+        out.writeUTF(issue.getAuthorLogin().orElse(""));
+        out.writeInt(issue.getCommentCount());
+        out.writeLong(issue.getCreatedAt().toEpochMilli());
+        out.writeLong(issue.getUpdatedAt().toEpochMilli());
+    }
+
+    /** Replays the log of one repository; a missing or foreign file gives an empty, unsynced store. */
+    private static Issues load(File file) throws IOException {
+        Issues issues = new Issues(0);
+        if (!file.isFile()) {
+            return issues;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                file.delete();
+                return new Issues(0);
+            }
+            while (true) {
+                int kind = in.read();
+                if (kind == -1) {
+                    break;
+                }
+                if (kind == RECORD_PUT) {
+                    int number = in.readInt();
+                    int flags = in.readUnsignedByte();
+                    String title = in.readUTF();
+                    String login = in.readUTF();
+                    int comments = in.readInt();
+                    Instant createdAt = Instant.ofEpochMilli(in.readLong());
+                    Instant updatedAt = Instant.ofEpochMilli(in.readLong());
+                    issues.byNumber.put(number, new IssueSummary(number, title, (flags & FLAG_OPEN) != 0,
+                            (flags & FLAG_PULL_REQUEST) != 0, login.isEmpty() ? null : login, comments,
+                            createdAt, updatedAt));
+                } else if (kind == RECORD_REMOVE) {
+                    issues.byNumber.remove(in.readInt());
+                } else if (kind == RECORD_WATERMARK) {
+                    issues.watermark = Instant.ofEpochMilli(in.readLong());
+                } else {
+                    file.delete();
+                    return new Issues(0);
+                }
+                issues.records++;
+            }
+        } catch (EOFException ignored) {
+            // A torn last record is dropped; the next sync fetches that issue again.
+            issues.torn = true;
+        }
+        issues.dirty.addAll(issues.byNumber.keySet());
+        return issues;
+    }
+
+    private File file(String key) {
+        return new File(directory, key);
+    }
+
+    private static String key(String owner, String repo) {
+        return requireName(owner, "owner").toLowerCase(Locale.ROOT) + '@'
+                + requireName(repo, "repo").toLowerCase(Locale.ROOT);
+    }
+
+    /** Owner and repository names become a file name, so only GitHub's own characters pass. */
+    private static String requireName(String name, String what) {
+        Objects.requireNonNull(name, what + " == null");
+        if (!NAME.matcher(name).matches() || name.equals(".") || name.equals("..")) {
+            throw new IllegalArgumentException("Invalid " + what + ": " + name);
+        }
+        return name;
+    }
+
+    /** The loaded issues of one repository. */
+    private static final class Issues {
+        final Map<Integer, IssueSummary> byNumber;
+        final Set<Integer> dirty = new HashSet<>();
+        PersistentList<IssueSummary> sorted = PersistentList.empty();
+        Instant watermark;
+        int records;
+        boolean torn;
+
+        Issues(int expectedSize) {
+            byNumber = new HashMap<>(Math.max(16, (int) (expectedSize / 0.75f) + 1));
+        }
+
+        /** Sorts the issues changed since the last call and merges them into the previous order. */
+        PersistentList<IssueSummary> sorted() {
+            if (dirty.isEmpty()) {
+                return sorted;
+            }
+            List<IssueSummary> changed = new ArrayList<>(dirty.size());
+            for (Integer number : dirty) {
+                IssueSummary issue = byNumber.get(number);
+                if (issue != null) {
+                    changed.add(issue);
+                }
+            }
+            changed.sort(NEWEST_FIRST);
+            PersistentList.Builder<IssueSummary> merged = PersistentList.builder();
+            int next = 0;
+            for (IssueSummary issue : sorted) {
+                if (dirty.contains(issue.getNumber())) {
+                    continue;
+                }
+                while (next < changed.size() && NEWEST_FIRST.compare(changed.get(next), issue) < 0) {
+                    merged.add(changed.get(next++));
+                }
+                merged.add(issue);
+            }
+            while (next < changed.size()) {
+                merged.add(changed.get(next++));
+            }
+            sorted = merged.build();
+            dirty.clear();
+            return sorted;
+        }
+    }
+}
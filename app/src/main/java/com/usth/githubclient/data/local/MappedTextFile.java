@@ -0,0 +1,217 @@
+package com.usth.githubclient.data.local;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Read-only view of a text file as display rows, backed by {@link FileChannel#map}.
+ * <p>
+ * A row is a line without its terminator; lines longer than {@link #MAX_ROW_BYTES} continue on
+ * further rows, cut at a UTF-8 character boundary, so minified files never produce one huge row.
+ * Opening makes one pass over the mapping and keeps only the offset of every
+ * {@link #CHECKPOINT_INTERVAL}th row; a row is found from the nearest checkpoint and decoded on
+ * demand. Heap use is therefore a few bytes per 64 rows whatever the file size, and the mapped pages
+ * are managed by the OS. Instances are immutable and safe to read from any thread.
+ */
+public final class MappedTextFile {
+
+    public static final int MAX_ROW_BYTES = 4 * 1024;
+    static final int CHECKPOINT_INTERVAL = 64;
+
+    private static final int SEGMENT_SHIFT = 30;
+    private static final int BINARY_PROBE_BYTES = 8_000;
+
+    private final int segmentShift;
+    private final long segmentMask;
+    private final long size;
+    private final MappedByteBuffer[] segments;
+    private final long[] checkpoints;
+    private final int rowCount;
+    private final boolean binary;
+
+    private MappedTextFile(int segmentShift, long size, MappedByteBuffer[] segments, long[] checkpoints,
+                           int rowCount, boolean binary) {
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1L << segmentShift) - 1;
+        this.size = size;
+        this.segments = segments;
+        this.checkpoints = checkpoints;
+        this.rowCount = rowCount;
+        this.binary = binary;
+    }
+
+    /**
+     * Maps {@code file} and indexes its rows. Files with a NUL byte near the start are treated as
+     * binary and get no rows. Checks for interruption while indexing.
+     */
+    public static MappedTextFile open(File file) throws IOException {
+        return open(file, SEGMENT_SHIFT);
+    }
+
+    /** Maps {@code file} in segments of {@code 1 << segmentShift} bytes; small ones are for tests. */
+    static MappedTextFile open(File file, int segmentShift) throws IOException {
+        Objects.requireNonNull(file, "file == null");
+        if (segmentShift < 1 || segmentShift > SEGMENT_SHIFT) {
+            throw new IllegalArgumentException("segmentShift=" + segmentShift);
+        }
+        MappedByteBuffer[] segments;
+        long size;
+        try (RandomAccessFile access = new RandomAccessFile(file, "r");
+             FileChannel channel = access.getChannel()) {
+            // The mappings stay valid after the channel is closed.
+            size = channel.size();
+            long segmentMask = (1L << segmentShift) - 1;
+            int count = (int) ((size + segmentMask) >>> segmentShift);
+            segments = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long offset = (long) i << segmentShift;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset,
+                        Math.min(1L << segmentShift, size - offset));
+            }
+        }
+        MappedTextFile unindexed = new MappedTextFile(segmentShift, size, segments, new long[0], 0, false);
+        if (unindexed.looksBinary()) {
+            return new MappedTextFile(segmentShift, size, segments, new long[0], 0, true);
+        }
+        return unindexed.index();
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public boolean isBinary() {
+        return binary;
+    }
+
+    /** Decodes rows {@code [first, first + count)}, clamped to the rows that exist. */
+    public List<String> readRows(int first, int count) {
+        if (first < 0 || count < 0) {
+            throw new IndexOutOfBoundsException("first=" + first + ", count=" + count);
+        }
+        int end = (int) Math.min((long) first + count, rowCount);
+        if (first >= end) {
+            return new ArrayList<>(0);
+        }
+        List<String> rows = new ArrayList<>(end - first);
+        long start = checkpoints[first / CHECKPOINT_INTERVAL];
+        for (int row = first - first % CHECKPOINT_INTERVAL; row < first; row++) {
+            start = nextRowStart(start);
+        }
+        byte[] bytes = new byte[MAX_ROW_BYTES + 4];
+        for (int row = first; row < end; row++) {
+            long next = nextRowStart(start);
+            long contentEnd = next;
+            if (contentEnd > start && byteAt(contentEnd - 1) == '\n') {
+                contentEnd--;
+            }
+            if (contentEnd > start && byteAt(contentEnd - 1) == '\r') {
+                contentEnd--;
+            }
+            int length = (int) (contentEnd - start);
+            if (length > bytes.length) {
+                bytes = new byte[length];
+            }
+            copy(start, bytes, length);
+            rows.add(new String(bytes, 0, length, StandardCharsets.UTF_8));
+            start = next;
+        }
+        return rows;
+    }
+
+    public String readRow(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("row=" + row + ", rowCount=" + rowCount);
+        }
+        return readRows(row, 1).get(0);
+    }
+
+    private MappedTextFile index() throws IOException {
+        long[] offsets = new long[16];
+        int checkpointCount = 0;
+        int rows = 0;
+        long start = 0L;
+        while (start < size) {
+            if (rows % CHECKPOINT_INTERVAL == 0) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("Indexing interrupted");
+                }
+                if (checkpointCount == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, checkpointCount * 2);
+                }
+                offsets[checkpointCount++] = start;
+            }
+            if (rows == Integer.MAX_VALUE) {
+                throw new IOException("Too many rows");
+            }
+            rows++;
+            start = nextRowStart(start);
+        }
+        return new MappedTextFile(segmentShift, size, segments, Arrays.copyOf(offsets, checkpointCount), rows,
+                false);
+    }
+
+    /** Where the row starting at {@code start} ends, past its newline if it has one. */
+    private long nextRowStart(long start) {
+        long limit = Math.min(size, start + MAX_ROW_BYTES);
+        ByteBuffer segment = null;
+        int segmentIndex = -1;
+        for (long pos = start; pos < size; pos++) {
+            int index = (int) (pos >>> segmentShift);
+            if (index != segmentIndex) {
+                segment = segments[index];
+                segmentIndex = index;
+            }
+            byte b = segment.get((int) (pos & segmentMask));
+            if (b == '\n') {
+                return pos + 1;
+            }
+            // Wrap long lines, but never inside a multi-byte character.
+            if (pos >= limit && (b & 0xC0) != 0x80) {
+                return pos;
+            }
+        }
+        return size;
+    }
+
+    private boolean looksBinary() {
+        long probe = Math.min(size, BINARY_PROBE_BYTES);
+        for (long pos = 0; pos < probe; pos++) {
+            if (byteAt(pos) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private byte byteAt(long pos) {
+        return segments[(int) (pos >>> segmentShift)].get((int) (pos & segmentMask));
+    }
+
+    private void copy(long start, byte[] target, int length) {
+        int copied = 0;
+        while (copied < length) {
+            long pos = start + copied;
+            // duplicate() so concurrent readers do not share a position.
+            ByteBuffer segment = segments[(int) (pos >>> segmentShift)].duplicate();
+            segment.position((int) (pos & segmentMask));
+            int chunk = Math.min(length - copied, segment.remaining());
+            segment.get(target, copied, chunk);
+            copied += chunk;
+        }
+    }
+}
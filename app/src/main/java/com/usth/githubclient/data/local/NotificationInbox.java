@@ -0,0 +1,175 @@
+package com.usth.githubclient.data.local;
+
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.model.NotificationThread;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Process-wide copy of the signed-in user's notifications, indexed by thread id.
+ * <p>
+ * Polls merge the threads that changed into the index instead of replacing it, and the unread
+ * count is adjusted on every merge, so the badge reads it without walking the inbox. The index is
+ * bounded; once full, the least recently updated threads are dropped. Alongside the threads it
+ * keeps what the next conditional poll needs.
+ */
+public final class NotificationInbox {
+
+    private static final int DEFAULT_MAX_THREADS = 1_000;
+    private static final Comparator<NotificationThread> NEWEST_FIRST = (a, b) -> {
+        int byTime = b.getUpdatedAt().compareTo(a.getUpdatedAt());
+        return byTime != 0 ? byTime : Long.compare(b.getId(), a.getId());
+    };
+
+    private final int maxThreads;
+    private final Object pollLock = new Object();
+    private final Map<Long, NotificationThread> threads = new HashMap<>();
+    private int unreadCount;
+    private PersistentList<NotificationThread> sorted = PersistentList.empty();
+    private boolean sortedStale;
+    private Instant newestUpdatedAt;
+    private String lastModified;
+    private long nextPollAtMillis;
+    private long backoffMillis;
+
+    public NotificationInbox() {
+        this(DEFAULT_MAX_THREADS);
+    }
+
+    public NotificationInbox(int maxThreads) {
+        if (maxThreads <= 0) {
+            throw new IllegalArgumentException("maxThreads must be > 0");
+        }
+        this.maxThreads = maxThreads;
+    }
+
+    /**
+     * Held by whoever polls into this inbox, so two screens never send the same request at once.
+     * The inbox's own lock is only taken to merge, so readers never wait on the network.
+     */
+    public Object pollLock() {
+        return pollLock;
+    }
+
+    /**
+     * Inserts new threads and replaces changed ones. Returns how many threads were added or
+     * changed; unchanged copies are ignored.
+     */
+    public synchronized int merge(List<NotificationThread> updates) {
+        Objects.requireNonNull(updates, "updates == null");
+        int changed = 0;
+        for (NotificationThread thread : updates) {
+            if (thread == null) {
+                continue;
+            }
+            NotificationThread previous = threads.put(thread.getId(), thread);
+            if (thread.equals(previous)) {
+                continue;
+            }
+            changed++;
+            if (previous != null && previous.isUnread()) {
+                unreadCount--;
+            }
+            if (thread.isUnread()) {
+                unreadCount++;
+            }
+            if (newestUpdatedAt == null || thread.getUpdatedAt().isAfter(newestUpdatedAt)) {
+                newestUpdatedAt = thread.getUpdatedAt();
+            }
+        }
+        if (changed > 0) {
+            sortedStale = true;
+            if (threads.size() > maxThreads) {
+                trim();
+            }
+        }
+        return changed;
+    }
+
+    /** Number of unread threads; constant time. */
+    public synchronized int getUnreadCount() {
+        return unreadCount;
+    }
+
+    public synchronized int size() {
+        return threads.size();
+    }
+
+    public synchronized NotificationThread get(long id) {
+        return threads.get(id);
+    }
+
+    /** All threads, most recently updated first. Sorted again only after a merge changed something. */
+    public synchronized PersistentList<NotificationThread> snapshot() {
+        if (sortedStale) {
+            List<NotificationThread> values = new ArrayList<>(threads.values());
+            values.sort(NEWEST_FIRST);
+            sorted = PersistentList.copyOf(values);
+            sortedStale = false;
+        }
+        return sorted;
+    }
+
+    /** Update time of the newest thread seen, the {@code since} of the next poll. */
+    public synchronized Instant getNewestUpdatedAt() {
+        return newestUpdatedAt;
+    }
+
+    /** {@code Last-Modified} of the last full response, sent back as {@code If-Modified-Since}. */
+    public synchronized String getLastModified() {
+        return lastModified;
+    }
+
+    public synchronized void setLastModified(String lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    /** Wall-clock time before which the inbox must not be polled again. */
+    public synchronized long getNextPollAtMillis() {
+        return nextPollAtMillis;
+    }
+
+    public synchronized void setNextPollAtMillis(long nextPollAtMillis) {
+        this.nextPollAtMillis = nextPollAtMillis;
+    }
+
+    /** Poll delay used when longer than the server's poll interval; grows while nothing changes. */
+    public synchronized long getBackoffMillis() {
+        return backoffMillis;
+    }
+
+    public synchronized void setBackoffMillis(long backoffMillis) {
+        this.backoffMillis = backoffMillis;
+    }
+
+    /** Forgets every thread and the polling state, e.g. when the user signs out. */
+    public synchronized void clear() {
+        threads.clear();
+        unreadCount = 0;
+        sorted = PersistentList.empty();
+        sortedStale = false;
+        newestUpdatedAt = null;
+        lastModified = null;
+        nextPollAtMillis = 0L;
+        backoffMillis = 0L;
+    }
+
+    private void trim() {
+        List<NotificationThread> values = new ArrayList<>(threads.values());
+        values.sort(NEWEST_FIRST);
+        for (int i = maxThreads; i < values.size(); i++) {
+            NotificationThread dropped = values.get(i);
+            threads.remove(dropped.getId());
+            if (dropped.isUnread()) {
+                unreadCount--;
+            }
+        }
+        sorted = PersistentList.copyOf(values.subList(0, maxThreads));
+        sortedStale = false;
+    }
+}
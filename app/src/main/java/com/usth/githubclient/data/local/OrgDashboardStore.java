@@ -0,0 +1,151 @@
+package com.usth.githubclient.data.local;
+
+import com.usth.githubclient.domain.model.OrgSummary;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Last computed {@link OrgSummary} of each organization, one small file per organization, so the
+ * dashboard reopens with numbers before its refresh has read a single page.
+ */
+public final class OrgDashboardStore {
+
+    private static final int MAGIC = 0x4f524731;
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9._-]+");
+
+    private final File directory;
+
+    public OrgDashboardStore(File directory) {
+        this.directory = Objects.requireNonNull(directory, "directory == null");
+    }
+
+    /** The stored summary of {@code organization}, or {@code null} if none was stored. */
+    public synchronized OrgSummary load(String organization) throws IOException {
+        File file = file(organization);
+        if (!file.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                file.delete();
+                return null;
+            }
+            return read(in);
+        } catch (EOFException torn) {
+            file.delete();
+            return null;
+        }
+    }
+
+    /** Replaces the stored summary of its organization; a reader never sees half of it. */
+    public synchronized void save(OrgSummary summary) throws IOException {
+        File file = file(summary.getOrganization());
+        if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory()) {
+            throw new IOException("Unable to create " + directory);
+        }
+        File temp = new File(directory, file.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            write(out, summary);
+        }
+        if (!temp.renameTo(file)) {
+            temp.delete();
+            throw new IOException("Unable to write " + file);
+        }
+    }
+
+    public synchronized void clear() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+    }
+
+    /** Whether {@code organization} is a name GitHub could have given an organization. */
+    public static boolean isValidName(String organization) {
+        return organization != null && NAME.matcher(organization).matches()
+                && !organization.equals(".") && !organization.equals("..");
+    }
+
+    private static void write(DataOutputStream out, OrgSummary summary) throws IOException {
+        out.writeUTF(summary.getOrganization());
+        out.writeInt(summary.getRepositoryCount());
+        out.writeInt(summary.getForkCount());
+        out.writeInt(summary.getArchivedCount());
+        out.writeLong(summary.getStars());
+        out.writeLong(summary.getForks());
+        out.writeLong(summary.getOpenIssues());
+        out.writeInt(summary.getLanguages().size());
+        for (OrgSummary.LanguageCount language : summary.getLanguages()) {
+            out.writeUTF(language.getLanguage());
+            out.writeInt(language.getRepositoryCount());
+        }
+        out.writeInt(summary.getTopRepositories().size());
+        for (OrgSummary.TopRepository repository : summary.getTopRepositories()) {
+            out.writeUTF(repository.getName());
+            out.writeInt(repository.getStars());
+        }
+        out.writeInt(summary.getMemberCount());
+        out.writeInt(summary.getMemberSample().size());
+        for (String login : summary.getMemberSample()) {
+            out.writeUTF(login);
+        }
+        out.writeBoolean(summary.isTruncated());
+        out.writeLong(summary.getComputedAt().toEpochMilli());
+    }
+
+    private static OrgSummary read(DataInputStream in) throws IOException {
+        String organization = in.readUTF();
+        int repositoryCount = in.readInt();
+        int forkCount = in.readInt();
+        int archivedCount = in.readInt();
+        long stars = in.readLong();
+        long forks = in.readLong();
+        long openIssues = in.readLong();
+        int languageCount = in.readInt();
+        List<OrgSummary.LanguageCount> languages = new ArrayList<>(languageCount);
+        for (int i = 0; i < languageCount; i++) {
+            languages.add(new OrgSummary.LanguageCount(in.readUTF(), in.readInt()));
+        }
+        int topCount = in.readInt();
+        List<OrgSummary.TopRepository> topRepositories = new ArrayList<>(topCount);
+        for (int i = 0; i < topCount; i++) {
+            topRepositories.add(new OrgSummary.TopRepository(in.readUTF(), in.readInt()));
+        }
+        int memberCount = in.readInt();
+        int sampleCount = in.readInt();
+        List<String> memberSample = new ArrayList<>(sampleCount);
+        for (int i = 0; i < sampleCount; i++) {
+            memberSample.add(in.readUTF());
+        }
+        boolean truncated = in.readBoolean();
+        Instant computedAt = Instant.ofEpochMilli(in.readLong());
+        return new OrgSummary(organization, repositoryCount, forkCount, archivedCount, stars, forks,
+                openIssues, languages, topRepositories, memberCount, memberSample, truncated, computedAt);
+    }
+
+    private File file(String organization) {
+        Objects.requireNonNull(organization, "organization == null");
+        // The organization name becomes a file name, so only GitHub's own characters pass.
+        if (!isValidName(organization)) {
+            throw new IllegalArgumentException("Invalid organization: " + organization);
+        }
+        return new File(directory, organization.toLowerCase(Locale.ROOT));
+    }
+}
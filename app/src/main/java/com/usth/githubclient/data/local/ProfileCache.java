@@ -0,0 +1,73 @@
+package com.usth.githubclient.data.local;
+
+import com.usth.githubclient.domain.model.GitHubUserProfileDataEntry;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Process-wide LRU cache of full user profiles keyed by login.
+ * <p>
+ * List endpoints such as {@code followers} only return minimal user objects; anything that fetches
+ * the complete profile stores it here so other screens can render it without another request.
+ */
+public final class ProfileCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = 500;
+
+    private final Map<String, GitHubUserProfileDataEntry> entries;
+    private long hits;
+    private long misses;
+
+    public ProfileCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public ProfileCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be > 0");
+        }
+        entries = new LinkedHashMap<String, GitHubUserProfileDataEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, GitHubUserProfileDataEntry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public synchronized GitHubUserProfileDataEntry get(String login) {
+        GitHubUserProfileDataEntry entry = entries.get(key(login));
+        if (entry == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return entry;
+    }
+
+    public synchronized boolean contains(String login) {
+        return entries.containsKey(key(login));
+    }
+
+    public synchronized void put(GitHubUserProfileDataEntry profile) {
+        Objects.requireNonNull(profile, "profile == null");
+        entries.put(key(profile.getUsername()), profile);
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private static String key(String login) {
+        return Objects.requireNonNull(login, "login == null").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,134 @@
+package com.usth.githubclient.data.local;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Process-wide cache for READMEs, in two levels.
+ * <p>
+ * Per repository it keeps the ETag and blob SHA of the last README response, which is what a
+ * conditional request needs. Rendered HTML is kept separately, keyed by blob SHA, so forks and
+ * repositories sharing a README render it once. The rendered level is bounded by total characters
+ * rather than entries, since a single README can be megabytes.
+ */
+public final class ReadmeCache {
+
+    private static final int DEFAULT_MAX_REPOSITORIES = 500;
+    private static final long DEFAULT_MAX_RENDERED_CHARS = 4_000_000L;
+
+    private final Map<String, Validator> validators;
+    private final LinkedHashMap<String, List<String>> rendered = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxRenderedChars;
+    private long renderedChars;
+
+    public ReadmeCache() {
+        this(DEFAULT_MAX_REPOSITORIES, DEFAULT_MAX_RENDERED_CHARS);
+    }
+
+    public ReadmeCache(int maxRepositories, long maxRenderedChars) {
+        if (maxRepositories <= 0) {
+            throw new IllegalArgumentException("maxRepositories must be > 0");
+        }
+        if (maxRenderedChars <= 0L) {
+            throw new IllegalArgumentException("maxRenderedChars must be > 0");
+        }
+        this.maxRenderedChars = maxRenderedChars;
+        validators = new LinkedHashMap<String, Validator>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Validator> eldest) {
+                return size() > maxRepositories;
+            }
+        };
+    }
+
+    public synchronized Validator getValidator(String owner, String repo) {
+        return validators.get(key(owner, repo));
+    }
+
+    public synchronized void putValidator(String owner, String repo, Validator validator) {
+        validators.put(key(owner, repo), Objects.requireNonNull(validator, "validator == null"));
+    }
+
+    public synchronized void removeValidator(String owner, String repo) {
+        validators.remove(key(owner, repo));
+    }
+
+    public synchronized List<String> getRendered(String sha) {
+        return rendered.get(Objects.requireNonNull(sha, "sha == null"));
+    }
+
+    /** Stores rendered chunks; a document larger than the whole budget is not kept. */
+    public synchronized void putRendered(String sha, List<String> htmlChunks) {
+        Objects.requireNonNull(sha, "sha == null");
+        Objects.requireNonNull(htmlChunks, "htmlChunks == null");
+        long size = sizeOf(htmlChunks);
+        if (size > maxRenderedChars) {
+            return;
+        }
+        List<String> previous = rendered.put(sha, htmlChunks);
+        if (previous != null) {
+            renderedChars -= sizeOf(previous);
+        }
+        renderedChars += size;
+        Iterator<List<String>> eldest = rendered.values().iterator();
+        while (renderedChars > maxRenderedChars && eldest.hasNext()) {
+            renderedChars -= sizeOf(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    public synchronized void clear() {
+        validators.clear();
+        rendered.clear();
+        renderedChars = 0L;
+    }
+
+    private static long sizeOf(List<String> htmlChunks) {
+        long size = 0L;
+        for (String chunk : htmlChunks) {
+            size += chunk.length();
+        }
+        return size;
+    }
+
+    private static String key(String owner, String repo) {
+        return Objects.requireNonNull(owner, "owner == null").toLowerCase(Locale.ROOT)
+                + '/' + Objects.requireNonNull(repo, "repo == null").toLowerCase(Locale.ROOT);
+    }
+
+    /** What the last README response of one repository looked like. */
+    public static final class Validator {
+
+        private final String etag;
+        private final String sha;
+        private final String name;
+        private final String htmlUrl;
+
+        public Validator(String etag, String sha, String name, String htmlUrl) {
+            this.etag = etag;
+            this.sha = Objects.requireNonNull(sha, "sha == null");
+            this.name = Objects.requireNonNull(name, "name == null");
+            this.htmlUrl = htmlUrl;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getSha() {
+            return sha;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getHtmlUrl() {
+            return htmlUrl;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.usth.githubclient.data.local;
+
+import com.usth.githubclient.domain.model.ReposDataEntry;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Process-wide LRU cache of repositories keyed by {@code owner/name}.
+ * <p>
+ * Every endpoint returning full repository objects (user repositories, starred lists) stores them
+ * here, so opening one of them later is answered without {@code repos/{owner}/{repo}}. Entries are
+ * served for {@link #DEFAULT_MAX_AGE_MILLIS} after they were fetched, since counts and the push date
+ * move.
+ * <p>
+ * Bulk imports (starred and watched lists) are kept apart from the LRU entries, one set per list,
+ * and are neither evicted nor aged out: a list of any length stays a cache hit until it is imported
+ * again or the cache is cleared.
+ */
+public final class RepoCache {
+
+    static final long DEFAULT_MAX_AGE_MILLIS = TimeUnit.MINUTES.toMillis(15);
+    private static final int DEFAULT_MAX_ENTRIES = 2_000;
+
+    private final Map<String, Entry> entries;
+    // Imported repositories by list, then by key.
+    private final Map<String, Map<String, ReposDataEntry>> imports = new HashMap<>();
+    private final long maxAgeMillis;
+    private final Clock clock;
+    private long hits;
+    private long misses;
+
+    public RepoCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_AGE_MILLIS, Clock.systemUTC());
+    }
+
+    public RepoCache(int maxEntries, long maxAgeMillis, Clock clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be > 0");
+        }
+        if (maxAgeMillis <= 0L) {
+            throw new IllegalArgumentException("maxAgeMillis must be > 0");
+        }
+        this.maxAgeMillis = maxAgeMillis;
+        this.clock = Objects.requireNonNull(clock, "clock == null");
+        entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /** The cached repository, or {@code null} when it is missing or too old. */
+    public synchronized ReposDataEntry get(String owner, String name) {
+        String key = key(owner, name);
+        Entry entry = entries.get(key);
+        if (entry != null && clock.millis() - entry.fetchedAtMillis > maxAgeMillis) {
+            entries.remove(key);
+            entry = null;
+        }
+        ReposDataEntry repository = entry != null ? entry.repository : getImported(key);
+        if (repository == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return repository;
+    }
+
+    /**
+     * Every cached repository of {@code owner}, too old ones included, for when GitHub cannot be
+     * reached and stale data beats none. Does not count as a hit or miss.
+     */
+    public synchronized List<ReposDataEntry> getOwnedBy(String owner) {
+        String prefix = Objects.requireNonNull(owner, "owner == null").toLowerCase(Locale.ROOT) + '/';
+        List<ReposDataEntry> owned = new ArrayList<>();
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                owned.add(entry.getValue().repository);
+            }
+        }
+        return owned;
+    }
+
+    public synchronized void put(ReposDataEntry repository) {
+        Objects.requireNonNull(repository, "repository == null");
+        store(repository, clock.millis());
+    }
+
+    /**
+     * Stores a batch under one lock and one timestamp. Repositories without an owner login cannot
+     * be looked up and are skipped. Returns how many were stored.
+     */
+    public synchronized int putAll(Collection<ReposDataEntry> repositories) {
+        Objects.requireNonNull(repositories, "repositories == null");
+        long now = clock.millis();
+        int stored = 0;
+        for (ReposDataEntry repository : repositories) {
+            if (repository != null && store(repository, now)) {
+                stored++;
+            }
+        }
+        return stored;
+    }
+
+    /** Starts a new import of {@code list}, e.g. {@code starred/octocat}, dropping its previous one. */
+    public synchronized void beginImport(String list) {
+        imports.put(Objects.requireNonNull(list, "list == null"), new HashMap<>());
+    }
+
+    /**
+     * Adds a page of the import of {@code list} started by {@link #beginImport}. Repositories
+     * without an owner login are skipped. Returns how many were stored.
+     */
+    public synchronized int putImported(String list, Collection<ReposDataEntry> repositories) {
+        Objects.requireNonNull(repositories, "repositories == null");
+        Map<String, ReposDataEntry> imported = imports.get(Objects.requireNonNull(list, "list == null"));
+        if (imported == null) {
+            throw new IllegalStateException("No import of " + list + " was started");
+        }
+        int stored = 0;
+        for (ReposDataEntry repository : repositories) {
+            String owner = repository != null ? repository.getOwnerLogin().orElse(null) : null;
+            if (owner != null) {
+                imported.put(key(owner, repository.getName()), repository);
+                stored++;
+            }
+        }
+        return stored;
+    }
+
+    /** Entries held; a repository imported in several lists counts once per list. */
+    public synchronized int size() {
+        int size = entries.size();
+        for (Map<String, ReposDataEntry> imported : imports.values()) {
+            size += imported.size();
+        }
+        return size;
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        imports.clear();
+    }
+
+    private ReposDataEntry getImported(String key) {
+        for (Map<String, ReposDataEntry> imported : imports.values()) {
+            ReposDataEntry repository = imported.get(key);
+            if (repository != null) {
+                return repository;
+            }
+        }
+        return null;
+    }
+
+    private boolean store(ReposDataEntry repository, long now) {
+        String owner = repository.getOwnerLogin().orElse(null);
+        if (owner == null) {
+            return false;
+        }
+        entries.put(key(owner, repository.getName()), new Entry(repository, now));
+        return true;
+    }
+
+    private static String key(String owner, String name) {
+        Objects.requireNonNull(owner, "owner == null");
+        Objects.requireNonNull(name, "name == null");
+        return owner.toLowerCase(Locale.ROOT) + '/' + name.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        final ReposDataEntry repository;
+        final long fetchedAtMillis;
+
+        Entry(ReposDataEntry repository, long fetchedAtMillis) {
+            this.repository = repository;
+            this.fetchedAtMillis = fetchedAtMillis;
+        }
+    }
+}
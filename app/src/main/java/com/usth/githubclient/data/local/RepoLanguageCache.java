@@ -0,0 +1,90 @@
+package com.usth.githubclient.data.local;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Process-wide LRU cache of per-repository language byte counts keyed by repository id.
+ * <p>
+ * Each entry remembers the {@code pushedAt} it was fetched for, which is the only event that can
+ * change a repository's languages, and the response ETag so a refetch can be made conditional.
+ */
+public final class RepoLanguageCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = 2_000;
+
+    private final Map<Long, Entry> entries;
+
+    public RepoLanguageCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public RepoLanguageCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be > 0");
+        }
+        entries = new LinkedHashMap<Long, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public synchronized Entry get(long repositoryId) {
+        return entries.get(repositoryId);
+    }
+
+    public synchronized void put(long repositoryId, Entry entry) {
+        entries.put(repositoryId, Objects.requireNonNull(entry, "entry == null"));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /** Languages of one repository as of {@link #getPushedAt()}. */
+    public static final class Entry {
+
+        private final Instant pushedAt;
+        private final String etag;
+        private final Map<String, Long> languages;
+
+        public Entry(Instant pushedAt, String etag, Map<String, Long> languages) {
+            this.pushedAt = pushedAt;
+            this.etag = etag;
+            this.languages = Collections.unmodifiableMap(
+                    new LinkedHashMap<>(Objects.requireNonNull(languages, "languages == null")));
+        }
+
+        /** Same languages, confirmed current for a newer push (a 304 answer). */
+        public Entry revalidated(Instant pushedAt) {
+            return new Entry(pushedAt, etag, this);
+        }
+
+        private Entry(Instant pushedAt, String etag, Entry source) {
+            this.pushedAt = pushedAt;
+            this.etag = etag;
+            this.languages = source.languages;
+        }
+
+        public Instant getPushedAt() {
+            return pushedAt;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public Map<String, Long> getLanguages() {
+            return languages;
+        }
+
+        public boolean isCurrentFor(Instant pushedAt) {
+            return Objects.equals(this.pushedAt, pushedAt);
+        }
+    }
+}
@@ -1,86 +1,134 @@
 package com.usth.githubclient.data.remote;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import okhttp3.OkHttpClient;
-import okhttp3.Request;
 import okhttp3.logging.HttpLoggingInterceptor;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
 
+/**
+ * Builds Retrofit services for the GitHub REST API.
+ * <p>
+ * The active account is an immutable {@link ClientConfig} swapped atomically; the one client
+ * behind {@link #createService(Class)} reads it per request through an {@link AuthInterceptor}, so
+ * setting a token rebuilds nothing and a service created before sign-in sends the token from then
+ * on. Every client is derived from one shared {@link OkHttpClient}, so all accounts reuse the same
+ * connection pool and dispatcher, and every token has its own {@link RateLimitBudget} since GitHub
+ * counts requests per user. A shared {@link ResilienceInterceptor} retries, hedges and fails fast
+ * during outages.
+ */
 public class ApiClient {
 
     private static final String BASE_URL = "https://api.github.com/";
-    private static Retrofit retrofit = null;
-    private static String authToken = null;
+    private static final String ANONYMOUS_KEY = "";
+    private static final ClientConfig ANONYMOUS = new ClientConfig(null, new RateLimitBudget());
 
-    // ... (Các phương thức getClient() và setAuthToken() giữ nguyên) ...
+    private static final AtomicReference<ClientConfig> active = new AtomicReference<>(ANONYMOUS);
+    // Budgets outlive switches, so an account switched back to keeps what it learned.
+    private static final Map<String, RateLimitBudget> budgets = new ConcurrentHashMap<>();
+    private static final Map<String, Retrofit> tokenClients = new ConcurrentHashMap<>();
+
+    /** Retrofit instance following the active account. */
     public static Retrofit getClient() {
-        HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
-        logging.setLevel(HttpLoggingInterceptor.Level.BODY);
-
-        OkHttpClient.Builder httpClient = new OkHttpClient.Builder();
-        httpClient.addInterceptor(logging);
-        httpClient.addInterceptor(chain -> {
-            Request original = chain.request();
-            Request.Builder requestBuilder = original.newBuilder();
-            if (authToken != null && !authToken.isEmpty()) {
-                requestBuilder.header("Authorization", "Bearer " + authToken);
-            }
-            Request request = requestBuilder.build();
-            return chain.proceed(request);
-        });
-
-        if (retrofit == null) {
-            retrofit = new Retrofit.Builder()
-                    .baseUrl(BASE_URL)
-                    .addConverterFactory(GsonConverterFactory.create())
-                    .client(httpClient.build())
-                    .build();
-        }
-        return retrofit;
+        return Clients.ACTIVE;
+    }
+
+    /** Rate limit budget of the active account. */
+    public static RateLimitBudget getRateLimitBudget() {
+        return active.get().getBudget();
     }
 
+    /** Makes {@code token} the active account for every request sent from now on. */
     public void setAuthToken(String token) {
-        authToken = token;
-        // Rebuild Retrofit client to use the new token
-        retrofit = null;
-        getClient();
+        active.set(configFor(token));
     }
 
+    /** Falls back to anonymous requests; the budgets of signed-in accounts are kept. */
     public void clearAuthToken() {
-        authToken = null;
-        retrofit = null;
+        active.set(ANONYMOUS);
     }
 
+    /** Drops the client and budget of {@code token}, e.g. when its account signs out. */
+    public void removeAuthToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+        tokenClients.remove(token);
+        budgets.remove(token);
+        active.updateAndGet(current -> token.equals(current.getToken()) ? ANONYMOUS : current);
+    }
 
     /**
-     * THÊM PHƯƠNG THỨC NÀY VÀO
-     * Creates a service with a specific token, useful for one-time calls like authentication.
+     * Creates a service authenticated with {@code token} regardless of the active account, useful
+     * for one-time calls like authentication and for work that belongs to one account.
      */
     public <T> T createService(String token, Class<T> serviceClass) {
-        HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
-        logging.setLevel(HttpLoggingInterceptor.Level.BODY);
-
-        OkHttpClient.Builder httpClient = new OkHttpClient.Builder();
-        httpClient.addInterceptor(logging);
-        httpClient.addInterceptor(chain -> {
-            Request original = chain.request();
-            Request.Builder requestBuilder = original.newBuilder()
-                    .header("Authorization", "Bearer " + token);
-            Request request = requestBuilder.build();
-            return chain.proceed(request);
-        });
-
-        Retrofit tempRetrofit = new Retrofit.Builder()
-                .baseUrl(BASE_URL)
+        String key = token == null ? ANONYMOUS_KEY : token;
+        return tokenClients.computeIfAbsent(key, ignored -> {
+            ClientConfig config = configFor(token);
+            return build(new AuthInterceptor(() -> config));
+        }).create(serviceClass);
+    }
+
+    /** Creates a service following the active account. */
+    public <T> T createService(Class<T> serviceClass) {
+        return getClient().create(serviceClass);
+    }
+
+    private static ClientConfig configFor(String token) {
+        if (token == null || token.isEmpty()) {
+            return ANONYMOUS;
+        }
+        return new ClientConfig(token, budgets.computeIfAbsent(token, ignored -> new RateLimitBudget()));
+    }
+
+    private static Retrofit build(AuthInterceptor authInterceptor) {
+        return newRetrofit(BASE_URL, Clients.SHARED, authInterceptor, Clients.RESILIENCE);
+    }
+
+    /** The interceptor stack every service uses, over {@code base}; tests point it at a local server. */
+    static Retrofit newRetrofit(String baseUrl, OkHttpClient base, AuthInterceptor authInterceptor,
+                                ResilienceInterceptor resilienceInterceptor) {
+        return new Retrofit.Builder()
+                .baseUrl(baseUrl)
                 .addConverterFactory(GsonConverterFactory.create())
-                .client(httpClient.build())
+                .client(base.newBuilder()
+                        .addInterceptor(authInterceptor)
+                        .addInterceptor(resilienceInterceptor)
+                        .build())
                 .build();
+    }
 
-        return tempRetrofit.create(serviceClass);
+    /**
+     * The client every other one is derived from. It logs headers only: body logging reads whole
+     * responses into memory, which would defeat streamed blob downloads. Its network interceptor
+     * records rate limits for every client derived from it, hedges included.
+     */
+    static OkHttpClient newBaseClient() {
+        HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
+        logging.setLevel(HttpLoggingInterceptor.Level.HEADERS);
+        logging.redactHeader("Authorization");
+        return new OkHttpClient.Builder()
+                .addInterceptor(logging)
+                .addNetworkInterceptor(AuthInterceptor.budgetRecorder())
+                .build();
     }
 
-    // Phương thức createService cũ (nếu có) giữ nguyên
-    public <T> T createService(Class<T> serviceClass) {
-        return getClient().create(serviceClass);
+    /** Built on first use; class initialization makes that thread-safe without locking. */
+    private static final class Clients {
+
+        /** Owns the connection pool and dispatcher every client is derived from. */
+        static final OkHttpClient SHARED = newBaseClient();
+
+        /**
+         * Shared by every account so a host's circuit opens once for all of them. Hedges go
+         * through {@link #SHARED} with the headers already set.
+         */
+        static final ResilienceInterceptor RESILIENCE =
+                new ResilienceInterceptor(ResiliencePolicy.defaults(), SHARED);
+
+        static final Retrofit ACTIVE = build(new AuthInterceptor(active::get));
     }
-}
\ No newline at end of file
+}
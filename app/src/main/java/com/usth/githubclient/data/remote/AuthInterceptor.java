@@ -0,0 +1,56 @@
+package com.usth.githubclient.data.remote;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.function.Supplier;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Authenticates each request with the {@link ClientConfig} current when it is sent and tags the
+ * request with that config. The config is read once per request, so changing the token never
+ * rebuilds a client and never tears a request between two accounts.
+ * <p>
+ * The {@code X-RateLimit-*} headers are recorded by {@link #budgetRecorder()}, a network
+ * interceptor, in the tagged config's budget. It sees every attempt that reaches GitHub, including
+ * the retries and hedges sent below this interceptor, each of which GitHub counts.
+ */
+public final class AuthInterceptor implements Interceptor {
+
+    private static final Interceptor BUDGET_RECORDER = chain -> {
+        Response response = chain.proceed(chain.request());
+        ClientConfig config = chain.request().tag(ClientConfig.class);
+        if (config != null) {
+            config.getBudget().update(
+                    response.header("X-RateLimit-Limit"),
+                    response.header("X-RateLimit-Remaining"),
+                    response.header("X-RateLimit-Reset"));
+        }
+        return response;
+    };
+
+    private final Supplier<ClientConfig> config;
+
+    public AuthInterceptor(Supplier<ClientConfig> config) {
+        this.config = Objects.requireNonNull(config, "config == null");
+    }
+
+    /**
+     * The network interceptor recording each response's rate limit headers in the budget of the
+     * config its request was tagged with. Requests without a tag are left alone.
+     */
+    public static Interceptor budgetRecorder() {
+        return BUDGET_RECORDER;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        ClientConfig current = config.get();
+        Request.Builder request = chain.request().newBuilder().tag(ClientConfig.class, current);
+        if (current.getToken() != null) {
+            request.header("Authorization", "Bearer " + current.getToken());
+        }
+        return chain.proceed(request.build());
+    }
+}
@@ -0,0 +1,73 @@
+package com.usth.githubclient.data.remote;
+
+import java.time.Clock;
+import java.util.Objects;
+
+/**
+ * Per-host circuit: closed until {@code failureThreshold} consecutive failures, then open for
+ * {@code openMillis}, then half open with a single trial request whose outcome closes or reopens
+ * it. A trial that never reports, e.g. because its call was cancelled, is replaced after another
+ * {@code openMillis}.
+ */
+final class CircuitBreaker {
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Clock clock;
+    private int consecutiveFailures;
+    private long openedAtMillis = -1L;
+    private long trialStartedAtMillis = -1L;
+
+    CircuitBreaker(int failureThreshold, long openMillis, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.clock = Objects.requireNonNull(clock, "clock == null");
+    }
+
+    /** Whether a request may be sent now; in the half-open state only the trial may. */
+    synchronized boolean tryAcquire() {
+        if (openedAtMillis < 0L) {
+            return true;
+        }
+        long now = clock.millis();
+        if (now - openedAtMillis < openMillis) {
+            return false;
+        }
+        if (trialStartedAtMillis >= 0L && now - trialStartedAtMillis < openMillis) {
+            return false;
+        }
+        trialStartedAtMillis = now;
+        return true;
+    }
+
+    synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        openedAtMillis = -1L;
+        trialStartedAtMillis = -1L;
+    }
+
+    synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (trialStartedAtMillis >= 0L || consecutiveFailures >= failureThreshold) {
+            openedAtMillis = clock.millis();
+            trialStartedAtMillis = -1L;
+        }
+    }
+
+    synchronized boolean isOpen() {
+        return openedAtMillis >= 0L;
+    }
+
+    /** Time left until a trial may be sent; 0 when requests are let through. */
+    synchronized long millisUntilTrial() {
+        if (openedAtMillis < 0L) {
+            return 0L;
+        }
+        long now = clock.millis();
+        long until = openedAtMillis + openMillis;
+        if (trialStartedAtMillis >= 0L) {
+            until = Math.max(until, trialStartedAtMillis + openMillis);
+        }
+        return Math.max(0L, until - now);
+    }
+}
@@ -0,0 +1,30 @@
+package com.usth.githubclient.data.remote;
+
+import java.io.IOException;
+
+/**
+ * Thrown without sending anything while a host's circuit is open, so callers can serve cached
+ * data instead of waiting on an outage.
+ */
+public final class CircuitOpenException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String host;
+    private final long retryAfterMillis;
+
+    public CircuitOpenException(String host, long retryAfterMillis) {
+        super(host + " is unavailable, retrying in " + retryAfterMillis + " ms");
+        this.host = host;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    /** How long until a trial request is let through again. */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
@@ -0,0 +1,28 @@
+package com.usth.githubclient.data.remote;
+
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of what a request needs from the signed-in account: the token to send, or
+ * none, and the rate limit budget its response headers are recorded in. Changing account swaps
+ * the whole snapshot, so a request never pairs one account's token with another's budget.
+ */
+public final class ClientConfig {
+
+    private final String token;
+    private final RateLimitBudget budget;
+
+    public ClientConfig(String token, RateLimitBudget budget) {
+        this.token = token == null || token.isEmpty() ? null : token;
+        this.budget = Objects.requireNonNull(budget, "budget == null");
+    }
+
+    /** The personal access token, or {@code null} for anonymous requests. */
+    public String getToken() {
+        return token;
+    }
+
+    public RateLimitBudget getBudget() {
+        return budget;
+    }
+}
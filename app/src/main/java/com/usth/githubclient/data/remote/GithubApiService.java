@@ -1,12 +1,23 @@
 package com.usth.githubclient.data.remote;
 
+import com.usth.githubclient.data.remote.dto.CommitDto;
+import com.usth.githubclient.data.remote.dto.EventDto;
+import com.usth.githubclient.data.remote.dto.GitTreeDto;
+import com.usth.githubclient.data.remote.dto.IssueDto;
+import com.usth.githubclient.data.remote.dto.NotificationDto;
+import com.usth.githubclient.data.remote.dto.ReadmeDto;
 import com.usth.githubclient.data.remote.dto.RepoDto;
 import com.usth.githubclient.data.remote.dto.UserDto;
 import java.util.List;
+import java.util.Map;
+import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.http.GET;
+import retrofit2.http.Header;
+import retrofit2.http.Headers;
 import retrofit2.http.Path;
 import retrofit2.http.Query;
+import retrofit2.http.Streaming;
 
 /**
  * Retrofit service definition for the GitHub REST API endpoints used by the app.
@@ -38,15 +49,175 @@ public interface GithubApiService {
             @Query("sort") String sort
     );
 
+    /** Repositories {@code username} starred, most recently starred first. */
+    @GET("users/{username}/starred")
+    Call<List<RepoDto>> getStarredRepositories(
+            @Path("username") String username,
+            @Query("per_page") int perPage,
+            @Query("page") int page
+    );
+
+    /** Repositories {@code username} watches. */
+    @GET("users/{username}/subscriptions")
+    Call<List<RepoDto>> getWatchedRepositories(
+            @Path("username") String username,
+            @Query("per_page") int perPage,
+            @Query("page") int page
+    );
+
+    /**
+     * Events of the accounts and repositories {@code username} watches. Conditional like
+     * {@link #getRepositoryLanguages}; the {@code X-Poll-Interval} response header says how many
+     * seconds to wait before asking again.
+     */
+    @GET("users/{username}/received_events")
+    Call<List<EventDto>> getReceivedEvents(
+            @Path("username") String username,
+            @Query("per_page") int perPage,
+            @Header("If-None-Match") String ifNoneMatch
+    );
+
+    /** Events performed by {@code username}; conditional like {@link #getReceivedEvents}. */
+    @GET("users/{username}/events")
+    Call<List<EventDto>> getUserEvents(
+            @Path("username") String username,
+            @Query("per_page") int perPage,
+            @Header("If-None-Match") String ifNoneMatch
+    );
+
+    /**
+     * Notification threads of the signed-in user, including read ones when {@code all}, updated at
+     * or after {@code since} (ISO-8601, or {@code null} for all). Pass the {@code Last-Modified} of
+     * an earlier response as {@code ifModifiedSince} to get a free 304 when nothing changed.
+     */
+    @GET("notifications")
+    Call<List<NotificationDto>> getNotifications(
+            @Query("all") boolean all,
+            @Query("since") String since,
+            @Query("per_page") int perPage,
+            @Query("page") int page,
+            @Header("If-Modified-Since") String ifModifiedSince
+    );
+
     @GET("repos/{owner}/{repo}")
     Call<RepoDto> getRepository(
             @Path("owner") String owner,
             @Path("repo") String repo
     );
 
+    /**
+     * Bytes of code per language. Pass the ETag of an earlier response as {@code ifNoneMatch} (or
+     * {@code null}) to get a 304, which does not count against the rate limit, when nothing changed.
+     */
+    @GET("repos/{owner}/{repo}/languages")
+    Call<Map<String, Long>> getRepositoryLanguages(
+            @Path("owner") String owner,
+            @Path("repo") String repo,
+            @Header("If-None-Match") String ifNoneMatch
+    );
+
+    /** The preferred README of the default branch; conditional like {@link #getRepositoryLanguages}. */
+    @GET("repos/{owner}/{repo}/readme")
+    Call<ReadmeDto> getReadme(
+            @Path("owner") String owner,
+            @Path("repo") String repo,
+            @Header("If-None-Match") String ifNoneMatch
+    );
+
+    /**
+     * One level of a git tree. {@code tree} is a tree SHA, or a branch name for the root; only the
+     * latter can change, so only it needs {@code ifNoneMatch}.
+     */
+    @GET("repos/{owner}/{repo}/git/trees/{tree}")
+    Call<GitTreeDto> getTree(
+            @Path("owner") String owner,
+            @Path("repo") String repo,
+            @Path("tree") String tree,
+            @Header("If-None-Match") String ifNoneMatch
+    );
+
+    /**
+     * Commits reachable from {@code sha}, a branch name or a commit SHA, newest first. The
+     * {@code Link} header points at the next page. Conditional like {@link #getRepositoryLanguages}.
+     */
+    @GET("repos/{owner}/{repo}/commits")
+    Call<List<CommitDto>> getCommits(
+            @Path("owner") String owner,
+            @Path("repo") String repo,
+            @Query("sha") String sha,
+            @Query("per_page") int perPage,
+            @Query("page") int page,
+            @Header("If-None-Match") String ifNoneMatch
+    );
+
+    /**
+     * Issues and pull requests in {@code state} ({@code open}, {@code closed} or {@code all}) updated
+     * at or after {@code since} (ISO-8601, or {@code null} for all), ordered by {@code sort}.
+     */
+    @GET("repos/{owner}/{repo}/issues")
+    Call<List<IssueDto>> getIssues(
+            @Path("owner") String owner,
+            @Path("repo") String repo,
+            @Query("state") String state,
+            @Query("since") String since,
+            @Query("sort") String sort,
+            @Query("per_page") int perPage,
+            @Query("page") int page
+    );
+
+    /**
+     * Per-contributor commit totals and weekly activity. Answers 202 with an empty object while
+     * GitHub computes them, so the body is left raw and decoded only once it is a list.
+     */
+    @GET("repos/{owner}/{repo}/stats/contributors")
+    Call<ResponseBody> getContributorStats(
+            @Path("owner") String owner,
+            @Path("repo") String repo
+    );
+
+    /** Raw blob bytes, streamed rather than buffered. */
+    @Streaming
+    @Headers("Accept: application/vnd.github.raw+json")
+    @GET("repos/{owner}/{repo}/git/blobs/{sha}")
+    Call<ResponseBody> getBlob(
+            @Path("owner") String owner,
+            @Path("repo") String repo,
+            @Path("sha") String sha
+    );
+
+    /** Repositories of an organization; private ones only when the signed-in user can see them. */
+    @GET("orgs/{org}/repos")
+    Call<List<RepoDto>> getOrganizationRepositories(
+            @Path("org") String organization,
+            @Query("per_page") int perPage,
+            @Query("page") int page
+    );
+
+    /** Members of an organization; only public members unless the signed-in user is one. */
+    @GET("orgs/{org}/members")
+    Call<List<UserDto>> getOrganizationMembers(
+            @Path("org") String organization,
+            @Query("per_page") int perPage,
+            @Query("page") int page
+    );
+
     @GET("user")
     Call<UserDto> authenticate();
 
+    /** Repositories the signed-in user starred, including private ones. */
+    @GET("user/starred")
+    Call<List<RepoDto>> getAuthenticatedStarredRepositories(
+            @Query("per_page") int perPage,
+            @Query("page") int page
+    );
+
+    /** Repositories the signed-in user watches, including private ones. */
+    @GET("user/subscriptions")
+    Call<List<RepoDto>> getAuthenticatedWatchedRepositories(
+            @Query("per_page") int perPage,
+            @Query("page") int page
+    );
+
     @GET("user/repos")
     Call<List<RepoDto>> getAuthenticatedRepositories(
             @Query("per_page") int perPage,
@@ -0,0 +1,17 @@
+package com.usth.githubclient.data.remote;
+
+import com.google.gson.JsonObject;
+import com.usth.githubclient.data.remote.dto.GraphQlRequest;
+import retrofit2.Call;
+import retrofit2.http.Body;
+import retrofit2.http.POST;
+
+/**
+ * Retrofit service definition for the GitHub GraphQL v4 endpoint. It lives next to
+ * {@link GithubApiService} and shares its base URL and HTTP stack; GraphQL always requires a token.
+ */
+public interface GithubGraphQlService {
+
+    @POST("graphql")
+    Call<JsonObject> query(@Body GraphQlRequest request);
+}
@@ -0,0 +1,32 @@
+package com.usth.githubclient.data.remote;
+
+import java.util.Arrays;
+
+/** Ring buffer of the latest response latencies of one host. */
+final class LatencyTracker {
+
+    private final long[] samples;
+    private int next;
+    private int size;
+
+    LatencyTracker(int window) {
+        samples = new long[window];
+    }
+
+    synchronized void record(long millis) {
+        samples[next] = millis;
+        next = (next + 1) % samples.length;
+        size = Math.min(size + 1, samples.length);
+    }
+
+    /** The {@code percentile} latency, or -1 while fewer than {@code minSamples} are known. */
+    synchronized long percentile(double percentile, int minSamples) {
+        if (size < minSamples) {
+            return -1L;
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * size) - 1;
+        return sorted[Math.max(0, Math.min(size - 1, index))];
+    }
+}
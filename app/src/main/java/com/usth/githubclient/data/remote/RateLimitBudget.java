@@ -0,0 +1,111 @@
+package com.usth.githubclient.data.remote;
+
+/**
+ * Thread-safe view of the GitHub REST rate limit as reported by the latest response headers.
+ * <p>
+ * Background jobs (crawlers, pollers) ask it how many requests they may run concurrently so that a
+ * long walk slows down as the hourly budget drains instead of hitting 403s.
+ */
+public final class RateLimitBudget {
+
+    /** Requests kept aside for the interactive screens. */
+    private static final int DEFAULT_RESERVE = 50;
+
+    private final int reserve;
+    private int limit = -1;
+    private int remaining = -1;
+    private long resetAtEpochSeconds;
+
+    public RateLimitBudget() {
+        this(DEFAULT_RESERVE);
+    }
+
+    public RateLimitBudget(int reserve) {
+        if (reserve < 0) {
+            throw new IllegalArgumentException("reserve must be >= 0");
+        }
+        this.reserve = reserve;
+    }
+
+    /** Records the values of the {@code X-RateLimit-*} headers. Missing headers are ignored. */
+    public synchronized void update(String limitHeader, String remainingHeader, String resetHeader) {
+        int parsedLimit = parseInt(limitHeader);
+        int parsedRemaining = parseInt(remainingHeader);
+        long parsedReset = parseLong(resetHeader);
+        if (parsedLimit >= 0) {
+            limit = parsedLimit;
+        }
+        if (parsedRemaining >= 0) {
+            remaining = parsedRemaining;
+        }
+        if (parsedReset > 0L) {
+            resetAtEpochSeconds = parsedReset;
+        }
+    }
+
+    /** Whether any response has reported the budget yet. */
+    public synchronized boolean isKnown() {
+        return remaining >= 0;
+    }
+
+    public synchronized int getRemaining() {
+        return remaining;
+    }
+
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    public synchronized long millisUntilReset(long nowMillis) {
+        if (resetAtEpochSeconds <= 0L) {
+            return 0L;
+        }
+        return Math.max(0L, resetAtEpochSeconds * 1000L - nowMillis);
+    }
+
+    /**
+     * Suggests how many background requests may be in flight, scaling {@code maxWorkers} with the
+     * fraction of the budget left. Returns {@code 0} once only the reserve is left, meaning callers
+     * should wait for {@link #millisUntilReset(long)}.
+     */
+    public synchronized int recommendedConcurrency(int maxWorkers, long nowMillis) {
+        if (maxWorkers <= 0) {
+            return 0;
+        }
+        if (remaining < 0 || limit <= 0) {
+            return maxWorkers;
+        }
+        if (resetAtEpochSeconds > 0L && nowMillis >= resetAtEpochSeconds * 1000L) {
+            // The window rolled over; the next response will report the fresh budget.
+            return maxWorkers;
+        }
+        int usable = remaining - reserve;
+        if (usable <= 0) {
+            return 0;
+        }
+        int scaled = (int) Math.ceil(maxWorkers * (usable / (double) limit));
+        return Math.max(1, Math.min(maxWorkers, Math.min(scaled, usable)));
+    }
+
+    private static int parseInt(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException ignored) {
+            return -1;
+        }
+    }
+
+    private static long parseLong(String value) {
+        if (value == null) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ignored) {
+            return -1L;
+        }
+    }
+}
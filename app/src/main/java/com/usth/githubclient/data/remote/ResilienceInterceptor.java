@@ -0,0 +1,280 @@
+package com.usth.githubclient.data.remote;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Keeps transient GitHub failures away from the UI.
+ * <ul>
+ *     <li>GET and HEAD requests answered with a 5xx, or failing with a timeout or a dropped
+ *     connection, are retried with decorrelated jitter.</li>
+ *     <li>One of those still unanswered after the host's recent p95 latency is sent a second time
+ *     through {@code hedgeFactory}; whichever answer arrives first is used.</li>
+ *     <li>Every host has a {@link CircuitBreaker}; while it is open requests fail fast with a
+ *     {@link CircuitOpenException} and the repositories serve cached data.</li>
+ * </ul>
+ * Must come after {@link AuthInterceptor}, since hedges are sent as they reach this one, header and
+ * budget tag included.
+ * <p>
+ * Hedging has an accepted cost. A hedge is a request of the rate limit like any other. When the
+ * hedge wins, the primary cannot be cancelled: it runs on the caller's own call, and cancelling it
+ * would cancel the response just handed over. It keeps running on a hedge thread after
+ * {@link #intercept} returns, is counted by GitHub when it completes, and its body is closed unread;
+ * only then are its exchange and connection released. A losing hedge is cancelled.
+ */
+public final class ResilienceInterceptor implements Interceptor {
+
+    private final ResiliencePolicy policy;
+    private final Call.Factory hedgeFactory;
+    private final Clock clock;
+    private final Random random;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final Map<String, LatencyTracker> latencies = new ConcurrentHashMap<>();
+    private final ExecutorService hedgeExecutor;
+
+    public ResilienceInterceptor(ResiliencePolicy policy, Call.Factory hedgeFactory) {
+        this(policy, hedgeFactory, Clock.systemUTC(), new Random());
+    }
+
+    public ResilienceInterceptor(ResiliencePolicy policy, Call.Factory hedgeFactory, Clock clock,
+                                 Random random) {
+        this.policy = Objects.requireNonNull(policy, "policy == null");
+        this.hedgeFactory = Objects.requireNonNull(hedgeFactory, "hedgeFactory == null");
+        this.clock = Objects.requireNonNull(clock, "clock == null");
+        this.random = Objects.requireNonNull(random, "random == null");
+        this.hedgeExecutor = policy.hedging ? Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "github-hedge");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    /**
+     * Stops sending hedges; requests then go out once. Answers still in flight are closed when they
+     * arrive. Idle hedge threads also end on their own after a minute.
+     */
+    public void shutdown() {
+        if (hedgeExecutor != null) {
+            hedgeExecutor.shutdown();
+        }
+    }
+
+    /** Whether {@code host}'s circuit is open, i.e. it failed recently and is not trusted yet. */
+    public boolean isCircuitOpen(String host) {
+        CircuitBreaker breaker = breakers.get(host);
+        return breaker != null && breaker.isOpen();
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String host = request.url().host();
+        CircuitBreaker breaker = breakers.computeIfAbsent(host, ignored ->
+                new CircuitBreaker(policy.failureThreshold, policy.openMillis, clock));
+        LatencyTracker tracker = latencies.computeIfAbsent(host, ignored ->
+                new LatencyTracker(policy.latencyWindow));
+        boolean idempotent = "GET".equals(request.method()) || "HEAD".equals(request.method());
+        long delayMillis = policy.baseDelayMillis;
+        for (int attempt = 1; ; attempt++) {
+            if (!breaker.tryAcquire()) {
+                throw new CircuitOpenException(host, breaker.millisUntilTrial());
+            }
+            Response response = null;
+            IOException failure = null;
+            try {
+                response = idempotent && policy.hedging
+                        ? proceedHedged(chain, request, tracker)
+                        : proceedTimed(chain, request, tracker);
+            } catch (IOException exception) {
+                if (chain.call().isCanceled()) {
+                    throw exception;
+                }
+                failure = exception;
+            }
+            if (response != null && !isServerError(response)) {
+                breaker.recordSuccess();
+                return response;
+            }
+            breaker.recordFailure();
+            if (!idempotent || attempt >= policy.maxAttempts || breaker.isOpen()) {
+                if (failure != null) {
+                    throw failure;
+                }
+                return response;
+            }
+            if (response != null) {
+                response.close();
+            }
+            delayMillis = nextDelay(delayMillis);
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("interrupted while backing off");
+            }
+        }
+    }
+
+    /** Decorrelated jitter: uniformly between the base delay and three times the last one. */
+    long nextDelay(long previousMillis) {
+        long base = policy.baseDelayMillis;
+        long upper = Math.min(policy.maxDelayMillis, previousMillis * 3L);
+        if (upper <= base) {
+            return base;
+        }
+        return base + (long) (random.nextDouble() * (upper - base));
+    }
+
+    private Response proceedTimed(Chain chain, Request request, LatencyTracker tracker)
+            throws IOException {
+        long start = clock.millis();
+        Response response = chain.proceed(request);
+        tracker.record(clock.millis() - start);
+        return response;
+    }
+
+    private Response proceedHedged(Chain chain, Request request, LatencyTracker tracker)
+            throws IOException {
+        long hedgeAfterMillis = tracker.percentile(policy.hedgePercentile, policy.minHedgeSamples);
+        if (hedgeAfterMillis < 0L || hedgeExecutor.isShutdown()) {
+            return proceedTimed(chain, request, tracker);
+        }
+        BlockingQueue<Outcome> outcomes = new LinkedBlockingQueue<>();
+        try {
+            hedgeExecutor.execute(() -> outcomes.add(
+                    Outcome.of(false, () -> proceedTimed(chain, request, tracker))));
+        } catch (RejectedExecutionException shutDown) {
+            return proceedTimed(chain, request, tracker);
+        }
+        Call hedge = null;
+        int pending = 1;
+        Outcome first = null;
+        try {
+            first = outcomes.poll(hedgeAfterMillis, TimeUnit.MILLISECONDS);
+            if (first != null) {
+                return first.get();
+            }
+            hedge = hedgeFactory.newCall(request);
+            Call hedgeCall = hedge;
+            try {
+                hedgeExecutor.execute(() -> outcomes.add(Outcome.of(true, hedgeCall::execute)));
+                pending++;
+            } catch (RejectedExecutionException shutDown) {
+                hedge = null;
+            }
+            first = outcomes.take();
+            pending--;
+            if (pending == 0) {
+                return first.get();
+            }
+            if (first.isUsable()) {
+                // Only a losing hedge can be cancelled; cancelling the winner would kill its body.
+                if (!first.hedged) {
+                    hedge.cancel();
+                }
+                drainLater(outcomes);
+                return first.get();
+            }
+            // The first answer failed; the other one may still be good.
+            Outcome second = outcomes.take();
+            pending--;
+            if (second.isUsable() || first.response == null) {
+                first.close();
+                return second.get();
+            }
+            second.close();
+            return first.get();
+        } catch (InterruptedException exception) {
+            if (hedge != null) {
+                hedge.cancel();
+            }
+            if (first != null) {
+                first.close();
+            }
+            for (int i = 0; i < pending; i++) {
+                drainLater(outcomes);
+            }
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for a response");
+        }
+    }
+
+    /** Closes whatever still arrives in {@code outcomes} so no connection is leaked. */
+    private void drainLater(BlockingQueue<Outcome> outcomes) {
+        Runnable drain = () -> {
+            try {
+                outcomes.take().close();
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        try {
+            hedgeExecutor.execute(drain);
+        } catch (RejectedExecutionException shutDown) {
+            new Thread(drain, "github-hedge-drain").start();
+        }
+    }
+
+    private static boolean isServerError(Response response) {
+        return response.code() >= 500;
+    }
+
+    private interface ResponseSupplier {
+        Response get() throws IOException;
+    }
+
+    /** A response or the exception sending the request failed with, and who sent it. */
+    private static final class Outcome {
+        final boolean hedged;
+        final Response response;
+        final IOException failure;
+
+        private Outcome(boolean hedged, Response response, IOException failure) {
+            this.hedged = hedged;
+            this.response = response;
+            this.failure = failure;
+        }
+
+        static Outcome of(boolean hedged, ResponseSupplier supplier) {
+            try {
+                return new Outcome(hedged, supplier.get(), null);
+            } catch (IOException exception) {
+                return new Outcome(hedged, null, exception);
+            } catch (RuntimeException exception) {
+                return new Outcome(hedged, null, new IOException(exception));
+            }
+        }
+
+        boolean isUsable() {
+            return response != null && !isServerError(response);
+        }
+
+        Response get() throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            return response;
+        }
+
+        void close() {
+            if (response != null) {
+                response.close();
+            }
+        }
+    }
+}
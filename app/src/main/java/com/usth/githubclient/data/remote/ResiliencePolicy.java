@@ -0,0 +1,114 @@
+package com.usth.githubclient.data.remote;
+
+/**
+ * Settings of {@link ResilienceInterceptor}: how idempotent requests are retried, when a slow one
+ * is hedged with a duplicate and when a host's circuit opens.
+ */
+public final class ResiliencePolicy {
+
+    final int maxAttempts;
+    final long baseDelayMillis;
+    final long maxDelayMillis;
+    final boolean hedging;
+    final double hedgePercentile;
+    final int minHedgeSamples;
+    final int latencyWindow;
+    final int failureThreshold;
+    final long openMillis;
+
+    private ResiliencePolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.baseDelayMillis = builder.baseDelayMillis;
+        this.maxDelayMillis = builder.maxDelayMillis;
+        this.hedging = builder.hedging;
+        this.hedgePercentile = builder.hedgePercentile;
+        this.minHedgeSamples = builder.minHedgeSamples;
+        this.latencyWindow = builder.latencyWindow;
+        this.failureThreshold = builder.failureThreshold;
+        this.openMillis = builder.openMillis;
+    }
+
+    public static ResiliencePolicy defaults() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private int maxAttempts = 3;
+        private long baseDelayMillis = 250L;
+        private long maxDelayMillis = 4_000L;
+        private boolean hedging = true;
+        private double hedgePercentile = 0.95;
+        private int minHedgeSamples = 20;
+        private int latencyWindow = 100;
+        private int failureThreshold = 5;
+        private long openMillis = 30_000L;
+
+        private Builder() {
+        }
+
+        /** Attempts per idempotent request, the first included; 1 disables retries. */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be >= 1");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /** Bounds of the decorrelated jitter between attempts. */
+        public Builder retryDelayBounds(long baseDelayMillis, long maxDelayMillis) {
+            if (baseDelayMillis < 1L || maxDelayMillis < baseDelayMillis) {
+                throw new IllegalArgumentException("invalid retry delay bounds");
+            }
+            this.baseDelayMillis = baseDelayMillis;
+            this.maxDelayMillis = maxDelayMillis;
+            return this;
+        }
+
+        /**
+         * Whether an idempotent request still unanswered after the {@code percentile} latency of
+         * the last {@code window} responses from its host is sent a second time; the first answer
+         * wins. No request is hedged before {@code minSamples} latencies are known.
+         */
+        public Builder hedging(boolean hedging, double percentile, int minSamples, int window) {
+            if (percentile <= 0.0 || percentile >= 1.0) {
+                throw new IllegalArgumentException("percentile must be within (0, 1)");
+            }
+            if (minSamples < 1 || window < minSamples) {
+                throw new IllegalArgumentException("invalid hedging samples");
+            }
+            this.hedging = hedging;
+            this.hedgePercentile = percentile;
+            this.minHedgeSamples = minSamples;
+            this.latencyWindow = window;
+            return this;
+        }
+
+        public Builder hedging(boolean hedging) {
+            this.hedging = hedging;
+            return this;
+        }
+
+        /**
+         * Consecutive failures that open a host's circuit, and how long it then fails fast before
+         * letting one trial request through.
+         */
+        public Builder circuitBreaker(int failureThreshold, long openMillis) {
+            if (failureThreshold < 1 || openMillis < 1L) {
+                throw new IllegalArgumentException("invalid circuit breaker settings");
+            }
+            this.failureThreshold = failureThreshold;
+            this.openMillis = openMillis;
+            return this;
+        }
+
+        public ResiliencePolicy build() {
+            return new ResiliencePolicy(this);
+        }
+    }
+}
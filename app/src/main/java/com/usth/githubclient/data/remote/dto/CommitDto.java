@@ -0,0 +1,95 @@
+package com.usth.githubclient.data.remote.dto;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * Raw representation of one entry of {@code repos/{owner}/{repo}/commits}. Only the fields of a
+ * history row are declared; files, stats and the verification block are skipped while parsing.
+ */
+public final class CommitDto {
+
+    @SerializedName("sha")
+    private String sha;
+
+    @SerializedName("commit")
+    private Commit commit;
+
+    @SerializedName("author")
+    private Account author;
+
+    /** Required by Gson. */
+    public CommitDto() {
+    }
+
+    public String getSha() {
+        return sha;
+    }
+
+    public Commit getCommit() {
+        return commit;
+    }
+
+    /** The GitHub account of the author, or {@code null} when the e-mail matches none. */
+    public Account getAuthor() {
+        return author;
+    }
+
+    /** The git commit object itself. */
+    public static final class Commit {
+
+        @SerializedName("message")
+        private String message;
+
+        @SerializedName("author")
+        private Signature author;
+
+        /** Required by Gson. */
+        public Commit() {
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public Signature getAuthor() {
+            return author;
+        }
+    }
+
+    /** Name and date recorded in the commit. */
+    public static final class Signature {
+
+        @SerializedName("name")
+        private String name;
+
+        @SerializedName("date")
+        private String date;
+
+        /** Required by Gson. */
+        public Signature() {
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDate() {
+            return date;
+        }
+    }
+
+    /** A GitHub account. */
+    public static final class Account {
+
+        @SerializedName("login")
+        private String login;
+
+        /** Required by Gson. */
+        public Account() {
+        }
+
+        public String getLogin() {
+            return login;
+        }
+    }
+}
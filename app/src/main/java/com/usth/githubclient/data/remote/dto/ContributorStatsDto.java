@@ -0,0 +1,74 @@
+package com.usth.githubclient.data.remote.dto;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.List;
+
+/**
+ * Raw representation of one entry of {@code repos/{owner}/{repo}/stats/contributors}: a
+ * contributor's commit total plus weekly additions, deletions and commits.
+ */
+public final class ContributorStatsDto {
+
+    @SerializedName("author")
+    private UserDto author;
+
+    @SerializedName("total")
+    private int total;
+
+    @SerializedName("weeks")
+    private List<Week> weeks;
+
+    /** Required by Gson. */
+    public ContributorStatsDto() {
+    }
+
+    /** The contributor's account, or {@code null} for commits matching no account. */
+    public UserDto getAuthor() {
+        return author;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public List<Week> getWeeks() {
+        return weeks;
+    }
+
+    /** One week of activity, starting at {@link #getWeekStart()} (Unix seconds). */
+    public static final class Week {
+
+        @SerializedName("w")
+        private long weekStart;
+
+        @SerializedName("a")
+        private long additions;
+
+        @SerializedName("d")
+        private long deletions;
+
+        @SerializedName("c")
+        private int commits;
+
+        /** Required by Gson. */
+        public Week() {
+        }
+
+        public long getWeekStart() {
+            return weekStart;
+        }
+
+        public long getAdditions() {
+            return additions;
+        }
+
+        public long getDeletions() {
+            return deletions;
+        }
+
+        public int getCommits() {
+            return commits;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.usth.githubclient.data.remote.dto;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * Raw representation of one entry of the {@code users/{username}/events} style feeds. Only the
+ * fields shown in the app are declared, so the (large) payload is skipped while parsing.
+ */
+public final class EventDto {
+
+    @SerializedName("id")
+    private String id;
+
+    @SerializedName("type")
+    private String type;
+
+    @SerializedName("actor")
+    private Actor actor;
+
+    @SerializedName("repo")
+    private Repo repo;
+
+    @SerializedName("public")
+    private boolean isPublic;
+
+    @SerializedName("created_at")
+    private String createdAt;
+
+    /** Required by Gson. */
+    public EventDto() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Actor getActor() {
+        return actor;
+    }
+
+    public Repo getRepo() {
+        return repo;
+    }
+
+    public boolean isPublic() {
+        return isPublic;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    /** The account that triggered the event. */
+    public static final class Actor {
+
+        @SerializedName("login")
+        private String login;
+
+        @SerializedName("avatar_url")
+        private String avatarUrl;
+
+        /** Required by Gson. */
+        public Actor() {
+        }
+
+        public String getLogin() {
+            return login;
+        }
+
+        public String getAvatarUrl() {
+            return avatarUrl;
+        }
+    }
+
+    /** The repository the event happened in, named {@code owner/repo}. */
+    public static final class Repo {
+
+        @SerializedName("name")
+        private String name;
+
+        /** Required by Gson. */
+        public Repo() {
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.usth.githubclient.data.remote.dto;
+
+import com.google.gson.annotations.SerializedName;
+import java.util.List;
+
+/**
+ * Raw representation of {@code repos/{owner}/{repo}/git/trees/{sha}}, requested non-recursively.
+ */
+public final class GitTreeDto {
+
+    @SerializedName("sha")
+    private String sha;
+
+    @SerializedName("truncated")
+    private boolean truncated;
+
+    @SerializedName("tree")
+    private List<Entry> tree;
+
+    /** Required by Gson. */
+    public GitTreeDto() {
+    }
+
+    public String getSha() {
+        return sha;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public List<Entry> getTree() {
+        return tree;
+    }
+
+    /** One entry of a tree: a blob, a subtree or a submodule commit. */
+    public static final class Entry {
+
+        @SerializedName("path")
+        private String path;
+
+        @SerializedName("mode")
+        private String mode;
+
+        @SerializedName("type")
+        private String type;
+
+        @SerializedName("sha")
+        private String sha;
+
+        @SerializedName("size")
+        private Long size;
+
+        /** Required by Gson. */
+        public Entry() {
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public String getMode() {
+            return mode;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getSha() {
+            return sha;
+        }
+
+        public Long getSize() {
+            return size;
+        }
+    }
+}
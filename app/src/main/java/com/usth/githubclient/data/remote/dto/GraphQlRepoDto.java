@@ -0,0 +1,190 @@
+package com.usth.githubclient.data.remote.dto;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * Raw representation of a GitHub repository as returned by the GraphQL v4 API. Only the fields
+ * that {@code ReposDataEntry} uses are requested.
+ */
+public final class GraphQlRepoDto {
+
+    /** Field selection matching this DTO, for use inside GraphQL queries. */
+    public static final String FIELDS = "databaseId name nameWithOwner description url "
+            + "primaryLanguage { name } stargazerCount forkCount watchers { totalCount } "
+            + "issues(states: OPEN) { totalCount } pullRequests(states: OPEN) { totalCount } "
+            + "defaultBranchRef { name } isPrivate isFork isArchived createdAt updatedAt pushedAt "
+            + "owner { login avatarUrl url ... on User { databaseId } ... on Organization { databaseId } }";
+
+    @SerializedName("databaseId")
+    private long databaseId;
+
+    @SerializedName("name")
+    private String name;
+
+    @SerializedName("nameWithOwner")
+    private String nameWithOwner;
+
+    @SerializedName("description")
+    private String description;
+
+    @SerializedName("url")
+    private String url;
+
+    @SerializedName("primaryLanguage")
+    private Named primaryLanguage;
+
+    @SerializedName("stargazerCount")
+    private int stargazerCount;
+
+    @SerializedName("forkCount")
+    private int forkCount;
+
+    @SerializedName("watchers")
+    private GraphQlUserDto.TotalCount watchers;
+
+    @SerializedName("issues")
+    private GraphQlUserDto.TotalCount openIssues;
+
+    @SerializedName("pullRequests")
+    private GraphQlUserDto.TotalCount openPullRequests;
+
+    @SerializedName("defaultBranchRef")
+    private Named defaultBranchRef;
+
+    @SerializedName("isPrivate")
+    private boolean isPrivate;
+
+    @SerializedName("isFork")
+    private boolean isFork;
+
+    @SerializedName("isArchived")
+    private boolean isArchived;
+
+    @SerializedName("createdAt")
+    private String createdAt;
+
+    @SerializedName("updatedAt")
+    private String updatedAt;
+
+    @SerializedName("pushedAt")
+    private String pushedAt;
+
+    @SerializedName("owner")
+    private Owner owner;
+
+    /** Required by Gson. */
+    public GraphQlRepoDto() {
+    }
+
+    public long getDatabaseId() {
+        return databaseId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getNameWithOwner() {
+        return nameWithOwner;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getPrimaryLanguage() {
+        return primaryLanguage == null ? null : primaryLanguage.name;
+    }
+
+    public int getStargazerCount() {
+        return stargazerCount;
+    }
+
+    public int getForkCount() {
+        return forkCount;
+    }
+
+    public int getWatchersCount() {
+        return watchers == null ? 0 : watchers.totalCount;
+    }
+
+    /** Open issues plus open pull requests, matching REST's {@code open_issues_count}. */
+    public int getOpenIssuesCount() {
+        int issues = openIssues == null ? 0 : openIssues.totalCount;
+        int pulls = openPullRequests == null ? 0 : openPullRequests.totalCount;
+        return issues + pulls;
+    }
+
+    public String getDefaultBranch() {
+        return defaultBranchRef == null ? null : defaultBranchRef.name;
+    }
+
+    public boolean isPrivate() {
+        return isPrivate;
+    }
+
+    public boolean isFork() {
+        return isFork;
+    }
+
+    public boolean isArchived() {
+        return isArchived;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public String getPushedAt() {
+        return pushedAt;
+    }
+
+    public Owner getOwner() {
+        return owner;
+    }
+
+    /** Object that only carries a {@code name}. */
+    static final class Named {
+        @SerializedName("name")
+        String name;
+    }
+
+    /** Minimal repository owner (user or organization). */
+    public static final class Owner {
+        @SerializedName("databaseId")
+        private long databaseId;
+
+        @SerializedName("login")
+        private String login;
+
+        @SerializedName("avatarUrl")
+        private String avatarUrl;
+
+        @SerializedName("url")
+        private String url;
+
+        public long getDatabaseId() {
+            return databaseId;
+        }
+
+        public String getLogin() {
+            return login;
+        }
+
+        public String getAvatarUrl() {
+            return avatarUrl;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.usth.githubclient.data.remote.dto;
+
+import com.google.gson.annotations.SerializedName;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Body of a GitHub GraphQL v4 request.
+ */
+public final class GraphQlRequest {
+
+    @SerializedName("query")
+    private final String query;
+
+    @SerializedName("variables")
+    private final Map<String, Object> variables;
+
+    public GraphQlRequest(String query, Map<String, Object> variables) {
+        this.query = query;
+        this.variables = variables == null ? Collections.emptyMap() : variables;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public Map<String, Object> getVariables() {
+        return variables;
+    }
+}
@@ -0,0 +1,131 @@
+package com.usth.githubclient.data.remote.dto;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * Raw representation of a GitHub user as returned by the GraphQL v4 API. Only the fields that
+ * {@code GitHubUserProfileDataEntry} uses are requested.
+ */
+public final class GraphQlUserDto {
+
+    /** Field selection matching this DTO, for use inside GraphQL queries. */
+    public static final String FIELDS = "databaseId login name avatarUrl bio company websiteUrl "
+            + "email location url createdAt updatedAt "
+            + "followers { totalCount } following { totalCount } "
+            + "repositories(privacy: PUBLIC) { totalCount }";
+
+    @SerializedName("databaseId")
+    private long databaseId;
+
+    @SerializedName("login")
+    private String login;
+
+    @SerializedName("name")
+    private String name;
+
+    @SerializedName("avatarUrl")
+    private String avatarUrl;
+
+    @SerializedName("bio")
+    private String bio;
+
+    @SerializedName("company")
+    private String company;
+
+    @SerializedName("websiteUrl")
+    private String websiteUrl;
+
+    @SerializedName("email")
+    private String email;
+
+    @SerializedName("location")
+    private String location;
+
+    @SerializedName("url")
+    private String url;
+
+    @SerializedName("createdAt")
+    private String createdAt;
+
+    @SerializedName("updatedAt")
+    private String updatedAt;
+
+    @SerializedName("followers")
+    private TotalCount followers;
+
+    @SerializedName("following")
+    private TotalCount following;
+
+    @SerializedName("repositories")
+    private TotalCount repositories;
+
+    /** Required by Gson. */
+    public GraphQlUserDto() {
+    }
+
+    public long getDatabaseId() {
+        return databaseId;
+    }
+
+    public String getLogin() {
+        return login;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getAvatarUrl() {
+        return avatarUrl;
+    }
+
+    public String getBio() {
+        return bio;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    public String getWebsiteUrl() {
+        return websiteUrl;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public int getFollowersCount() {
+        return followers == null ? 0 : followers.totalCount;
+    }
+
+    public int getFollowingCount() {
+        return following == null ? 0 : following.totalCount;
+    }
+
+    public int getPublicReposCount() {
+        return repositories == null ? 0 : repositories.totalCount;
+    }
+
+    /** GraphQL connection reduced to its {@code totalCount}. */
+    public static final class TotalCount {
+        @SerializedName("totalCount")
+        int totalCount;
+    }
+}
@@ -0,0 +1,86 @@
+package com.usth.githubclient.data.remote.dto;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * Raw representation of one item of the {@code repos/{owner}/{repo}/issues} endpoint, which lists
+ * pull requests as issues with a {@code pull_request} member.
+ */
+public final class IssueDto {
+
+    @SerializedName("number")
+    private int number;
+
+    @SerializedName("title")
+    private String title;
+
+    @SerializedName("state")
+    private String state;
+
+    @SerializedName("user")
+    private User user;
+
+    @SerializedName("comments")
+    private int comments;
+
+    @SerializedName("created_at")
+    private String createdAt;
+
+    @SerializedName("updated_at")
+    private String updatedAt;
+
+    @SerializedName("pull_request")
+    private Object pullRequest;
+
+    /** Required by Gson. */
+    public IssueDto() {
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    /** {@code open} or {@code closed}. */
+    public String getState() {
+        return state;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public int getComments() {
+        return comments;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public boolean isPullRequest() {
+        return pullRequest != null;
+    }
+
+    /** Who opened the issue. */
+    public static final class User {
+
+        @SerializedName("login")
+        private String login;
+
+        /** Required by Gson. */
+        public User() {
+        }
+
+        public String getLogin() {
+            return login;
+        }
+    }
+}
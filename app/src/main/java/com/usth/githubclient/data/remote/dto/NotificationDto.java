@@ -0,0 +1,92 @@
+package com.usth.githubclient.data.remote.dto;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * Raw representation of one notification thread of the {@code notifications} endpoint.
+ */
+public final class NotificationDto {
+
+    @SerializedName("id")
+    private String id;
+
+    @SerializedName("unread")
+    private boolean unread;
+
+    @SerializedName("reason")
+    private String reason;
+
+    @SerializedName("updated_at")
+    private String updatedAt;
+
+    @SerializedName("subject")
+    private Subject subject;
+
+    @SerializedName("repository")
+    private Repository repository;
+
+    /** Required by Gson. */
+    public NotificationDto() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public boolean isUnread() {
+        return unread;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public String getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Subject getSubject() {
+        return subject;
+    }
+
+    public Repository getRepository() {
+        return repository;
+    }
+
+    /** What the thread is about: an issue, a pull request, a release... */
+    public static final class Subject {
+
+        @SerializedName("title")
+        private String title;
+
+        @SerializedName("type")
+        private String type;
+
+        /** Required by Gson. */
+        public Subject() {
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String getType() {
+            return type;
+        }
+    }
+
+    /** The repository of the thread. */
+    public static final class Repository {
+
+        @SerializedName("full_name")
+        private String fullName;
+
+        /** Required by Gson. */
+        public Repository() {
+        }
+
+        public String getFullName() {
+            return fullName;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.usth.githubclient.data.remote.dto;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * Raw representation of {@code repos/{owner}/{repo}/readme}; the file body is base64 encoded.
+ */
+public final class ReadmeDto {
+
+    @SerializedName("name")
+    private String name;
+
+    @SerializedName("path")
+    private String path;
+
+    @SerializedName("sha")
+    private String sha;
+
+    @SerializedName("size")
+    private long size;
+
+    @SerializedName("encoding")
+    private String encoding;
+
+    @SerializedName("content")
+    private String content;
+
+    @SerializedName("html_url")
+    private String htmlUrl;
+
+    /** Required by Gson. */
+    public ReadmeDto() {
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getSha() {
+        return sha;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public String getEncoding() {
+        return encoding;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public String getHtmlUrl() {
+        return htmlUrl;
+    }
+}
@@ -46,6 +46,9 @@ public final class RepoDto {
     @SerializedName("fork")
     private boolean isFork;
 
+    @SerializedName("archived")
+    private boolean archived;
+
     @SerializedName("created_at")
     private String createdAt;
 
@@ -114,6 +117,10 @@ public final class RepoDto {
         return isFork;
     }
 
+    public boolean isArchived() {
+        return archived;
+    }
+
     public String getCreatedAt() {
         return createdAt;
     }
@@ -13,13 +13,20 @@ import com.usth.githubclient.domain.model.ReposDataEntry;
 import com.usth.githubclient.domain.model.UserSessionData;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import retrofit2.Response;
 
 /**
- * Handles authentication using a personal access token and exposes the resulting session data.
+ * Handles authentication using personal access tokens and exposes the resulting session data.
+ * <p>
+ * Several accounts can be signed in at once; one of them is active. Switching only changes which
+ * session and client are active, so every account keeps its own warm client and caches.
  */
 public final class AuthRepository {
 
@@ -27,12 +34,20 @@ public final class AuthRepository {
     private static final int DEFAULT_REPO_PER_PAGE = 30;
     private static final String DEFAULT_SORT = "updated";
 
+    /** Notified when an account signs out, so what was kept for it can be dropped. */
+    public interface AccountListener {
+        void onAccountRemoved(String login);
+    }
+
     private final ApiClient apiClient;
     // Bỏ apiService khỏi constructor vì chúng ta sẽ tạo nó khi cần
     private final UserMapper userMapper;
     private final RepoMapper repoMapper;
 
-    private UserSessionData cachedSession;
+    // Signed-in sessions by lower-case login, in sign-in order.
+    private final Map<String, UserSessionData> sessions = new LinkedHashMap<>();
+    private String activeLogin;
+    private AccountListener accountListener;
 
     // Sửa constructor: Bỏ GithubApiService ra
     public AuthRepository(
@@ -45,6 +60,10 @@ public final class AuthRepository {
         this.repoMapper = Objects.requireNonNull(repoMapper, "repoMapper == null");
     }
 
+    /**
+     * Signs in with {@code personalAccessToken} and makes that account active. Accounts already
+     * signed in stay signed in; signing in to one of them again replaces its session.
+     */
     @SuppressLint("NewApi")
     public UserSessionData authenticate(String personalAccessToken) throws IOException {
         if (personalAccessToken == null || personalAccessToken.isEmpty()) {
@@ -56,29 +75,106 @@ public final class AuthRepository {
         GithubApiService service = apiClient.createService(personalAccessToken, GithubApiService.class);
 
         // 2. Dùng service vừa tạo để gọi API
-        GitHubUserProfileDataEntry profile = fetchAuthenticatedUser(service);
-        List<ReposDataEntry> repositories = fetchAuthenticatedRepositories(service);
+        GitHubUserProfileDataEntry profile;
+        List<ReposDataEntry> repositories;
+        try {
+            profile = fetchAuthenticatedUser(service);
+            repositories = fetchAuthenticatedRepositories(service);
+        } catch (IOException | RuntimeException exception) {
+            if (!isSignedInToken(personalAccessToken)) {
+                apiClient.removeAuthToken(personalAccessToken);
+            }
+            throw exception;
+        }
 
-        cachedSession = UserSessionData.builder(profile.getUsername(), personalAccessToken)
+        UserSessionData session = UserSessionData.builder(profile.getUsername(), personalAccessToken)
                 .tokenType("Bearer")
                 .userProfile(profile)
                 .repositories(repositories)
                 .lastSyncedAt(Instant.now())
                 .build();
 
-        // Sau khi xác thực thành công, đặt token vào apiClient chung để các repository khác có thể dùng
-        apiClient.setAuthToken(personalAccessToken);
+        UserSessionData replaced;
+        synchronized (this) {
+            replaced = sessions.put(key(session.getUsername()), session);
+            activeLogin = key(session.getUsername());
+            // Sau khi xác thực thành công, đặt token vào apiClient chung để các repository khác có thể dùng
+            apiClient.setAuthToken(personalAccessToken);
+        }
+        if (replaced != null && !replaced.getAccessToken().equals(personalAccessToken)) {
+            apiClient.removeAuthToken(replaced.getAccessToken());
+        }
+        return session;
+    }
 
-        return cachedSession;
+    /** Makes the signed-in account {@code login} active. */
+    public synchronized UserSessionData switchAccount(String login) {
+        UserSessionData session = sessions.get(key(Objects.requireNonNull(login, "login == null")));
+        if (session == null) {
+            throw new IllegalArgumentException("Not signed in as " + login);
+        }
+        activeLogin = key(login);
+        apiClient.setAuthToken(session.getAccessToken());
+        return session;
     }
 
+    /**
+     * Signs the active account out and drops its client. The most recently signed-in remaining
+     * account becomes active, if there is one.
+     */
     public void signOut() {
-        cachedSession = null;
-        apiClient.clearAuthToken();
+        String removedLogin;
+        synchronized (this) {
+            UserSessionData removed = activeLogin == null ? null : sessions.remove(activeLogin);
+            removedLogin = activeLogin;
+            activeLogin = null;
+            if (removed != null) {
+                apiClient.removeAuthToken(removed.getAccessToken());
+            }
+            apiClient.clearAuthToken();
+            for (String login : sessions.keySet()) {
+                activeLogin = login;
+            }
+            if (activeLogin != null) {
+                apiClient.setAuthToken(sessions.get(activeLogin).getAccessToken());
+            }
+        }
+        AccountListener listener = accountListener;
+        if (removedLogin != null && listener != null) {
+            listener.onAccountRemoved(removedLogin);
+        }
+    }
+
+    /** The active account's session, or {@code null} when browsing anonymously. */
+    public synchronized UserSessionData getCachedSession() {
+        return activeLogin == null ? null : sessions.get(activeLogin);
+    }
+
+    /** Lower-case login of the active account, or {@code null} when browsing anonymously. */
+    public synchronized String getActiveLogin() {
+        return activeLogin;
+    }
+
+    /** Every signed-in account, in sign-in order. */
+    public synchronized List<UserSessionData> getSessions() {
+        return Collections.unmodifiableList(new ArrayList<>(sessions.values()));
+    }
+
+    public void setAccountListener(AccountListener accountListener) {
+        this.accountListener = accountListener;
+    }
+
+    private synchronized boolean isSignedInToken(String token) {
+        for (UserSessionData session : sessions.values()) {
+            if (session.getAccessToken().equals(token)) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    public UserSessionData getCachedSession() {
-        return cachedSession;
+    private static String key(String login) {
+        return login.toLowerCase(Locale.ROOT);
     }
 
     // Sửa các phương thức fetch để nhận vào GithubApiService
@@ -87,7 +183,6 @@ public final class AuthRepository {
         if (response.isSuccessful() && response.body() != null) {
             return userMapper.map(response.body());
         }
-        apiClient.clearAuthToken();
         throw buildException("Unable to fetch authenticated user", response);
     }
 
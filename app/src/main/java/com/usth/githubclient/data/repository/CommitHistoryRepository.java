@@ -0,0 +1,217 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.CommitCache;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.remote.dto.CommitDto;
+import com.usth.githubclient.domain.mapper.CommitMapper;
+import com.usth.githubclient.domain.model.CommitSummary;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import retrofit2.Response;
+
+/**
+ * Pages through the commit history of a branch via {@code repos/{owner}/{repo}/commits}, backed by
+ * a {@link CommitCache}.
+ * <p>
+ * A branch is first resolved to its head SHA with a conditional request. Later pages are then
+ * requested with {@code sha=<head>} rather than the branch name. A page number is a cursor into that
+ * fixed history, so a push during scrolling cannot shift or duplicate rows, and each page can be
+ * cached forever. Which page comes next is read from the {@code Link} header. Serving a page also
+ * prefetches the following one in the background.
+ */
+public final class CommitHistoryRepository {
+
+    public static final int PAGE_SIZE = 100;
+    private static final int HTTP_NOT_MODIFIED = 304;
+    private static final int HTTP_CONFLICT = 409;
+    private static final Pattern NEXT_PAGE =
+            Pattern.compile("<[^>]*[?&]page=(\\d+)[^>]*>\\s*;\\s*rel=\"next\"");
+
+    private final GithubApiService apiService;
+    private final CommitCache cache;
+    private final CommitMapper mapper;
+    private final Executor prefetchExecutor;
+    private final Set<String> prefetching = new HashSet<>();
+
+    public CommitHistoryRepository(GithubApiService apiService, CommitCache cache, CommitMapper mapper,
+                                   Executor prefetchExecutor) {
+        this.apiService = Objects.requireNonNull(apiService, "apiService == null");
+        this.cache = Objects.requireNonNull(cache, "cache == null");
+        this.mapper = Objects.requireNonNull(mapper, "mapper == null");
+        this.prefetchExecutor = Objects.requireNonNull(prefetchExecutor, "prefetchExecutor == null");
+    }
+
+    /** Head SHA of {@code branch} as of the last resolve, without a request; {@code null} if unknown. */
+    public String getCachedHead(String owner, String repo, String branch) {
+        CommitCache.RefValidator ref = cache.getRef(owner, repo, branch);
+        return ref == null ? null : ref.getHeadSha();
+    }
+
+    /**
+     * Page {@code pageIndex} of the history of {@code headSha} if it is cached, else {@code null}.
+     * Never sends a request.
+     */
+    public Page getCachedPage(String headSha, int pageIndex) throws IOException {
+        int start = pageIndex * PAGE_SIZE;
+        CommitCache.HistoryInfo info = cache.getHistory(headSha);
+        if (info == null || (start + PAGE_SIZE > info.getSize() && !info.isComplete())) {
+            return null;
+        }
+        List<CommitSummary> commits = cache.readHistory(headSha, start, PAGE_SIZE);
+        if (commits == null) {
+            return null;
+        }
+        return new Page(commits, start + commits.size() < info.getSize() || !info.isComplete());
+    }
+
+    /**
+     * Resolves {@code branch} to its current head SHA. The request is conditional on the last
+     * response, so an unchanged branch costs a free 304. Returns {@code null} for an empty
+     * repository.
+     */
+    public String resolveHead(String owner, String repo, String branch) throws IOException {
+        Objects.requireNonNull(owner, "owner == null");
+        Objects.requireNonNull(repo, "repo == null");
+        Objects.requireNonNull(branch, "branch == null");
+        CommitCache.RefValidator ref = cache.getRef(owner, repo, branch);
+        boolean cachedHistory = ref != null && cache.getHistory(ref.getHeadSha()) != null;
+        Response<List<CommitDto>> response = apiService.getCommits(owner, repo, branch, PAGE_SIZE, 1,
+                cachedHistory ? ref.getEtag() : null).execute();
+        if (response.code() == HTTP_NOT_MODIFIED && cachedHistory) {
+            return ref.getHeadSha();
+        }
+        if (response.code() == HTTP_CONFLICT) {
+            // GitHub answers 409 Conflict for a repository without commits.
+            return null;
+        }
+        List<CommitSummary> commits = mapPage(response, "Unable to load commits of " + owner + "/" + repo);
+        if (commits.isEmpty()) {
+            return null;
+        }
+        String head = commits.get(0).getSha();
+        // The first page of the branch is also the first page of its head's history.
+        cache.appendHistory(head, 0, commits, nextPage(response));
+        cache.putRef(owner, repo, branch, new CommitCache.RefValidator(response.headers().get("ETag"), head));
+        return head;
+    }
+
+    /**
+     * Page {@code pageIndex} of the history of {@code headSha}, from the cache or the network, and
+     * starts prefetching the page after it.
+     */
+    public Page loadPage(String owner, String repo, String headSha, int pageIndex) throws IOException {
+        Page page = fetchPage(owner, repo, headSha, pageIndex);
+        if (page.hasMore()) {
+            prefetch(owner, repo, headSha, pageIndex + 1);
+        }
+        return page;
+    }
+
+    private Page fetchPage(String owner, String repo, String headSha, int pageIndex) throws IOException {
+        Page cached = getCachedPage(headSha, pageIndex);
+        if (cached != null) {
+            return cached;
+        }
+        Response<List<CommitDto>> response = apiService.getCommits(
+                owner, repo, headSha, PAGE_SIZE, pageIndex + 1, null).execute();
+        List<CommitSummary> commits = mapPage(response, "Unable to load commits of " + owner + "/" + repo);
+        int nextPage = nextPage(response);
+        cache.appendHistory(headSha, pageIndex * PAGE_SIZE, commits, nextPage);
+        return new Page(commits, nextPage != 0);
+    }
+
+    private void prefetch(String owner, String repo, String headSha, int pageIndex) {
+        String key = headSha + '#' + pageIndex;
+        synchronized (prefetching) {
+            if (!prefetching.add(key)) {
+                return;
+            }
+        }
+        prefetchExecutor.execute(() -> {
+            try {
+                fetchPage(owner, repo, headSha, pageIndex);
+            } catch (IOException ignored) {
+                // Only a prefetch: the page is requested again when it is needed.
+            } finally {
+                synchronized (prefetching) {
+                    prefetching.remove(key);
+                }
+            }
+        });
+    }
+
+    private List<CommitSummary> mapPage(Response<List<CommitDto>> response, String errorMessage)
+            throws IOException {
+        if (!response.isSuccessful() || response.body() == null) {
+            throw buildException(errorMessage, response);
+        }
+        List<CommitSummary> commits = new ArrayList<>(response.body().size());
+        for (CommitDto dto : response.body()) {
+            CommitSummary commit = mapper.map(dto);
+            if (commit != null) {
+                commits.add(commit);
+            }
+        }
+        return commits;
+    }
+
+    /** Page number of the {@code rel="next"} link, or 0 on the last page. */
+    static int nextPage(Response<?> response) {
+        String link = response.headers().get("Link");
+        if (link == null) {
+            return 0;
+        }
+        Matcher matcher = NEXT_PAGE.matcher(link);
+        if (!matcher.find()) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(matcher.group(1));
+        } catch (NumberFormatException ignored) {
+            return 0;
+        }
+    }
+
+    private IOException buildException(String message, Response<?> response) {
+        String errorBody;
+        try {
+            errorBody = response != null && response.errorBody() != null
+                    ? response.errorBody().string()
+                    : null;
+        } catch (IOException ignored) {
+            errorBody = null;
+        }
+        if (errorBody == null || errorBody.isEmpty()) {
+            return new IOException(message);
+        }
+        return new IOException(message + ": " + errorBody);
+    }
+
+    /** One page of a history. */
+    public static final class Page {
+
+        private final List<CommitSummary> commits;
+        private final boolean hasMore;
+
+        Page(List<CommitSummary> commits, boolean hasMore) {
+            this.commits = commits;
+            this.hasMore = hasMore;
+        }
+
+        public List<CommitSummary> getCommits() {
+            return commits;
+        }
+
+        /** Whether older commits follow. */
+        public boolean hasMore() {
+            return hasMore;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.usth.githubclient.data.repository;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import com.usth.githubclient.data.local.ContributorStatsCache;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.remote.dto.ContributorStatsDto;
+import com.usth.githubclient.domain.mapper.ContributorStatsMapper;
+import com.usth.githubclient.domain.model.ContributorStats;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ResponseBody;
+import retrofit2.Response;
+
+/**
+ * Loads contributor leaderboards from {@code repos/{owner}/{repo}/stats/contributors}.
+ * <p>
+ * GitHub answers 202 while it computes the statistics in the background. The request is then
+ * repeated with exponential backoff: the shared poll scheduler only times the next attempt, and the
+ * request itself runs on an I/O executor, so neither a slow response nor a retry backoff holds up the
+ * other pollers. Every caller asking for the same repository meanwhile joins the one pending future,
+ * so two screens never poll side by side. Results are cached against the repository's {@code pushedAt}
+ * and only requested again once it moves.
+ */
+public final class ContributorStatsRepository {
+
+    static final long DEFAULT_INITIAL_DELAY_MILLIS = 1_000L;
+    static final long MAX_DELAY_MILLIS = 16_000L;
+    static final int DEFAULT_MAX_POLLS = 8;
+
+    private static final int HTTP_ACCEPTED = 202;
+    private static final int HTTP_NO_CONTENT = 204;
+    private static final Type DTO_LIST_TYPE = new TypeToken<List<ContributorStatsDto>>() { }.getType();
+
+    private final GithubApiService apiService;
+    private final ContributorStatsMapper mapper;
+    private final ContributorStatsCache cache;
+    private final ScheduledExecutorService scheduler;
+    private final Executor ioExecutor;
+    private final long initialDelayMillis;
+    private final int maxPolls;
+    private final Gson gson = new Gson();
+    private final Map<String, CompletableFuture<List<ContributorStats>>> inFlight = new ConcurrentHashMap<>();
+
+    public ContributorStatsRepository(GithubApiService apiService,
+                                      ContributorStatsMapper mapper,
+                                      ContributorStatsCache cache,
+                                      ScheduledExecutorService scheduler,
+                                      Executor ioExecutor) {
+        this(apiService, mapper, cache, scheduler, ioExecutor, DEFAULT_INITIAL_DELAY_MILLIS,
+                DEFAULT_MAX_POLLS);
+    }
+
+    public ContributorStatsRepository(GithubApiService apiService,
+                                      ContributorStatsMapper mapper,
+                                      ContributorStatsCache cache,
+                                      ScheduledExecutorService scheduler,
+                                      Executor ioExecutor,
+                                      long initialDelayMillis,
+                                      int maxPolls) {
+        if (initialDelayMillis <= 0L) {
+            throw new IllegalArgumentException("initialDelayMillis must be > 0");
+        }
+        if (maxPolls <= 0) {
+            throw new IllegalArgumentException("maxPolls must be > 0");
+        }
+        this.apiService = Objects.requireNonNull(apiService, "apiService == null");
+        this.mapper = Objects.requireNonNull(mapper, "mapper == null");
+        this.cache = Objects.requireNonNull(cache, "cache == null");
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler == null");
+        this.ioExecutor = Objects.requireNonNull(ioExecutor, "ioExecutor == null");
+        this.initialDelayMillis = initialDelayMillis;
+        this.maxPolls = maxPolls;
+    }
+
+    /** The cached leaderboard, or {@code null} if none was computed for this {@code pushedAt}. */
+    public List<ContributorStats> getCached(String owner, String repo, Instant pushedAt) {
+        ContributorStatsCache.Entry entry = cache.get(owner, repo);
+        return entry != null && entry.isCurrentFor(pushedAt) ? entry.getContributors() : null;
+    }
+
+    /**
+     * Returns the leaderboard of {@code owner/repo}, completing once GitHub has computed it. A
+     * request already pending for the repository is shared rather than repeated.
+     */
+    public CompletableFuture<List<ContributorStats>> load(String owner, String repo, Instant pushedAt) {
+        List<ContributorStats> cached = getCached(owner, repo, pushedAt);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        String key = (owner + '/' + repo).toLowerCase(Locale.ROOT);
+        CompletableFuture<List<ContributorStats>> created = new CompletableFuture<>();
+        CompletableFuture<List<ContributorStats>> pending = inFlight.putIfAbsent(key, created);
+        if (pending != null) {
+            return pending;
+        }
+        created.whenComplete((result, error) -> inFlight.remove(key, created));
+        startPoll(owner, repo, pushedAt, created, 1, initialDelayMillis);
+        return created;
+    }
+
+    /**
+     * Blocking form of {@link #load}. Interrupting the caller abandons the wait but not the shared
+     * poll, which other callers may still be joined to. Must not be called on the main thread.
+     */
+    public List<ContributorStats> fetch(String owner, String repo, Instant pushedAt) throws IOException {
+        try {
+            return load(owner, repo, pushedAt).get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Contributor statistics wait interrupted");
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Unable to load contributors of " + owner + "/" + repo, cause);
+        }
+    }
+
+    /** Hands one request to the I/O executor; never runs it on the caller's thread. */
+    private void startPoll(String owner, String repo, Instant pushedAt,
+                           CompletableFuture<List<ContributorStats>> result, int attempt, long delayMillis) {
+        try {
+            ioExecutor.execute(() -> poll(owner, repo, pushedAt, result, attempt, delayMillis));
+        } catch (RuntimeException exception) {
+            result.completeExceptionally(exception);
+        }
+    }
+
+    private void poll(String owner, String repo, Instant pushedAt,
+                      CompletableFuture<List<ContributorStats>> result, int attempt, long delayMillis) {
+        try {
+            Response<ResponseBody> response = apiService.getContributorStats(owner, repo).execute();
+            if (response.code() == HTTP_ACCEPTED) {
+                closeQuietly(response.body());
+                if (attempt >= maxPolls) {
+                    result.completeExceptionally(new IOException(
+                            "GitHub is still computing the contributors of " + owner + "/" + repo));
+                    return;
+                }
+                long nextDelay = Math.min(MAX_DELAY_MILLIS, delayMillis * 2);
+                scheduler.schedule(() -> startPoll(owner, repo, pushedAt, result, attempt + 1, nextDelay),
+                        delayMillis, TimeUnit.MILLISECONDS);
+                return;
+            }
+            List<ContributorStats> contributors;
+            if (response.code() == HTTP_NO_CONTENT) {
+                // An empty repository has no statistics to compute.
+                contributors = Collections.emptyList();
+            } else if (!response.isSuccessful() || response.body() == null) {
+                result.completeExceptionally(buildException(
+                        "Unable to load contributors of " + owner + "/" + repo, response));
+                return;
+            } else {
+                try (ResponseBody body = response.body()) {
+                    List<ContributorStatsDto> dtos = gson.fromJson(body.charStream(), DTO_LIST_TYPE);
+                    contributors = mapper.mapLeaderboard(dtos);
+                }
+            }
+            ContributorStatsCache.Entry entry = new ContributorStatsCache.Entry(pushedAt, contributors);
+            cache.put(owner, repo, entry);
+            result.complete(entry.getContributors());
+        } catch (IOException exception) {
+            result.completeExceptionally(exception);
+        } catch (JsonParseException exception) {
+            result.completeExceptionally(new IOException(
+                    "Malformed contributor statistics for " + owner + "/" + repo, exception));
+        } catch (RuntimeException exception) {
+            // Typically the scheduler rejecting the next poll after shutdown.
+            result.completeExceptionally(exception);
+        }
+    }
+
+    private static void closeQuietly(ResponseBody body) {
+        if (body != null) {
+            body.close();
+        }
+    }
+
+    private IOException buildException(String message, Response<?> response) {
+        String errorBody;
+        try {
+            errorBody = response != null && response.errorBody() != null
+                    ? response.errorBody().string()
+                    : null;
+        } catch (IOException ignored) {
+            errorBody = null;
+        }
+        if (errorBody == null || errorBody.isEmpty()) {
+            return new IOException(message);
+        }
+        return new IOException(message + ": " + errorBody);
+    }
+}
@@ -0,0 +1,201 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.EventFeedCache;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.remote.dto.EventDto;
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.mapper.EventMapper;
+import com.usth.githubclient.domain.model.FeedEvent;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import retrofit2.Call;
+import retrofit2.Response;
+
+/**
+ * Polls activity feeds the way GitHub asks clients to: every request carries the ETag of the last
+ * response, and the next request waits at least the {@code X-Poll-Interval} the server sent.
+ * <p>
+ * An unchanged feed is answered with a 304, which costs no rate limit and has no body, so nothing
+ * is parsed. Changed pages are merged into the feed's {@link com.usth.githubclient.data.local.EventRingBuffer},
+ * which drops events already seen.
+ */
+public final class EventFeedRepository {
+
+    /** Which feed of a user to poll. */
+    public enum Feed {
+        /** Events of the accounts and repositories the user watches. */
+        RECEIVED,
+        /** Events the user performed. */
+        PERFORMED
+    }
+
+    static final long DEFAULT_POLL_INTERVAL_SECONDS = 60L;
+    private static final int HTTP_NOT_MODIFIED = 304;
+    private static final int PER_PAGE = 100;
+
+    private final GithubApiService apiService;
+    private final EventFeedCache cache;
+    private final EventMapper mapper;
+    private final EventFeedStats stats;
+    private final Clock clock;
+
+    public EventFeedRepository(GithubApiService apiService, EventFeedCache cache, EventMapper mapper,
+                               EventFeedStats stats) {
+        this(apiService, cache, mapper, stats, Clock.systemUTC());
+    }
+
+    public EventFeedRepository(GithubApiService apiService, EventFeedCache cache, EventMapper mapper,
+                               EventFeedStats stats, Clock clock) {
+        this.apiService = Objects.requireNonNull(apiService, "apiService == null");
+        this.cache = Objects.requireNonNull(cache, "cache == null");
+        this.mapper = Objects.requireNonNull(mapper, "mapper == null");
+        this.stats = Objects.requireNonNull(stats, "stats == null");
+        this.clock = Objects.requireNonNull(clock, "clock == null");
+    }
+
+    public EventFeedStats getStats() {
+        return stats;
+    }
+
+    /** Events seen so far on {@code feed} of {@code username}, newest first, without a request. */
+    public PersistentList<FeedEvent> getCached(Feed feed, String username) {
+        EventFeedCache.Feed state = state(feed, username);
+        synchronized (state) {
+            return state.getEvents().snapshot();
+        }
+    }
+
+    /**
+     * Polls {@code feed} of {@code username}. When the poll interval has not elapsed yet no request
+     * is sent and the cached events are returned.
+     */
+    public PollResult poll(Feed feed, String username) throws IOException {
+        EventFeedCache.Feed state = state(feed, username);
+        synchronized (state.pollLock()) {
+            long now = clock.millis();
+            String etag;
+            synchronized (state) {
+                if (now < state.getNextPollAtMillis()) {
+                    stats.recordSkipped();
+                    return new PollResult(state.getEvents().snapshot(), 0, false, false,
+                            state.getNextPollAtMillis() - now);
+                }
+                etag = state.getEtag();
+            }
+            stats.recordPoll(now);
+            // Sent without the state's lock, which getCached() takes on the main thread.
+            Response<List<EventDto>> response = call(feed, username, etag).execute();
+            long intervalMillis = parsePollInterval(response.headers().get("X-Poll-Interval")) * 1000L;
+            if (response.code() == HTTP_NOT_MODIFIED) {
+                stats.recordNotModified();
+                synchronized (state) {
+                    state.setNextPollAtMillis(now + intervalMillis);
+                    return new PollResult(state.getEvents().snapshot(), 0, true, true, intervalMillis);
+                }
+            }
+            if (!response.isSuccessful() || response.body() == null) {
+                throw buildException("Unable to poll " + feed.name().toLowerCase(Locale.ROOT) + " events of "
+                        + username, response);
+            }
+            List<FeedEvent> page = new ArrayList<>(response.body().size());
+            for (EventDto dto : response.body()) {
+                FeedEvent event = mapper.map(dto);
+                if (event != null) {
+                    page.add(event);
+                }
+            }
+            synchronized (state) {
+                int added = state.getEvents().addAll(page);
+                stats.recordIngested(added);
+                state.setEtag(response.headers().get("ETag"));
+                state.setNextPollAtMillis(now + intervalMillis);
+                return new PollResult(state.getEvents().snapshot(), added, true, false, intervalMillis);
+            }
+        }
+    }
+
+    private EventFeedCache.Feed state(Feed feed, String username) {
+        Objects.requireNonNull(feed, "feed == null");
+        Objects.requireNonNull(username, "username == null");
+        return cache.feed(feed.name(), username);
+    }
+
+    private Call<List<EventDto>> call(Feed feed, String username, String etag) {
+        return feed == Feed.RECEIVED
+                ? apiService.getReceivedEvents(username, PER_PAGE, etag)
+                : apiService.getUserEvents(username, PER_PAGE, etag);
+    }
+
+    private static long parsePollInterval(String header) {
+        if (header == null) {
+            return DEFAULT_POLL_INTERVAL_SECONDS;
+        }
+        try {
+            long seconds = Long.parseLong(header.trim());
+            return seconds > 0L ? seconds : DEFAULT_POLL_INTERVAL_SECONDS;
+        } catch (NumberFormatException ignored) {
+            return DEFAULT_POLL_INTERVAL_SECONDS;
+        }
+    }
+
+    private IOException buildException(String message, Response<?> response) {
+        String errorBody;
+        try {
+            errorBody = response != null && response.errorBody() != null
+                    ? response.errorBody().string()
+                    : null;
+        } catch (IOException ignored) {
+            errorBody = null;
+        }
+        if (errorBody == null || errorBody.isEmpty()) {
+            return new IOException(message);
+        }
+        return new IOException(message + ": " + errorBody);
+    }
+
+    /** Outcome of one {@link #poll} call. */
+    public static final class PollResult {
+
+        private final PersistentList<FeedEvent> events;
+        private final int newEventCount;
+        private final boolean requested;
+        private final boolean notModified;
+        private final long nextPollDelayMillis;
+
+        PollResult(PersistentList<FeedEvent> events, int newEventCount, boolean requested,
+                   boolean notModified, long nextPollDelayMillis) {
+            this.events = events;
+            this.newEventCount = newEventCount;
+            this.requested = requested;
+            this.notModified = notModified;
+            this.nextPollDelayMillis = nextPollDelayMillis;
+        }
+
+        /** Every event held for the feed, newest first. */
+        public PersistentList<FeedEvent> getEvents() {
+            return events;
+        }
+
+        public int getNewEventCount() {
+            return newEventCount;
+        }
+
+        /** Whether a request was sent; false when the poll interval had not elapsed. */
+        public boolean isRequested() {
+            return requested;
+        }
+
+        public boolean isNotModified() {
+            return notModified;
+        }
+
+        /** How long to wait before polling again. */
+        public long getNextPollDelayMillis() {
+            return nextPollDelayMillis;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.usth.githubclient.data.repository;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts what feed polling costs and yields: requests sent, how many of them came back
+ * {@code 304 Not Modified} (free, and not parsed at all) and how many new events were ingested.
+ */
+public final class EventFeedStats {
+
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
+    private final AtomicLong polls = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong eventsIngested = new AtomicLong();
+    private final AtomicLong firstPollAtMillis = new AtomicLong(-1L);
+
+    void recordPoll(long nowMillis) {
+        firstPollAtMillis.compareAndSet(-1L, nowMillis);
+        polls.incrementAndGet();
+    }
+
+    void recordNotModified() {
+        notModified.incrementAndGet();
+    }
+
+    void recordSkipped() {
+        skipped.incrementAndGet();
+    }
+
+    void recordIngested(int count) {
+        eventsIngested.addAndGet(count);
+    }
+
+    /** Requests sent to GitHub. */
+    public long getPolls() {
+        return polls.get();
+    }
+
+    public long getNotModified() {
+        return notModified.get();
+    }
+
+    /** Polls answered locally because {@code X-Poll-Interval} had not elapsed yet. */
+    public long getSkipped() {
+        return skipped.get();
+    }
+
+    public long getEventsIngested() {
+        return eventsIngested.get();
+    }
+
+    /** Share of requests answered with a 304, or 0 before any request. */
+    public double getNotModifiedRate() {
+        long total = getPolls();
+        return total == 0 ? 0d : (double) getNotModified() / total;
+    }
+
+    /** New events per minute since the first request, or 0 before any request. */
+    public double getEventsIngestedPerMinute(long nowMillis) {
+        long first = firstPollAtMillis.get();
+        if (first < 0L) {
+            return 0d;
+        }
+        long elapsed = Math.max(MILLIS_PER_MINUTE, nowMillis - first);
+        return getEventsIngested() * (double) MILLIS_PER_MINUTE / elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return "EventFeedStats{polls=" + getPolls()
+                + ", notModified=" + getNotModified()
+                + ", skipped=" + getSkipped()
+                + ", eventsIngested=" + getEventsIngested() + '}';
+    }
+}
@@ -0,0 +1,108 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.domain.collection.LongIdSet;
+import com.usth.githubclient.domain.model.FollowAnalytics;
+import com.usth.githubclient.domain.model.FollowerDiff;
+import com.usth.githubclient.domain.model.GitHubUserProfileDataEntry;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Computes and caches {@link FollowAnalytics} per user.
+ * <p>
+ * Follower ids come from {@link FollowerSyncRepository}, which also reports what changed since the
+ * last sync; when the cached result was built from the previous snapshot only that diff is applied.
+ * Following ids are fetched in full because the list is usually small and GitHub offers no cheaper
+ * way to detect changes.
+ */
+public final class FollowAnalyticsRepository {
+
+    private static final int MAX_PER_PAGE = 100;
+    private static final int MAX_PAGES = 1_000;
+
+    private final UserRepository userRepository;
+    private final FollowerSyncRepository followerSyncRepository;
+    private final Clock clock;
+    private final Map<String, FollowAnalytics> cache = new HashMap<>();
+
+    public FollowAnalyticsRepository(UserRepository userRepository,
+                                     FollowerSyncRepository followerSyncRepository) {
+        this(userRepository, followerSyncRepository, Clock.systemUTC());
+    }
+
+    public FollowAnalyticsRepository(UserRepository userRepository,
+                                     FollowerSyncRepository followerSyncRepository,
+                                     Clock clock) {
+        this.userRepository = Objects.requireNonNull(userRepository, "userRepository == null");
+        this.followerSyncRepository =
+                Objects.requireNonNull(followerSyncRepository, "followerSyncRepository == null");
+        this.clock = Objects.requireNonNull(clock, "clock == null");
+    }
+
+    /** Returns the cached analytics for {@code username}, or {@code null} if never computed. */
+    public synchronized FollowAnalytics getCached(String username) {
+        return cache.get(key(username));
+    }
+
+    public FollowAnalytics refresh(String username) throws IOException {
+        return refresh(username, null);
+    }
+
+    /**
+     * Syncs followers and following, then returns up-to-date analytics. When the cached result was
+     * built from the previous follower snapshot, only the follower diff is applied. {@code listener},
+     * if any, sees each follower page as it is diffed.
+     */
+    public FollowAnalytics refresh(String username, FollowerSyncRepository.PageListener listener)
+            throws IOException {
+        LongIdSet previousFollowers = followerSyncRepository.getSnapshot(username);
+        FollowerDiff diff = followerSyncRepository.sync(username, listener);
+        LongIdSet following = fetchFollowingIds(username);
+
+        FollowAnalytics cached = getCached(username);
+        FollowAnalytics result;
+        if (cached != null && !diff.isBaseline() && cached.getFollowers().equals(previousFollowers)) {
+            result = cached.withFollowerChanges(diff.getAdded(), diff.getRemoved(), clock.instant());
+            if (!result.getFollowing().equals(following)) {
+                result = FollowAnalytics.compute(username, result.getFollowers(), following, clock.instant());
+            }
+        } else {
+            result = FollowAnalytics.compute(
+                    username, followerSyncRepository.getSnapshot(username), following, clock.instant());
+        }
+        store(result);
+        return result;
+    }
+
+    public synchronized void invalidate(String username) {
+        cache.remove(key(username));
+    }
+
+    private synchronized void store(FollowAnalytics analytics) {
+        cache.put(key(analytics.getUsername()), analytics);
+    }
+
+    private LongIdSet fetchFollowingIds(String username) throws IOException {
+        LongIdSet.Builder ids = LongIdSet.builder(MAX_PER_PAGE);
+        for (int page = 1; page <= MAX_PAGES; page++) {
+            List<GitHubUserProfileDataEntry> following =
+                    userRepository.fetchFollowing(username, MAX_PER_PAGE, page);
+            for (GitHubUserProfileDataEntry entry : following) {
+                ids.add(entry.getId());
+            }
+            if (following.size() < MAX_PER_PAGE) {
+                break;
+            }
+        }
+        return ids.build();
+    }
+
+    private static String key(String username) {
+        return Objects.requireNonNull(username, "username == null").toLowerCase(Locale.ROOT);
+    }
+}
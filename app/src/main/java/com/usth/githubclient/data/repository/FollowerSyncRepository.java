@@ -0,0 +1,150 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.FollowerSnapshotStore;
+import com.usth.githubclient.domain.collection.LongIdSet;
+import com.usth.githubclient.domain.model.FollowerChange;
+import com.usth.githubclient.domain.model.FollowerDiff;
+import com.usth.githubclient.domain.model.GitHubUserProfileDataEntry;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Walks every follower page of a user through {@link UserRepository#fetchFollowers(String, int, int)}
+ * and diffs it against the last snapshot held by {@link FollowerSnapshotStore}.
+ * <p>
+ * Each page is compared as soon as it arrives, so newcomers are known before the walk finishes and
+ * no page is kept once its ids have been recorded. Unfollows can only be decided after the last page,
+ * so a walk cut off at {@link #MAX_PAGES} reports none and keeps the unseen ids in the snapshot.
+ */
+public final class FollowerSyncRepository {
+
+    private static final int MAX_PER_PAGE = 100;
+    static final int MAX_PAGES = 1_000;
+
+    private final UserRepository userRepository;
+    private final FollowerSnapshotStore snapshotStore;
+    private final Clock clock;
+    private final int maxPages;
+
+    public FollowerSyncRepository(UserRepository userRepository, FollowerSnapshotStore snapshotStore) {
+        this(userRepository, snapshotStore, Clock.systemUTC());
+    }
+
+    public FollowerSyncRepository(UserRepository userRepository,
+                                  FollowerSnapshotStore snapshotStore,
+                                  Clock clock) {
+        this(userRepository, snapshotStore, clock, MAX_PAGES);
+    }
+
+    FollowerSyncRepository(UserRepository userRepository,
+                           FollowerSnapshotStore snapshotStore,
+                           Clock clock,
+                           int maxPages) {
+        this.userRepository = Objects.requireNonNull(userRepository, "userRepository == null");
+        this.snapshotStore = Objects.requireNonNull(snapshotStore, "snapshotStore == null");
+        this.clock = Objects.requireNonNull(clock, "clock == null");
+        if (maxPages < 1) {
+            throw new IllegalArgumentException("maxPages must be >= 1");
+        }
+        this.maxPages = maxPages;
+    }
+
+    public FollowerDiff sync(String username) throws IOException {
+        return sync(username, null);
+    }
+
+    /**
+     * Fetches all follower pages, records the resulting changes and commits the new snapshot. The
+     * snapshot is left untouched if any page fails.
+     */
+    public FollowerDiff sync(String username, PageListener listener) throws IOException {
+        Objects.requireNonNull(username, "username == null");
+        LongIdSet previous = snapshotStore.getSnapshot(username);
+        boolean baseline = previous == null;
+        LongIdSet known = baseline ? LongIdSet.empty() : previous;
+
+        LongIdSet.Builder seen = LongIdSet.builder(known.isEmpty() ? MAX_PER_PAGE : known.size());
+        // Logins are only remembered for newcomers so that the change log can name them.
+        Map<Long, String> newcomerLogins = new HashMap<>();
+
+        boolean complete = false;
+        for (int page = 1; page <= maxPages; page++) {
+            List<GitHubUserProfileDataEntry> followers =
+                    userRepository.fetchFollowers(username, MAX_PER_PAGE, page);
+            LongIdSet.Builder pageIds = LongIdSet.builder(followers.size());
+            for (GitHubUserProfileDataEntry follower : followers) {
+                long id = follower.getId();
+                seen.add(id);
+                pageIds.add(id);
+                if (!baseline && !known.contains(id)) {
+                    newcomerLogins.put(id, follower.getUsername());
+                }
+            }
+            if (listener != null) {
+                LongIdSet pageSet = pageIds.build();
+                listener.onPageDiffed(page, pageSet.size(),
+                        baseline ? LongIdSet.empty() : pageSet.difference(known));
+            }
+            if (followers.size() < MAX_PER_PAGE) {
+                complete = true;
+                break;
+            }
+        }
+
+        LongIdSet current = seen.build();
+        Instant now = clock.instant();
+        if (baseline) {
+            snapshotStore.putSnapshot(username, current);
+            return new FollowerDiff(username, LongIdSet.empty(), LongIdSet.empty(),
+                    new ArrayList<>(), current.size(), true, now);
+        }
+
+        LongIdSet added = current.difference(known);
+        LongIdSet removed;
+        if (complete) {
+            removed = known.difference(current);
+        } else {
+            // The unseen ids may sit on the pages past the cap; keep them rather than guess.
+            removed = LongIdSet.empty();
+            current = current.union(known);
+        }
+        List<FollowerChange> changes = new ArrayList<>(added.size() + removed.size());
+        for (int i = 0; i < added.size(); i++) {
+            long id = added.get(i);
+            changes.add(new FollowerChange(id, newcomerLogins.get(id), FollowerChange.Type.FOLLOWED, now));
+        }
+        for (int i = 0; i < removed.size(); i++) {
+            changes.add(new FollowerChange(removed.get(i), null, FollowerChange.Type.UNFOLLOWED, now));
+        }
+
+        for (FollowerChange change : changes) {
+            snapshotStore.appendChange(username, change);
+        }
+        snapshotStore.putSnapshot(username, current);
+        return new FollowerDiff(username, added, removed, changes, current.size(), false, now);
+    }
+
+    /** Last committed follower ids of {@code username}; empty if it was never synced. */
+    public LongIdSet getSnapshot(String username) {
+        LongIdSet snapshot = snapshotStore.getSnapshot(username);
+        return snapshot == null ? LongIdSet.empty() : snapshot;
+    }
+
+    public List<FollowerChange> getChangeLog(String username) {
+        return snapshotStore.getChangeLog(username);
+    }
+
+    /**
+     * Receives the per-page diff while a sync is running. {@code newIds} holds the ids on this page
+     * that were not part of the previous snapshot.
+     */
+    public interface PageListener {
+        void onPageDiffed(int page, int pageSize, LongIdSet newIds);
+    }
+}
@@ -0,0 +1,114 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.GitObjectCache;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.remote.dto.GitTreeDto;
+import com.usth.githubclient.domain.mapper.GitTreeMapper;
+import com.usth.githubclient.domain.model.GitTree;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import okhttp3.ResponseBody;
+import retrofit2.Response;
+
+/**
+ * Lazily browses repository contents one directory at a time through {@code git/trees} and
+ * {@code git/blobs}, backed by a {@link GitObjectCache}.
+ * <p>
+ * Objects addressed by SHA never change, so cached trees and blobs are served without any
+ * request. Only the root, which is addressed by branch, is revalidated with its ETag.
+ */
+public final class GitContentRepository {
+
+    private static final int HTTP_NOT_MODIFIED = 304;
+
+    private final GithubApiService apiService;
+    private final GitObjectCache cache;
+    private final GitTreeMapper mapper;
+
+    public GitContentRepository(GithubApiService apiService, GitObjectCache cache, GitTreeMapper mapper) {
+        this.apiService = Objects.requireNonNull(apiService, "apiService == null");
+        this.cache = Objects.requireNonNull(cache, "cache == null");
+        this.mapper = Objects.requireNonNull(mapper, "mapper == null");
+    }
+
+    /** Top-level directory of {@code ref}, usually the default branch. */
+    public GitTree fetchRootTree(String owner, String repo, String ref) throws IOException {
+        Objects.requireNonNull(owner, "owner == null");
+        Objects.requireNonNull(repo, "repo == null");
+        Objects.requireNonNull(ref, "ref == null");
+
+        GitObjectCache.RefValidator validator = cache.getRef(owner, repo, ref);
+        GitTree cached = validator == null ? null : cache.getTree(validator.getTreeSha());
+        Response<GitTreeDto> response = apiService.getTree(
+                owner, repo, ref, cached == null ? null : validator.getEtag()).execute();
+        if (response.code() == HTTP_NOT_MODIFIED && cached != null) {
+            return cached;
+        }
+        GitTree tree = mapTree(response, "Unable to list " + owner + "/" + repo + "@" + ref);
+        cache.putRef(owner, repo, ref,
+                new GitObjectCache.RefValidator(response.headers().get("ETag"), tree.getSha()));
+        return tree;
+    }
+
+    /** Directory {@code treeSha}; served from the cache without a request when present. */
+    public GitTree fetchTree(String owner, String repo, String treeSha) throws IOException {
+        GitTree cached = cache.getTree(treeSha);
+        if (cached != null) {
+            return cached;
+        }
+        Response<GitTreeDto> response = apiService.getTree(owner, repo, treeSha, null).execute();
+        return mapTree(response, "Unable to list tree " + treeSha + " of " + owner + "/" + repo);
+    }
+
+    /**
+     * Returns a local file with the contents of blob {@code sha}, downloading it into the cache
+     * first if needed. The download is streamed to disk, so blob size does not affect memory use.
+     */
+    public File fetchBlob(String owner, String repo, String sha) throws IOException {
+        File cached = cache.getBlob(sha);
+        if (cached != null) {
+            return cached;
+        }
+        Response<ResponseBody> response = apiService.getBlob(owner, repo, sha).execute();
+        ResponseBody body = response.body();
+        if (!response.isSuccessful() || body == null) {
+            throw buildException("Unable to fetch blob " + sha + " of " + owner + "/" + repo, response);
+        }
+        try (InputStream content = body.byteStream()) {
+            return cache.putBlob(sha, content);
+        } finally {
+            body.close();
+        }
+    }
+
+    private GitTree mapTree(Response<GitTreeDto> response, String errorMessage) throws IOException {
+        if (!response.isSuccessful() || response.body() == null) {
+            throw buildException(errorMessage, response);
+        }
+        GitTree tree;
+        try {
+            tree = mapper.map(response.body());
+        } catch (IllegalArgumentException exception) {
+            throw new IOException(errorMessage, exception);
+        }
+        cache.putTree(tree);
+        return tree;
+    }
+
+    private IOException buildException(String message, Response<?> response) {
+        String errorBody;
+        try {
+            errorBody = response != null && response.errorBody() != null
+                    ? response.errorBody().string()
+                    : null;
+        } catch (IOException ignored) {
+            errorBody = null;
+        }
+        if (errorBody == null || errorBody.isEmpty()) {
+            return new IOException(message);
+        }
+        return new IOException(message + ": " + errorBody);
+    }
+}
@@ -0,0 +1,190 @@
+package com.usth.githubclient.data.repository;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.usth.githubclient.data.remote.GithubGraphQlService;
+import com.usth.githubclient.data.remote.dto.GraphQlRepoDto;
+import com.usth.githubclient.data.remote.dto.GraphQlRequest;
+import com.usth.githubclient.data.remote.dto.GraphQlUserDto;
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.mapper.RepoMapper;
+import com.usth.githubclient.domain.mapper.UserMapper;
+import com.usth.githubclient.domain.model.GitHubUserProfileDataEntry;
+import com.usth.githubclient.domain.model.MainScreenSnapshot;
+import com.usth.githubclient.domain.model.ReposDataEntry;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import retrofit2.Response;
+
+/**
+ * Repository issuing batched GitHub GraphQL v4 queries.
+ */
+public final class GraphQlRepository {
+
+    /** GitHub caps the number of top-level nodes per query; 100 keeps the query cost at 1 point. */
+    public static final int MAX_BATCH_SIZE = 100;
+
+    // Connections are aliased because UserFields already selects followers/repositories totals.
+    private static final String MAIN_SCREEN_QUERY =
+            "query($login: String!, $repos: Int!, $followers: Int!) { "
+                    + "user(login: $login) { ...UserFields "
+                    + "repoPage: repositories(first: $repos, privacy: PUBLIC, ownerAffiliations: OWNER, "
+                    + "orderBy: {field: UPDATED_AT, direction: DESC}) { nodes { " + GraphQlRepoDto.FIELDS + " } } "
+                    + "followerPage: followers(first: $followers) { nodes { ...UserFields } } } } "
+                    + "fragment UserFields on User { " + GraphQlUserDto.FIELDS + " }";
+
+    private final GithubGraphQlService service;
+    private final UserMapper userMapper;
+    private final RepoMapper repoMapper;
+    private final Gson gson = new Gson();
+
+    public GraphQlRepository(GithubGraphQlService service, UserMapper userMapper) {
+        this(service, userMapper, new RepoMapper(userMapper));
+    }
+
+    public GraphQlRepository(GithubGraphQlService service, UserMapper userMapper, RepoMapper repoMapper) {
+        this.service = Objects.requireNonNull(service, "service == null");
+        this.userMapper = Objects.requireNonNull(userMapper, "userMapper == null");
+        this.repoMapper = Objects.requireNonNull(repoMapper, "repoMapper == null");
+    }
+
+    /**
+     * Fetches the profile, the {@code repoCount} most recently updated public repositories and the
+     * first {@code followerCount} followers of {@code login} in one request, selecting only the
+     * fields the domain models use.
+     */
+    public MainScreenSnapshot fetchMainScreen(String login, int repoCount, int followerCount)
+            throws IOException {
+        Objects.requireNonNull(login, "login == null");
+        if (repoCount < 0 || repoCount > MAX_BATCH_SIZE || followerCount < 0 || followerCount > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Page sizes must be within 0.." + MAX_BATCH_SIZE);
+        }
+        Map<String, Object> variables = new LinkedHashMap<>();
+        variables.put("login", login);
+        variables.put("repos", repoCount);
+        variables.put("followers", followerCount);
+
+        JsonObject data = execute(new GraphQlRequest(MAIN_SCREEN_QUERY, variables),
+                "Unable to fetch main screen data for " + login);
+        JsonElement userElement = data.get("user");
+        if (userElement == null || !userElement.isJsonObject()) {
+            throw new IOException("User " + login + " not found");
+        }
+        JsonObject user = userElement.getAsJsonObject();
+        GitHubUserProfileDataEntry profile = userMapper.map(gson.fromJson(user, GraphQlUserDto.class));
+
+        JsonArray repoNodes = nodesOf(user, "repoPage");
+        PersistentList.Builder<ReposDataEntry> repositories = PersistentList.builder();
+        for (JsonElement node : repoNodes) {
+            if (node.isJsonObject()) {
+                repositories.add(repoMapper.map(gson.fromJson(node, GraphQlRepoDto.class)));
+            }
+        }
+
+        JsonArray followerNodes = nodesOf(user, "followerPage");
+        PersistentList.Builder<GitHubUserProfileDataEntry> followers = PersistentList.builder();
+        for (JsonElement node : followerNodes) {
+            if (node.isJsonObject()) {
+                followers.add(userMapper.map(gson.fromJson(node, GraphQlUserDto.class)));
+            }
+        }
+        return new MainScreenSnapshot(profile, repositories.build(), followers.build());
+    }
+
+    /**
+     * Fetches full profiles for up to {@link #MAX_BATCH_SIZE} logins in one request. Logins that do
+     * not resolve to a user are simply missing from the result.
+     */
+    public List<GitHubUserProfileDataEntry> fetchProfiles(List<String> logins) throws IOException {
+        if (logins == null || logins.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (logins.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " logins per batch");
+        }
+
+        StringBuilder declarations = new StringBuilder();
+        StringBuilder selections = new StringBuilder();
+        Map<String, Object> variables = new LinkedHashMap<>();
+        for (int i = 0; i < logins.size(); i++) {
+            String variable = "l" + i;
+            if (i > 0) {
+                declarations.append(", ");
+            }
+            declarations.append('$').append(variable).append(": String!");
+            selections.append("u").append(i).append(": user(login: $").append(variable)
+                    .append(") { ...UserFields } ");
+            variables.put(variable, logins.get(i));
+        }
+        String query = "query(" + declarations + ") { " + selections + "} "
+                + "fragment UserFields on User { " + GraphQlUserDto.FIELDS + " }";
+
+        JsonObject data = execute(new GraphQlRequest(query, variables), "Unable to fetch profiles");
+        List<GitHubUserProfileDataEntry> profiles = new ArrayList<>(logins.size());
+        for (int i = 0; i < logins.size(); i++) {
+            JsonElement element = data.get("u" + i);
+            if (element != null && element.isJsonObject()) {
+                profiles.add(userMapper.map(gson.fromJson(element, GraphQlUserDto.class)));
+            }
+        }
+        return profiles;
+    }
+
+    /** Executes {@code request} and returns its {@code data} object. */
+    private JsonObject execute(GraphQlRequest request, String failureMessage) throws IOException {
+        Response<JsonObject> response = service.query(request).execute();
+        if (!response.isSuccessful() || response.body() == null) {
+            throw buildException(failureMessage, response);
+        }
+        JsonObject body = response.body();
+        JsonElement data = body.get("data");
+        if (data == null || !data.isJsonObject()) {
+            throw new IOException(failureMessage + ": " + describeErrors(body));
+        }
+        return data.getAsJsonObject();
+    }
+
+    private JsonArray nodesOf(JsonObject parent, String connection) {
+        JsonElement element = parent.get(connection);
+        if (element != null && element.isJsonObject()) {
+            JsonElement nodes = element.getAsJsonObject().get("nodes");
+            if (nodes != null && nodes.isJsonArray()) {
+                return nodes.getAsJsonArray();
+            }
+        }
+        return new JsonArray();
+    }
+
+    private String describeErrors(JsonObject body) {
+        JsonElement errors = body.get("errors");
+        if (errors != null && errors.isJsonArray()) {
+            JsonArray array = errors.getAsJsonArray();
+            if (array.size() > 0 && array.get(0).isJsonObject()) {
+                JsonElement message = array.get(0).getAsJsonObject().get("message");
+                if (message != null && !message.isJsonNull()) {
+                    return message.getAsString();
+                }
+            }
+        }
+        return "empty response";
+    }
+
+    private IOException buildException(String message, Response<?> response) {
+        String errorBody = null;
+        try {
+            if (response != null && response.errorBody() != null) {
+                errorBody = response.errorBody().string();
+            }
+        } catch (IOException ignored) { }
+        return (errorBody == null || errorBody.isEmpty())
+                ? new IOException(message)
+                : new IOException(message + ": " + errorBody);
+    }
+}
@@ -0,0 +1,149 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.IssueStore;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.remote.dto.IssueDto;
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.mapper.IssueMapper;
+import com.usth.githubclient.domain.model.IssueSummary;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import retrofit2.Response;
+
+/**
+ * Keeps the {@link IssueStore} copy of a repository's open issues and pull requests in sync.
+ * <p>
+ * The first sync downloads every open item, sized by the repository's open issue count. Later
+ * syncs ask only for items updated since the previous sync started, in any state, and upsert them:
+ * closed items leave the store, so a quiet repository costs one short page. The watermark is the
+ * server's {@code Date}, so a wrong device clock cannot skip updates.
+ */
+public final class IssueRepository {
+
+    static final int PER_PAGE = 100;
+    private static final String STATE_OPEN = "open";
+    private static final String STATE_ALL = "all";
+    private static final String SORT_UPDATED = "updated";
+
+    private final GithubApiService apiService;
+    private final IssueStore store;
+    private final IssueMapper mapper;
+    private final Clock clock;
+
+    public IssueRepository(GithubApiService apiService, IssueStore store, IssueMapper mapper) {
+        this(apiService, store, mapper, Clock.systemUTC());
+    }
+
+    public IssueRepository(GithubApiService apiService, IssueStore store, IssueMapper mapper, Clock clock) {
+        this.apiService = Objects.requireNonNull(apiService, "apiService == null");
+        this.store = Objects.requireNonNull(store, "store == null");
+        this.mapper = Objects.requireNonNull(mapper, "mapper == null");
+        this.clock = Objects.requireNonNull(clock, "clock == null");
+    }
+
+    /** Stored issues of the repository, most recently updated first. Never sends a request. */
+    public PersistentList<IssueSummary> getCachedIssues(String owner, String repo) throws IOException {
+        return store.snapshot(owner, repo);
+    }
+
+    /**
+     * Brings the stored issues of {@code owner/repo} up to date. {@code openIssuesCount}, the
+     * repository's {@code open_issues_count}, sizes a first sync; it is not trusted to end one.
+     */
+    public synchronized SyncResult sync(String owner, String repo, int openIssuesCount) throws IOException {
+        Objects.requireNonNull(owner, "owner == null");
+        Objects.requireNonNull(repo, "repo == null");
+        Instant since = store.getWatermark(owner, repo);
+        boolean full = since == null;
+        if (full) {
+            store.beginFullSync(owner, repo, openIssuesCount);
+        }
+        Instant watermark = null;
+        int changed = 0;
+        int requests = 0;
+        for (int page = 1; ; page++) {
+            // Sorted newest first, so items updated while paging move ahead and are not skipped.
+            Response<List<IssueDto>> response = apiService.getIssues(owner, repo,
+                    full ? STATE_OPEN : STATE_ALL, full ? null : since.toString(), SORT_UPDATED,
+                    PER_PAGE, page).execute();
+            requests++;
+            if (!response.isSuccessful() || response.body() == null) {
+                throw buildException("Unable to load issues of " + owner + "/" + repo, response);
+            }
+            if (watermark == null) {
+                Date date = response.headers().getDate("Date");
+                watermark = date == null ? clock.instant() : Instant.ofEpochMilli(date.getTime());
+            }
+            List<IssueSummary> issues = new ArrayList<>(response.body().size());
+            for (IssueDto dto : response.body()) {
+                IssueSummary issue = mapper.map(dto);
+                if (issue != null) {
+                    issues.add(issue);
+                }
+            }
+            changed += store.upsert(owner, repo, issues);
+            if (response.body().size() < PER_PAGE) {
+                break;
+            }
+        }
+        // Only a sync that reached its last page moves the watermark; an interrupted first sync
+        // starts over.
+        store.setWatermark(owner, repo, watermark);
+        return new SyncResult(store.snapshot(owner, repo), changed, full, requests);
+    }
+
+    private IOException buildException(String message, Response<?> response) {
+        String errorBody;
+        try {
+            errorBody = response != null && response.errorBody() != null
+                    ? response.errorBody().string()
+                    : null;
+        } catch (IOException ignored) {
+            errorBody = null;
+        }
+        if (errorBody == null || errorBody.isEmpty()) {
+            return new IOException(message);
+        }
+        return new IOException(message + ": " + errorBody);
+    }
+
+    /** Outcome of one {@link #sync} call. */
+    public static final class SyncResult {
+
+        private final PersistentList<IssueSummary> issues;
+        private final int changedCount;
+        private final boolean full;
+        private final int requestCount;
+
+        SyncResult(PersistentList<IssueSummary> issues, int changedCount, boolean full, int requestCount) {
+            this.issues = issues;
+            this.changedCount = changedCount;
+            this.full = full;
+            this.requestCount = requestCount;
+        }
+
+        /** Every stored issue, most recently updated first. */
+        public PersistentList<IssueSummary> getIssues() {
+            return issues;
+        }
+
+        /** Issues added, changed or removed by this sync. */
+        public int getChangedCount() {
+            return changedCount;
+        }
+
+        /** Whether this was a first, full download rather than an incremental one. */
+        public boolean isFull() {
+            return full;
+        }
+
+        public int getRequestCount() {
+            return requestCount;
+        }
+    }
+}
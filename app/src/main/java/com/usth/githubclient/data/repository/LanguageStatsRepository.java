@@ -0,0 +1,279 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.RepoLanguageCache;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.remote.RateLimitBudget;
+import com.usth.githubclient.domain.model.LanguageStats;
+import com.usth.githubclient.domain.model.ReposDataEntry;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import retrofit2.Response;
+
+/**
+ * Aggregates {@code repos/{owner}/{repo}/languages} byte counts across a user's repositories.
+ * <p>
+ * Languages are cached per repository together with the {@code pushedAt} they were fetched for,
+ * so a refresh only requests repositories pushed to since; those requests carry the previous ETag
+ * and usually come back as a free 304. Fetches run on a bounded pool whose width follows
+ * {@link RateLimitBudget#recommendedConcurrency(int, long)}, and results are merged on the calling
+ * thread. Per-user totals are patched with the difference of each changed repository instead of
+ * being summed again.
+ */
+public final class LanguageStatsRepository {
+
+    private static final int HTTP_NOT_MODIFIED = 304;
+
+    private final GithubApiService apiService;
+    private final RepoLanguageCache cache;
+    private final RateLimitBudget budget;
+    private final Clock clock;
+    private final int maxConcurrency;
+    private final ExecutorService executor;
+    private final Map<String, Aggregate> aggregates = new HashMap<>();
+
+    public LanguageStatsRepository(GithubApiService apiService,
+                                   RepoLanguageCache cache,
+                                   RateLimitBudget budget,
+                                   int maxConcurrency) {
+        this(apiService, cache, budget, maxConcurrency, Clock.systemUTC());
+    }
+
+    public LanguageStatsRepository(GithubApiService apiService,
+                                   RepoLanguageCache cache,
+                                   RateLimitBudget budget,
+                                   int maxConcurrency,
+                                   Clock clock) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be > 0");
+        }
+        this.apiService = Objects.requireNonNull(apiService, "apiService == null");
+        this.cache = Objects.requireNonNull(cache, "cache == null");
+        this.budget = Objects.requireNonNull(budget, "budget == null");
+        this.clock = Objects.requireNonNull(clock, "clock == null");
+        this.maxConcurrency = maxConcurrency;
+        this.executor = Executors.newFixedThreadPool(maxConcurrency);
+    }
+
+    /** Returns the last computed stats for {@code username}, or {@code null} if never computed. */
+    public LanguageStats getCached(String username) {
+        Aggregate aggregate = aggregateFor(username, false);
+        if (aggregate == null) {
+            return null;
+        }
+        synchronized (aggregate) {
+            return aggregate.lastStats;
+        }
+    }
+
+    /**
+     * Brings the stats for {@code username} up to date with {@code repositories}, fetching
+     * languages only for repositories that are new or were pushed to since they were cached.
+     * Repositories that cannot be fetched keep their last known numbers.
+     */
+    public LanguageStats refresh(String username, List<ReposDataEntry> repositories) throws IOException {
+        Objects.requireNonNull(username, "username == null");
+        Objects.requireNonNull(repositories, "repositories == null");
+
+        Map<Long, Map<String, Long>> current = new HashMap<>(repositories.size() * 2);
+        List<ReposDataEntry> stale = new ArrayList<>();
+        for (ReposDataEntry repository : repositories) {
+            RepoLanguageCache.Entry entry = cache.get(repository.getId());
+            if (entry != null && entry.isCurrentFor(repository.getPushedAt().orElse(null))) {
+                current.put(repository.getId(), entry.getLanguages());
+            } else {
+                stale.add(repository);
+            }
+        }
+
+        int incomplete = fetchStale(stale, current);
+
+        Aggregate aggregate = aggregateFor(username, true);
+        synchronized (aggregate) {
+            aggregate.update(current);
+            aggregate.lastStats = aggregate.snapshot(
+                    username, repositories.size(), incomplete, clock.instant());
+            return aggregate.lastStats;
+        }
+    }
+
+    public synchronized void invalidate(String username) {
+        aggregates.remove(key(username));
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Fetches {@code stale} into {@link #cache} and {@code current}. Returns how many could not be
+     * fetched; those fall back to their previous cache entry when there is one.
+     */
+    private int fetchStale(List<ReposDataEntry> stale, Map<Long, Map<String, Long>> current)
+            throws IOException {
+        CompletionService<Fetched> completion = new ExecutorCompletionService<>(executor);
+        int next = 0;
+        int inFlight = 0;
+        int incomplete = 0;
+        while (next < stale.size() || inFlight > 0) {
+            int allowed = budget.recommendedConcurrency(maxConcurrency, clock.millis());
+            while (next < stale.size() && inFlight < allowed) {
+                ReposDataEntry repository = stale.get(next++);
+                completion.submit(() -> fetch(repository));
+                inFlight++;
+            }
+            if (inFlight == 0) {
+                // Only the reserve is left: leave the rest for a later refresh.
+                for (; next < stale.size(); next++) {
+                    incomplete += fallBack(stale.get(next), current);
+                }
+                break;
+            }
+            Fetched fetched = awaitNext(completion);
+            inFlight--;
+            if (fetched.entry != null) {
+                cache.put(fetched.repository.getId(), fetched.entry);
+                current.put(fetched.repository.getId(), fetched.entry.getLanguages());
+            } else {
+                incomplete += fallBack(fetched.repository, current);
+            }
+        }
+        return incomplete;
+    }
+
+    private int fallBack(ReposDataEntry repository, Map<Long, Map<String, Long>> current) {
+        RepoLanguageCache.Entry previous = cache.get(repository.getId());
+        if (previous != null) {
+            current.put(repository.getId(), previous.getLanguages());
+        }
+        return 1;
+    }
+
+    private Fetched fetch(ReposDataEntry repository) {
+        String owner = repository.getOwnerLogin().orElse(null);
+        Instant pushedAt = repository.getPushedAt().orElse(null);
+        if (owner == null) {
+            return new Fetched(repository, null);
+        }
+        RepoLanguageCache.Entry previous = cache.get(repository.getId());
+        try {
+            Response<Map<String, Long>> response = apiService.getRepositoryLanguages(
+                    owner, repository.getName(), previous == null ? null : previous.getEtag()).execute();
+            if (response.code() == HTTP_NOT_MODIFIED && previous != null) {
+                return new Fetched(repository, previous.revalidated(pushedAt));
+            }
+            if (response.isSuccessful() && response.body() != null) {
+                return new Fetched(repository, new RepoLanguageCache.Entry(
+                        pushedAt, response.headers().get("ETag"), response.body()));
+            }
+        } catch (IOException | RuntimeException ignored) {
+            // Reported as incomplete by the caller.
+        }
+        return new Fetched(repository, null);
+    }
+
+    private Fetched awaitNext(CompletionService<Fetched> completion) throws IOException {
+        try {
+            return completion.take().get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Language stats refresh interrupted");
+        } catch (ExecutionException exception) {
+            throw new IOException("Language fetch failed", exception.getCause());
+        }
+    }
+
+    private synchronized Aggregate aggregateFor(String username, boolean create) {
+        Aggregate aggregate = aggregates.get(key(username));
+        if (aggregate == null && create) {
+            aggregate = new Aggregate();
+            aggregates.put(key(username), aggregate);
+        }
+        return aggregate;
+    }
+
+    private static String key(String username) {
+        return Objects.requireNonNull(username, "username == null").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Fetched {
+        final ReposDataEntry repository;
+        final RepoLanguageCache.Entry entry;
+
+        Fetched(ReposDataEntry repository, RepoLanguageCache.Entry entry) {
+            this.repository = repository;
+            this.entry = entry;
+        }
+    }
+
+    /** Running per-language totals plus the contribution each repository made to them. */
+    private static final class Aggregate {
+
+        private final Map<Long, Map<String, Long>> contributions = new HashMap<>();
+        private final Map<String, Long> totals = new HashMap<>();
+        private long totalBytes;
+        private LanguageStats lastStats;
+
+        /** Applies only the repositories whose language map changed, appeared or disappeared. */
+        void update(Map<Long, Map<String, Long>> current) {
+            Iterator<Map.Entry<Long, Map<String, Long>>> iterator = contributions.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Map<String, Long>> entry = iterator.next();
+                if (!current.containsKey(entry.getKey())) {
+                    apply(entry.getValue(), -1L);
+                    iterator.remove();
+                }
+            }
+            for (Map.Entry<Long, Map<String, Long>> entry : current.entrySet()) {
+                Map<String, Long> previous = contributions.get(entry.getKey());
+                // Cache entries are immutable, so an unchanged repository hands back the same map.
+                if (previous == entry.getValue()) {
+                    continue;
+                }
+                if (previous != null) {
+                    apply(previous, -1L);
+                }
+                apply(entry.getValue(), 1L);
+                contributions.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        private void apply(Map<String, Long> languages, long sign) {
+            for (Map.Entry<String, Long> language : languages.entrySet()) {
+                long delta = sign * language.getValue();
+                long updated = totals.getOrDefault(language.getKey(), 0L) + delta;
+                if (updated == 0L) {
+                    totals.remove(language.getKey());
+                } else {
+                    totals.put(language.getKey(), updated);
+                }
+                totalBytes += delta;
+            }
+        }
+
+        LanguageStats snapshot(String username, int repositoryCount, int incomplete, Instant now) {
+            List<LanguageStats.LanguageShare> shares = new ArrayList<>(totals.size());
+            for (Map.Entry<String, Long> entry : totals.entrySet()) {
+                double fraction = totalBytes == 0L ? 0d : (double) entry.getValue() / totalBytes;
+                shares.add(new LanguageStats.LanguageShare(entry.getKey(), entry.getValue(), fraction));
+            }
+            shares.sort((a, b) -> a.getBytes() != b.getBytes()
+                    ? Long.compare(b.getBytes(), a.getBytes())
+                    : a.getLanguage().compareTo(b.getLanguage()));
+            return new LanguageStats(username, shares, totalBytes, repositoryCount, incomplete, now);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.NotificationInbox;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.remote.dto.NotificationDto;
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.mapper.NotificationMapper;
+import com.usth.githubclient.domain.model.NotificationThread;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import retrofit2.Response;
+
+/**
+ * Keeps the {@link NotificationInbox} in sync with the {@code notifications} endpoint.
+ * <p>
+ * Each poll asks only for threads updated since the newest one already held and sends the last
+ * {@code Last-Modified} as {@code If-Modified-Since}, so a quiet inbox costs one free 304. Changed
+ * threads are merged into the index. Polls never come faster than GitHub's {@code X-Poll-Interval},
+ * and the interval doubles, up to {@link #MAX_BACKOFF_MILLIS}, while polls find nothing new.
+ */
+public final class NotificationRepository {
+
+    static final long DEFAULT_POLL_INTERVAL_MILLIS = 60_000L;
+    static final long MAX_BACKOFF_MILLIS = 15 * 60_000L;
+    private static final int HTTP_NOT_MODIFIED = 304;
+    private static final int PER_PAGE = 50;
+    private static final int MAX_PAGES = 10;
+
+    private final GithubApiService apiService;
+    private final NotificationInbox inbox;
+    private final NotificationMapper mapper;
+    private final Clock clock;
+
+    public NotificationRepository(GithubApiService apiService, NotificationInbox inbox,
+                                  NotificationMapper mapper) {
+        this(apiService, inbox, mapper, Clock.systemUTC());
+    }
+
+    public NotificationRepository(GithubApiService apiService, NotificationInbox inbox,
+                                  NotificationMapper mapper, Clock clock) {
+        this.apiService = Objects.requireNonNull(apiService, "apiService == null");
+        this.inbox = Objects.requireNonNull(inbox, "inbox == null");
+        this.mapper = Objects.requireNonNull(mapper, "mapper == null");
+        this.clock = Objects.requireNonNull(clock, "clock == null");
+    }
+
+    public NotificationInbox getInbox() {
+        return inbox;
+    }
+
+    /**
+     * Fetches the threads that changed since the last poll and merges them into the inbox. When
+     * the poll interval has not elapsed yet no request is sent.
+     */
+    public PollResult poll() throws IOException {
+        // Requests are sent without the inbox's lock, which the screens read under.
+        synchronized (inbox.pollLock()) {
+            long now = clock.millis();
+            if (now < inbox.getNextPollAtMillis()) {
+                return new PollResult(inbox.snapshot(), 0, false, inbox.getNextPollAtMillis() - now);
+            }
+            Instant newest = inbox.getNewestUpdatedAt();
+            String since = newest == null ? null : newest.toString();
+            String ifModifiedSince = inbox.getLastModified();
+            List<NotificationThread> updates = new ArrayList<>();
+            long intervalMillis = DEFAULT_POLL_INTERVAL_MILLIS;
+            String lastModified = null;
+            for (int page = 1; page <= MAX_PAGES; page++) {
+                // Only the first page is conditional; the rest belong to a response that changed.
+                Response<List<NotificationDto>> response = apiService.getNotifications(
+                        true, since, PER_PAGE, page, page == 1 ? ifModifiedSince : null).execute();
+                if (page == 1) {
+                    intervalMillis = parsePollInterval(response.headers().get("X-Poll-Interval"));
+                    if (response.code() == HTTP_NOT_MODIFIED) {
+                        long delay = scheduleNext(now, intervalMillis, false);
+                        return new PollResult(inbox.snapshot(), 0, true, delay);
+                    }
+                    lastModified = response.headers().get("Last-Modified");
+                }
+                if (!response.isSuccessful() || response.body() == null) {
+                    scheduleNext(now, intervalMillis, false);
+                    throw buildException("Unable to load notifications", response);
+                }
+                for (NotificationDto dto : response.body()) {
+                    NotificationThread thread = mapper.map(dto);
+                    if (thread != null) {
+                        updates.add(thread);
+                    }
+                }
+                if (response.body().size() < PER_PAGE) {
+                    break;
+                }
+            }
+            synchronized (inbox) {
+                int changed = inbox.merge(updates);
+                inbox.setLastModified(lastModified);
+                long delay = scheduleNext(now, intervalMillis, changed > 0);
+                return new PollResult(inbox.snapshot(), changed, true, delay);
+            }
+        }
+    }
+
+    /**
+     * Stores when the next poll may run and returns the delay until then: the server's interval
+     * after a change, doubling on each poll that found nothing new.
+     */
+    private long scheduleNext(long now, long intervalMillis, boolean changed) {
+        long delay = intervalMillis;
+        if (!changed && inbox.getBackoffMillis() > 0L) {
+            delay = Math.max(intervalMillis, Math.min(MAX_BACKOFF_MILLIS, inbox.getBackoffMillis() * 2));
+        }
+        inbox.setBackoffMillis(changed ? 0L : delay);
+        inbox.setNextPollAtMillis(now + delay);
+        return delay;
+    }
+
+    private static long parsePollInterval(String header) {
+        if (header == null) {
+            return DEFAULT_POLL_INTERVAL_MILLIS;
+        }
+        try {
+            long seconds = Long.parseLong(header.trim());
+            return seconds > 0L ? seconds * 1000L : DEFAULT_POLL_INTERVAL_MILLIS;
+        } catch (NumberFormatException ignored) {
+            return DEFAULT_POLL_INTERVAL_MILLIS;
+        }
+    }
+
+    private IOException buildException(String message, Response<?> response) {
+        String errorBody;
+        try {
+            errorBody = response != null && response.errorBody() != null
+                    ? response.errorBody().string()
+                    : null;
+        } catch (IOException ignored) {
+            errorBody = null;
+        }
+        if (errorBody == null || errorBody.isEmpty()) {
+            return new IOException(message);
+        }
+        return new IOException(message + ": " + errorBody);
+    }
+
+    /** Outcome of one {@link #poll} call. */
+    public static final class PollResult {
+
+        private final PersistentList<NotificationThread> threads;
+        private final int changedCount;
+        private final boolean requested;
+        private final long nextPollDelayMillis;
+
+        PollResult(PersistentList<NotificationThread> threads, int changedCount, boolean requested,
+                   long nextPollDelayMillis) {
+            this.threads = threads;
+            this.changedCount = changedCount;
+            this.requested = requested;
+            this.nextPollDelayMillis = nextPollDelayMillis;
+        }
+
+        /** Every thread of the inbox, most recently updated first. */
+        public PersistentList<NotificationThread> getThreads() {
+            return threads;
+        }
+
+        /** Threads added or changed by this poll. */
+        public int getChangedCount() {
+            return changedCount;
+        }
+
+        /** Whether a request was sent; false when the poll interval had not elapsed. */
+        public boolean isRequested() {
+            return requested;
+        }
+
+        public long getNextPollDelayMillis() {
+            return nextPollDelayMillis;
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.OrgDashboardStore;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.remote.RateLimitBudget;
+import com.usth.githubclient.data.remote.dto.RepoDto;
+import com.usth.githubclient.data.remote.dto.UserDto;
+import com.usth.githubclient.domain.model.OrgSummary;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import retrofit2.Response;
+
+/**
+ * Builds organization dashboards from {@code orgs/{org}/repos} and {@code orgs/{org}/members}.
+ * <p>
+ * The first page of each list gives its page count through the {@code rel="last"} link; the other
+ * pages of both lists are then fetched on a bounded pool whose width follows
+ * {@link RateLimitBudget#recommendedConcurrency(int, long)}. Each page is folded into running
+ * totals on the calling thread as soon as it arrives and dropped, so an organization with
+ * thousands of repositories never has more than the in-flight pages in memory. The result is
+ * persisted in {@link OrgDashboardStore}.
+ */
+public final class OrgDashboardRepository {
+
+    static final int PER_PAGE = 100;
+    static final int MAX_PAGES = 100;
+    static final int TOP_REPOSITORIES = 10;
+    static final int MEMBER_SAMPLE = 30;
+
+    private static final Pattern LAST_PAGE =
+            Pattern.compile("<[^>]*[?&]page=(\\d+)[^>]*>\\s*;\\s*rel=\"last\"");
+    private static final Comparator<OrgSummary.TopRepository> MOST_STARRED = (a, b) ->
+            a.getStars() != b.getStars()
+                    ? Integer.compare(b.getStars(), a.getStars())
+                    : a.getName().compareToIgnoreCase(b.getName());
+
+    private final GithubApiService apiService;
+    private final OrgDashboardStore store;
+    private final RateLimitBudget budget;
+    private final Clock clock;
+    private final int maxConcurrency;
+    private final ExecutorService executor;
+
+    public OrgDashboardRepository(GithubApiService apiService,
+                                  OrgDashboardStore store,
+                                  RateLimitBudget budget,
+                                  int maxConcurrency) {
+        this(apiService, store, budget, maxConcurrency, Clock.systemUTC());
+    }
+
+    public OrgDashboardRepository(GithubApiService apiService,
+                                  OrgDashboardStore store,
+                                  RateLimitBudget budget,
+                                  int maxConcurrency,
+                                  Clock clock) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be > 0");
+        }
+        this.apiService = Objects.requireNonNull(apiService, "apiService == null");
+        this.store = Objects.requireNonNull(store, "store == null");
+        this.budget = Objects.requireNonNull(budget, "budget == null");
+        this.clock = Objects.requireNonNull(clock, "clock == null");
+        this.maxConcurrency = maxConcurrency;
+        this.executor = Executors.newFixedThreadPool(maxConcurrency);
+    }
+
+    /** The last persisted dashboard of {@code organization}, or {@code null} if never computed. */
+    public OrgSummary getCached(String organization) throws IOException {
+        return store.load(organization);
+    }
+
+    /**
+     * Reads every repository and member page of {@code organization} (up to {@link #MAX_PAGES}
+     * each), persists the totals and returns them. Must not be called on the main thread.
+     * <p>
+     * When the rate limit runs down to its reserve before every page was read, the partial totals
+     * are returned as truncated only if no complete dashboard is stored; otherwise, or when no
+     * page was read at all, an {@link IOException} is thrown and the stored dashboard is kept.
+     */
+    public OrgSummary refresh(String organization) throws IOException {
+        Objects.requireNonNull(organization, "organization == null");
+        Totals totals = new Totals();
+        CompletionService<Page> completion = new ExecutorCompletionService<>(executor);
+        Queue<Page> pending = new ArrayDeque<>();
+        pending.add(new Page(true, 1));
+        pending.add(new Page(false, 1));
+        int inFlight = 0;
+        int pagesRead = 0;
+        boolean outOfBudget = false;
+        while (!pending.isEmpty() || inFlight > 0) {
+            int allowed = budget.recommendedConcurrency(maxConcurrency, clock.millis());
+            while (!pending.isEmpty() && inFlight < allowed) {
+                Page page = pending.poll();
+                completion.submit(() -> fetch(organization, page));
+                inFlight++;
+            }
+            if (inFlight == 0) {
+                // Only the reserve is left; the rest waits for a later refresh.
+                outOfBudget = true;
+                break;
+            }
+            Page page = awaitNext(completion);
+            inFlight--;
+            pagesRead++;
+            if (page.number == 1) {
+                int last = page.lastPage;
+                if (last > MAX_PAGES) {
+                    totals.truncated = true;
+                    last = MAX_PAGES;
+                }
+                for (int number = 2; number <= last; number++) {
+                    pending.add(new Page(page.repositoryPage, number));
+                }
+            }
+            totals.add(page);
+        }
+        if (outOfBudget) {
+            // Partial totals are only kept while nothing better is stored.
+            OrgSummary stored = store.load(organization);
+            if (pagesRead == 0 || (stored != null && !stored.isTruncated())) {
+                long minutes = Math.max(1L, (budget.millisUntilReset(clock.millis()) + 59_999L) / 60_000L);
+                throw new IOException("Rate limit nearly used up; try again in " + minutes + " min");
+            }
+            totals.truncated = true;
+        }
+        OrgSummary summary = totals.snapshot(organization, clock.instant());
+        store.save(summary);
+        return summary;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Page fetch(String organization, Page page) throws IOException {
+        if (page.repositoryPage) {
+            Response<List<RepoDto>> response = apiService.getOrganizationRepositories(
+                    organization, PER_PAGE, page.number).execute();
+            if (!response.isSuccessful() || response.body() == null) {
+                throw buildException("Unable to fetch repositories of " + organization, response);
+            }
+            page.repositories = response.body();
+            page.lastPage = lastPage(response, page.number);
+        } else {
+            Response<List<UserDto>> response = apiService.getOrganizationMembers(
+                    organization, PER_PAGE, page.number).execute();
+            if (!response.isSuccessful() || response.body() == null) {
+                throw buildException("Unable to fetch members of " + organization, response);
+            }
+            page.members = response.body();
+            page.lastPage = lastPage(response, page.number);
+        }
+        return page;
+    }
+
+    private Page awaitNext(CompletionService<Page> completion) throws IOException {
+        try {
+            return completion.take().get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Organization refresh interrupted");
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof IOException) {
+                throw (IOException) exception.getCause();
+            }
+            throw new IOException("Organization page fetch failed", exception.getCause());
+        }
+    }
+
+    /** Page number of the {@code rel="last"} link, or {@code current} when there is none. */
+    static int lastPage(Response<?> response, int current) {
+        String link = response.headers().get("Link");
+        if (link == null) {
+            return current;
+        }
+        Matcher matcher = LAST_PAGE.matcher(link);
+        if (!matcher.find()) {
+            return current;
+        }
+        try {
+            return Math.max(current, Integer.parseInt(matcher.group(1)));
+        } catch (NumberFormatException ignored) {
+            return current;
+        }
+    }
+
+    private IOException buildException(String message, Response<?> response) {
+        String errorBody;
+        try {
+            errorBody = response != null && response.errorBody() != null
+                    ? response.errorBody().string()
+                    : null;
+        } catch (IOException ignored) {
+            errorBody = null;
+        }
+        if (errorBody == null || errorBody.isEmpty()) {
+            return new IOException(message);
+        }
+        return new IOException(message + ": " + errorBody);
+    }
+
+    /** One page to fetch, then its content until it is folded into the totals. */
+    private static final class Page {
+        final boolean repositoryPage;
+        final int number;
+        int lastPage;
+        List<RepoDto> repositories;
+        List<UserDto> members;
+
+        Page(boolean repositoryPage, int number) {
+            this.repositoryPage = repositoryPage;
+            this.number = number;
+        }
+    }
+
+    /** Running totals; only the bounded top lists keep anything per repository or member. */
+    private static final class Totals {
+
+        private final Map<String, Integer> languages = new HashMap<>();
+        // Least starred first, so the head is the one to drop.
+        private final PriorityQueue<OrgSummary.TopRepository> topRepositories =
+                new PriorityQueue<>(TOP_REPOSITORIES + 1, MOST_STARRED.reversed());
+        private final TreeSet<String> memberSample = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        private int repositoryCount;
+        private int forkCount;
+        private int archivedCount;
+        private long stars;
+        private long forks;
+        private long openIssues;
+        private int memberCount;
+        private boolean truncated;
+
+        void add(Page page) {
+            if (page.repositories != null) {
+                for (RepoDto repository : page.repositories) {
+                    addRepository(repository);
+                }
+            }
+            if (page.members != null) {
+                for (UserDto member : page.members) {
+                    addMember(member);
+                }
+            }
+            page.repositories = null;
+            page.members = null;
+        }
+
+        private void addRepository(RepoDto repository) {
+            if (repository == null || repository.getName() == null) {
+                return;
+            }
+            repositoryCount++;
+            if (repository.isFork()) {
+                forkCount++;
+            }
+            if (repository.isArchived()) {
+                archivedCount++;
+            }
+            stars += repository.getStargazersCount();
+            forks += repository.getForksCount();
+            openIssues += repository.getOpenIssuesCount();
+            if (repository.getLanguage() != null) {
+                languages.merge(repository.getLanguage(), 1, Integer::sum);
+            }
+            topRepositories.add(new OrgSummary.TopRepository(
+                    repository.getName(), repository.getStargazersCount()));
+            if (topRepositories.size() > TOP_REPOSITORIES) {
+                topRepositories.poll();
+            }
+        }
+
+        private void addMember(UserDto member) {
+            if (member == null || member.getLogin() == null) {
+                return;
+            }
+            memberCount++;
+            memberSample.add(member.getLogin());
+            if (memberSample.size() > MEMBER_SAMPLE) {
+                memberSample.pollLast();
+            }
+        }
+
+        OrgSummary snapshot(String organization, Instant now) {
+            List<OrgSummary.LanguageCount> languageCounts = new ArrayList<>(languages.size());
+            for (Map.Entry<String, Integer> entry : languages.entrySet()) {
+                languageCounts.add(new OrgSummary.LanguageCount(entry.getKey(), entry.getValue()));
+            }
+            languageCounts.sort((a, b) -> a.getRepositoryCount() != b.getRepositoryCount()
+                    ? Integer.compare(b.getRepositoryCount(), a.getRepositoryCount())
+                    : a.getLanguage().compareTo(b.getLanguage()));
+            List<OrgSummary.TopRepository> top = new ArrayList<>(topRepositories);
+            top.sort(MOST_STARRED);
+            return new OrgSummary(organization, repositoryCount, forkCount, archivedCount, stars, forks,
+                    openIssues, languageCounts, top, memberCount, new ArrayList<>(memberSample),
+                    truncated, now);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.ProfileCache;
+import com.usth.githubclient.domain.model.GitHubUserProfileDataEntry;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Fetches full profiles for minimal user rows (as returned by the followers endpoint) on demand.
+ * <p>
+ * Callers pass only the rows around the viewport. Cached profiles are returned immediately, the rest
+ * are fetched on a bounded pool — in GraphQL batches of up to {@link GraphQlRepository#MAX_BATCH_SIZE}
+ * logins when a {@link GraphQlRepository} is available, one {@code users/{login}} call each
+ * otherwise. Work queued for rows that scrolled away before it started is dropped. A login whose
+ * profile could not be fetched is skipped for {@link #FAILURE_RETRY_MILLIS}, then tried again.
+ */
+public final class ProfileEnrichmentPipeline {
+
+    static final long FAILURE_RETRY_MILLIS = 60_000L;
+
+    private final UserRepository userRepository;
+    private final GraphQlRepository graphQlRepository;
+    private final ProfileCache profileCache;
+    private final ExecutorService executor;
+    private final Clock clock;
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    // Login key -> clock millis of its last failed fetch.
+    private final Map<String, Long> failedAt = new ConcurrentHashMap<>();
+    private volatile Set<String> wanted = Collections.emptySet();
+
+    /**
+     * @param graphQlRepository optional; pass {@code null} when no token is available since the
+     *                          GraphQL API rejects anonymous calls.
+     */
+    public ProfileEnrichmentPipeline(UserRepository userRepository,
+                                     GraphQlRepository graphQlRepository,
+                                     ProfileCache profileCache,
+                                     int maxConcurrency) {
+        this(userRepository, graphQlRepository, profileCache, newPool(maxConcurrency), Clock.systemUTC());
+    }
+
+    ProfileEnrichmentPipeline(UserRepository userRepository,
+                              GraphQlRepository graphQlRepository,
+                              ProfileCache profileCache,
+                              ExecutorService executor,
+                              Clock clock) {
+        this.userRepository = Objects.requireNonNull(userRepository, "userRepository == null");
+        this.graphQlRepository = graphQlRepository;
+        this.profileCache = Objects.requireNonNull(profileCache, "profileCache == null");
+        this.executor = Objects.requireNonNull(executor, "executor == null");
+        this.clock = Objects.requireNonNull(clock, "clock == null");
+    }
+
+    private static ExecutorService newPool(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be > 0");
+        }
+        return Executors.newFixedThreadPool(maxConcurrency);
+    }
+
+    /**
+     * Requests full profiles for {@code rows}. The listener is invoked synchronously with profiles
+     * already cached and later, on a worker thread, as fetched batches arrive.
+     */
+    public void request(List<GitHubUserProfileDataEntry> rows, Listener listener) {
+        Objects.requireNonNull(listener, "listener == null");
+        if (rows == null || rows.isEmpty() || executor.isShutdown()) {
+            return;
+        }
+        List<GitHubUserProfileDataEntry> cached = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        Set<String> nextWanted = new HashSet<>();
+        for (GitHubUserProfileDataEntry row : rows) {
+            String key = key(row.getUsername());
+            GitHubUserProfileDataEntry profile = profileCache.get(row.getUsername());
+            if (profile != null) {
+                cached.add(profile);
+            } else if (!recentlyFailed(key)) {
+                nextWanted.add(key);
+                if (!inFlight.contains(key)) {
+                    missing.add(row.getUsername());
+                }
+            }
+        }
+        wanted = nextWanted;
+        if (!cached.isEmpty()) {
+            listener.onProfilesEnriched(cached);
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        if (graphQlRepository != null) {
+            for (int start = 0; start < missing.size(); start += GraphQlRepository.MAX_BATCH_SIZE) {
+                List<String> batch = new ArrayList<>(missing.subList(
+                        start, Math.min(missing.size(), start + GraphQlRepository.MAX_BATCH_SIZE)));
+                markInFlight(batch);
+                executor.execute(() -> fetchBatch(batch, listener));
+            }
+        } else {
+            for (String login : missing) {
+                markInFlight(Collections.singletonList(login));
+                executor.execute(() -> fetchSingle(login, listener));
+            }
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+        wanted = Collections.emptySet();
+        inFlight.clear();
+    }
+
+    private void fetchBatch(List<String> batch, Listener listener) {
+        List<String> stillWanted = new ArrayList<>(batch.size());
+        for (String login : batch) {
+            if (wanted.contains(key(login))) {
+                stillWanted.add(login);
+            } else {
+                inFlight.remove(key(login));
+            }
+        }
+        if (stillWanted.isEmpty()) {
+            return;
+        }
+        try {
+            List<GitHubUserProfileDataEntry> profiles = graphQlRepository.fetchProfiles(stillWanted);
+            deliver(profiles, listener);
+            for (String login : stillWanted) {
+                inFlight.remove(key(login));
+            }
+        } catch (IOException | RuntimeException exception) {
+            // Fall back to REST for this batch rather than leaving the rows bare.
+            for (String login : stillWanted) {
+                fetchSingle(login, listener);
+            }
+        }
+    }
+
+    private void fetchSingle(String login, Listener listener) {
+        String key = key(login);
+        try {
+            if (!wanted.contains(key)) {
+                return;
+            }
+            GitHubUserProfileDataEntry profile = userRepository.fetchUserProfile(login);
+            deliver(Collections.singletonList(profile), listener);
+        } catch (IOException | RuntimeException exception) {
+            failedAt.put(key, clock.millis());
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    private void deliver(List<GitHubUserProfileDataEntry> profiles, Listener listener) {
+        if (profiles.isEmpty() || executor.isShutdown()) {
+            return;
+        }
+        for (GitHubUserProfileDataEntry profile : profiles) {
+            profileCache.put(profile);
+        }
+        listener.onProfilesEnriched(profiles);
+    }
+
+    private boolean recentlyFailed(String key) {
+        Long failedMillis = failedAt.get(key);
+        if (failedMillis == null) {
+            return false;
+        }
+        if (clock.millis() - failedMillis < FAILURE_RETRY_MILLIS) {
+            return true;
+        }
+        failedAt.remove(key, failedMillis);
+        return false;
+    }
+
+    private void markInFlight(List<String> logins) {
+        for (String login : logins) {
+            inFlight.add(key(login));
+        }
+    }
+
+    private static String key(String login) {
+        return login.toLowerCase(Locale.ROOT);
+    }
+
+    /** Receives enriched profiles; may be called from a worker thread. */
+    public interface Listener {
+        void onProfilesEnriched(List<GitHubUserProfileDataEntry> profiles);
+    }
+}
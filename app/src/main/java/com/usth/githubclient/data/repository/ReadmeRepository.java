@@ -0,0 +1,122 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.ReadmeCache;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.remote.dto.ReadmeDto;
+import com.usth.githubclient.domain.markdown.MarkdownRenderer;
+import com.usth.githubclient.domain.model.Readme;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.Objects;
+import okio.ByteString;
+import retrofit2.Response;
+
+/**
+ * Fetches and renders repository READMEs.
+ * <p>
+ * While the rendered HTML of a repository's README is cached the request carries its ETag, so an
+ * unchanged README costs a 304 (free against the rate limit) and no rendering. A changed response
+ * whose blob SHA was already rendered, e.g. for a fork, is not rendered again either.
+ */
+public final class ReadmeRepository {
+
+    private static final int HTTP_NOT_MODIFIED = 304;
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final String ENCODING_BASE64 = "base64";
+
+    private final GithubApiService apiService;
+    private final ReadmeCache cache;
+    private final MarkdownRenderer renderer;
+
+    public ReadmeRepository(GithubApiService apiService, ReadmeCache cache) {
+        this(apiService, cache, new MarkdownRenderer());
+    }
+
+    public ReadmeRepository(GithubApiService apiService, ReadmeCache cache, MarkdownRenderer renderer) {
+        this.apiService = Objects.requireNonNull(apiService, "apiService == null");
+        this.cache = Objects.requireNonNull(cache, "cache == null");
+        this.renderer = Objects.requireNonNull(renderer, "renderer == null");
+    }
+
+    /**
+     * Returns the rendered README of {@code owner/repo}, or {@code null} if it has none. Chunks are
+     * reported to {@code listener} (may be {@code null}) as they become available, including when
+     * they come from the cache. Must not be called on the main thread.
+     */
+    public Readme fetchReadme(String owner, String repo, MarkdownRenderer.ChunkListener listener)
+            throws IOException {
+        Objects.requireNonNull(owner, "owner == null");
+        Objects.requireNonNull(repo, "repo == null");
+
+        ReadmeCache.Validator validator = cache.getValidator(owner, repo);
+        List<String> cached = validator == null ? null : cache.getRendered(validator.getSha());
+        String ifNoneMatch = cached == null ? null : validator.getEtag();
+
+        Response<ReadmeDto> response = apiService.getReadme(owner, repo, ifNoneMatch).execute();
+        if (response.code() == HTTP_NOT_MODIFIED && cached != null) {
+            deliver(cached, listener);
+            return new Readme(validator.getName(), validator.getSha(), validator.getHtmlUrl(), cached);
+        }
+        if (response.code() == HTTP_NOT_FOUND) {
+            cache.removeValidator(owner, repo);
+            return null;
+        }
+        ReadmeDto dto = response.body();
+        if (!response.isSuccessful() || dto == null || dto.getSha() == null) {
+            throw buildException("Unable to fetch the README of " + owner + "/" + repo, response);
+        }
+
+        String name = dto.getName() == null ? "README" : dto.getName();
+        List<String> chunks = cache.getRendered(dto.getSha());
+        if (chunks != null) {
+            deliver(chunks, listener);
+        } else {
+            chunks = renderer.render(decode(dto), listener);
+            if (chunks == null) {
+                throw new InterruptedIOException("README rendering interrupted");
+            }
+            cache.putRendered(dto.getSha(), chunks);
+        }
+        cache.putValidator(owner, repo, new ReadmeCache.Validator(
+                response.headers().get("ETag"), dto.getSha(), name, dto.getHtmlUrl()));
+        return new Readme(name, dto.getSha(), dto.getHtmlUrl(), chunks);
+    }
+
+    private static void deliver(List<String> chunks, MarkdownRenderer.ChunkListener listener) {
+        if (listener == null) {
+            return;
+        }
+        for (int i = 0; i < chunks.size(); i++) {
+            listener.onChunk(i, chunks.get(i));
+        }
+    }
+
+    private static String decode(ReadmeDto dto) throws IOException {
+        String content = dto.getContent() == null ? "" : dto.getContent();
+        if (!ENCODING_BASE64.equalsIgnoreCase(dto.getEncoding())) {
+            return content;
+        }
+        // java.util.Base64 needs API 26; okio skips the line breaks GitHub inserts.
+        ByteString bytes = ByteString.decodeBase64(content);
+        if (bytes == null) {
+            throw new IOException("Malformed README content for " + dto.getPath());
+        }
+        return bytes.utf8();
+    }
+
+    private IOException buildException(String message, Response<?> response) {
+        String errorBody;
+        try {
+            errorBody = response != null && response.errorBody() != null
+                    ? response.errorBody().string()
+                    : null;
+        } catch (IOException ignored) {
+            errorBody = null;
+        }
+        if (errorBody == null || errorBody.isEmpty()) {
+            return new IOException(message);
+        }
+        return new IOException(message + ": " + errorBody);
+    }
+}
@@ -1,29 +1,45 @@
 package com.usth.githubclient.data.repository;
 
+import com.usth.githubclient.data.local.RepoCache;
 import com.usth.githubclient.data.remote.GithubApiService;
 import com.usth.githubclient.data.remote.dto.RepoDto;
+import com.usth.githubclient.domain.collection.PersistentList;
 import com.usth.githubclient.domain.mapper.RepoMapper;
+import com.usth.githubclient.domain.model.GitHubUserProfileDataEntry;
 import com.usth.githubclient.domain.model.ReposDataEntry;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import retrofit2.Call;
 import retrofit2.Response;
 
 /**
- * Repository encapsulating repository related API calls.
+ * Repository encapsulating repository related API calls. Every repository it receives is put in
+ * the {@link RepoCache}, which {@link #fetchRepository} reads before going to the network.
  */
 public final class RepoRepository {
 
     private static final int DEFAULT_PAGE = 1;
     private static final int DEFAULT_PER_PAGE = 30;
     private static final String DEFAULT_SORT = "updated";
+    static final int IMPORT_PER_PAGE = 100;
 
     private final GithubApiService apiService;
     private final RepoMapper repoMapper;
+    private final RepoCache repoCache;
 
     public RepoRepository(GithubApiService apiService, RepoMapper repoMapper) {
+        this(apiService, repoMapper, new RepoCache());
+    }
+
+    public RepoRepository(GithubApiService apiService, RepoMapper repoMapper, RepoCache repoCache) {
         this.apiService = Objects.requireNonNull(apiService, "apiService == null");
         this.repoMapper = Objects.requireNonNull(repoMapper, "repoMapper == null");
+        this.repoCache = Objects.requireNonNull(repoCache, "repoCache == null");
     }
 
     public List<ReposDataEntry> fetchUserRepositories(String username) throws IOException {
@@ -36,12 +52,35 @@ public final class RepoRepository {
             int page,
             String sort
     ) throws IOException {
-        Response<List<RepoDto>> response =
-                apiService.getUserRepositories(username, perPage, page, sort).execute();
+        Response<List<RepoDto>> response;
+        try {
+            response = apiService.getUserRepositories(username, perPage, page, sort).execute();
+        } catch (IOException exception) {
+            return cachedOrThrow(username, page, exception);
+        }
         if (response.isSuccessful() && response.body() != null) {
-            return repoMapper.mapList(response.body());
+            List<ReposDataEntry> repositories = repoMapper.mapList(response.body());
+            repoCache.putAll(repositories);
+            return repositories;
+        }
+        IOException failure = buildException("Unable to fetch repositories for " + username, response);
+        if (response.code() >= 500) {
+            return cachedOrThrow(username, page, failure);
         }
-        throw buildException("Unable to fetch repositories for " + username, response);
+        throw failure;
+    }
+
+    /**
+     * While GitHub is down or unreachable, the first page is answered with the cached repositories
+     * of {@code username}, however old, rather than an error.
+     */
+    private List<ReposDataEntry> cachedOrThrow(String username, int page, IOException failure)
+            throws IOException {
+        List<ReposDataEntry> cached = page == DEFAULT_PAGE ? repoCache.getOwnedBy(username) : null;
+        if (cached == null || cached.isEmpty()) {
+            throw failure;
+        }
+        return cached;
     }
 
     public List<ReposDataEntry> fetchAuthenticatedRepositories() throws IOException {
@@ -53,19 +92,100 @@ public final class RepoRepository {
         Response<List<RepoDto>> response =
                 apiService.getAuthenticatedRepositories(perPage, page, sort).execute();
         if (response.isSuccessful() && response.body() != null) {
-            return repoMapper.mapList(response.body());
+            List<ReposDataEntry> repositories = repoMapper.mapList(response.body());
+            repoCache.putAll(repositories);
+            return repositories;
         }
         throw buildException("Unable to fetch repositories for the authenticated user", response);
     }
 
+    /** The repository from the cache when it was fetched recently, else from the network. */
     public ReposDataEntry fetchRepository(String owner, String name) throws IOException {
+        ReposDataEntry cached = repoCache.get(owner, name);
+        if (cached != null) {
+            return cached;
+        }
         Response<RepoDto> response = apiService.getRepository(owner, name).execute();
         if (response.isSuccessful() && response.body() != null) {
-            return repoMapper.map(response.body());
+            ReposDataEntry repository = repoMapper.map(response.body());
+            repoCache.put(repository);
+            return repository;
         }
         throw buildException("Unable to fetch repository " + owner + "/" + name, response);
     }
 
+    /** Cached repository, or {@code null}; never sends a request. */
+    public ReposDataEntry getCachedRepository(String owner, String name) {
+        return repoCache.get(owner, name);
+    }
+
+    /**
+     * Downloads every repository {@code username} starred, or the signed-in user when
+     * {@code null}, and puts each page in the cache as it arrives. Pages are read until a short
+     * one, however many there are, so the list is never silently cut off; the cache keeps the
+     * whole import, so opening any of them is a cache hit.
+     */
+    public PersistentList<ReposDataEntry> importStarredRepositories(String username) throws IOException {
+        return importAll(username, true);
+    }
+
+    /** Like {@link #importStarredRepositories} for the repositories the user watches. */
+    public PersistentList<ReposDataEntry> importWatchedRepositories(String username) throws IOException {
+        return importAll(username, false);
+    }
+
+    private PersistentList<ReposDataEntry> importAll(String username, boolean starred) throws IOException {
+        String who = username == null ? "the authenticated user" : username;
+        PersistentList.Builder<ReposDataEntry> imported = PersistentList.builder();
+        // Starred lists repeat the same owners many times; one instance per owner is kept.
+        Map<String, GitHubUserProfileDataEntry> owners = new HashMap<>();
+        String list = (starred ? "starred/" : "watched/")
+                + (username == null ? "" : username.toLowerCase(Locale.ROOT));
+        repoCache.beginImport(list);
+        for (int page = 1; ; page++) {
+            Call<List<RepoDto>> call;
+            if (starred) {
+                call = username == null
+                        ? apiService.getAuthenticatedStarredRepositories(IMPORT_PER_PAGE, page)
+                        : apiService.getStarredRepositories(username, IMPORT_PER_PAGE, page);
+            } else {
+                call = username == null
+                        ? apiService.getAuthenticatedWatchedRepositories(IMPORT_PER_PAGE, page)
+                        : apiService.getWatchedRepositories(username, IMPORT_PER_PAGE, page);
+            }
+            Response<List<RepoDto>> response = call.execute();
+            if (!response.isSuccessful() || response.body() == null) {
+                throw buildException("Unable to fetch " + (starred ? "starred" : "watched")
+                        + " repositories for " + who, response);
+            }
+            List<ReposDataEntry> batch = new ArrayList<>(response.body().size());
+            for (ReposDataEntry repository : repoMapper.mapList(response.body())) {
+                batch.add(withSharedOwner(repository, owners));
+            }
+            repoCache.putImported(list, batch);
+            for (ReposDataEntry repository : batch) {
+                imported.add(repository);
+            }
+            if (response.body().size() < IMPORT_PER_PAGE) {
+                return imported.build();
+            }
+        }
+    }
+
+    private static ReposDataEntry withSharedOwner(ReposDataEntry repository,
+                                                  Map<String, GitHubUserProfileDataEntry> owners) {
+        GitHubUserProfileDataEntry owner = repository.getOwner().orElse(null);
+        if (owner == null) {
+            return repository;
+        }
+        GitHubUserProfileDataEntry shared = owners.get(owner.getUsername());
+        if (shared == null || !shared.equals(owner)) {
+            owners.put(owner.getUsername(), owner);
+            return repository;
+        }
+        return shared == owner ? repository : repository.toBuilder().owner(shared).build();
+    }
+
     private IOException buildException(String message, Response<?> response) {
         String errorBody;
         try {
@@ -1,5 +1,6 @@
 package com.usth.githubclient.data.repository;
 
+import com.usth.githubclient.data.local.ProfileCache;
 import com.usth.githubclient.data.remote.GithubApiService;
 import com.usth.githubclient.data.remote.dto.UserDto;
 import com.usth.githubclient.domain.mapper.UserMapper;
@@ -10,7 +11,8 @@ import java.util.Objects;
 import retrofit2.Response;
 
 /**
- * Repository that handles remote user related requests.
+ * Repository that handles remote user related requests. Fetched profiles go to the
+ * {@link ProfileCache}, which answers for them while GitHub is down or unreachable.
  */
 public final class UserRepository {
 
@@ -19,14 +21,20 @@ public final class UserRepository {
 
     private final GithubApiService apiService;
     private final UserMapper userMapper;
+    private final ProfileCache profileCache;
 
     public UserRepository(GithubApiService apiService, UserMapper userMapper) {
+        this(apiService, userMapper, new ProfileCache());
+    }
+
+    public UserRepository(GithubApiService apiService, UserMapper userMapper, ProfileCache profileCache) {
         this.apiService = Objects.requireNonNull(apiService, "apiService == null");
         this.userMapper = Objects.requireNonNull(userMapper, "userMapper == null");
+        this.profileCache = Objects.requireNonNull(profileCache, "profileCache == null");
     }
 
     public GitHubUserProfileDataEntry fetchUserProfile(String username) throws IOException {
-        return executeCall(apiService.getUser(username));
+        return executeCall(username, apiService.getUser(username));
     }
 
     public List<GitHubUserProfileDataEntry> fetchFollowers(String username) throws IOException {
@@ -46,12 +54,31 @@ public final class UserRepository {
     }
 
     // === Helper Methods ===
-    private GitHubUserProfileDataEntry executeCall(retrofit2.Call<UserDto> call) throws IOException {
-        Response<UserDto> response = call.execute();
+    private GitHubUserProfileDataEntry executeCall(String username, retrofit2.Call<UserDto> call) throws IOException {
+        Response<UserDto> response;
+        try {
+            response = call.execute();
+        } catch (IOException exception) {
+            return cachedOrThrow(username, exception);
+        }
         if (response.isSuccessful() && response.body() != null) {
-            return userMapper.map(response.body());
+            GitHubUserProfileDataEntry profile = userMapper.map(response.body());
+            profileCache.put(profile);
+            return profile;
+        }
+        IOException failure = buildException("API call failed", response);
+        if (response.code() >= 500) {
+            return cachedOrThrow(username, failure);
+        }
+        throw failure;
+    }
+
+    private GitHubUserProfileDataEntry cachedOrThrow(String username, IOException failure) throws IOException {
+        GitHubUserProfileDataEntry cached = profileCache.get(username);
+        if (cached == null) {
+            throw failure;
         }
-        throw buildException("API call failed", response);
+        return cached;
     }
 
     private List<GitHubUserProfileDataEntry> executeListCall(retrofit2.Call<List<UserDto>> call) throws IOException {
@@ -0,0 +1,195 @@
+package com.usth.githubclient.di;
+
+import android.content.Context;
+
+import com.usth.githubclient.data.local.CommitCache;
+import com.usth.githubclient.data.local.ContributorStatsCache;
+import com.usth.githubclient.data.local.EventFeedCache;
+import com.usth.githubclient.data.local.FollowerSnapshotStore;
+import com.usth.githubclient.data.local.GitObjectCache;
+import com.usth.githubclient.data.local.IssueStore;
+import com.usth.githubclient.data.local.NotificationInbox;
+import com.usth.githubclient.data.local.OrgDashboardStore;
+import com.usth.githubclient.data.local.ProfileCache;
+import com.usth.githubclient.data.local.ReadmeCache;
+import com.usth.githubclient.data.local.RepoCache;
+import com.usth.githubclient.data.local.RepoLanguageCache;
+import com.usth.githubclient.data.remote.ApiClient;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.repository.ContributorStatsRepository;
+import com.usth.githubclient.data.repository.FollowAnalyticsRepository;
+import com.usth.githubclient.data.repository.FollowerSyncRepository;
+import com.usth.githubclient.data.repository.UserRepository;
+import com.usth.githubclient.domain.mapper.ContributorStatsMapper;
+import com.usth.githubclient.domain.mapper.UserMapper;
+
+import java.io.File;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Caches of one account. Responses can include private repositories, notifications and feeds, so
+ * nothing here is shared between accounts; the anonymous scope uses the original directories and
+ * every signed-in account a directory of its own under {@code accounts/}.
+ */
+final class AccountScope {
+
+    private static final String ACCOUNTS_DIRECTORY = "accounts";
+
+    private final String login;
+    private final FollowerSnapshotStore followerSnapshotStore = new FollowerSnapshotStore();
+    private final ProfileCache profileCache = new ProfileCache();
+    private final RepoLanguageCache repoLanguageCache = new RepoLanguageCache();
+    private final RepoCache repoCache = new RepoCache();
+    private final ReadmeCache readmeCache = new ReadmeCache();
+    private final EventFeedCache eventFeedCache = new EventFeedCache();
+    private final NotificationInbox notificationInbox = new NotificationInbox();
+    private GitObjectCache gitObjectCache;
+    private CommitCache commitCache;
+    private IssueStore issueStore;
+    private OrgDashboardStore orgDashboardStore;
+    private ContributorStatsRepository contributorStatsRepository;
+    private FollowAnalyticsRepository followAnalyticsRepository;
+    private File cacheRoot;
+    private File filesRoot;
+
+    /** {@code login} is the lower-case login, or {@code null} for anonymous browsing. */
+    AccountScope(String login) {
+        this.login = login;
+    }
+
+    FollowerSnapshotStore followerSnapshotStore() {
+        return followerSnapshotStore;
+    }
+
+    ProfileCache profileCache() {
+        return profileCache;
+    }
+
+    RepoLanguageCache repoLanguageCache() {
+        return repoLanguageCache;
+    }
+
+    RepoCache repoCache() {
+        return repoCache;
+    }
+
+    ReadmeCache readmeCache() {
+        return readmeCache;
+    }
+
+    EventFeedCache eventFeedCache() {
+        return eventFeedCache;
+    }
+
+    NotificationInbox notificationInbox() {
+        return notificationInbox;
+    }
+
+    synchronized GitObjectCache gitObjectCache(Context context) {
+        if (gitObjectCache == null) {
+            gitObjectCache = new GitObjectCache(new File(cacheRoot(context), "git-objects"));
+        }
+        return gitObjectCache;
+    }
+
+    synchronized CommitCache commitCache(Context context) {
+        if (commitCache == null) {
+            commitCache = new CommitCache(new File(cacheRoot(context), "commits"));
+        }
+        return commitCache;
+    }
+
+    synchronized IssueStore issueStore(Context context) {
+        if (issueStore == null) {
+            issueStore = new IssueStore(new File(cacheRoot(context), "issues"));
+        }
+        return issueStore;
+    }
+
+    synchronized OrgDashboardStore orgDashboardStore(Context context) {
+        if (orgDashboardStore == null) {
+            orgDashboardStore = new OrgDashboardStore(new File(filesRoot(context), "orgs"));
+        }
+        return orgDashboardStore;
+    }
+
+    /**
+     * Pinned to {@code token}, this account's token or {@code null} when anonymous, so polls still
+     * pending after a switch neither send nor cache under another account.
+     */
+    synchronized ContributorStatsRepository contributorStatsRepository(String token,
+                                                                       ScheduledExecutorService scheduler,
+                                                                       Executor ioExecutor) {
+        if (contributorStatsRepository == null) {
+            contributorStatsRepository = new ContributorStatsRepository(
+                    new ApiClient().createService(token, GithubApiService.class),
+                    new ContributorStatsMapper(),
+                    new ContributorStatsCache(),
+                    scheduler,
+                    ioExecutor);
+        }
+        return contributorStatsRepository;
+    }
+
+    /** Pinned to {@code token} like {@link #contributorStatsRepository}; its cache is this account's. */
+    synchronized FollowAnalyticsRepository followAnalyticsRepository(String token, UserMapper userMapper) {
+        if (followAnalyticsRepository == null) {
+            UserRepository userRepository = new UserRepository(
+                    new ApiClient().createService(token, GithubApiService.class), userMapper, profileCache);
+            followAnalyticsRepository = new FollowAnalyticsRepository(userRepository,
+                    new FollowerSyncRepository(userRepository, followerSnapshotStore));
+        }
+        return followAnalyticsRepository;
+    }
+
+    /**
+     * Forgets everything kept for this account, including its files. {@code context} locates them
+     * even when nothing opened them in this process, e.g. after a restart; without one only the
+     * directories already opened are deleted.
+     */
+    synchronized void clear(Context context) {
+        followerSnapshotStore.clearAll();
+        profileCache.clear();
+        repoLanguageCache.clear();
+        repoCache.clear();
+        readmeCache.clear();
+        eventFeedCache.clear();
+        notificationInbox.clear();
+        if (login != null) {
+            deleteRecursively(context != null ? cacheRoot(context) : cacheRoot);
+            deleteRecursively(context != null ? filesRoot(context) : filesRoot);
+        }
+    }
+
+    private File cacheRoot(Context context) {
+        if (cacheRoot == null) {
+            cacheRoot = accountDirectory(context.getApplicationContext().getCacheDir());
+        }
+        return cacheRoot;
+    }
+
+    private File filesRoot(Context context) {
+        if (filesRoot == null) {
+            filesRoot = accountDirectory(context.getApplicationContext().getFilesDir());
+        }
+        return filesRoot;
+    }
+
+    private File accountDirectory(File root) {
+        return login == null ? root : new File(new File(root, ACCOUNTS_DIRECTORY), login);
+    }
+
+    private static void deleteRecursively(File file) {
+        if (file == null) {
+            return;
+        }
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+}
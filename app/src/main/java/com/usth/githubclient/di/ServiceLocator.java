@@ -1,14 +1,45 @@
 package com.usth.githubclient.di;
 
+import android.content.Context;
+
+import com.usth.githubclient.data.local.CommitCache;
+import com.usth.githubclient.data.local.EventFeedCache;
+import com.usth.githubclient.data.local.FollowerSnapshotStore;
+import com.usth.githubclient.data.local.GitObjectCache;
+import com.usth.githubclient.data.local.IssueStore;
+import com.usth.githubclient.data.local.NotificationInbox;
+import com.usth.githubclient.data.local.OrgDashboardStore;
+import com.usth.githubclient.data.local.ProfileCache;
+import com.usth.githubclient.data.local.ReadmeCache;
+import com.usth.githubclient.data.local.RepoCache;
+import com.usth.githubclient.data.local.RepoLanguageCache;
 import com.usth.githubclient.data.remote.ApiClient;
-import com.usth.githubclient.data.remote.GithubApiService;
 import com.usth.githubclient.data.repository.AuthRepository;
+import com.usth.githubclient.data.repository.ContributorStatsRepository;
+import com.usth.githubclient.data.repository.EventFeedStats;
+import com.usth.githubclient.data.repository.FollowAnalyticsRepository;
+import com.usth.githubclient.domain.mapper.CommitMapper;
+import com.usth.githubclient.domain.mapper.EventMapper;
+import com.usth.githubclient.domain.mapper.GitTreeMapper;
+import com.usth.githubclient.domain.mapper.IssueMapper;
+import com.usth.githubclient.domain.mapper.NotificationMapper;
 import com.usth.githubclient.domain.mapper.RepoMapper;
 import com.usth.githubclient.domain.mapper.UserMapper;
+import com.usth.githubclient.domain.model.UserSessionData;
+import com.usth.githubclient.image.AvatarLoader;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * Very small dependency container to make mapper & repository instances
  * available across the app without pulling in a full DI framework just yet.
+ * <p>
+ * Caches are kept per account and the accessors return those of the account active in
+ * {@link AuthRepository}, so switching accounts leaves the other account's caches warm.
  */
 public final class ServiceLocator {
 
@@ -16,11 +47,28 @@ public final class ServiceLocator {
 
     private final UserMapper userMapper;
     private final RepoMapper repoMapper;
+    private final GitTreeMapper gitTreeMapper;
+    private final CommitMapper commitMapper;
+    private final EventMapper eventMapper;
+    private final NotificationMapper notificationMapper;
+    private final IssueMapper issueMapper;
     private final AuthRepository authRepository;
+    private final EventFeedStats eventFeedStats;
+    private final ScheduledExecutorService pollScheduler;
+    private final ExecutorService ioExecutor;
+    private final AvatarLoader avatarLoader;
+    private final AccountScope anonymousScope = new AccountScope(null);
+    private final Map<String, AccountScope> accountScopes = new HashMap<>();
+    private Context appContext;
 
     private ServiceLocator() {
         userMapper = new UserMapper();
         repoMapper = new RepoMapper(userMapper);
+        gitTreeMapper = new GitTreeMapper();
+        commitMapper = new CommitMapper();
+        eventMapper = new EventMapper();
+        notificationMapper = new NotificationMapper();
+        issueMapper = new IssueMapper();
 
         // Khởi tạo ApiClient
         ApiClient apiClient = new ApiClient();
@@ -28,6 +76,19 @@ public final class ServiceLocator {
         // Sửa lại dòng khởi tạo AuthRepository cho đúng với constructor mới
         // Bỏ apiService ra khỏi đây
         authRepository = new AuthRepository(apiClient, userMapper, repoMapper);
+        authRepository.setAccountListener(this::removeAccountScope);
+        eventFeedStats = new EventFeedStats();
+        pollScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "github-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ioExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "github-io");
+            thread.setDaemon(true);
+            return thread;
+        });
+        avatarLoader = new AvatarLoader();
     }
 
     public static ServiceLocator getInstance() {
@@ -49,14 +110,171 @@ public final class ServiceLocator {
         return repoMapper;
     }
 
+    public GitTreeMapper gitTreeMapper() {
+        return gitTreeMapper;
+    }
+
+    public CommitMapper commitMapper() {
+        return commitMapper;
+    }
+
+    public EventMapper eventMapper() {
+        return eventMapper;
+    }
+
+    public NotificationMapper notificationMapper() {
+        return notificationMapper;
+    }
+
+    public IssueMapper issueMapper() {
+        return issueMapper;
+    }
+
     public AuthRepository authRepository() {
         return authRepository;
     }
 
+    /**
+     * Signs the active account out through {@link AuthRepository#signOut()} and deletes what was
+     * kept for it; {@code context} finds its files even if this process never opened them.
+     */
+    public void signOut(Context context) {
+        rememberContext(context);
+        authRepository.signOut();
+    }
+
+    public FollowerSnapshotStore followerSnapshotStore() {
+        return activeScope().followerSnapshotStore();
+    }
+
+    public ProfileCache profileCache() {
+        return activeScope().profileCache();
+    }
+
+    public RepoLanguageCache repoLanguageCache() {
+        return activeScope().repoLanguageCache();
+    }
+
+    /** Repositories from every list and detail response, shared by all {@code RepoRepository}s. */
+    public RepoCache repoCache() {
+        return activeScope().repoCache();
+    }
+
+    public ReadmeCache readmeCache() {
+        return activeScope().readmeCache();
+    }
+
+    public EventFeedCache eventFeedCache() {
+        return activeScope().eventFeedCache();
+    }
+
+    public EventFeedStats eventFeedStats() {
+        return eventFeedStats;
+    }
+
+    public NotificationInbox notificationInbox() {
+        return activeScope().notificationInbox();
+    }
+
+    /**
+     * Single background thread shared by every poller (feeds, notifications), so periodic work is
+     * serialized and batched instead of each screen keeping its own timer thread.
+     */
+    public ScheduledExecutorService pollScheduler() {
+        return pollScheduler;
+    }
+
+    /**
+     * Runs the blocking requests that {@link #pollScheduler()} timers start, so a slow response or a
+     * retry backoff never delays the other pollers.
+     */
+    public ExecutorService ioExecutor() {
+        return ioExecutor;
+    }
+
+    /** Created on first use, since its blob files live in the app's cache directory. */
+    public GitObjectCache gitObjectCache(Context context) {
+        rememberContext(context);
+        return activeScope().gitObjectCache(context);
+    }
+
+    /** Created on first use, since its files live in the app's cache directory. */
+    public CommitCache commitCache(Context context) {
+        rememberContext(context);
+        return activeScope().commitCache(context);
+    }
+
+    /** Created on first use, since its files live in the app's cache directory. */
+    public IssueStore issueStore(Context context) {
+        rememberContext(context);
+        return activeScope().issueStore(context);
+    }
+
+    /** Created on first use, since its files live in the app's files directory. */
+    public OrgDashboardStore orgDashboardStore(Context context) {
+        rememberContext(context);
+        return activeScope().orgDashboardStore(context);
+    }
+
+    /**
+     * Shared by every screen of the active account so a pending stats computation is polled once,
+     * whoever asked for it.
+     */
+    public ContributorStatsRepository contributorStatsRepository() {
+        UserSessionData session = authRepository.getCachedSession();
+        return activeScope().contributorStatsRepository(
+                session == null ? null : session.getAccessToken(), pollScheduler, ioExecutor);
+    }
+
+    /** Follower analytics, and the follower snapshots they are diffed against, of the active account. */
+    public FollowAnalyticsRepository followAnalyticsRepository() {
+        UserSessionData session = authRepository.getCachedSession();
+        return activeScope().followAnalyticsRepository(
+                session == null ? null : session.getAccessToken(), userMapper);
+    }
+
+    public AvatarLoader avatarLoader() {
+        return avatarLoader;
+    }
+
+    private synchronized AccountScope activeScope() {
+        String login = authRepository.getActiveLogin();
+        if (login == null) {
+            return anonymousScope;
+        }
+        AccountScope scope = accountScopes.get(login);
+        if (scope == null) {
+            scope = new AccountScope(login);
+            accountScopes.put(login, scope);
+        }
+        return scope;
+    }
+
+    private synchronized void rememberContext(Context context) {
+        if (appContext == null) {
+            appContext = context.getApplicationContext();
+        }
+    }
+
+    /** Drops the caches of an account that signed out, files included. */
+    private void removeAccountScope(String login) {
+        AccountScope scope;
+        Context context;
+        synchronized (this) {
+            scope = accountScopes.remove(login);
+            context = appContext;
+        }
+        if (scope == null) {
+            // Nothing used in this process, but an earlier one may have left files behind.
+            scope = new AccountScope(login);
+        }
+        scope.clear(context);
+    }
+
     /** Clears the singleton instance to make room for a brand new graph (mainly for tests). */
     public static void reset() {
         synchronized (ServiceLocator.class) {
             instance = null;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,55 @@
+package com.usth.githubclient.domain.collection;
+
+import java.util.Arrays;
+
+/** Growable list of primitive {@code long} values. Not thread-safe. */
+public final class LongArrayList {
+
+    private long[] values;
+    private int size;
+
+    public LongArrayList() {
+        this(16);
+    }
+
+    public LongArrayList(int initialCapacity) {
+        values = new long[Math.max(initialCapacity, 1)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void add(long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length << 1);
+        }
+        values[size++] = value;
+    }
+
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        return values[index];
+    }
+
+    public void set(int index, long value) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        values[index] = value;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,254 @@
+package com.usth.githubclient.domain.collection;
+
+import java.util.Arrays;
+
+/**
+ * Immutable set of numeric GitHub ids backed by a sorted, de-duplicated {@code long[]}.
+ * <p>
+ * Lookups are binary searches and the set algebra methods walk both arrays once (merge style),
+ * so comparing two snapshots of tens of thousands of accounts never boxes a single id.
+ */
+public final class LongIdSet {
+
+    private static final long[] EMPTY_ARRAY = new long[0];
+    private static final LongIdSet EMPTY = new LongIdSet(EMPTY_ARRAY, 0);
+
+    private final long[] ids;
+    private final int size;
+
+    private LongIdSet(long[] ids, int size) {
+        this.ids = ids;
+        this.size = size;
+    }
+
+    public static LongIdSet empty() {
+        return EMPTY;
+    }
+
+    /** Creates a set from arbitrary (unsorted, possibly duplicated) ids. */
+    public static LongIdSet of(long... ids) {
+        if (ids == null || ids.length == 0) {
+            return EMPTY;
+        }
+        long[] copy = Arrays.copyOf(ids, ids.length);
+        return sortAndDedupe(copy, copy.length);
+    }
+
+    /**
+     * Wraps an array that is already sorted ascending and free of duplicates. The array is owned
+     * by the returned set afterwards and must not be mutated by the caller.
+     */
+    public static LongIdSet wrapSorted(long[] sortedIds, int size) {
+        if (size < 0 || size > sortedIds.length) {
+            throw new IllegalArgumentException("size out of range: " + size);
+        }
+        return size == 0 ? EMPTY : new LongIdSet(sortedIds, size);
+    }
+
+    public static Builder builder() {
+        return new Builder(16);
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    /** Returns the id stored at {@code index} in ascending order. */
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        return ids[index];
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /** Ids present in both sets. */
+    public LongIdSet intersect(LongIdSet other) {
+        if (isEmpty() || other.isEmpty()) {
+            return EMPTY;
+        }
+        long[] result = new long[Math.min(size, other.size)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            long a = ids[i];
+            long b = other.ids[j];
+            if (a < b) {
+                i++;
+            } else if (a > b) {
+                j++;
+            } else {
+                result[count++] = a;
+                i++;
+                j++;
+            }
+        }
+        return wrapSorted(result, count);
+    }
+
+    /** Ids present in this set but not in {@code other}. */
+    public LongIdSet difference(LongIdSet other) {
+        if (isEmpty()) {
+            return EMPTY;
+        }
+        if (other.isEmpty()) {
+            return this;
+        }
+        long[] result = new long[size];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size) {
+            long a = ids[i];
+            while (j < other.size && other.ids[j] < a) {
+                j++;
+            }
+            if (j >= other.size || other.ids[j] != a) {
+                result[count++] = a;
+            }
+            i++;
+        }
+        return count == size ? this : wrapSorted(result, count);
+    }
+
+    /** Ids present in either set. */
+    public LongIdSet union(LongIdSet other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        long[] result = new long[size + other.size];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            long next;
+            if (j >= other.size || (i < size && ids[i] < other.ids[j])) {
+                next = ids[i++];
+            } else if (i >= size || other.ids[j] < ids[i]) {
+                next = other.ids[j++];
+            } else {
+                next = ids[i];
+                i++;
+                j++;
+            }
+            result[count++] = next;
+        }
+        return wrapSorted(result, count);
+    }
+
+    /** Number of ids shared with {@code other}, without allocating the intersection. */
+    public int intersectionSize(LongIdSet other) {
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            long a = ids[i];
+            long b = other.ids[j];
+            if (a < b) {
+                i++;
+            } else if (a > b) {
+                j++;
+            } else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    private static LongIdSet sortAndDedupe(long[] values, int length) {
+        if (length == 0) {
+            return EMPTY;
+        }
+        Arrays.sort(values, 0, length);
+        int unique = 1;
+        for (int i = 1; i < length; i++) {
+            if (values[i] != values[unique - 1]) {
+                values[unique++] = values[i];
+            }
+        }
+        return new LongIdSet(values, unique);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LongIdSet)) {
+            return false;
+        }
+        LongIdSet that = (LongIdSet) o;
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (ids[i] != that.ids[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Long.hashCode(ids[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "LongIdSet[size=" + size + "]";
+    }
+
+    /** Accumulates ids in any order; {@link #build()} sorts and removes duplicates once. */
+    public static final class Builder {
+
+        private long[] values;
+        private int count;
+
+        private Builder(int expectedSize) {
+            values = expectedSize <= 0 ? EMPTY_ARRAY : new long[expectedSize];
+        }
+
+        public Builder add(long id) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, Math.max(16, values.length * 2));
+            }
+            values[count++] = id;
+            return this;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public LongIdSet build() {
+            long[] snapshot = Arrays.copyOf(values, count);
+            return sortAndDedupe(snapshot, count);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.usth.githubclient.domain.collection;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from non-negative {@code long} keys (GitHub ids) to {@code int} values.
+ * <p>
+ * Keys and values live in two flat arrays with linear probing, so a map holding a million ids costs
+ * roughly 12 MB instead of the ~80 MB a {@code HashMap<Long, Integer>} would need. Not thread-safe.
+ */
+public final class LongIntHashMap {
+
+    private static final long EMPTY_KEY = -1L;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int resizeThreshold;
+
+    public LongIntHashMap() {
+        this(16);
+    }
+
+    public LongIntHashMap(int expectedSize) {
+        allocate(tableSizeFor(Math.max(expectedSize, 4)));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /** Returns the value mapped to {@code key} or {@code missingValue} if there is none. */
+    public int get(long key, int missingValue) {
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : missingValue;
+    }
+
+    /**
+     * Associates {@code value} with {@code key} only if the key is absent.
+     *
+     * @return the existing value, or {@code missingValue} if the key was inserted.
+     */
+    public int putIfAbsent(long key, int value, int missingValue) {
+        checkKey(key);
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY_KEY) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return missingValue;
+    }
+
+    public void put(long key, int value) {
+        checkKey(key);
+        int index = indexOf(key);
+        if (index >= 0) {
+            values[index] = value;
+        } else {
+            putIfAbsent(key, value, 0);
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY_KEY);
+        size = 0;
+    }
+
+    private int indexOf(long key) {
+        if (key < 0L) {
+            return -1;
+        }
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY_KEY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key == EMPTY_KEY) {
+                continue;
+            }
+            int slot = mix(key) & mask;
+            while (keys[slot] != EMPTY_KEY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(keys, EMPTY_KEY);
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static void checkKey(long key) {
+        if (key < 0L) {
+            throw new IllegalArgumentException("key must be >= 0");
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int needed = (int) Math.ceil(expectedSize / LOAD_FACTOR);
+        int capacity = Integer.highestOneBit(Math.max(needed, 4) - 1) << 1;
+        return Math.max(capacity, 4);
+    }
+}
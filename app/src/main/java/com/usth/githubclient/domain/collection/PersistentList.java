@@ -0,0 +1,281 @@
+package com.usth.githubclient.domain.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * Immutable list with structural sharing, laid out as a 32-way trie plus a tail block (the same
+ * shape as Clojure's persistent vector).
+ * <p>
+ * Holding or passing on an instance never needs a defensive copy, so {@link #copyOf(Collection)}
+ * of a {@code PersistentList} is O(1). {@link #plus(Object)} and {@link #plusAll(Collection)}
+ * share every full block with the original and copy only the path to the new tail, so appending a
+ * page costs O(page) instead of O(list). {@link #get(int)} is O(log32 n), effectively constant.
+ * Mutators inherited from {@link java.util.List} throw {@link UnsupportedOperationException}.
+ */
+public final class PersistentList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+    private static final PersistentList<Object> EMPTY =
+            new PersistentList<>(0, BITS, new Object[WIDTH], EMPTY_ARRAY);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    // Last (partial or full) block, exactly size - tailOffset() long; never shared with a builder.
+    private final Object[] tail;
+
+    private PersistentList(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /** Returns {@code source} itself when it already is a {@code PersistentList}, otherwise a copy. */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> source) {
+        if (source instanceof PersistentList) {
+            return (PersistentList<E>) source;
+        }
+        if (source == null || source.isEmpty()) {
+            return empty();
+        }
+        Builder<E> builder = builder();
+        for (E element : source) {
+            builder.add(element);
+        }
+        return builder.build();
+    }
+
+    public static <E> Builder<E> builder() {
+        return new Builder<>(PersistentList.<E>empty());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        return (E) blockFor(index)[index & MASK];
+    }
+
+    /** Returns a list with {@code element} appended; this list is left unchanged. */
+    public PersistentList<E> plus(E element) {
+        Builder<E> builder = toBuilder();
+        builder.add(element);
+        return builder.build();
+    }
+
+    /** Returns a list with every element of {@code elements} appended, e.g. the next page. */
+    public PersistentList<E> plusAll(Collection<? extends E> elements) {
+        if (elements == null || elements.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return copyOf(elements);
+        }
+        Builder<E> builder = toBuilder();
+        for (E element : elements) {
+            builder.add(element);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Elements matching {@code predicate}, in order. Returns this list when every element matches,
+     * so an empty filter never copies.
+     */
+    public PersistentList<E> filter(Predicate<? super E> predicate) {
+        int firstMiss = 0;
+        Iterator<E> iterator = iterator();
+        while (iterator.hasNext() && predicate.test(iterator.next())) {
+            firstMiss++;
+        }
+        if (firstMiss == size) {
+            return this;
+        }
+        Builder<E> builder = builder();
+        for (int i = 0; i < firstMiss; i++) {
+            builder.add(get(i));
+        }
+        while (iterator.hasNext()) {
+            E element = iterator.next();
+            if (predicate.test(element)) {
+                builder.add(element);
+            }
+        }
+        return builder.build();
+    }
+
+    /** Builder that continues from this list, sharing its trie. */
+    public Builder<E> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new BlockIterator();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof PersistentList) {
+            PersistentList<?> that = (PersistentList<?>) o;
+            if (that.size == size && that.root == root && that.tail == tail) {
+                return true;
+            }
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] blockFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * Copies the path from {@code parent} to the slot for a full block and stores {@code block}
+     * there. {@code count} is the number of elements including the block being pushed.
+     */
+    private static Object[] pushBlock(int count, int level, Object[] parent, Object[] block) {
+        Object[] copy = parent.clone();
+        int slot = ((count - 1) >>> level) & MASK;
+        Object[] child;
+        if (level == BITS) {
+            child = block;
+        } else {
+            Object[] existing = (Object[]) parent[slot];
+            child = existing != null
+                    ? pushBlock(count, level - BITS, existing, block)
+                    : newPath(level - BITS, block);
+        }
+        copy[slot] = child;
+        return copy;
+    }
+
+    private static Object[] newPath(int level, Object[] block) {
+        if (level == 0) {
+            return block;
+        }
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, block);
+        return node;
+    }
+
+    private final class BlockIterator implements Iterator<E> {
+
+        private int index;
+        private Object[] block;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (index >= size) {
+                throw new NoSuchElementException();
+            }
+            if ((index & MASK) == 0 || block == null) {
+                block = blockFor(index);
+            }
+            return (E) block[index++ & MASK];
+        }
+    }
+
+    /**
+     * Appends elements in place and freezes them with {@link #build()}. Trie nodes are only ever
+     * path-copied, never written to, so lists built earlier stay valid; only the tail block is
+     * owned by the builder.
+     */
+    public static final class Builder<E> {
+
+        private int size;
+        private int shift;
+        private Object[] root;
+        private Object[] tail;
+        private int tailCount;
+
+        private Builder(PersistentList<E> start) {
+            size = start.size;
+            shift = start.shift;
+            root = start.root;
+            tailCount = start.tail.length;
+            tail = Arrays.copyOf(start.tail, WIDTH);
+        }
+
+        public Builder<E> add(E element) {
+            if (tailCount == WIDTH) {
+                pushTail();
+            }
+            tail[tailCount++] = element;
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /** Freezes the current contents; the builder can keep appending afterwards. */
+        public PersistentList<E> build() {
+            if (size == 0) {
+                return empty();
+            }
+            return new PersistentList<>(size, shift, root, Arrays.copyOf(tail, tailCount));
+        }
+
+        private void pushTail() {
+            Object[] block = tail;
+            if ((size >>> BITS) > (1 << shift)) {
+                Object[] newRoot = new Object[WIDTH];
+                newRoot[0] = root;
+                newRoot[1] = newPath(shift, block);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushBlock(size, shift, root, block);
+            }
+            tail = new Object[WIDTH];
+            tailCount = 0;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.usth.githubclient.domain.mapper;
+
+import android.annotation.SuppressLint;
+
+import com.usth.githubclient.data.remote.dto.CommitDto;
+import com.usth.githubclient.domain.model.CommitSummary;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Maps {@link CommitDto} responses to domain level {@link CommitSummary} values.
+ */
+public final class CommitMapper {
+
+    /** Longer headlines are cut; a history row shows one line anyway. */
+    static final int MAX_HEADLINE_LENGTH = 200;
+
+    /** Returns {@code null} for entries without a SHA. */
+    public CommitSummary map(CommitDto dto) {
+        if (dto == null || dto.getSha() == null) {
+            return null;
+        }
+        CommitDto.Commit commit = dto.getCommit();
+        String message = commit == null || commit.getMessage() == null ? "" : commit.getMessage();
+        int lineEnd = message.indexOf('\n');
+        String headline = (lineEnd < 0 ? message : message.substring(0, lineEnd)).trim();
+        if (headline.length() > MAX_HEADLINE_LENGTH) {
+            headline = headline.substring(0, MAX_HEADLINE_LENGTH);
+        }
+        CommitDto.Signature signature = commit == null ? null : commit.getAuthor();
+        String authorName = signature == null || signature.getName() == null ? "" : signature.getName();
+        String login = dto.getAuthor() == null ? null : dto.getAuthor().getLogin();
+        return new CommitSummary(dto.getSha(), headline, authorName, login,
+                parseInstant(signature == null ? null : signature.getDate()));
+    }
+
+    @SuppressLint("NewApi")
+    private Instant parseInstant(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException ignored) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.usth.githubclient.domain.mapper;
+
+import com.usth.githubclient.data.remote.dto.ContributorStatsDto;
+import com.usth.githubclient.domain.model.ContributorStats;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps {@link ContributorStatsDto} responses to a {@link ContributorStats} leaderboard.
+ */
+public final class ContributorStatsMapper {
+
+    /**
+     * Returns the contributors with an account, most commits first (ties by login). Weekly
+     * additions and deletions are summed; the weeks themselves are dropped.
+     */
+    public List<ContributorStats> mapLeaderboard(List<ContributorStatsDto> dtos) {
+        List<ContributorStats> result = new ArrayList<>(dtos == null ? 0 : dtos.size());
+        if (dtos == null) {
+            return result;
+        }
+        for (ContributorStatsDto dto : dtos) {
+            if (dto == null || dto.getAuthor() == null || dto.getAuthor().getLogin() == null) {
+                continue;
+            }
+            long additions = 0L;
+            long deletions = 0L;
+            if (dto.getWeeks() != null) {
+                for (ContributorStatsDto.Week week : dto.getWeeks()) {
+                    additions += week.getAdditions();
+                    deletions += week.getDeletions();
+                }
+            }
+            result.add(new ContributorStats(dto.getAuthor().getLogin(), dto.getAuthor().getAvatarUrl(),
+                    dto.getTotal(), additions, deletions));
+        }
+        result.sort((a, b) -> a.getCommits() != b.getCommits()
+                ? Integer.compare(b.getCommits(), a.getCommits())
+                : a.getLogin().compareToIgnoreCase(b.getLogin()));
+        return result;
+    }
+}
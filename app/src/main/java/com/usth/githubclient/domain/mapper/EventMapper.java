@@ -0,0 +1,43 @@
+package com.usth.githubclient.domain.mapper;
+
+import android.annotation.SuppressLint;
+
+import com.usth.githubclient.data.remote.dto.EventDto;
+import com.usth.githubclient.domain.model.FeedEvent;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Maps {@link EventDto} responses to domain level {@link FeedEvent} values.
+ */
+public final class EventMapper {
+
+    /** Returns {@code null} for events without a numeric id, an actor or a repository. */
+    public FeedEvent map(EventDto dto) {
+        if (dto == null || dto.getType() == null || dto.getActor() == null
+                || dto.getActor().getLogin() == null || dto.getRepo() == null
+                || dto.getRepo().getName() == null) {
+            return null;
+        }
+        long id;
+        try {
+            id = Long.parseLong(dto.getId());
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+        return new FeedEvent(id, dto.getType(), dto.getActor().getLogin(), dto.getActor().getAvatarUrl(),
+                dto.getRepo().getName(), parseInstant(dto.getCreatedAt()));
+    }
+
+    @SuppressLint("NewApi")
+    private Instant parseInstant(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException ignored) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.usth.githubclient.domain.mapper;
+
+import com.usth.githubclient.data.remote.dto.GitTreeDto;
+import com.usth.githubclient.domain.model.GitTree;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Maps {@link GitTreeDto} responses to domain level {@link GitTree} values.
+ */
+public final class GitTreeMapper {
+
+    private static final Comparator<GitTree.Entry> LISTING_ORDER = (a, b) -> {
+        boolean aDirectory = a.getType() == GitTree.Type.DIRECTORY;
+        boolean bDirectory = b.getType() == GitTree.Type.DIRECTORY;
+        if (aDirectory != bDirectory) {
+            return aDirectory ? -1 : 1;
+        }
+        int byName = String.CASE_INSENSITIVE_ORDER.compare(a.getName(), b.getName());
+        return byName != 0 ? byName : a.getName().compareTo(b.getName());
+    };
+
+    public GitTree map(GitTreeDto dto) {
+        Objects.requireNonNull(dto, "dto == null");
+        if (dto.getSha() == null) {
+            throw new IllegalArgumentException("sha is missing");
+        }
+        List<GitTree.Entry> entries = new ArrayList<>();
+        if (dto.getTree() != null) {
+            for (GitTreeDto.Entry entry : dto.getTree()) {
+                GitTree.Entry mapped = mapEntry(entry);
+                if (mapped != null) {
+                    entries.add(mapped);
+                }
+            }
+        }
+        entries.sort(LISTING_ORDER);
+        return new GitTree(dto.getSha(), entries, dto.isTruncated());
+    }
+
+    private static GitTree.Entry mapEntry(GitTreeDto.Entry entry) {
+        if (entry == null || entry.getPath() == null || entry.getSha() == null) {
+            return null;
+        }
+        GitTree.Type type;
+        if ("tree".equals(entry.getType())) {
+            type = GitTree.Type.DIRECTORY;
+        } else if ("blob".equals(entry.getType())) {
+            type = GitTree.Type.FILE;
+        } else if ("commit".equals(entry.getType())) {
+            type = GitTree.Type.SUBMODULE;
+        } else {
+            return null;
+        }
+        long size = entry.getSize() == null ? 0L : entry.getSize();
+        return new GitTree.Entry(entry.getPath(), type, entry.getSha(), size);
+    }
+}
@@ -0,0 +1,36 @@
+package com.usth.githubclient.domain.mapper;
+
+import android.annotation.SuppressLint;
+
+import com.usth.githubclient.data.remote.dto.IssueDto;
+import com.usth.githubclient.domain.model.IssueSummary;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Maps {@link IssueDto} responses to domain level {@link IssueSummary} values.
+ */
+public final class IssueMapper {
+
+    private static final String OPEN = "open";
+
+    /** Returns {@code null} for items without a number or timestamps. */
+    @SuppressLint("NewApi")
+    public IssueSummary map(IssueDto dto) {
+        if (dto == null || dto.getNumber() <= 0 || dto.getCreatedAt() == null || dto.getUpdatedAt() == null) {
+            return null;
+        }
+        Instant createdAt;
+        Instant updatedAt;
+        try {
+            createdAt = Instant.parse(dto.getCreatedAt());
+            updatedAt = Instant.parse(dto.getUpdatedAt());
+        } catch (DateTimeParseException exception) {
+            return null;
+        }
+        String login = dto.getUser() == null ? null : dto.getUser().getLogin();
+        return new IssueSummary(dto.getNumber(), dto.getTitle() == null ? "" : dto.getTitle(),
+                OPEN.equals(dto.getState()), dto.isPullRequest(), login,
+                Math.max(0, dto.getComments()), createdAt, updatedAt);
+    }
+}
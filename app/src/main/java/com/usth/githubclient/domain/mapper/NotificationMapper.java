@@ -0,0 +1,39 @@
+package com.usth.githubclient.domain.mapper;
+
+import android.annotation.SuppressLint;
+
+import com.usth.githubclient.data.remote.dto.NotificationDto;
+import com.usth.githubclient.domain.model.NotificationThread;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Maps {@link NotificationDto} responses to domain level {@link NotificationThread} values.
+ */
+public final class NotificationMapper {
+
+    private static final String UNKNOWN = "";
+
+    /** Returns {@code null} for threads without a numeric id, a repository or an update time. */
+    @SuppressLint("NewApi")
+    public NotificationThread map(NotificationDto dto) {
+        if (dto == null || dto.getRepository() == null || dto.getRepository().getFullName() == null
+                || dto.getUpdatedAt() == null) {
+            return null;
+        }
+        long id;
+        Instant updatedAt;
+        try {
+            id = Long.parseLong(dto.getId());
+            updatedAt = Instant.parse(dto.getUpdatedAt());
+        } catch (NumberFormatException | DateTimeParseException exception) {
+            return null;
+        }
+        NotificationDto.Subject subject = dto.getSubject();
+        String title = subject == null || subject.getTitle() == null ? UNKNOWN : subject.getTitle();
+        String type = subject == null || subject.getType() == null ? UNKNOWN : subject.getType();
+        String reason = dto.getReason() == null ? UNKNOWN : dto.getReason();
+        return new NotificationThread(id, dto.isUnread(), reason, title, type,
+                dto.getRepository().getFullName(), updatedAt);
+    }
+}
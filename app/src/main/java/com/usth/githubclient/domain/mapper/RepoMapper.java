@@ -1,12 +1,13 @@
 package com.usth.githubclient.domain.mapper;
 
+import com.usth.githubclient.data.remote.dto.GraphQlRepoDto;
 import com.usth.githubclient.data.remote.dto.RepoDto;
 import com.usth.githubclient.data.remote.dto.UserDto;
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.model.GitHubUserProfileDataEntry;
 import com.usth.githubclient.domain.model.ReposDataEntry;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -56,6 +57,7 @@ public final class RepoMapper {
 
         builder.isPrivate(dto.isPrivate());
         builder.isFork(dto.isFork());
+        builder.isArchived(dto.isArchived());
 
         Instant createdAt = parseInstant(dto.getCreatedAt());
         if (createdAt != null) {
@@ -80,19 +82,56 @@ public final class RepoMapper {
         return builder.build();
     }
 
+    /**
+     * Maps a GraphQL repository node to the same domain representation as {@link #map(RepoDto)}.
+     */
+    public ReposDataEntry map(GraphQlRepoDto dto) {
+        Objects.requireNonNull(dto, "dto == null");
+
+        String name = requireNonEmpty(dto.getName(), "name");
+        String htmlUrl = requireNonEmpty(dto.getUrl(), "url");
+
+        ReposDataEntry.Builder builder = ReposDataEntry.builder(dto.getDatabaseId(), name, htmlUrl)
+                .fullName(normalize(dto.getNameWithOwner()))
+                .description(normalize(dto.getDescription()))
+                .language(normalize(dto.getPrimaryLanguage()))
+                .stargazersCount(safeCount(dto.getStargazerCount()))
+                .forksCount(safeCount(dto.getForkCount()))
+                .watchersCount(safeCount(dto.getWatchersCount()))
+                .openIssuesCount(safeCount(dto.getOpenIssuesCount()))
+                .defaultBranch(normalize(dto.getDefaultBranch()))
+                .isPrivate(dto.isPrivate())
+                .isFork(dto.isFork())
+                .isArchived(dto.isArchived())
+                .createdAt(parseInstant(dto.getCreatedAt()))
+                .updatedAt(parseInstant(dto.getUpdatedAt()))
+                .pushedAt(parseInstant(dto.getPushedAt()));
+
+        GraphQlRepoDto.Owner owner = dto.getOwner();
+        String ownerLogin = owner == null ? null : normalize(owner.getLogin());
+        if (ownerLogin != null) {
+            builder.owner(GitHubUserProfileDataEntry.builder(owner.getDatabaseId(), ownerLogin)
+                    .avatarUrl(normalize(owner.getAvatarUrl()))
+                    .profileUrl(normalize(owner.getUrl()))
+                    .build());
+        }
+
+        return builder.build();
+    }
+
     public List<ReposDataEntry> mapList(List<RepoDto> dtos) {
         if (dtos == null || dtos.isEmpty()) {
-            return Collections.emptyList();
+            return PersistentList.empty();
         }
 
-        List<ReposDataEntry> entries = new ArrayList<>(dtos.size());
+        PersistentList.Builder<ReposDataEntry> entries = PersistentList.builder();
         for (RepoDto dto : dtos) {
             if (dto == null) {
                 continue;
             }
             entries.add(map(dto));
         }
-        return Collections.unmodifiableList(entries);
+        return entries.build();
     }
 
     private String requireNonEmpty(String value, String fieldName) {
@@ -2,11 +2,12 @@ package com.usth.githubclient.domain.mapper;
 
 import android.annotation.SuppressLint;
 
+import com.usth.githubclient.data.remote.dto.GraphQlUserDto;
 import com.usth.githubclient.data.remote.dto.UserDto;
+import com.usth.githubclient.domain.collection.PersistentList;
 import com.usth.githubclient.domain.model.GitHubUserProfileDataEntry;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -86,6 +87,35 @@ public final class UserMapper {
         return builder.build();
     }
 
+    /**
+     * Convert a GraphQL user payload to the same domain representation as {@link #map(UserDto)}.
+     */
+    public GitHubUserProfileDataEntry map(GraphQlUserDto dto) {
+        Objects.requireNonNull(dto, "dto == null");
+
+        String username = requireNonEmpty(dto.getLogin(), "login");
+        GitHubUserProfileDataEntry.Builder builder =
+                GitHubUserProfileDataEntry.builder(dto.getDatabaseId(), username);
+
+        builder.displayName(normalize(dto.getName()));
+        builder.avatarUrl(normalize(dto.getAvatarUrl()));
+        builder.bio(normalize(dto.getBio()));
+        builder.company(normalize(dto.getCompany()));
+        builder.blogUrl(normalize(dto.getWebsiteUrl()));
+        builder.email(normalize(dto.getEmail()));
+        builder.location(normalize(dto.getLocation()));
+        builder.profileUrl(normalize(dto.getUrl()));
+
+        builder.publicReposCount(safeCount(dto.getPublicReposCount()));
+        builder.followersCount(safeCount(dto.getFollowersCount()));
+        builder.followingCount(safeCount(dto.getFollowingCount()));
+
+        builder.createdAt(parseInstant(dto.getCreatedAt()));
+        builder.updatedAt(parseInstant(dto.getUpdatedAt()));
+
+        return builder.build();
+    }
+
     private String requireNonEmpty(String value, String fieldName) {
         String normalized = normalize(value);
         if (normalized == null) {
@@ -122,13 +152,13 @@ public final class UserMapper {
     }
 
     public List<GitHubUserProfileDataEntry> mapList(List<UserDto> dtoList) {
-        List<GitHubUserProfileDataEntry> result = new ArrayList<>();
+        PersistentList.Builder<GitHubUserProfileDataEntry> result = PersistentList.builder();
         if (dtoList != null) {
             for (UserDto dto : dtoList) {
                 GitHubUserProfileDataEntry entry = map(dto);
                 if (entry != null) result.add(entry);
             }
         }
-        return result;
+        return result.build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,224 @@
+package com.usth.githubclient.domain.markdown;
+
+import org.markdownj.MarkdownProcessor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Renders Markdown to HTML in independent chunks of roughly {@code targetChunkChars} source
+ * characters, so the first part of a large document can be shown while the rest is still rendering.
+ * <p>
+ * Chunks are cut at a blank line that is not followed by an indented line, and never inside a
+ * fenced code block. Markdown with no such line for {@link #MAX_CHUNK_FACTOR} times the target is
+ * cut at the next line anyway: markdownj recurses deeply on long input and overflows an ordinary
+ * thread stack, so an unbounded chunk would be worse than a split list or paragraph. Fenced
+ * blocks, which markdownj does not know about, are rendered here as {@code <pre><code>}. Link
+ * reference definitions are gathered up front and handed to every chunk, so {@code [text][id]}
+ * resolves wherever the definition is. Instances are stateless; every render uses its own
+ * {@link MarkdownProcessor}.
+ */
+public final class MarkdownRenderer {
+
+    public static final int DEFAULT_TARGET_CHUNK_CHARS = 4_096;
+    public static final int MAX_CHUNK_FACTOR = 4;
+
+    private static final Pattern FENCE = Pattern.compile("^ {0,3}(`{3,}|~{3,})\\s*([^`\\s]*).*$");
+    private static final Pattern LINK_DEFINITION = Pattern.compile("^ {0,3}\\[[^\\]]+\\]:\\s*\\S.*$");
+
+    /** Receives each chunk as soon as it is rendered, on the rendering thread. */
+    public interface ChunkListener {
+        void onChunk(int index, String html);
+    }
+
+    private final int targetChunkChars;
+    private final int maxChunkChars;
+
+    public MarkdownRenderer() {
+        this(DEFAULT_TARGET_CHUNK_CHARS);
+    }
+
+    public MarkdownRenderer(int targetChunkChars) {
+        if (targetChunkChars <= 0) {
+            throw new IllegalArgumentException("targetChunkChars must be > 0");
+        }
+        this.targetChunkChars = targetChunkChars;
+        this.maxChunkChars = (int) Math.min(Integer.MAX_VALUE, (long) targetChunkChars * MAX_CHUNK_FACTOR);
+    }
+
+    /**
+     * Renders {@code markdown}, reporting every chunk to {@code listener} (may be {@code null}).
+     * Returns all chunks, or {@code null} if the calling thread was interrupted before the end.
+     */
+    public List<String> render(String markdown, ChunkListener listener) {
+        Objects.requireNonNull(markdown, "markdown == null");
+        String[] lines = markdown.replace("\r\n", "\n").replace('\r', '\n').split("\n", -1);
+        String definitions = collectLinkDefinitions(lines);
+
+        ChunkBuilder chunks = new ChunkBuilder(definitions, listener);
+        StringBuilder pending = new StringBuilder();
+        int i = 0;
+        while (i < lines.length) {
+            String line = lines[i];
+            Matcher fence = FENCE.matcher(line);
+            if (fence.matches()) {
+                chunks.appendMarkdown(pending);
+                i = appendFencedBlock(lines, i, fence.group(1), fence.group(2), chunks);
+            } else {
+                pending.append(line).append('\n');
+                i++;
+                int size = chunks.sourceChars + pending.length();
+                if (size >= maxChunkChars || line.trim().isEmpty()
+                        && size >= targetChunkChars
+                        && (i >= lines.length || !isIndented(lines[i]))) {
+                    chunks.appendMarkdown(pending);
+                }
+            }
+            if (chunks.sourceChars >= targetChunkChars) {
+                chunks.emit();
+                if (Thread.currentThread().isInterrupted()) {
+                    return null;
+                }
+            }
+        }
+        chunks.appendMarkdown(pending);
+        chunks.emit();
+        return Collections.unmodifiableList(chunks.rendered);
+    }
+
+    /** Appends the fenced block opening at {@code start} and returns the index after it. */
+    private static int appendFencedBlock(String[] lines, int start, String marker, String info,
+                                         ChunkBuilder chunks) {
+        char fenceChar = marker.charAt(0);
+        StringBuilder html = new StringBuilder();
+        html.append(info.isEmpty() ? "<pre><code>" : "<pre><code class=\"language-" + escape(info) + "\">");
+        int sourceChars = lines[start].length() + 1;
+        int i = start + 1;
+        for (; i < lines.length; i++) {
+            String line = lines[i];
+            sourceChars += line.length() + 1;
+            if (isClosingFence(line, fenceChar, marker.length())) {
+                i++;
+                break;
+            }
+            html.append(escape(line)).append('\n');
+        }
+        html.append("</code></pre>\n");
+        chunks.appendHtml(html, sourceChars);
+        return i;
+    }
+
+    private static boolean isClosingFence(String line, char fenceChar, int minLength) {
+        int indent = 0;
+        while (indent < line.length() && indent < 4 && line.charAt(indent) == ' ') {
+            indent++;
+        }
+        if (indent > 3) {
+            return false;
+        }
+        int end = indent;
+        while (end < line.length() && line.charAt(end) == fenceChar) {
+            end++;
+        }
+        return end - indent >= minLength && line.substring(end).trim().isEmpty();
+    }
+
+    private static String collectLinkDefinitions(String[] lines) {
+        StringBuilder definitions = new StringBuilder();
+        boolean inFence = false;
+        char fenceChar = 0;
+        int fenceLength = 0;
+        for (String line : lines) {
+            if (inFence) {
+                inFence = !isClosingFence(line, fenceChar, fenceLength);
+                continue;
+            }
+            Matcher fence = FENCE.matcher(line);
+            if (fence.matches()) {
+                inFence = true;
+                fenceChar = fence.group(1).charAt(0);
+                fenceLength = fence.group(1).length();
+            } else if (LINK_DEFINITION.matcher(line).matches()) {
+                definitions.append(line).append('\n');
+            }
+        }
+        return definitions.toString();
+    }
+
+    private static boolean isIndented(String line) {
+        return !line.isEmpty() && (line.charAt(0) == ' ' || line.charAt(0) == '\t');
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&':
+                    escaped.append("&amp;");
+                    break;
+                case '<':
+                    escaped.append("&lt;");
+                    break;
+                case '>':
+                    escaped.append("&gt;");
+                    break;
+                case '"':
+                    escaped.append("&quot;");
+                    break;
+                default:
+                    escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /** The chunk being assembled plus everything emitted so far. */
+    private static final class ChunkBuilder {
+        final String definitions;
+        final ChunkListener listener;
+        final List<String> rendered = new ArrayList<>();
+        final StringBuilder html = new StringBuilder();
+        int sourceChars;
+
+        ChunkBuilder(String definitions, ChunkListener listener) {
+            this.definitions = definitions;
+            this.listener = listener;
+        }
+
+        /** Renders and clears {@code markdown}. */
+        void appendMarkdown(StringBuilder markdown) {
+            if (markdown.length() == 0) {
+                return;
+            }
+            sourceChars += markdown.length();
+            if (!definitions.isEmpty()) {
+                markdown.append('\n').append(definitions);
+            }
+            html.append(new MarkdownProcessor().markdown(markdown.toString()));
+            markdown.setLength(0);
+        }
+
+        void appendHtml(CharSequence fragment, int fragmentSourceChars) {
+            html.append(fragment);
+            sourceChars += fragmentSourceChars;
+        }
+
+        void emit() {
+            String chunk = html.toString();
+            html.setLength(0);
+            sourceChars = 0;
+            if (chunk.trim().isEmpty()) {
+                return;
+            }
+            rendered.add(chunk);
+            if (listener != null) {
+                listener.onChunk(rendered.size() - 1, chunk);
+            }
+        }
+    }
+}
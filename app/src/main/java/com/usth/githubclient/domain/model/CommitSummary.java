@@ -0,0 +1,76 @@
+package com.usth.githubclient.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * One row of a commit history: the first line of the message, who wrote it and when. Commits are
+ * immutable, so a summary never changes for a given SHA.
+ */
+public final class CommitSummary {
+
+    private final String sha;
+    private final String headline;
+    private final String authorName;
+    private final String authorLogin;
+    private final Instant authoredAt;
+
+    public CommitSummary(String sha, String headline, String authorName, String authorLogin,
+                         Instant authoredAt) {
+        this.sha = Objects.requireNonNull(sha, "sha == null");
+        this.headline = Objects.requireNonNull(headline, "headline == null");
+        this.authorName = Objects.requireNonNull(authorName, "authorName == null");
+        this.authorLogin = authorLogin;
+        this.authoredAt = authoredAt;
+    }
+
+    public String getSha() {
+        return sha;
+    }
+
+    /** First line of the commit message. */
+    public String getHeadline() {
+        return headline;
+    }
+
+    /** Author name as recorded in the commit. */
+    public String getAuthorName() {
+        return authorName;
+    }
+
+    /** GitHub login of the author, when the commit e-mail belongs to an account. */
+    public Optional<String> getAuthorLogin() {
+        return Optional.ofNullable(authorLogin);
+    }
+
+    public Optional<Instant> getAuthoredAt() {
+        return Optional.ofNullable(authoredAt);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CommitSummary)) {
+            return false;
+        }
+        CommitSummary that = (CommitSummary) o;
+        return sha.equals(that.sha)
+                && headline.equals(that.headline)
+                && authorName.equals(that.authorName)
+                && Objects.equals(authorLogin, that.authorLogin)
+                && Objects.equals(authoredAt, that.authoredAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return sha.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "CommitSummary[sha=" + sha + ", headline=" + headline + "]";
+    }
+}
@@ -0,0 +1,71 @@
+package com.usth.githubclient.domain.model;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * One row of a repository's contributor leaderboard: commits on the default branch plus the lines
+ * added and deleted by them, summed over every week GitHub reports.
+ */
+public final class ContributorStats {
+
+    private final String login;
+    private final String avatarUrl;
+    private final int commits;
+    private final long additions;
+    private final long deletions;
+
+    public ContributorStats(String login, String avatarUrl, int commits, long additions, long deletions) {
+        this.login = Objects.requireNonNull(login, "login == null");
+        this.avatarUrl = avatarUrl;
+        this.commits = commits;
+        this.additions = additions;
+        this.deletions = deletions;
+    }
+
+    public String getLogin() {
+        return login;
+    }
+
+    public Optional<String> getAvatarUrl() {
+        return Optional.ofNullable(avatarUrl);
+    }
+
+    public int getCommits() {
+        return commits;
+    }
+
+    public long getAdditions() {
+        return additions;
+    }
+
+    public long getDeletions() {
+        return deletions;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ContributorStats)) {
+            return false;
+        }
+        ContributorStats that = (ContributorStats) o;
+        return commits == that.commits
+                && additions == that.additions
+                && deletions == that.deletions
+                && login.equals(that.login)
+                && Objects.equals(avatarUrl, that.avatarUrl);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(login, commits, additions, deletions);
+    }
+
+    @Override
+    public String toString() {
+        return "ContributorStats[login=" + login + ", commits=" + commits + "]";
+    }
+}
@@ -0,0 +1,60 @@
+package com.usth.githubclient.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * One entry of an activity feed, such as a push or a star. Events are immutable and identified by
+ * their numeric GitHub id, which is also how feeds de-duplicate them.
+ */
+public final class FeedEvent {
+
+    private final long id;
+    private final String type;
+    private final String actorLogin;
+    private final String actorAvatarUrl;
+    private final String repoName;
+    private final Instant createdAt;
+
+    public FeedEvent(long id, String type, String actorLogin, String actorAvatarUrl, String repoName,
+                     Instant createdAt) {
+        this.id = id;
+        this.type = Objects.requireNonNull(type, "type == null");
+        this.actorLogin = Objects.requireNonNull(actorLogin, "actorLogin == null");
+        this.actorAvatarUrl = actorAvatarUrl;
+        this.repoName = Objects.requireNonNull(repoName, "repoName == null");
+        this.createdAt = createdAt;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /** GitHub event type, e.g. {@code PushEvent} or {@code WatchEvent}. */
+    public String getType() {
+        return type;
+    }
+
+    public String getActorLogin() {
+        return actorLogin;
+    }
+
+    public Optional<String> getActorAvatarUrl() {
+        return Optional.ofNullable(actorAvatarUrl);
+    }
+
+    /** Full name of the repository, {@code owner/repo}. */
+    public String getRepoName() {
+        return repoName;
+    }
+
+    public Optional<Instant> getCreatedAt() {
+        return Optional.ofNullable(createdAt);
+    }
+
+    @Override
+    public String toString() {
+        return "FeedEvent[id=" + id + ", type=" + type + ", actor=" + actorLogin + ", repo=" + repoName + "]";
+    }
+}
@@ -0,0 +1,113 @@
+package com.usth.githubclient.domain.model;
+
+import com.usth.githubclient.domain.collection.LongIdSet;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Immutable follow-back breakdown of one account.
+ * <ul>
+ *     <li>mutuals: accounts that follow the user and are followed back;</li>
+ *     <li>not following back: accounts the user follows that do not follow the user;</li>
+ *     <li>fans: accounts following the user that the user does not follow.</li>
+ * </ul>
+ * All sets are sorted id arrays and are derived with merge passes, never per-element lookups in
+ * model lists.
+ */
+public final class FollowAnalytics {
+
+    private final String username;
+    private final LongIdSet followers;
+    private final LongIdSet following;
+    private final LongIdSet mutuals;
+    private final LongIdSet notFollowingBack;
+    private final LongIdSet fans;
+    private final Instant computedAt;
+
+    private FollowAnalytics(String username,
+                            LongIdSet followers,
+                            LongIdSet following,
+                            LongIdSet mutuals,
+                            LongIdSet notFollowingBack,
+                            LongIdSet fans,
+                            Instant computedAt) {
+        this.username = username;
+        this.followers = followers;
+        this.following = following;
+        this.mutuals = mutuals;
+        this.notFollowingBack = notFollowingBack;
+        this.fans = fans;
+        this.computedAt = computedAt;
+    }
+
+    /** Computes the breakdown from scratch in {@code O(followers + following)}. */
+    public static FollowAnalytics compute(String username,
+                                          LongIdSet followers,
+                                          LongIdSet following,
+                                          Instant computedAt) {
+        Objects.requireNonNull(username, "username == null");
+        Objects.requireNonNull(followers, "followers == null");
+        Objects.requireNonNull(following, "following == null");
+        Objects.requireNonNull(computedAt, "computedAt == null");
+        LongIdSet mutuals = followers.intersect(following);
+        return new FollowAnalytics(
+                username,
+                followers,
+                following,
+                mutuals,
+                following.difference(mutuals),
+                followers.difference(mutuals),
+                computedAt);
+    }
+
+    /**
+     * Derives the breakdown after followers were added or removed. Only the changed ids are
+     * classified; the existing sets are patched with merges instead of being recomputed.
+     */
+    public FollowAnalytics withFollowerChanges(LongIdSet added, LongIdSet removed, Instant computedAt) {
+        Objects.requireNonNull(added, "added == null");
+        Objects.requireNonNull(removed, "removed == null");
+        if (added.isEmpty() && removed.isEmpty()) {
+            return this;
+        }
+        LongIdSet addedFollowedBack = added.intersect(following);
+        LongIdSet addedFans = added.difference(addedFollowedBack);
+        LongIdSet removedFollowedBack = removed.intersect(following);
+        return new FollowAnalytics(
+                username,
+                followers.difference(removed).union(added),
+                following,
+                mutuals.difference(removed).union(addedFollowedBack),
+                notFollowingBack.difference(addedFollowedBack).union(removedFollowedBack),
+                fans.difference(removed).union(addedFans),
+                Objects.requireNonNull(computedAt, "computedAt == null"));
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public LongIdSet getFollowers() {
+        return followers;
+    }
+
+    public LongIdSet getFollowing() {
+        return following;
+    }
+
+    public LongIdSet getMutuals() {
+        return mutuals;
+    }
+
+    public LongIdSet getNotFollowingBack() {
+        return notFollowingBack;
+    }
+
+    public LongIdSet getFans() {
+        return fans;
+    }
+
+    public Instant getComputedAt() {
+        return computedAt;
+    }
+}
@@ -0,0 +1,81 @@
+package com.usth.githubclient.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * Immutable entry of the follower change log: a single account that started or stopped following
+ * the tracked user, observed at {@link #getObservedAt()}.
+ */
+public final class FollowerChange {
+
+    /** Direction of the change. */
+    public enum Type {
+        FOLLOWED,
+        UNFOLLOWED
+    }
+
+    private final long userId;
+    private final String username;
+    private final Type type;
+    private final Instant observedAt;
+
+    public FollowerChange(long userId, String username, Type type, Instant observedAt) {
+        this.userId = userId;
+        this.username = username;
+        this.type = Objects.requireNonNull(type, "type == null");
+        this.observedAt = Objects.requireNonNull(observedAt, "observedAt == null");
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Login of the account. Snapshots only keep ids, so it is absent for {@link Type#UNFOLLOWED}
+     * changes.
+     */
+    public Optional<String> getUsername() {
+        return Optional.ofNullable(username);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Instant getObservedAt() {
+        return observedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FollowerChange)) {
+            return false;
+        }
+        FollowerChange that = (FollowerChange) o;
+        return userId == that.userId
+                && type == that.type
+                && Objects.equals(username, that.username)
+                && Objects.equals(observedAt, that.observedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, username, type, observedAt);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", FollowerChange.class.getSimpleName() + "[", "]")
+                .add("userId=" + userId)
+                .add("username='" + username + '\'')
+                .add("type=" + type)
+                .add("observedAt=" + observedAt)
+                .toString();
+    }
+}
@@ -0,0 +1,71 @@
+package com.usth.githubclient.domain.model;
+
+import com.usth.githubclient.domain.collection.LongIdSet;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Result of one follower synchronisation: which ids appeared, which disappeared and the
+ * corresponding change log entries.
+ */
+public final class FollowerDiff {
+
+    private final String username;
+    private final LongIdSet added;
+    private final LongIdSet removed;
+    private final List<FollowerChange> changes;
+    private final int totalFollowers;
+    private final boolean baseline;
+    private final Instant syncedAt;
+
+    public FollowerDiff(String username,
+                        LongIdSet added,
+                        LongIdSet removed,
+                        List<FollowerChange> changes,
+                        int totalFollowers,
+                        boolean baseline,
+                        Instant syncedAt) {
+        this.username = Objects.requireNonNull(username, "username == null");
+        this.added = Objects.requireNonNull(added, "added == null");
+        this.removed = Objects.requireNonNull(removed, "removed == null");
+        this.changes = Collections.unmodifiableList(Objects.requireNonNull(changes, "changes == null"));
+        this.totalFollowers = totalFollowers;
+        this.baseline = baseline;
+        this.syncedAt = Objects.requireNonNull(syncedAt, "syncedAt == null");
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public LongIdSet getAdded() {
+        return added;
+    }
+
+    public LongIdSet getRemoved() {
+        return removed;
+    }
+
+    public List<FollowerChange> getChanges() {
+        return changes;
+    }
+
+    public int getTotalFollowers() {
+        return totalFollowers;
+    }
+
+    /** {@code true} when there was no earlier snapshot, so nothing could be reported as a change. */
+    public boolean isBaseline() {
+        return baseline;
+    }
+
+    public boolean hasChanges() {
+        return !added.isEmpty() || !removed.isEmpty();
+    }
+
+    public Instant getSyncedAt() {
+        return syncedAt;
+    }
+}
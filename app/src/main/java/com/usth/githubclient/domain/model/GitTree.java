@@ -0,0 +1,105 @@
+package com.usth.githubclient.domain.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One directory level of a repository, identified by its git tree SHA. Entries are sorted with
+ * directories first, then by name. Trees are immutable, so a SHA always denotes the same listing.
+ */
+public final class GitTree {
+
+    private final String sha;
+    private final List<Entry> entries;
+    private final boolean truncated;
+
+    public GitTree(String sha, List<Entry> entries, boolean truncated) {
+        this.sha = Objects.requireNonNull(sha, "sha == null");
+        this.entries = Collections.unmodifiableList(Objects.requireNonNull(entries, "entries == null"));
+        this.truncated = truncated;
+    }
+
+    public String getSha() {
+        return sha;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /** The listing was cut short by the API because the directory is too large. */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public String toString() {
+        return "GitTree[sha=" + sha + ", entries=" + entries.size() + ", truncated=" + truncated + "]";
+    }
+
+    /** Kinds of tree entries. */
+    public enum Type {
+        DIRECTORY,
+        FILE,
+        SUBMODULE
+    }
+
+    /** A file, directory or submodule inside a tree. */
+    public static final class Entry {
+
+        private final String name;
+        private final Type type;
+        private final String sha;
+        private final long size;
+
+        public Entry(String name, Type type, String sha, long size) {
+            this.name = Objects.requireNonNull(name, "name == null");
+            this.type = Objects.requireNonNull(type, "type == null");
+            this.sha = Objects.requireNonNull(sha, "sha == null");
+            this.size = size;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public String getSha() {
+            return sha;
+        }
+
+        /** Size in bytes for files, 0 otherwise. */
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry that = (Entry) o;
+            return size == that.size
+                    && name.equals(that.name)
+                    && type == that.type
+                    && sha.equals(that.sha);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, type, sha, size);
+        }
+
+        @Override
+        public String toString() {
+            return name + (type == Type.DIRECTORY ? "/" : "") + "@" + sha;
+        }
+    }
+}
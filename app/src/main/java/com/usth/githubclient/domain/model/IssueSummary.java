@@ -0,0 +1,96 @@
+package com.usth.githubclient.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * One row of a repository's issue list; pull requests are issues too. Identified by its number
+ * within the repository, and replaced by a newer copy whenever the issue is updated.
+ */
+public final class IssueSummary {
+
+    private final int number;
+    private final String title;
+    private final boolean open;
+    private final boolean pullRequest;
+    private final String authorLogin;
+    private final int commentCount;
+    private final Instant createdAt;
+    private final Instant updatedAt;
+
+    public IssueSummary(int number, String title, boolean open, boolean pullRequest, String authorLogin,
+                        int commentCount, Instant createdAt, Instant updatedAt) {
+        this.number = number;
+        this.title = Objects.requireNonNull(title, "title == null");
+        this.open = open;
+        this.pullRequest = pullRequest;
+        this.authorLogin = authorLogin;
+        this.commentCount = commentCount;
+        this.createdAt = Objects.requireNonNull(createdAt, "createdAt == null");
+        this.updatedAt = Objects.requireNonNull(updatedAt, "updatedAt == null");
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    public boolean isPullRequest() {
+        return pullRequest;
+    }
+
+    public Optional<String> getAuthorLogin() {
+        return Optional.ofNullable(authorLogin);
+    }
+
+    public int getCommentCount() {
+        return commentCount;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IssueSummary)) {
+            return false;
+        }
+        IssueSummary that = (IssueSummary) o;
+        return number == that.number
+                && open == that.open
+                && pullRequest == that.pullRequest
+                && commentCount == that.commentCount
+                && title.equals(that.title)
+                && Objects.equals(authorLogin, that.authorLogin)
+                && createdAt.equals(that.createdAt)
+                && updatedAt.equals(that.updatedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(number, title, open, pullRequest, authorLogin, commentCount, createdAt,
+                updatedAt);
+    }
+
+    @Override
+    public String toString() {
+        return "IssueSummary[#" + number + ", open=" + open + ", pullRequest=" + pullRequest
+                + ", title=" + title + "]";
+    }
+}
@@ -0,0 +1,119 @@
+package com.usth.githubclient.domain.model;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Bytes of code per language summed over a user's repositories, largest language first.
+ */
+public final class LanguageStats {
+
+    private final String username;
+    private final List<LanguageShare> languages;
+    private final long totalBytes;
+    private final int repositoryCount;
+    private final int incompleteRepositoryCount;
+    private final Instant computedAt;
+
+    public LanguageStats(String username,
+                         List<LanguageShare> languages,
+                         long totalBytes,
+                         int repositoryCount,
+                         int incompleteRepositoryCount,
+                         Instant computedAt) {
+        this.username = Objects.requireNonNull(username, "username == null");
+        this.languages = Collections.unmodifiableList(Objects.requireNonNull(languages, "languages == null"));
+        this.totalBytes = totalBytes;
+        this.repositoryCount = repositoryCount;
+        this.incompleteRepositoryCount = incompleteRepositoryCount;
+        this.computedAt = Objects.requireNonNull(computedAt, "computedAt == null");
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public List<LanguageShare> getLanguages() {
+        return languages;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public int getRepositoryCount() {
+        return repositoryCount;
+    }
+
+    /**
+     * Repositories whose languages could not be fetched this time; they count with their last
+     * known numbers, or not at all if they were never fetched.
+     */
+    public int getIncompleteRepositoryCount() {
+        return incompleteRepositoryCount;
+    }
+
+    public Instant getComputedAt() {
+        return computedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "LanguageStats[username=" + username
+                + ", languages=" + languages.size()
+                + ", totalBytes=" + totalBytes
+                + ", repositories=" + repositoryCount
+                + ", incomplete=" + incompleteRepositoryCount + "]";
+    }
+
+    /** One language and its byte count. */
+    public static final class LanguageShare {
+
+        private final String language;
+        private final long bytes;
+        private final double fraction;
+
+        public LanguageShare(String language, long bytes, double fraction) {
+            this.language = Objects.requireNonNull(language, "language == null");
+            this.bytes = bytes;
+            this.fraction = fraction;
+        }
+
+        public String getLanguage() {
+            return language;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        /** Share of the user's total bytes, between 0 and 1. */
+        public double getFraction() {
+            return fraction;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LanguageShare)) {
+                return false;
+            }
+            LanguageShare that = (LanguageShare) o;
+            return bytes == that.bytes && language.equals(that.language);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(language, bytes);
+        }
+
+        @Override
+        public String toString() {
+            return language + "=" + bytes;
+        }
+    }
+}
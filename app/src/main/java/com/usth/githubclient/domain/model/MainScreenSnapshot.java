@@ -0,0 +1,38 @@
+package com.usth.githubclient.domain.model;
+
+import com.usth.githubclient.domain.collection.PersistentList;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Everything the main screen renders for one user, fetched in a single GraphQL round trip.
+ */
+public final class MainScreenSnapshot {
+
+    private final GitHubUserProfileDataEntry profile;
+    private final List<ReposDataEntry> repositories;
+    private final List<GitHubUserProfileDataEntry> followers;
+
+    public MainScreenSnapshot(GitHubUserProfileDataEntry profile,
+                              List<ReposDataEntry> repositories,
+                              List<GitHubUserProfileDataEntry> followers) {
+        this.profile = Objects.requireNonNull(profile, "profile == null");
+        this.repositories = PersistentList.copyOf(
+                Objects.requireNonNull(repositories, "repositories == null"));
+        this.followers = PersistentList.copyOf(
+                Objects.requireNonNull(followers, "followers == null"));
+    }
+
+    public GitHubUserProfileDataEntry getProfile() {
+        return profile;
+    }
+
+    public List<ReposDataEntry> getRepositories() {
+        return repositories;
+    }
+
+    public List<GitHubUserProfileDataEntry> getFollowers() {
+        return followers;
+    }
+}
@@ -0,0 +1,90 @@
+package com.usth.githubclient.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * One thread of the notifications inbox, identified by its numeric GitHub thread id. A thread is
+ * updated in place on the server, so a newer copy with the same id replaces the old one.
+ */
+public final class NotificationThread {
+
+    private final long id;
+    private final boolean unread;
+    private final String reason;
+    private final String title;
+    private final String subjectType;
+    private final String repoName;
+    private final Instant updatedAt;
+
+    public NotificationThread(long id, boolean unread, String reason, String title, String subjectType,
+                              String repoName, Instant updatedAt) {
+        this.id = id;
+        this.unread = unread;
+        this.reason = Objects.requireNonNull(reason, "reason == null");
+        this.title = Objects.requireNonNull(title, "title == null");
+        this.subjectType = Objects.requireNonNull(subjectType, "subjectType == null");
+        this.repoName = Objects.requireNonNull(repoName, "repoName == null");
+        this.updatedAt = Objects.requireNonNull(updatedAt, "updatedAt == null");
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public boolean isUnread() {
+        return unread;
+    }
+
+    /** Why the user is subscribed, e.g. {@code mention} or {@code review_requested}. */
+    public String getReason() {
+        return reason;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    /** Kind of subject, e.g. {@code Issue}, {@code PullRequest} or {@code Release}. */
+    public String getSubjectType() {
+        return subjectType;
+    }
+
+    /** Full name of the repository, {@code owner/repo}. */
+    public String getRepoName() {
+        return repoName;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof NotificationThread)) {
+            return false;
+        }
+        NotificationThread that = (NotificationThread) o;
+        return id == that.id
+                && unread == that.unread
+                && reason.equals(that.reason)
+                && title.equals(that.title)
+                && subjectType.equals(that.subjectType)
+                && repoName.equals(that.repoName)
+                && updatedAt.equals(that.updatedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, unread, reason, title, subjectType, repoName, updatedAt);
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationThread[id=" + id + ", unread=" + unread + ", title=" + title
+                + ", repo=" + repoName + "]";
+    }
+}
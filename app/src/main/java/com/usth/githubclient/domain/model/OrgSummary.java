@@ -0,0 +1,205 @@
+package com.usth.githubclient.domain.model;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Totals over every repository and public member of an organization, computed in one pass over
+ * their pages and kept instead of the repositories themselves.
+ */
+public final class OrgSummary {
+
+    private final String organization;
+    private final int repositoryCount;
+    private final int forkCount;
+    private final int archivedCount;
+    private final long stars;
+    private final long forks;
+    private final long openIssues;
+    private final List<LanguageCount> languages;
+    private final List<TopRepository> topRepositories;
+    private final int memberCount;
+    private final List<String> memberSample;
+    private final boolean truncated;
+    private final Instant computedAt;
+
+    public OrgSummary(String organization,
+                      int repositoryCount,
+                      int forkCount,
+                      int archivedCount,
+                      long stars,
+                      long forks,
+                      long openIssues,
+                      List<LanguageCount> languages,
+                      List<TopRepository> topRepositories,
+                      int memberCount,
+                      List<String> memberSample,
+                      boolean truncated,
+                      Instant computedAt) {
+        this.organization = Objects.requireNonNull(organization, "organization == null");
+        this.repositoryCount = repositoryCount;
+        this.forkCount = forkCount;
+        this.archivedCount = archivedCount;
+        this.stars = stars;
+        this.forks = forks;
+        this.openIssues = openIssues;
+        this.languages = Collections.unmodifiableList(Objects.requireNonNull(languages, "languages == null"));
+        this.topRepositories = Collections.unmodifiableList(
+                Objects.requireNonNull(topRepositories, "topRepositories == null"));
+        this.memberCount = memberCount;
+        this.memberSample = Collections.unmodifiableList(
+                Objects.requireNonNull(memberSample, "memberSample == null"));
+        this.truncated = truncated;
+        this.computedAt = Objects.requireNonNull(computedAt, "computedAt == null");
+    }
+
+    public String getOrganization() {
+        return organization;
+    }
+
+    public int getRepositoryCount() {
+        return repositoryCount;
+    }
+
+    public int getForkCount() {
+        return forkCount;
+    }
+
+    public int getArchivedCount() {
+        return archivedCount;
+    }
+
+    public long getStars() {
+        return stars;
+    }
+
+    public long getForks() {
+        return forks;
+    }
+
+    public long getOpenIssues() {
+        return openIssues;
+    }
+
+    /** Repositories per primary language, most used first. */
+    public List<LanguageCount> getLanguages() {
+        return languages;
+    }
+
+    /** The most starred repositories, most stars first. */
+    public List<TopRepository> getTopRepositories() {
+        return topRepositories;
+    }
+
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    /** The alphabetically first member logins, for display. */
+    public List<String> getMemberSample() {
+        return memberSample;
+    }
+
+    /** Whether the organization had more pages than were read. */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public Instant getComputedAt() {
+        return computedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "OrgSummary[organization=" + organization
+                + ", repositories=" + repositoryCount
+                + ", members=" + memberCount
+                + ", stars=" + stars + "]";
+    }
+
+    /** One primary language and the number of repositories using it. */
+    public static final class LanguageCount {
+
+        private final String language;
+        private final int repositoryCount;
+
+        public LanguageCount(String language, int repositoryCount) {
+            this.language = Objects.requireNonNull(language, "language == null");
+            this.repositoryCount = repositoryCount;
+        }
+
+        public String getLanguage() {
+            return language;
+        }
+
+        public int getRepositoryCount() {
+            return repositoryCount;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LanguageCount)) {
+                return false;
+            }
+            LanguageCount that = (LanguageCount) o;
+            return repositoryCount == that.repositoryCount && language.equals(that.language);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(language, repositoryCount);
+        }
+
+        @Override
+        public String toString() {
+            return language + "=" + repositoryCount;
+        }
+    }
+
+    /** Name and star count of one of the most starred repositories. */
+    public static final class TopRepository {
+
+        private final String name;
+        private final int stars;
+
+        public TopRepository(String name, int stars) {
+            this.name = Objects.requireNonNull(name, "name == null");
+            this.stars = stars;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getStars() {
+            return stars;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TopRepository)) {
+                return false;
+            }
+            TopRepository that = (TopRepository) o;
+            return stars == that.stars && name.equals(that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, stars);
+        }
+
+        @Override
+        public String toString() {
+            return name + "=" + stars;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.usth.githubclient.domain.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A repository README rendered to HTML, split into chunks that can be displayed independently.
+ */
+public final class Readme {
+
+    private final String name;
+    private final String sha;
+    private final String htmlUrl;
+    private final List<String> htmlChunks;
+
+    public Readme(String name, String sha, String htmlUrl, List<String> htmlChunks) {
+        this.name = Objects.requireNonNull(name, "name == null");
+        this.sha = Objects.requireNonNull(sha, "sha == null");
+        this.htmlUrl = htmlUrl;
+        this.htmlChunks = Collections.unmodifiableList(Objects.requireNonNull(htmlChunks, "htmlChunks == null"));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Git blob SHA of the README file; identical content has the same SHA in every repository. */
+    public String getSha() {
+        return sha;
+    }
+
+    public Optional<String> getHtmlUrl() {
+        return Optional.ofNullable(htmlUrl);
+    }
+
+    public List<String> getHtmlChunks() {
+        return htmlChunks;
+    }
+
+    @Override
+    public String toString() {
+        return "Readme[name=" + name + ", sha=" + sha + ", chunks=" + htmlChunks.size() + "]";
+    }
+}
@@ -23,6 +23,7 @@ public final class ReposDataEntry {
     private final String defaultBranch;
     private final boolean isPrivate;
     private final boolean isFork;
+    private final boolean isArchived;
     private final Instant createdAt;
     private final Instant updatedAt;
     private final Instant pushedAt;
@@ -42,6 +43,7 @@ public final class ReposDataEntry {
         this.defaultBranch = builder.defaultBranch;
         this.isPrivate = builder.isPrivate;
         this.isFork = builder.isFork;
+        this.isArchived = builder.isArchived;
         this.createdAt = builder.createdAt;
         this.updatedAt = builder.updatedAt;
         this.pushedAt = builder.pushedAt;
@@ -108,6 +110,10 @@ public final class ReposDataEntry {
         return isFork;
     }
 
+    public boolean isArchived() {
+        return isArchived;
+    }
+
     public Optional<Instant> getCreatedAt() {
         return Optional.ofNullable(createdAt);
     }
@@ -124,6 +130,15 @@ public final class ReposDataEntry {
         return Optional.ofNullable(owner);
     }
 
+    /** Owner login from {@link #getOwner()}, or else the part of the full name before the slash. */
+    public Optional<String> getOwnerLogin() {
+        if (owner != null) {
+            return Optional.of(owner.getUsername());
+        }
+        int slash = fullName == null ? -1 : fullName.indexOf('/');
+        return slash > 0 ? Optional.of(fullName.substring(0, slash)) : Optional.empty();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -140,6 +155,7 @@ public final class ReposDataEntry {
                 && openIssuesCount == that.openIssuesCount
                 && isPrivate == that.isPrivate
                 && isFork == that.isFork
+                && isArchived == that.isArchived
                 && Objects.equals(name, that.name)
                 && Objects.equals(fullName, that.fullName)
                 && Objects.equals(description, that.description)
@@ -168,6 +184,7 @@ public final class ReposDataEntry {
                 defaultBranch,
                 isPrivate,
                 isFork,
+                isArchived,
                 createdAt,
                 updatedAt,
                 pushedAt,
@@ -191,6 +208,7 @@ public final class ReposDataEntry {
                 .add("defaultBranch='" + defaultBranch + '\'')
                 .add("isPrivate=" + isPrivate)
                 .add("isFork=" + isFork)
+                .add("isArchived=" + isArchived)
                 .add("createdAt=" + createdAt)
                 .add("updatedAt=" + updatedAt)
                 .add("pushedAt=" + pushedAt)
@@ -213,6 +231,7 @@ public final class ReposDataEntry {
         private String defaultBranch;
         private boolean isPrivate;
         private boolean isFork;
+        private boolean isArchived;
         private Instant createdAt;
         private Instant updatedAt;
         private Instant pushedAt;
@@ -241,6 +260,7 @@ public final class ReposDataEntry {
             this.defaultBranch = entry.defaultBranch;
             this.isPrivate = entry.isPrivate;
             this.isFork = entry.isFork;
+            this.isArchived = entry.isArchived;
             this.createdAt = entry.createdAt;
             this.updatedAt = entry.updatedAt;
             this.pushedAt = entry.pushedAt;
@@ -309,6 +329,11 @@ public final class ReposDataEntry {
             return this;
         }
 
+        public Builder isArchived(boolean isArchived) {
+            this.isArchived = isArchived;
+            return this;
+        }
+
         public Builder createdAt(Instant createdAt) {
             this.createdAt = createdAt;
             return this;
@@ -0,0 +1,282 @@
+package com.usth.githubclient.domain.query;
+
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.model.ReposDataEntry;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Query engine over one loaded list of repositories.
+ * <p>
+ * Building the index reduces every sortable attribute to an {@code int} key (names and push dates
+ * become dense ranks) and every filterable attribute to a bit or a language id, so queries never
+ * touch the model objects' getters or allocate {@code Optional}s. The sorted permutation for each
+ * sort field and direction is computed once, by sorting packed {@code key << 32 | index} longs, and
+ * then reused; switching the sort order back and forth is a walk over a cached {@code int[]}.
+ * Filtering is a single pass over that permutation and grouping is a counting sort by language id,
+ * which keeps the sort order inside each group. Thread-safe.
+ */
+public final class RepositoryIndex {
+
+    private static final int FLAG_FORK = 1;
+    private static final int FLAG_PRIVATE = 1 << 1;
+    private static final int FLAG_ARCHIVED = 1 << 2;
+    private static final int NO_RANK = -1;
+
+    private final PersistentList<ReposDataEntry> repositories;
+    private final int[] starKeys;
+    private final int[] forkKeys;
+    private final int[] pushedKeys;
+    private final int[] nameKeys;
+    private final byte[] flags;
+    private final int[] languageIds;
+    // Sorted case-insensitively; id languages.size() stands for "no language".
+    private final PersistentList<String> languages;
+    private final Map<String, Integer> languageIdsByName;
+
+    // Indexed by sortField.ordinal() * 2 + (descending ? 1 : 0); filled on first use.
+    private final int[][] permutations = new int[RepositoryQuery.SortField.values().length * 2][];
+    private RepositoryQuery lastQuery;
+    private RepositoryQueryResult lastResult;
+
+    private RepositoryIndex(PersistentList<ReposDataEntry> repositories) {
+        this.repositories = repositories;
+        int size = repositories.size();
+        starKeys = new int[size];
+        forkKeys = new int[size];
+        flags = new byte[size];
+        String[] names = new String[size];
+        long[] pushedMillis = new long[size];
+        String[] languageNames = new String[size];
+        int i = 0;
+        for (ReposDataEntry repository : repositories) {
+            starKeys[i] = repository.getStargazersCount();
+            forkKeys[i] = repository.getForksCount();
+            names[i] = repository.getName();
+            pushedMillis[i] = repository.getPushedAt().map(Instant::toEpochMilli).orElse(Long.MIN_VALUE);
+            languageNames[i] = repository.getLanguage().orElse(null);
+            flags[i] = (byte) ((repository.isFork() ? FLAG_FORK : 0)
+                    | (repository.isPrivate() ? FLAG_PRIVATE : 0)
+                    | (repository.isArchived() ? FLAG_ARCHIVED : 0));
+            i++;
+        }
+        nameKeys = rankNames(names);
+        pushedKeys = rankTimes(pushedMillis);
+
+        String[] distinct = Arrays.stream(languageNames)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted(String.CASE_INSENSITIVE_ORDER)
+                .toArray(String[]::new);
+        languages = PersistentList.copyOf(Arrays.asList(distinct));
+        languageIdsByName = new HashMap<>(distinct.length * 2);
+        for (int id = 0; id < distinct.length; id++) {
+            languageIdsByName.put(distinct[id], id);
+        }
+        languageIds = new int[size];
+        for (int index = 0; index < size; index++) {
+            String language = languageNames[index];
+            languageIds[index] = language == null ? distinct.length : languageIdsByName.get(language);
+        }
+    }
+
+    /** Indexes {@code repositories}; the list is kept as-is, not copied, if it is persistent. */
+    public static RepositoryIndex of(List<ReposDataEntry> repositories) {
+        Objects.requireNonNull(repositories, "repositories == null");
+        return new RepositoryIndex(PersistentList.copyOf(repositories));
+    }
+
+    /** The indexed repositories, in the order they were given. */
+    public List<ReposDataEntry> getRepositories() {
+        return repositories;
+    }
+
+    /** Distinct languages present, sorted case-insensitively, for building a filter picker. */
+    public List<String> getLanguages() {
+        return languages;
+    }
+
+    public synchronized RepositoryQueryResult query(RepositoryQuery query) {
+        Objects.requireNonNull(query, "query == null");
+        if (query.equals(lastQuery)) {
+            return lastResult;
+        }
+        RepositoryQueryResult result = evaluate(query);
+        lastQuery = query;
+        lastResult = result;
+        return result;
+    }
+
+    private RepositoryQueryResult evaluate(RepositoryQuery query) {
+        int size = repositories.size();
+        int[] order = permutation(query.getSortField(), query.isDescending());
+
+        int required = 0;
+        int forbidden = 0;
+        required |= maskFor(query.getForks(), RepositoryQuery.Inclusion.ONLY, FLAG_FORK);
+        required |= maskFor(query.getPrivateRepositories(), RepositoryQuery.Inclusion.ONLY, FLAG_PRIVATE);
+        required |= maskFor(query.getArchived(), RepositoryQuery.Inclusion.ONLY, FLAG_ARCHIVED);
+        forbidden |= maskFor(query.getForks(), RepositoryQuery.Inclusion.EXCLUDE, FLAG_FORK);
+        forbidden |= maskFor(query.getPrivateRepositories(), RepositoryQuery.Inclusion.EXCLUDE, FLAG_PRIVATE);
+        forbidden |= maskFor(query.getArchived(), RepositoryQuery.Inclusion.EXCLUDE, FLAG_ARCHIVED);
+
+        int languageFilter = NO_RANK;
+        if (query.getLanguage() != null) {
+            Integer id = languageIdsByName.get(query.getLanguage());
+            if (id == null) {
+                return new RepositoryQueryResult(
+                        query, PersistentList.empty(), PersistentList.empty(), size);
+            }
+            languageFilter = id;
+        }
+
+        int[] selected = new int[size];
+        int count = 0;
+        for (int position = 0; position < size; position++) {
+            int index = order == null ? position : order[position];
+            int bits = flags[index];
+            if ((bits & required) == required
+                    && (bits & forbidden) == 0
+                    && (languageFilter == NO_RANK || languageIds[index] == languageFilter)) {
+                selected[count++] = index;
+            }
+        }
+
+        PersistentList<RepositoryQueryResult.LanguageGroup> groups = PersistentList.empty();
+        if (query.isGroupByLanguage()) {
+            groups = groupByLanguage(selected, count);
+        } else if (count == size && order == null) {
+            // Nothing filtered or reordered: hand out the original list.
+            return new RepositoryQueryResult(query, repositories, groups, size);
+        }
+
+        PersistentList.Builder<ReposDataEntry> matches = PersistentList.builder();
+        for (int position = 0; position < count; position++) {
+            matches.add(repositories.get(selected[position]));
+        }
+        return new RepositoryQueryResult(query, matches.build(), groups, size);
+    }
+
+    /**
+     * Stable counting sort of {@code selected[0, count)} by language id, in place. Returns one
+     * group per language present, "no language" last.
+     */
+    private PersistentList<RepositoryQueryResult.LanguageGroup> groupByLanguage(int[] selected, int count) {
+        int languageCount = languages.size() + 1;
+        int[] starts = new int[languageCount + 1];
+        for (int position = 0; position < count; position++) {
+            starts[languageIds[selected[position]] + 1]++;
+        }
+        for (int id = 0; id < languageCount; id++) {
+            starts[id + 1] += starts[id];
+        }
+        PersistentList.Builder<RepositoryQueryResult.LanguageGroup> groups = PersistentList.builder();
+        for (int id = 0; id < languageCount; id++) {
+            int groupSize = starts[id + 1] - starts[id];
+            if (groupSize > 0) {
+                String language = id < languages.size() ? languages.get(id) : null;
+                groups.add(new RepositoryQueryResult.LanguageGroup(language, starts[id], groupSize));
+            }
+        }
+        int[] grouped = new int[count];
+        for (int position = 0; position < count; position++) {
+            int index = selected[position];
+            grouped[starts[languageIds[index]]++] = index;
+        }
+        System.arraycopy(grouped, 0, selected, 0, count);
+        return groups.build();
+    }
+
+    /** Cached sorted order of indexes, or {@code null} for the API order. */
+    private int[] permutation(RepositoryQuery.SortField field, boolean descending) {
+        int[] keys;
+        switch (field) {
+            case STARS:
+                keys = starKeys;
+                break;
+            case FORKS:
+                keys = forkKeys;
+                break;
+            case PUSHED_AT:
+                keys = pushedKeys;
+                break;
+            case NAME:
+                keys = nameKeys;
+                break;
+            case API_ORDER:
+            default:
+                return null;
+        }
+        int slot = field.ordinal() * 2 + (descending ? 1 : 0);
+        int[] cached = permutations[slot];
+        if (cached == null) {
+            cached = sortedIndexes(keys, descending);
+            permutations[slot] = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Sorts indexes by key without boxing: each entry packs the key into the high half of a long
+     * and the index into the low half, so equal keys keep the API order in both directions.
+     */
+    private static int[] sortedIndexes(int[] keys, boolean descending) {
+        int size = keys.length;
+        long[] packed = new long[size];
+        for (int index = 0; index < size; index++) {
+            int key = descending ? ~keys[index] : keys[index];
+            packed[index] = ((long) key << 32) | index;
+        }
+        Arrays.sort(packed);
+        int[] order = new int[size];
+        for (int position = 0; position < size; position++) {
+            order[position] = (int) packed[position];
+        }
+        return order;
+    }
+
+    /** Dense case-insensitive rank of every name. */
+    private static int[] rankNames(String[] names) {
+        String[] sorted = names.clone();
+        Arrays.sort(sorted, String.CASE_INSENSITIVE_ORDER);
+        int unique = 0;
+        for (String name : sorted) {
+            if (unique == 0 || String.CASE_INSENSITIVE_ORDER.compare(sorted[unique - 1], name) != 0) {
+                sorted[unique++] = name;
+            }
+        }
+        int[] ranks = new int[names.length];
+        for (int index = 0; index < names.length; index++) {
+            ranks[index] = Arrays.binarySearch(sorted, 0, unique, names[index], String.CASE_INSENSITIVE_ORDER);
+        }
+        return ranks;
+    }
+
+    /** Dense rank of every timestamp; missing ones ({@code Long.MIN_VALUE}) rank as the oldest. */
+    private static int[] rankTimes(long[] millis) {
+        long[] sorted = millis.clone();
+        Arrays.sort(sorted);
+        int unique = 0;
+        for (long value : sorted) {
+            if (unique == 0 || sorted[unique - 1] != value) {
+                sorted[unique++] = value;
+            }
+        }
+        int[] ranks = new int[millis.length];
+        for (int index = 0; index < millis.length; index++) {
+            ranks[index] = Arrays.binarySearch(sorted, 0, unique, millis[index]);
+        }
+        return ranks;
+    }
+
+    private static int maskFor(RepositoryQuery.Inclusion inclusion,
+                               RepositoryQuery.Inclusion wanted,
+                               int flag) {
+        return inclusion == wanted ? flag : 0;
+    }
+}
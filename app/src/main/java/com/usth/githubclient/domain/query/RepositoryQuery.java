@@ -0,0 +1,182 @@
+package com.usth.githubclient.domain.query;
+
+import java.util.Objects;
+
+/**
+ * Immutable description of how the repositories tab orders, filters and groups the loaded
+ * repositories. Evaluated locally by {@link RepositoryIndex}.
+ */
+public final class RepositoryQuery {
+
+    private static final RepositoryQuery DEFAULTS = builder().build();
+
+    private final SortField sortField;
+    private final boolean descending;
+    private final String language;
+    private final Inclusion forks;
+    private final Inclusion privateRepositories;
+    private final Inclusion archived;
+    private final boolean groupByLanguage;
+
+    private RepositoryQuery(Builder builder) {
+        this.sortField = builder.sortField;
+        this.descending = builder.descending;
+        this.language = builder.language;
+        this.forks = builder.forks;
+        this.privateRepositories = builder.privateRepositories;
+        this.archived = builder.archived;
+        this.groupByLanguage = builder.groupByLanguage;
+    }
+
+    /** API order, no filters, no grouping. */
+    public static RepositoryQuery defaults() {
+        return DEFAULTS;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    public SortField getSortField() {
+        return sortField;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    /** Language repositories must have, or {@code null} for any language. */
+    public String getLanguage() {
+        return language;
+    }
+
+    public Inclusion getForks() {
+        return forks;
+    }
+
+    public Inclusion getPrivateRepositories() {
+        return privateRepositories;
+    }
+
+    public Inclusion getArchived() {
+        return archived;
+    }
+
+    public boolean isGroupByLanguage() {
+        return groupByLanguage;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RepositoryQuery)) {
+            return false;
+        }
+        RepositoryQuery that = (RepositoryQuery) o;
+        return descending == that.descending
+                && groupByLanguage == that.groupByLanguage
+                && sortField == that.sortField
+                && forks == that.forks
+                && privateRepositories == that.privateRepositories
+                && archived == that.archived
+                && Objects.equals(language, that.language);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortField, descending, language, forks, privateRepositories, archived,
+                groupByLanguage);
+    }
+
+    @Override
+    public String toString() {
+        return "RepositoryQuery[sort=" + sortField + (descending ? " desc" : " asc")
+                + ", language=" + language
+                + ", forks=" + forks
+                + ", private=" + privateRepositories
+                + ", archived=" + archived
+                + ", groupByLanguage=" + groupByLanguage + "]";
+    }
+
+    /** Order of the results. {@link #API_ORDER} keeps the order the server returned. */
+    public enum SortField {
+        API_ORDER,
+        STARS,
+        FORKS,
+        PUSHED_AT,
+        NAME
+    }
+
+    /** How a boolean repository attribute (fork, private, archived) filters the results. */
+    public enum Inclusion {
+        ANY,
+        ONLY,
+        EXCLUDE
+    }
+
+    public static final class Builder {
+
+        private SortField sortField = SortField.API_ORDER;
+        private boolean descending;
+        private String language;
+        private Inclusion forks = Inclusion.ANY;
+        private Inclusion privateRepositories = Inclusion.ANY;
+        private Inclusion archived = Inclusion.ANY;
+        private boolean groupByLanguage;
+
+        private Builder() {
+        }
+
+        private Builder(RepositoryQuery query) {
+            this.sortField = query.sortField;
+            this.descending = query.descending;
+            this.language = query.language;
+            this.forks = query.forks;
+            this.privateRepositories = query.privateRepositories;
+            this.archived = query.archived;
+            this.groupByLanguage = query.groupByLanguage;
+        }
+
+        public Builder sort(SortField sortField, boolean descending) {
+            this.sortField = Objects.requireNonNull(sortField, "sortField == null");
+            this.descending = descending;
+            return this;
+        }
+
+        public Builder language(String language) {
+            this.language = language;
+            return this;
+        }
+
+        public Builder forks(Inclusion forks) {
+            this.forks = Objects.requireNonNull(forks, "forks == null");
+            return this;
+        }
+
+        public Builder privateRepositories(Inclusion privateRepositories) {
+            this.privateRepositories =
+                    Objects.requireNonNull(privateRepositories, "privateRepositories == null");
+            return this;
+        }
+
+        public Builder archived(Inclusion archived) {
+            this.archived = Objects.requireNonNull(archived, "archived == null");
+            return this;
+        }
+
+        public Builder groupByLanguage(boolean groupByLanguage) {
+            this.groupByLanguage = groupByLanguage;
+            return this;
+        }
+
+        public RepositoryQuery build() {
+            return new RepositoryQuery(this);
+        }
+    }
+}
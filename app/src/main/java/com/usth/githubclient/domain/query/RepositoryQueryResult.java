@@ -0,0 +1,74 @@
+package com.usth.githubclient.domain.query;
+
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.model.ReposDataEntry;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Repositories matching a {@link RepositoryQuery}, in display order. When the query groups by
+ * language, {@link #getGroups()} describes consecutive runs of {@link #getRepositories()}.
+ */
+public final class RepositoryQueryResult {
+
+    private final RepositoryQuery query;
+    private final PersistentList<ReposDataEntry> repositories;
+    private final PersistentList<LanguageGroup> groups;
+    private final int totalCount;
+
+    RepositoryQueryResult(RepositoryQuery query,
+                          PersistentList<ReposDataEntry> repositories,
+                          PersistentList<LanguageGroup> groups,
+                          int totalCount) {
+        this.query = Objects.requireNonNull(query, "query == null");
+        this.repositories = Objects.requireNonNull(repositories, "repositories == null");
+        this.groups = Objects.requireNonNull(groups, "groups == null");
+        this.totalCount = totalCount;
+    }
+
+    public RepositoryQuery getQuery() {
+        return query;
+    }
+
+    public List<ReposDataEntry> getRepositories() {
+        return repositories;
+    }
+
+    /** Empty unless the query groups by language. */
+    public List<LanguageGroup> getGroups() {
+        return groups;
+    }
+
+    /** Number of repositories before filtering. */
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /** A run of {@code size} repositories starting at {@code start} sharing one language. */
+    public static final class LanguageGroup {
+
+        private final String language;
+        private final int start;
+        private final int size;
+
+        LanguageGroup(String language, int start, int size) {
+            this.language = language;
+            this.start = start;
+            this.size = size;
+        }
+
+        /** The shared language, or {@code null} for repositories without one. */
+        public String getLanguage() {
+            return language;
+        }
+
+        public int getStart() {
+            return start;
+        }
+
+        public int getSize() {
+            return size;
+        }
+    }
+}
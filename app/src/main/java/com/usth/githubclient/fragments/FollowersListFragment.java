@@ -2,6 +2,8 @@ package com.usth.githubclient.fragments;
 
 import android.content.Context;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -11,14 +13,30 @@ import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
 import androidx.recyclerview.widget.DividerItemDecoration;
 import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
 
+import com.usth.githubclient.R;
+import com.usth.githubclient.adapters.FollowerRow;
 import com.usth.githubclient.adapters.FollowersListAdapter;
+import com.usth.githubclient.adapters.ListItemViewPool;
+import com.usth.githubclient.adapters.RowModelFactory;
+import com.usth.githubclient.data.remote.ApiClient;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.remote.GithubGraphQlService;
+import com.usth.githubclient.data.repository.GraphQlRepository;
+import com.usth.githubclient.data.repository.ProfileEnrichmentPipeline;
+import com.usth.githubclient.data.repository.UserRepository;
 import com.usth.githubclient.databinding.FragmentGeneralListBinding;
+import com.usth.githubclient.di.ServiceLocator;
+import com.usth.githubclient.domain.collection.PersistentList;
 import com.usth.githubclient.domain.model.GitHubUserProfileDataEntry;
+import com.usth.githubclient.image.AvatarLoader;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Displays a scrollable list of followers and notifies the host activity when an item is tapped.
@@ -26,11 +44,32 @@ import java.util.List;
 public class FollowersListFragment extends Fragment {
 
     public static final String TAG = "FollowersListFragment";
+    // Rows above/below the viewport whose full profiles are fetched ahead of time.
+    private static final int ENRICHMENT_MARGIN = 10;
+    private static final int ENRICHMENT_CONCURRENCY = 3;
+    // Rows past the viewport edge, in the scroll direction, whose avatars are fetched ahead.
+    private static final int AVATAR_PREFETCH_ROWS = 8;
 
     private FragmentGeneralListBinding binding;
     private FollowersListAdapter adapter;
     private OnFollowerSelectedListener listener;
     private List<GitHubUserProfileDataEntry> pendingFollowers = Collections.emptyList();
+    private List<FollowerRow> pendingRows = Collections.emptyList();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    // Formats rows off the main thread; a single thread keeps submissions in order.
+    private final ExecutorService rowExecutor = Executors.newSingleThreadExecutor();
+    private RowModelFactory rowFactory;
+    private int submissionGeneration;
+    private boolean newDataPending;
+    private ProfileEnrichmentPipeline enrichmentPipeline;
+    private int enrichedFrom = RecyclerView.NO_POSITION;
+    private int enrichedTo = RecyclerView.NO_POSITION;
+    private AvatarLoader avatarLoader;
+    private ListItemViewPool ownedViewPool;
+    private int avatarSizePx;
+    // Bounds of the rows whose avatars were already prefetched, below and above the viewport.
+    private int avatarsPrefetchedBelow = -1;
+    private int avatarsPrefetchedAbove = Integer.MAX_VALUE;
 
     public static FollowersListFragment newInstance() {
         return new FollowersListFragment();
@@ -44,6 +83,11 @@ public class FollowersListFragment extends Fragment {
         } else {
             throw new IllegalStateException("Host activity must implement OnFollowerSelectedListener");
         }
+        if (rowFactory == null) {
+            rowFactory = new RowModelFactory(context.getApplicationContext().getResources());
+            // Lists submitted before attachment could not be formatted yet.
+            buildPendingRows(true);
+        }
     }
 
     @Nullable
@@ -58,39 +102,199 @@ public class FollowersListFragment extends Fragment {
     public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
         super.onViewCreated(view, savedInstanceState);
         setupRecyclerView();
-        applyPendingFollowers();
+        applyPendingRows(true);
         updateEmptyState();
     }
 
     private void setupRecyclerView() {
+        avatarLoader = ServiceLocator.getInstance().avatarLoader();
+        avatarSizePx = getResources().getDimensionPixelSize(R.dimen.avatar_size_list);
+        ListItemViewPool viewPool = resolveViewPool();
         adapter = new FollowersListAdapter(follower -> {
             if (listener != null) {
                 listener.onFollowerSelected(follower);
             }
-        });
-        binding.recyclerView.setLayoutManager(new LinearLayoutManager(requireContext()));
+        }, avatarLoader, avatarSizePx, viewPool);
+        LinearLayoutManager layoutManager = new LinearLayoutManager(requireContext());
+        // Hands rows back to the shared pool when the list leaves the window.
+        layoutManager.setRecycleChildrenOnDetach(true);
+        binding.recyclerView.setLayoutManager(layoutManager);
+        binding.recyclerView.setRecycledViewPool(viewPool.getRecycledViewPool());
         binding.recyclerView.setHasFixedSize(true);
         binding.recyclerView.addItemDecoration(new DividerItemDecoration(requireContext(), LinearLayoutManager.VERTICAL));
         binding.recyclerView.setAdapter(adapter);
+        enrichmentPipeline = buildEnrichmentPipeline();
+        binding.recyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                requestEnrichmentForViewport();
+                prefetchAvatarsAhead(dy >= 0);
+            }
+        });
+    }
+
+    /** Uses the host's shared row pool when it has one, otherwise a pool private to this view. */
+    private ListItemViewPool resolveViewPool() {
+        if (requireActivity() instanceof ListItemViewPool.Provider) {
+            return ((ListItemViewPool.Provider) requireActivity()).getListItemViewPool();
+        }
+        ownedViewPool = new ListItemViewPool(requireContext());
+        return ownedViewPool;
+    }
+
+    private ProfileEnrichmentPipeline buildEnrichmentPipeline() {
+        ServiceLocator locator = ServiceLocator.getInstance();
+        ApiClient apiClient = new ApiClient();
+        UserRepository userRepository = new UserRepository(
+                apiClient.createService(GithubApiService.class), locator.userMapper(),
+                locator.profileCache());
+        // GraphQL rejects anonymous calls, so batching is only possible once signed in.
+        GraphQlRepository graphQlRepository = locator.authRepository().getCachedSession() == null
+                ? null
+                : new GraphQlRepository(
+                        apiClient.createService(GithubGraphQlService.class), locator.userMapper());
+        return new ProfileEnrichmentPipeline(
+                userRepository, graphQlRepository, locator.profileCache(), ENRICHMENT_CONCURRENCY);
+    }
+
+    /** Fetches full profiles for the rows on screen plus a margin on either side. */
+    private void requestEnrichmentForViewport() {
+        if (binding == null || adapter == null || enrichmentPipeline == null) {
+            return;
+        }
+        List<FollowerRow> rows = adapter.getCurrentList();
+        if (rows.isEmpty()) {
+            return;
+        }
+        LinearLayoutManager layoutManager =
+                (LinearLayoutManager) binding.recyclerView.getLayoutManager();
+        int first = layoutManager == null ? RecyclerView.NO_POSITION
+                : layoutManager.findFirstVisibleItemPosition();
+        int last = layoutManager == null ? RecyclerView.NO_POSITION
+                : layoutManager.findLastVisibleItemPosition();
+        if (first == RecyclerView.NO_POSITION || last == RecyclerView.NO_POSITION) {
+            first = 0;
+            last = 0;
+        }
+        int from = Math.max(0, first - ENRICHMENT_MARGIN);
+        int to = Math.min(rows.size() - 1, last + ENRICHMENT_MARGIN);
+        if (from == enrichedFrom && to == enrichedTo) {
+            return;
+        }
+        enrichedFrom = from;
+        enrichedTo = to;
+        List<GitHubUserProfileDataEntry> window = new ArrayList<>(to - from + 1);
+        for (int i = from; i <= to; i++) {
+            window.add(rows.get(i).getFollower());
+        }
+        RowModelFactory factory = rowFactory;
+        enrichmentPipeline.request(window, profiles -> mainHandler.post(() -> {
+            // Re-render the current list with the full profiles; only changed rows rebind.
+            factory.rememberEnrichedProfiles(profiles);
+            buildPendingRows(false);
+        }));
+    }
+
+    /**
+     * Prefetches avatars for the rows just beyond the viewport edge the list is moving towards,
+     * skipping rows that were prefetched already.
+     */
+    private void prefetchAvatarsAhead(boolean scrollingDown) {
+        if (binding == null || adapter == null) {
+            return;
+        }
+        LinearLayoutManager layoutManager =
+                (LinearLayoutManager) binding.recyclerView.getLayoutManager();
+        List<FollowerRow> rows = adapter.getCurrentList();
+        if (layoutManager == null || rows.isEmpty()) {
+            return;
+        }
+        int from;
+        int to;
+        if (scrollingDown) {
+            int last = layoutManager.findLastVisibleItemPosition();
+            if (last == RecyclerView.NO_POSITION) {
+                return;
+            }
+            from = Math.max(last + 1, avatarsPrefetchedBelow + 1);
+            to = Math.min(rows.size() - 1, last + AVATAR_PREFETCH_ROWS);
+            avatarsPrefetchedBelow = Math.max(avatarsPrefetchedBelow, to);
+        } else {
+            int first = layoutManager.findFirstVisibleItemPosition();
+            if (first == RecyclerView.NO_POSITION) {
+                return;
+            }
+            from = Math.max(0, first - AVATAR_PREFETCH_ROWS);
+            to = Math.min(first - 1, avatarsPrefetchedAbove - 1);
+            avatarsPrefetchedAbove = Math.min(avatarsPrefetchedAbove, from);
+        }
+        if (from > to) {
+            return;
+        }
+        List<String> avatarUrls = new ArrayList<>(to - from + 1);
+        for (int i = from; i <= to; i++) {
+            avatarUrls.add(rows.get(i).getAvatarUrl());
+        }
+        avatarLoader.prefetch(binding.recyclerView.getContext(), avatarUrls, avatarSizePx);
     }
 
     /**
      * Submit a new list of followers to render. Safe to call before the fragment view is created.
+     * Lists equal to the one already submitted are ignored, so re-selecting the tab costs no diff.
+     * Rows are formatted on a background thread and handed to the adapter once ready.
      */
     public void submitList(@Nullable List<GitHubUserProfileDataEntry> followers) {
-        if (followers == null) {
-            pendingFollowers = Collections.emptyList();
-        } else {
-            pendingFollowers = new ArrayList<>(followers);
+        List<GitHubUserProfileDataEntry> next =
+                followers == null ? Collections.emptyList() : followers;
+        if (next.equals(pendingFollowers)) {
+            return;
         }
-        applyPendingFollowers();
+        pendingFollowers = PersistentList.copyOf(next);
+        buildPendingRows(true);
     }
 
-    private void applyPendingFollowers() {
+    /**
+     * Formats {@link #pendingFollowers} in the background; waits for attachment if needed.
+     * {@code newData} is false when only enrichment changed, which must not trigger another
+     * enrichment round for the same viewport.
+     */
+    private void buildPendingRows(boolean newData) {
+        List<GitHubUserProfileDataEntry> snapshot = pendingFollowers;
+        int generation = ++submissionGeneration;
+        newDataPending |= newData;
+        RowModelFactory factory = rowFactory;
+        if (factory == null || rowExecutor.isShutdown()) {
+            return;
+        }
+        rowExecutor.execute(() -> {
+            List<FollowerRow> rows = factory.followerRows(snapshot);
+            mainHandler.post(() -> {
+                // A newer submission supersedes this one.
+                if (generation == submissionGeneration) {
+                    pendingRows = rows;
+                    boolean fresh = newDataPending;
+                    newDataPending = false;
+                    applyPendingRows(fresh);
+                }
+            });
+        });
+    }
+
+    private void applyPendingRows(boolean newData) {
         if (adapter == null) {
             return;
         }
-        adapter.submitList(new ArrayList<>(pendingFollowers), this::updateEmptyState);
+        adapter.submitList(pendingRows, () -> {
+            updateEmptyState();
+            if (newData) {
+                enrichedFrom = RecyclerView.NO_POSITION;
+                enrichedTo = RecyclerView.NO_POSITION;
+                avatarsPrefetchedBelow = -1;
+                avatarsPrefetchedAbove = Integer.MAX_VALUE;
+                requestEnrichmentForViewport();
+                prefetchAvatarsAhead(true);
+            }
+        });
     }
 
     private void updateEmptyState() {
@@ -105,11 +309,27 @@ public class FollowersListFragment extends Fragment {
     @Override
     public void onDestroyView() {
         super.onDestroyView();
+        if (enrichmentPipeline != null) {
+            enrichmentPipeline.shutdown();
+            enrichmentPipeline = null;
+        }
         if (binding != null) {
             binding.recyclerView.setAdapter(null);
             binding = null;
         }
         adapter = null;
+        if (ownedViewPool != null) {
+            ownedViewPool.release();
+            ownedViewPool = null;
+        }
+    }
+
+    @Override
+    public void onDestroy() {
+        super.onDestroy();
+        // Pending row results stay queued across view re-creation and are dropped only here.
+        mainHandler.removeCallbacksAndMessages(null);
+        rowExecutor.shutdownNow();
     }
 
     @Override
@@ -2,6 +2,8 @@ package com.usth.githubclient.fragments;
 
 import android.content.Context;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -12,25 +14,55 @@ import androidx.fragment.app.Fragment;
 import androidx.recyclerview.widget.LinearLayoutManager;
 
 import com.usth.githubclient.R;
+import com.usth.githubclient.adapters.ListItemViewPool;
 import com.usth.githubclient.adapters.ReposListAdapter;
+import com.usth.githubclient.adapters.RepositoryRow;
+import com.usth.githubclient.adapters.RowModelFactory;
 import com.usth.githubclient.databinding.FragmentGeneralListBinding;
+import com.usth.githubclient.domain.collection.PersistentList;
 import com.usth.githubclient.domain.model.ReposDataEntry;
+import com.usth.githubclient.domain.query.RepositoryIndex;
+import com.usth.githubclient.domain.query.RepositoryQuery;
+import com.usth.githubclient.domain.query.RepositoryQueryResult;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
- * Displays a scrollable list of repositories and notifies the host when one is selected.
+ * Displays a scrollable list of repositories and notifies the host when one is selected. The
+ * submitted list is sorted, filtered and grouped locally according to {@link #setQuery}.
  */
 public class RepositoriesListFragment extends Fragment {
 
     public static final String TAG = "RepositoriesListFragment";
 
+    // Keeps every row of a 10k-repository account formatted across query changes.
+    private static final int ROW_CACHE_SIZE = 10_000;
+    private static final String KEY_SORT = "key_repositories_sort";
+    private static final String KEY_DESCENDING = "key_repositories_descending";
+    private static final String KEY_LANGUAGE = "key_repositories_language";
+    private static final String KEY_FORKS = "key_repositories_forks";
+    private static final String KEY_PRIVATE = "key_repositories_private";
+    private static final String KEY_ARCHIVED = "key_repositories_archived";
+    private static final String KEY_GROUP_BY_LANGUAGE = "key_repositories_group_by_language";
+
     private FragmentGeneralListBinding binding;
     private ReposListAdapter adapter;
     private OnRepositorySelectedListener listener;
     private List<ReposDataEntry> pendingRepositories = Collections.emptyList();
+    private List<RepositoryRow> pendingRows = Collections.emptyList();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    // Formats rows off the main thread; a single thread keeps submissions in order.
+    private final ExecutorService rowExecutor = Executors.newSingleThreadExecutor();
+    private RowModelFactory rowFactory;
+    private ListItemViewPool ownedViewPool;
+    private int submissionGeneration;
+    private RepositoryQuery query = RepositoryQuery.defaults();
+    private List<String> availableLanguages = Collections.emptyList();
+    // Only touched on rowExecutor; rebuilt when a different list is submitted.
+    private RepositoryIndex index;
 
     public static RepositoriesListFragment newInstance() {
         return new RepositoriesListFragment();
@@ -44,6 +76,20 @@ public class RepositoriesListFragment extends Fragment {
         } else {
             throw new IllegalStateException("Host activity must implement OnRepositorySelectedListener");
         }
+        if (rowFactory == null) {
+            rowFactory = new RowModelFactory(
+                    context.getApplicationContext().getResources(), ROW_CACHE_SIZE);
+            // Lists submitted before attachment could not be formatted yet.
+            buildPendingRows();
+        }
+    }
+
+    @Override
+    public void onCreate(@Nullable Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        if (savedInstanceState != null) {
+            setQuery(restoreQuery(savedInstanceState));
+        }
     }
 
     @Nullable
@@ -62,38 +108,104 @@ public class RepositoriesListFragment extends Fragment {
         if (binding != null) {
             binding.emptyView.setText(R.string.repositories_empty_state);
         }
-        applyPendingRepositories();
+        applyPendingRows();
         updateEmptyState();
     }
 
     private void setupRecyclerView() {
+        ListItemViewPool viewPool = resolveViewPool();
         adapter = new ReposListAdapter(repository -> {
             if (listener != null) {
                 listener.onRepositorySelected(repository);
             }
-        });
-        binding.recyclerView.setLayoutManager(new LinearLayoutManager(requireContext()));
+        }, viewPool);
+        LinearLayoutManager layoutManager = new LinearLayoutManager(requireContext());
+        // Hands rows back to the shared pool when the list leaves the window.
+        layoutManager.setRecycleChildrenOnDetach(true);
+        binding.recyclerView.setLayoutManager(layoutManager);
+        binding.recyclerView.setRecycledViewPool(viewPool.getRecycledViewPool());
         binding.recyclerView.setHasFixedSize(true);
         binding.recyclerView.setAdapter(adapter);
     }
 
+    /** Uses the host's shared row pool when it has one, otherwise a pool private to this view. */
+    private ListItemViewPool resolveViewPool() {
+        if (requireActivity() instanceof ListItemViewPool.Provider) {
+            return ((ListItemViewPool.Provider) requireActivity()).getListItemViewPool();
+        }
+        ownedViewPool = new ListItemViewPool(requireContext());
+        return ownedViewPool;
+    }
+
     /**
      * Submit a new list of repositories to render. Safe to call before the view exists.
+     * Lists equal to the one already submitted are ignored. Rows are formatted on a background
+     * thread and handed to the adapter once ready.
      */
     public void submitList(@Nullable List<ReposDataEntry> repositories) {
-        if (repositories == null) {
-            pendingRepositories = Collections.emptyList();
-        } else {
-            pendingRepositories = new ArrayList<>(repositories);
+        List<ReposDataEntry> next = repositories == null ? Collections.emptyList() : repositories;
+        if (next.equals(pendingRepositories)) {
+            return;
+        }
+        pendingRepositories = PersistentList.copyOf(next);
+        buildPendingRows();
+    }
+
+    /** Re-orders, filters or groups the current list; cheap when only the sort changes. */
+    public void setQuery(@NonNull RepositoryQuery query) {
+        if (query.equals(this.query)) {
+            return;
         }
-        applyPendingRepositories();
+        this.query = query;
+        buildPendingRows();
+    }
+
+    @NonNull
+    public RepositoryQuery getQuery() {
+        return query;
+    }
+
+    /** Languages present in the submitted list, sorted; empty until rows have been built. */
+    @NonNull
+    public List<String> getAvailableLanguages() {
+        return availableLanguages;
     }
 
-    private void applyPendingRepositories() {
+    /**
+     * Queries and formats {@link #pendingRepositories} in the background; waits for attachment
+     * if needed.
+     */
+    private void buildPendingRows() {
+        List<ReposDataEntry> snapshot = pendingRepositories;
+        RepositoryQuery snapshotQuery = query;
+        int generation = ++submissionGeneration;
+        RowModelFactory factory = rowFactory;
+        if (factory == null || rowExecutor.isShutdown()) {
+            return;
+        }
+        rowExecutor.execute(() -> {
+            if (index == null || index.getRepositories() != snapshot) {
+                index = RepositoryIndex.of(snapshot);
+            }
+            RepositoryQueryResult result = index.query(snapshotQuery);
+            List<RepositoryRow> rows = factory.repositoryRows(result);
+            List<String> languages = index.getLanguages();
+            mainHandler.post(() -> {
+                // A newer submission supersedes this one.
+                if (generation == submissionGeneration) {
+                    pendingRows = rows;
+                    availableLanguages = languages;
+                    applyPendingRows();
+                }
+            });
+        });
+    }
+
+    private void applyPendingRows() {
         if (adapter == null) {
             return;
         }
-        adapter.submitList(new ArrayList<>(pendingRepositories), this::updateEmptyState);
+        adapter.submitList(pendingRows, this::updateEmptyState);
     }
 
     private void updateEmptyState() {
@@ -105,6 +217,39 @@ public class RepositoriesListFragment extends Fragment {
         binding.emptyView.setVisibility(isEmpty ? View.VISIBLE : View.GONE);
     }
 
+    @Override
+    public void onSaveInstanceState(@NonNull Bundle outState) {
+        super.onSaveInstanceState(outState);
+        outState.putString(KEY_SORT, query.getSortField().name());
+        outState.putBoolean(KEY_DESCENDING, query.isDescending());
+        outState.putString(KEY_LANGUAGE, query.getLanguage());
+        outState.putString(KEY_FORKS, query.getForks().name());
+        outState.putString(KEY_PRIVATE, query.getPrivateRepositories().name());
+        outState.putString(KEY_ARCHIVED, query.getArchived().name());
+        outState.putBoolean(KEY_GROUP_BY_LANGUAGE, query.isGroupByLanguage());
+    }
+
+    @NonNull
+    private static RepositoryQuery restoreQuery(@NonNull Bundle state) {
+        RepositoryQuery defaults = RepositoryQuery.defaults();
+        return RepositoryQuery.builder()
+                .sort(RepositoryQuery.SortField.valueOf(
+                                state.getString(KEY_SORT, defaults.getSortField().name())),
+                        state.getBoolean(KEY_DESCENDING, defaults.isDescending()))
+                .language(state.getString(KEY_LANGUAGE))
+                .forks(restoreInclusion(state, KEY_FORKS))
+                .privateRepositories(restoreInclusion(state, KEY_PRIVATE))
+                .archived(restoreInclusion(state, KEY_ARCHIVED))
+                .groupByLanguage(state.getBoolean(KEY_GROUP_BY_LANGUAGE, defaults.isGroupByLanguage()))
+                .build();
+    }
+
+    @NonNull
+    private static RepositoryQuery.Inclusion restoreInclusion(@NonNull Bundle state, @NonNull String key) {
+        return RepositoryQuery.Inclusion.valueOf(
+                state.getString(key, RepositoryQuery.Inclusion.ANY.name()));
+    }
+
     @Override
     public void onDestroyView() {
         super.onDestroyView();
@@ -113,6 +258,17 @@ public class RepositoriesListFragment extends Fragment {
             binding = null;
         }
         adapter = null;
+        if (ownedViewPool != null) {
+            ownedViewPool.release();
+            ownedViewPool = null;
+        }
+    }
+
+    @Override
+    public void onDestroy() {
+        super.onDestroy();
+        mainHandler.removeCallbacksAndMessages(null);
+        rowExecutor.shutdownNow();
     }
 
     @Override
@@ -17,15 +17,25 @@ import androidx.appcompat.app.AppCompatActivity;
 import androidx.fragment.app.Fragment;
 import androidx.lifecycle.ViewModelProvider;
 
-import com.bumptech.glide.Glide;
 import com.usth.githubclient.R;
+import com.usth.githubclient.data.repository.EventFeedRepository;
 import com.usth.githubclient.databinding.FragmentUserProfileBinding;
+import com.usth.githubclient.di.ServiceLocator;
+import com.usth.githubclient.domain.model.FeedEvent;
+import com.usth.githubclient.domain.model.FollowAnalytics;
 import com.usth.githubclient.domain.model.GitHubUserProfileDataEntry;
+import com.usth.githubclient.domain.model.LanguageStats;
+import com.usth.githubclient.domain.model.UserSessionData;
+import com.usth.githubclient.viewmodel.ActivityFeedViewModel;
+import com.usth.githubclient.viewmodel.FollowAnalyticsViewModel;
+import com.usth.githubclient.viewmodel.LanguageStatsViewModel;
 import com.usth.githubclient.viewmodel.UserViewModel;
 
 import java.text.DateFormat;
+import java.text.NumberFormat;
 import java.time.Instant;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
 
 /**
@@ -35,9 +45,15 @@ public class UserProfileFragment extends Fragment {
 
     public static final String TAG = "UserProfileFragment";
     private static final String ARG_USERNAME = "arg_username";
+    private static final int MAX_LANGUAGES_SHOWN = 5;
+    private static final int MAX_EVENTS_SHOWN = 5;
+    private static final String EVENT_SUFFIX = "Event";
 
     private FragmentUserProfileBinding binding;
     private UserViewModel viewModel;
+    private LanguageStatsViewModel languageStatsViewModel;
+    private ActivityFeedViewModel activityFeedViewModel;
+    private FollowAnalyticsViewModel followAnalyticsViewModel;
 
     public static UserProfileFragment newInstance(@Nullable String username) {
         UserProfileFragment fragment = new UserProfileFragment();
@@ -68,6 +84,117 @@ public class UserProfileFragment extends Fragment {
 
         String username = getArguments() == null ? null : getArguments().getString(ARG_USERNAME);
         viewModel.loadUserProfile(username);
+
+        languageStatsViewModel = new ViewModelProvider(this).get(LanguageStatsViewModel.class);
+        languageStatsViewModel.getUiState().observe(getViewLifecycleOwner(), this::renderLanguages);
+        languageStatsViewModel.loadStats(username);
+
+        // Walks every follower page, so only offered for the signed-in user's own profile.
+        if (isSignedInUser(username)) {
+            followAnalyticsViewModel = new ViewModelProvider(this).get(FollowAnalyticsViewModel.class);
+            followAnalyticsViewModel.getUiState()
+                    .observe(getViewLifecycleOwner(), this::renderFollowAnalytics);
+            followAnalyticsViewModel.loadAnalytics(username);
+        }
+
+        activityFeedViewModel = new ViewModelProvider(this).get(ActivityFeedViewModel.class);
+        activityFeedViewModel.getUiState().observe(getViewLifecycleOwner(), this::renderRecentActivity);
+    }
+
+    @Override
+    public void onStart() {
+        super.onStart();
+        // Poll only while visible; the feed's ETag makes each restart cheap.
+        String username = getArguments() == null ? null : getArguments().getString(ARG_USERNAME);
+        activityFeedViewModel.startPolling(username, EventFeedRepository.Feed.PERFORMED);
+    }
+
+    @Override
+    public void onStop() {
+        super.onStop();
+        activityFeedViewModel.stopPolling();
+    }
+
+    private void renderRecentActivity(@Nullable ActivityFeedViewModel.FeedUiState state) {
+        if (binding == null) {
+            return;
+        }
+        List<FeedEvent> events = state == null ? null : state.getEvents();
+        if (events == null || events.isEmpty()) {
+            binding.recentActivityGroup.setVisibility(View.GONE);
+            binding.recentActivityValue.setText(null);
+            return;
+        }
+        StringBuilder text = new StringBuilder();
+        int shown = Math.min(MAX_EVENTS_SHOWN, events.size());
+        for (int i = 0; i < shown; i++) {
+            FeedEvent event = events.get(i);
+            String type = event.getType();
+            if (type.endsWith(EVENT_SUFFIX) && type.length() > EVENT_SUFFIX.length()) {
+                type = type.substring(0, type.length() - EVENT_SUFFIX.length());
+            }
+            if (i > 0) {
+                text.append('\n');
+            }
+            text.append(getString(R.string.user_profile_recent_activity_item, type, event.getRepoName()));
+        }
+        binding.recentActivityGroup.setVisibility(View.VISIBLE);
+        binding.recentActivityValue.setText(text);
+    }
+
+    private boolean isSignedInUser(@Nullable String username) {
+        UserSessionData session = ServiceLocator.getInstance().authRepository().getCachedSession();
+        return session != null
+                && (TextUtils.isEmpty(username) || username.trim().equalsIgnoreCase(session.getUsername()));
+    }
+
+    private void renderFollowAnalytics(@Nullable FollowAnalyticsViewModel.FollowAnalyticsUiState state) {
+        if (binding == null) {
+            return;
+        }
+        FollowAnalytics analytics = state == null ? null : state.getAnalytics();
+        if (analytics == null) {
+            boolean loading = state != null && state.isLoading();
+            binding.followAnalyticsGroup.setVisibility(loading ? View.VISIBLE : View.GONE);
+            binding.followAnalyticsValue.setText(loading
+                    ? getString(R.string.user_profile_follow_analytics_loading, state.getFollowersScanned())
+                    : null);
+            return;
+        }
+        binding.followAnalyticsGroup.setVisibility(View.VISIBLE);
+        binding.followAnalyticsValue.setText(getString(R.string.user_profile_follow_analytics,
+                analytics.getMutuals().size(), analytics.getFans().size(),
+                analytics.getNotFollowingBack().size()));
+    }
+
+    private void renderLanguages(@Nullable LanguageStatsViewModel.LanguageStatsUiState state) {
+        if (binding == null) {
+            return;
+        }
+        LanguageStats stats = state == null ? null : state.getStats();
+        if (stats == null || stats.getLanguages().isEmpty()) {
+            binding.languagesGroup.setVisibility(View.GONE);
+            binding.languagesValue.setText(null);
+            return;
+        }
+        NumberFormat percent = NumberFormat.getPercentInstance(Locale.getDefault());
+        percent.setMaximumFractionDigits(1);
+        StringBuilder text = new StringBuilder();
+        int shown = Math.min(MAX_LANGUAGES_SHOWN, stats.getLanguages().size());
+        for (int i = 0; i < shown; i++) {
+            LanguageStats.LanguageShare share = stats.getLanguages().get(i);
+            if (i > 0) {
+                text.append(" · ");
+            }
+            text.append(getString(R.string.user_profile_language_share,
+                    share.getLanguage(), percent.format(share.getFraction())));
+        }
+        String summary = stats.getIncompleteRepositoryCount() == 0
+                ? text.toString()
+                : getString(R.string.user_profile_languages_incomplete,
+                        text.toString(), stats.getIncompleteRepositoryCount());
+        binding.languagesGroup.setVisibility(View.VISIBLE);
+        binding.languagesValue.setText(summary);
     }
 
     /**
@@ -110,12 +237,10 @@ public class UserProfileFragment extends Fragment {
 
         updateTextOrHide(binding.bio, profile.getBio().orElse(null));
 
-        Glide.with(binding.avatar)
-                .load(profile.getAvatarUrl().orElse(null))
-                .placeholder(R.drawable.ic_avatar_placeholder)
-                .error(R.drawable.ic_avatar_placeholder)
-                .circleCrop()
-                .into(binding.avatar);
+        ServiceLocator.getInstance().avatarLoader().load(
+                binding.avatar,
+                profile.getAvatarUrl().orElse(null),
+                getResources().getDimensionPixelSize(R.dimen.avatar_size_profile));
 
         binding.repositoriesValue.setText(String.valueOf(profile.getPublicReposCount()));
         binding.followersValue.setText(String.valueOf(profile.getFollowersCount()));
@@ -0,0 +1,78 @@
+package com.usth.githubclient.image;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts where displayed avatars came from, so the shared cache budget can be judged by its hit
+ * rates. Prefetches are tracked separately and do not affect the rates.
+ */
+public final class AvatarCacheStats {
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong networkLoads = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong prefetches = new AtomicLong();
+
+    void recordMemoryHit() {
+        memoryHits.incrementAndGet();
+    }
+
+    void recordDiskHit() {
+        diskHits.incrementAndGet();
+    }
+
+    void recordNetworkLoad() {
+        networkLoads.incrementAndGet();
+    }
+
+    void recordFailure() {
+        failures.incrementAndGet();
+    }
+
+    void recordPrefetch() {
+        prefetches.incrementAndGet();
+    }
+
+    public long getMemoryHits() {
+        return memoryHits.get();
+    }
+
+    public long getDiskHits() {
+        return diskHits.get();
+    }
+
+    public long getNetworkLoads() {
+        return networkLoads.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    public long getPrefetches() {
+        return prefetches.get();
+    }
+
+    /** Share of displayed avatars served from the in-memory cache, or 0 before any load. */
+    public double getMemoryHitRate() {
+        long total = getMemoryHits() + getDiskHits() + getNetworkLoads();
+        return total == 0 ? 0d : (double) getMemoryHits() / total;
+    }
+
+    /** Share of displayed avatars that did not need the network, or 0 before any load. */
+    public double getCacheHitRate() {
+        long cached = getMemoryHits() + getDiskHits();
+        long total = cached + getNetworkLoads();
+        return total == 0 ? 0d : (double) cached / total;
+    }
+
+    @Override
+    public String toString() {
+        return "AvatarCacheStats{memoryHits=" + getMemoryHits()
+                + ", diskHits=" + getDiskHits()
+                + ", networkLoads=" + getNetworkLoads()
+                + ", failures=" + getFailures()
+                + ", prefetches=" + getPrefetches() + '}';
+    }
+}
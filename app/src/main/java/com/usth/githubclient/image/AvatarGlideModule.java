@@ -0,0 +1,35 @@
+package com.usth.githubclient.image;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+
+import com.bumptech.glide.GlideBuilder;
+import com.bumptech.glide.annotation.GlideModule;
+import com.bumptech.glide.load.engine.cache.MemorySizeCalculator;
+import com.bumptech.glide.module.AppGlideModule;
+
+/**
+ * Process-wide Glide configuration. Every screen loads images through the same Glide instance, so
+ * the memory cache and bitmap pool sized here are the one bounded budget they all share.
+ */
+@GlideModule
+public final class AvatarGlideModule extends AppGlideModule {
+
+    // Screens worth of ARGB_8888 pixels; avatars are small, so this holds a lot of them.
+    private static final float MEMORY_CACHE_SCREENS = 1.5f;
+    private static final float BITMAP_POOL_SCREENS = 1f;
+
+    @Override
+    public void applyOptions(@NonNull Context context, @NonNull GlideBuilder builder) {
+        builder.setMemorySizeCalculator(new MemorySizeCalculator.Builder(context)
+                .setMemoryCacheScreens(MEMORY_CACHE_SCREENS)
+                .setBitmapPoolScreens(BITMAP_POOL_SCREENS)
+                .build());
+    }
+
+    @Override
+    public boolean isManifestParsingEnabled() {
+        return false;
+    }
+}
@@ -0,0 +1,117 @@
+package com.usth.githubclient.image;
+
+import android.content.Context;
+import android.graphics.drawable.Drawable;
+import android.util.SparseArray;
+import android.widget.ImageView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.load.DataSource;
+import com.bumptech.glide.load.engine.DiskCacheStrategy;
+import com.bumptech.glide.load.engine.GlideException;
+import com.bumptech.glide.request.RequestListener;
+import com.bumptech.glide.request.RequestOptions;
+import com.bumptech.glide.request.target.Target;
+import com.usth.githubclient.R;
+
+import java.util.List;
+
+/**
+ * Loads circular GitHub avatars at the exact size they are displayed.
+ * <p>
+ * The CDN is asked for a {@code sizePx} image, Glide decodes it at that size, and the
+ * circle-cropped result is what gets cached in memory and on disk. Displays and prefetches of the
+ * same URL and size share one cache key, so a prefetched avatar is a memory hit when its row binds.
+ * All screens go through the single Glide instance configured by {@link AvatarGlideModule}, so they
+ * share one memory budget. Call from the main thread.
+ */
+public final class AvatarLoader {
+
+    private final AvatarCacheStats stats = new AvatarCacheStats();
+    private final SparseArray<RequestOptions> optionsBySize = new SparseArray<>();
+
+    private final RequestListener<Drawable> displayListener = new RequestListener<Drawable>() {
+        @Override
+        public boolean onLoadFailed(@Nullable GlideException e, @Nullable Object model,
+                                    @NonNull Target<Drawable> target, boolean isFirstResource) {
+            stats.recordFailure();
+            return false;
+        }
+
+        @Override
+        public boolean onResourceReady(@NonNull Drawable resource, @NonNull Object model,
+                                       Target<Drawable> target, @NonNull DataSource dataSource,
+                                       boolean isFirstResource) {
+            if (dataSource == DataSource.MEMORY_CACHE) {
+                stats.recordMemoryHit();
+            } else if (dataSource == DataSource.REMOTE) {
+                stats.recordNetworkLoad();
+            } else {
+                stats.recordDiskHit();
+            }
+            return false;
+        }
+    };
+
+    private final RequestListener<Drawable> prefetchListener = new RequestListener<Drawable>() {
+        @Override
+        public boolean onLoadFailed(@Nullable GlideException e, @Nullable Object model,
+                                    @NonNull Target<Drawable> target, boolean isFirstResource) {
+            return false;
+        }
+
+        @Override
+        public boolean onResourceReady(@NonNull Drawable resource, @NonNull Object model,
+                                       Target<Drawable> target, @NonNull DataSource dataSource,
+                                       boolean isFirstResource) {
+            stats.recordPrefetch();
+            return false;
+        }
+    };
+
+    /** Shows the avatar at {@code avatarUrl} in {@code target}, which is {@code sizePx} square. */
+    public void load(@NonNull ImageView target, @Nullable String avatarUrl, int sizePx) {
+        Glide.with(target)
+                .load(AvatarUrls.sized(avatarUrl, sizePx))
+                .apply(optionsFor(sizePx))
+                .listener(displayListener)
+                .into(target);
+    }
+
+    /** Warms the memory cache for avatars that are about to scroll into view. */
+    public void prefetch(@NonNull Context context, @NonNull List<String> avatarUrls, int sizePx) {
+        RequestOptions options = optionsFor(sizePx);
+        for (String avatarUrl : avatarUrls) {
+            if (avatarUrl == null) {
+                continue;
+            }
+            Glide.with(context)
+                    .load(AvatarUrls.sized(avatarUrl, sizePx))
+                    .apply(options)
+                    .listener(prefetchListener)
+                    .preload(sizePx, sizePx);
+        }
+    }
+
+    @NonNull
+    public AvatarCacheStats getStats() {
+        return stats;
+    }
+
+    private RequestOptions optionsFor(int sizePx) {
+        RequestOptions options = optionsBySize.get(sizePx);
+        if (options == null) {
+            // Caching the transformed resource keeps the decoded, cropped bitmap on disk too.
+            options = RequestOptions.circleCropTransform()
+                    .override(sizePx)
+                    .diskCacheStrategy(DiskCacheStrategy.RESOURCE)
+                    .placeholder(R.drawable.ic_avatar_placeholder)
+                    .error(R.drawable.ic_avatar_placeholder);
+            optionsBySize.put(sizePx, options);
+        }
+        return options;
+    }
+}
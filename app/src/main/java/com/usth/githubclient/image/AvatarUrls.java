@@ -0,0 +1,48 @@
+package com.usth.githubclient.image;
+
+/**
+ * Rewrites GitHub avatar URLs so the CDN returns an image of the size it will be shown at.
+ */
+public final class AvatarUrls {
+
+    private static final String SIZE_PARAM = "s=";
+
+    private AvatarUrls() {
+    }
+
+    /**
+     * Returns {@code url} with its {@code s} query parameter set to {@code sizePx}. URLs that are
+     * not served by the GitHub avatar CDN are returned unchanged, as is {@code null}.
+     */
+    public static String sized(String url, int sizePx) {
+        if (url == null || sizePx <= 0 || !isGithubAvatar(url)) {
+            return url;
+        }
+        int queryStart = url.indexOf('?');
+        StringBuilder result = new StringBuilder(url.length() + 8);
+        result.append(queryStart < 0 ? url : url.substring(0, queryStart));
+        char separator = '?';
+        if (queryStart >= 0) {
+            for (String param : url.substring(queryStart + 1).split("&")) {
+                if (param.isEmpty() || param.startsWith(SIZE_PARAM)) {
+                    continue;
+                }
+                result.append(separator).append(param);
+                separator = '&';
+            }
+        }
+        return result.append(separator).append(SIZE_PARAM).append(sizePx).toString();
+    }
+
+    static boolean isGithubAvatar(String url) {
+        int schemeEnd = url.indexOf("://");
+        if (schemeEnd < 0) {
+            return false;
+        }
+        int hostStart = schemeEnd + 3;
+        int hostEnd = url.indexOf('/', hostStart);
+        String host = hostEnd < 0 ? url.substring(hostStart) : url.substring(hostStart, hostEnd);
+        // Covers avatars.githubusercontent.com and the legacy avatars0..3 shards.
+        return host.startsWith("avatars") && host.endsWith(".githubusercontent.com");
+    }
+}
@@ -0,0 +1,190 @@
+package com.usth.githubclient.viewmodel;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.ViewModel;
+
+import com.usth.githubclient.data.remote.ApiClient;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.repository.AuthRepository;
+import com.usth.githubclient.data.repository.EventFeedRepository;
+import com.usth.githubclient.di.ServiceLocator;
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.model.FeedEvent;
+import com.usth.githubclient.domain.model.UserSessionData;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ViewModel polling the activity feed of a user while the screen is started, on the shared poll
+ * scheduler. Each poll is scheduled after the delay the previous response asked for, so the feed
+ * stays fresh without spending more requests than GitHub allows.
+ */
+public class ActivityFeedViewModel extends ViewModel {
+
+    private static final String FALLBACK_USERNAME = "octocat";
+    private static final long RETRY_DELAY_SECONDS = 60L;
+
+    private final MutableLiveData<FeedUiState> uiState = new MutableLiveData<>(FeedUiState.idle());
+    private final ScheduledExecutorService scheduler;
+    private final AuthRepository authRepository;
+    private final EventFeedRepository repository;
+
+    private String currentUsername;
+    private EventFeedRepository.Feed currentFeed;
+    private ScheduledFuture<?> pendingPoll;
+    private int generation;
+
+    public ActivityFeedViewModel() {
+        this(ServiceLocator.getInstance().authRepository(), new EventFeedRepository(
+                new ApiClient().createService(GithubApiService.class),
+                ServiceLocator.getInstance().eventFeedCache(),
+                ServiceLocator.getInstance().eventMapper(),
+                ServiceLocator.getInstance().eventFeedStats()),
+                ServiceLocator.getInstance().pollScheduler());
+    }
+
+    public ActivityFeedViewModel(@NonNull AuthRepository authRepository,
+                                 @NonNull EventFeedRepository repository,
+                                 @NonNull ScheduledExecutorService scheduler) {
+        this.authRepository = Objects.requireNonNull(authRepository, "authRepository == null");
+        this.repository = Objects.requireNonNull(repository, "repository == null");
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler == null");
+    }
+
+    public LiveData<FeedUiState> getUiState() {
+        return uiState;
+    }
+
+    /** Starts polling {@code feed} of {@code username}, or of the signed-in user when blank. */
+    public void startPolling(@Nullable String username, @NonNull EventFeedRepository.Feed feed) {
+        String normalized = username == null ? "" : username.trim();
+        if (normalized.isEmpty()) {
+            UserSessionData session = authRepository.getCachedSession();
+            normalized = session != null ? session.getUsername() : FALLBACK_USERNAME;
+        }
+        currentUsername = normalized;
+        currentFeed = Objects.requireNonNull(feed, "feed == null");
+        uiState.setValue(FeedUiState.loading(repository.getCached(feed, normalized)));
+        int started;
+        synchronized (this) {
+            cancelPending();
+            started = ++generation;
+        }
+        schedulePoll(started, normalized, feed, true, 0L);
+    }
+
+    /** Stops polling until the next {@link #startPolling}; cached events are kept. */
+    public synchronized void stopPolling() {
+        cancelPending();
+        generation++;
+    }
+
+    public void retry() {
+        if (currentUsername != null) {
+            startPolling(currentUsername, currentFeed);
+        }
+    }
+
+    private void cancelPending() {
+        if (pendingPoll != null) {
+            pendingPoll.cancel(false);
+            pendingPoll = null;
+        }
+    }
+
+    /** Schedules a poll unless polling was stopped or restarted since {@code started}. */
+    private synchronized void schedulePoll(int started, String username, EventFeedRepository.Feed feed,
+                                           boolean refresh, long delayMillis) {
+        if (started != generation || scheduler.isShutdown()) {
+            return;
+        }
+        pendingPoll = scheduler.schedule(
+                () -> poll(started, username, feed, refresh), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void poll(int started, String username, EventFeedRepository.Feed feed, boolean refresh) {
+        long nextDelay;
+        boolean failed = false;
+        try {
+            EventFeedRepository.PollResult result = repository.poll(feed, username);
+            // Unchanged feeds only need a post to end a loading or error state.
+            if (refresh || result.getNewEventCount() > 0) {
+                uiState.postValue(FeedUiState.success(result.getEvents()));
+            }
+            nextDelay = result.getNextPollDelayMillis();
+        } catch (IOException exception) {
+            String message = exception.getMessage();
+            if (message == null || message.trim().isEmpty()) {
+                message = "Unable to load recent activity right now.";
+            }
+            uiState.postValue(FeedUiState.error(message, repository.getCached(feed, username)));
+            nextDelay = TimeUnit.SECONDS.toMillis(RETRY_DELAY_SECONDS);
+            failed = true;
+        }
+        schedulePoll(started, username, feed, failed, nextDelay);
+    }
+
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        // The scheduler is shared; only this screen's poll is cancelled.
+        stopPolling();
+    }
+
+    /**
+     * Immutable UI state for the activity feed.
+     */
+    public static final class FeedUiState {
+        private final boolean loading;
+        private final PersistentList<FeedEvent> events;
+        private final String errorMessage;
+
+        private FeedUiState(boolean loading,
+                            @NonNull PersistentList<FeedEvent> events,
+                            @Nullable String errorMessage) {
+            this.loading = loading;
+            this.events = events;
+            this.errorMessage = errorMessage;
+        }
+
+        public static FeedUiState idle() {
+            return new FeedUiState(false, PersistentList.empty(), null);
+        }
+
+        public static FeedUiState loading(@NonNull PersistentList<FeedEvent> previous) {
+            return new FeedUiState(true, Objects.requireNonNull(previous, "previous == null"), null);
+        }
+
+        public static FeedUiState success(@NonNull PersistentList<FeedEvent> events) {
+            return new FeedUiState(false, Objects.requireNonNull(events, "events == null"), null);
+        }
+
+        public static FeedUiState error(@NonNull String message,
+                                        @NonNull PersistentList<FeedEvent> previous) {
+            return new FeedUiState(false, Objects.requireNonNull(previous, "previous == null"),
+                    Objects.requireNonNull(message, "message == null"));
+        }
+
+        public boolean isLoading() {
+            return loading;
+        }
+
+        /** Events newest first. */
+        @NonNull
+        public PersistentList<FeedEvent> getEvents() {
+            return events;
+        }
+
+        @Nullable
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.usth.githubclient.viewmodel;
+
+import android.app.Application;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.usth.githubclient.data.remote.ApiClient;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.repository.CommitHistoryRepository;
+import com.usth.githubclient.di.ServiceLocator;
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.model.CommitSummary;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ViewModel behind the commit history screen. A history seen before is shown from the cache at
+ * once, then the branch head is revalidated; older pages are appended as the list is scrolled.
+ */
+public class CommitHistoryViewModel extends AndroidViewModel {
+
+    private final MutableLiveData<HistoryUiState> uiState = new MutableLiveData<>(HistoryUiState.empty());
+    private final ExecutorService executorService;
+    private final ExecutorService prefetchExecutor;
+    private final CommitHistoryRepository repository;
+
+    private String owner;
+    private String repo;
+    private String branch;
+    private volatile String headSha;
+    private volatile boolean loadingMore;
+
+    public CommitHistoryViewModel(@NonNull Application application) {
+        super(application);
+        this.executorService = Executors.newSingleThreadExecutor();
+        this.prefetchExecutor = Executors.newSingleThreadExecutor();
+        ServiceLocator locator = ServiceLocator.getInstance();
+        this.repository = new CommitHistoryRepository(
+                new ApiClient().createService(GithubApiService.class),
+                locator.commitCache(application),
+                locator.commitMapper(),
+                prefetchExecutor);
+    }
+
+    public LiveData<HistoryUiState> getUiState() {
+        return uiState;
+    }
+
+    /** Shows the history of {@code branch}; ignored if it is already shown. */
+    public void open(@NonNull String owner, @NonNull String repo, @NonNull String branch) {
+        if (owner.equals(this.owner) && repo.equals(this.repo) && branch.equals(this.branch)) {
+            return;
+        }
+        this.owner = owner;
+        this.repo = repo;
+        this.branch = branch;
+        this.headSha = null;
+        uiState.setValue(HistoryUiState.empty());
+        executorService.execute(() -> {
+            // 1. Whatever was cached for the branch, without waiting for the network.
+            String cachedHead = repository.getCachedHead(owner, repo, branch);
+            CommitHistoryRepository.Page cached = null;
+            if (cachedHead != null) {
+                try {
+                    cached = repository.getCachedPage(cachedHead, 0);
+                } catch (IOException ignored) {
+                    // Unreadable cache: the network below replaces it.
+                }
+            }
+            if (cached != null) {
+                headSha = cachedHead;
+                uiState.postValue(HistoryUiState.loaded(
+                        PersistentList.copyOf(cached.getCommits()), 1, cached.hasMore(), true));
+            }
+            // 2. Revalidate the head; a 304 keeps the rows above as they are.
+            try {
+                String head = repository.resolveHead(owner, repo, branch);
+                if (head == null) {
+                    headSha = null;
+                    uiState.postValue(HistoryUiState.loaded(PersistentList.empty(), 0, false, false));
+                    return;
+                }
+                if (cached != null && head.equals(cachedHead)) {
+                    uiState.postValue(HistoryUiState.loaded(
+                            PersistentList.copyOf(cached.getCommits()), 1, cached.hasMore(), false));
+                    // Served from the cache; this only starts prefetching the second page.
+                    repository.loadPage(owner, repo, head, 0);
+                    return;
+                }
+                headSha = head;
+                CommitHistoryRepository.Page first = repository.loadPage(owner, repo, head, 0);
+                uiState.postValue(HistoryUiState.loaded(
+                        PersistentList.copyOf(first.getCommits()), 1, first.hasMore(), false));
+            } catch (IOException exception) {
+                HistoryUiState current = cached == null
+                        ? HistoryUiState.empty()
+                        : HistoryUiState.loaded(PersistentList.copyOf(cached.getCommits()), 1,
+                                cached.hasMore(), false);
+                postError(current, exception);
+            }
+        });
+    }
+
+    /** Appends the next page, if any; ignored while one is loading. */
+    public void loadMore() {
+        HistoryUiState state = uiState.getValue();
+        if (state == null || loadingMore || !state.hasMore() || headSha == null) {
+            return;
+        }
+        loadingMore = true;
+        String owner = this.owner;
+        String repo = this.repo;
+        String head = headSha;
+        int pageIndex = state.getPagesLoaded();
+        executorService.execute(() -> {
+            try {
+                CommitHistoryRepository.Page page = repository.loadPage(owner, repo, head, pageIndex);
+                uiState.postValue(HistoryUiState.loaded(state.getCommits().plusAll(page.getCommits()),
+                        pageIndex + 1, page.hasMore(), false));
+            } catch (IOException exception) {
+                postError(state, exception);
+            } finally {
+                loadingMore = false;
+            }
+        });
+    }
+
+    public void retry() {
+        HistoryUiState state = uiState.getValue();
+        if (state != null && !state.getCommits().isEmpty()) {
+            loadMore();
+            return;
+        }
+        String owner = this.owner;
+        String repo = this.repo;
+        String branch = this.branch;
+        this.owner = null;
+        if (owner != null) {
+            open(owner, repo, branch);
+        }
+    }
+
+    private void postError(@NonNull HistoryUiState base, @NonNull IOException exception) {
+        String message = exception.getMessage();
+        if (message == null || message.trim().isEmpty()) {
+            message = "Unable to load the commit history right now.";
+        }
+        uiState.postValue(base.withError(message));
+    }
+
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        executorService.shutdownNow();
+        prefetchExecutor.shutdownNow();
+    }
+
+    /**
+     * Immutable UI state of the history list.
+     */
+    public static final class HistoryUiState {
+        private final PersistentList<CommitSummary> commits;
+        private final int pagesLoaded;
+        private final boolean hasMore;
+        private final boolean loading;
+        private final String errorMessage;
+
+        private HistoryUiState(@NonNull PersistentList<CommitSummary> commits,
+                               int pagesLoaded,
+                               boolean hasMore,
+                               boolean loading,
+                               @Nullable String errorMessage) {
+            this.commits = commits;
+            this.pagesLoaded = pagesLoaded;
+            this.hasMore = hasMore;
+            this.loading = loading;
+            this.errorMessage = errorMessage;
+        }
+
+        public static HistoryUiState empty() {
+            return new HistoryUiState(PersistentList.empty(), 0, false, true, null);
+        }
+
+        /** {@code revalidating} is true while cached rows wait for the branch head to be checked. */
+        public static HistoryUiState loaded(@NonNull PersistentList<CommitSummary> commits,
+                                            int pagesLoaded,
+                                            boolean hasMore,
+                                            boolean revalidating) {
+            return new HistoryUiState(Objects.requireNonNull(commits, "commits == null"),
+                    pagesLoaded, hasMore, revalidating, null);
+        }
+
+        HistoryUiState withError(@NonNull String message) {
+            return new HistoryUiState(commits, pagesLoaded, hasMore, false,
+                    Objects.requireNonNull(message, "message == null"));
+        }
+
+        @NonNull
+        public PersistentList<CommitSummary> getCommits() {
+            return commits;
+        }
+
+        public int getPagesLoaded() {
+            return pagesLoaded;
+        }
+
+        public boolean hasMore() {
+            return hasMore;
+        }
+
+        public boolean isLoading() {
+            return loading;
+        }
+
+        @Nullable
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+    }
+}
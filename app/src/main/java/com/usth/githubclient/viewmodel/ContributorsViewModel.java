@@ -0,0 +1,148 @@
+package com.usth.githubclient.viewmodel;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.ViewModel;
+
+import com.usth.githubclient.data.repository.ContributorStatsRepository;
+import com.usth.githubclient.di.ServiceLocator;
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.model.ContributorStats;
+import com.usth.githubclient.domain.model.ReposDataEntry;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+
+/**
+ * ViewModel exposing the contributor leaderboard of the selected repository. Loads complete on the
+ * repository's poll scheduler, so no thread of this view model waits while GitHub computes them.
+ */
+public class ContributorsViewModel extends ViewModel {
+
+    private static final int LEADERBOARD_SIZE = 5;
+
+    private final MutableLiveData<ContributorsUiState> uiState =
+            new MutableLiveData<>(ContributorsUiState.empty());
+    private final ContributorStatsRepository contributorStatsRepository;
+
+    private volatile Long currentRepositoryId;
+
+    public ContributorsViewModel() {
+        this(ServiceLocator.getInstance().contributorStatsRepository());
+    }
+
+    public ContributorsViewModel(@NonNull ContributorStatsRepository contributorStatsRepository) {
+        this.contributorStatsRepository = Objects.requireNonNull(
+                contributorStatsRepository, "contributorStatsRepository == null");
+    }
+
+    public LiveData<ContributorsUiState> getUiState() {
+        return uiState;
+    }
+
+    /** Loads the leaderboard of {@code repository}; does nothing if it is already shown or loading. */
+    public void load(@Nullable ReposDataEntry repository) {
+        Long repositoryId = repository == null ? null : repository.getId();
+        if (Objects.equals(repositoryId, currentRepositoryId)) {
+            return;
+        }
+        currentRepositoryId = repositoryId;
+        String owner = repository == null ? null : repository.getOwnerLogin().orElse(null);
+        if (owner == null) {
+            uiState.setValue(ContributorsUiState.empty());
+            return;
+        }
+
+        String name = repository.getName();
+        Instant pushedAt = repository.getPushedAt().orElse(null);
+        List<ContributorStats> cached = contributorStatsRepository.getCached(owner, name, pushedAt);
+        if (cached != null) {
+            uiState.setValue(ContributorsUiState.success(top(cached), cached.size()));
+            return;
+        }
+        uiState.setValue(ContributorsUiState.loading());
+        contributorStatsRepository.load(owner, name, pushedAt).whenComplete((contributors, error) -> {
+            if (!Objects.equals(repositoryId, currentRepositoryId)) {
+                return;
+            }
+            if (error == null) {
+                uiState.postValue(ContributorsUiState.success(top(contributors), contributors.size()));
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            String message = cause instanceof IOException ? cause.getMessage() : null;
+            if (message == null || message.trim().isEmpty()) {
+                message = "Unable to load contributors right now.";
+            }
+            uiState.postValue(ContributorsUiState.error(message));
+        });
+    }
+
+    private static List<ContributorStats> top(List<ContributorStats> contributors) {
+        return PersistentList.copyOf(contributors.subList(0, Math.min(LEADERBOARD_SIZE, contributors.size())));
+    }
+
+    /**
+     * Immutable UI state for the contributor leaderboard.
+     */
+    public static final class ContributorsUiState {
+        private final boolean loading;
+        private final List<ContributorStats> leaders;
+        private final int totalCount;
+        private final String errorMessage;
+
+        private ContributorsUiState(boolean loading,
+                                    @NonNull List<ContributorStats> leaders,
+                                    int totalCount,
+                                    @Nullable String errorMessage) {
+            this.loading = loading;
+            this.leaders = leaders;
+            this.totalCount = totalCount;
+            this.errorMessage = errorMessage;
+        }
+
+        public static ContributorsUiState empty() {
+            return new ContributorsUiState(false, PersistentList.empty(), 0, null);
+        }
+
+        public static ContributorsUiState loading() {
+            return new ContributorsUiState(true, PersistentList.empty(), 0, null);
+        }
+
+        public static ContributorsUiState success(@NonNull List<ContributorStats> leaders, int totalCount) {
+            return new ContributorsUiState(false,
+                    Objects.requireNonNull(leaders, "leaders == null"), totalCount, null);
+        }
+
+        public static ContributorsUiState error(@NonNull String message) {
+            return new ContributorsUiState(false, PersistentList.empty(), 0,
+                    Objects.requireNonNull(message, "message == null"));
+        }
+
+        public boolean isLoading() {
+            return loading;
+        }
+
+        /** The top contributors, most commits first. */
+        @NonNull
+        public List<ContributorStats> getLeaders() {
+            return leaders;
+        }
+
+        /** Number of contributors with an account, shown or not. */
+        public int getTotalCount() {
+            return totalCount;
+        }
+
+        @Nullable
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+    }
+}
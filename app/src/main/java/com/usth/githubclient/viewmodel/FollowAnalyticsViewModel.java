@@ -0,0 +1,156 @@
+package com.usth.githubclient.viewmodel;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.ViewModel;
+
+import com.usth.githubclient.data.repository.AuthRepository;
+import com.usth.githubclient.data.repository.FollowAnalyticsRepository;
+import com.usth.githubclient.di.ServiceLocator;
+import com.usth.githubclient.domain.model.FollowAnalytics;
+import com.usth.githubclient.domain.model.UserSessionData;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ViewModel exposing mutuals / not-following-back / fans counts for the active user, shown on the
+ * signed-in user's own profile.
+ */
+public class FollowAnalyticsViewModel extends ViewModel {
+
+    private static final String FALLBACK_USERNAME = "octocat";
+
+    private final MutableLiveData<FollowAnalyticsUiState> uiState =
+            new MutableLiveData<>(FollowAnalyticsUiState.idle());
+    private final ExecutorService executorService;
+    private final AuthRepository authRepository;
+    private final FollowAnalyticsRepository analyticsRepository;
+
+    private String currentUsername;
+
+    public FollowAnalyticsViewModel() {
+        this(ServiceLocator.getInstance().authRepository(),
+                ServiceLocator.getInstance().followAnalyticsRepository());
+    }
+
+    public FollowAnalyticsViewModel(@NonNull AuthRepository authRepository,
+                                    @NonNull FollowAnalyticsRepository analyticsRepository) {
+        this.authRepository = Objects.requireNonNull(authRepository, "authRepository == null");
+        this.analyticsRepository =
+                Objects.requireNonNull(analyticsRepository, "analyticsRepository == null");
+        this.executorService = Executors.newSingleThreadExecutor();
+    }
+
+    public LiveData<FollowAnalyticsUiState> getUiState() {
+        return uiState;
+    }
+
+    public void loadAnalytics(@Nullable String username) {
+        String normalized = username == null ? "" : username.trim();
+        if (normalized.isEmpty()) {
+            UserSessionData session = authRepository.getCachedSession();
+            normalized = session != null ? session.getUsername() : FALLBACK_USERNAME;
+        }
+        currentUsername = normalized;
+
+        FollowAnalytics cached = analyticsRepository.getCached(normalized);
+        uiState.setValue(FollowAnalyticsUiState.loading(cached));
+
+        final String requestedUsername = normalized;
+        executorService.execute(() -> {
+            try {
+                int[] scanned = {0};
+                FollowAnalytics analytics = analyticsRepository.refresh(requestedUsername,
+                        (page, pageSize, newIds) -> {
+                            scanned[0] += pageSize;
+                            uiState.postValue(FollowAnalyticsUiState.loading(cached, scanned[0]));
+                        });
+                uiState.postValue(FollowAnalyticsUiState.success(analytics));
+            } catch (IOException exception) {
+                String message = exception.getMessage();
+                if (message == null || message.trim().isEmpty()) {
+                    message = "Unable to compute follower analytics right now.";
+                }
+                uiState.postValue(FollowAnalyticsUiState.error(message, cached));
+            }
+        });
+    }
+
+    public void retry() {
+        loadAnalytics(currentUsername);
+    }
+
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Immutable UI state for the analytics screen.
+     */
+    public static final class FollowAnalyticsUiState {
+        private final boolean loading;
+        private final int followersScanned;
+        private final FollowAnalytics analytics;
+        private final String errorMessage;
+
+        private FollowAnalyticsUiState(boolean loading,
+                                       int followersScanned,
+                                       @Nullable FollowAnalytics analytics,
+                                       @Nullable String errorMessage) {
+            this.loading = loading;
+            this.followersScanned = followersScanned;
+            this.analytics = analytics;
+            this.errorMessage = errorMessage;
+        }
+
+        public static FollowAnalyticsUiState idle() {
+            return new FollowAnalyticsUiState(false, 0, null, null);
+        }
+
+        public static FollowAnalyticsUiState loading(@Nullable FollowAnalytics previous) {
+            return loading(previous, 0);
+        }
+
+        public static FollowAnalyticsUiState loading(@Nullable FollowAnalytics previous,
+                                                     int followersScanned) {
+            return new FollowAnalyticsUiState(true, followersScanned, previous, null);
+        }
+
+        public static FollowAnalyticsUiState success(@NonNull FollowAnalytics analytics) {
+            return new FollowAnalyticsUiState(false, 0,
+                    Objects.requireNonNull(analytics, "analytics == null"), null);
+        }
+
+        public static FollowAnalyticsUiState error(@NonNull String message,
+                                                   @Nullable FollowAnalytics previous) {
+            return new FollowAnalyticsUiState(false, 0, previous,
+                    Objects.requireNonNull(message, "message == null"));
+        }
+
+        public boolean isLoading() {
+            return loading;
+        }
+
+        /** Followers read so far by a running refresh. */
+        public int getFollowersScanned() {
+            return followersScanned;
+        }
+
+        @Nullable
+        public FollowAnalytics getAnalytics() {
+            return analytics;
+        }
+
+        @Nullable
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+    }
+}
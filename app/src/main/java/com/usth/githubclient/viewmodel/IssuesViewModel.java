@@ -0,0 +1,190 @@
+package com.usth.githubclient.viewmodel;
+
+import android.app.Application;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.usth.githubclient.data.remote.ApiClient;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.repository.IssueRepository;
+import com.usth.githubclient.di.ServiceLocator;
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.model.IssueSummary;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ViewModel behind the issues screen. The stored issues are shown at once and then synced; only
+ * what changed since the last sync is downloaded. Filtering runs on the background thread over
+ * the sorted local list.
+ */
+public class IssuesViewModel extends AndroidViewModel {
+
+    /** Which kind of item the list shows. */
+    public enum Filter {
+        ALL,
+        ISSUES,
+        PULL_REQUESTS
+    }
+
+    private final MutableLiveData<IssuesUiState> uiState = new MutableLiveData<>(IssuesUiState.empty());
+    private final ExecutorService executorService;
+    private final IssueRepository repository;
+
+    private String owner;
+    private String repo;
+    private int openIssuesCount;
+    private volatile PersistentList<IssueSummary> allIssues = PersistentList.empty();
+    private volatile Filter filter = Filter.ALL;
+
+    public IssuesViewModel(@NonNull Application application) {
+        super(application);
+        this.executorService = Executors.newSingleThreadExecutor();
+        ServiceLocator locator = ServiceLocator.getInstance();
+        this.repository = new IssueRepository(
+                new ApiClient().createService(GithubApiService.class),
+                locator.issueStore(application),
+                locator.issueMapper());
+    }
+
+    public LiveData<IssuesUiState> getUiState() {
+        return uiState;
+    }
+
+    /**
+     * Shows the issues of {@code owner/repo} and syncs them; ignored if they are already shown.
+     * {@code openIssuesCount} sizes the first sync.
+     */
+    public void open(@NonNull String owner, @NonNull String repo, int openIssuesCount) {
+        if (owner.equals(this.owner) && repo.equals(this.repo)) {
+            return;
+        }
+        this.owner = owner;
+        this.repo = repo;
+        this.openIssuesCount = openIssuesCount;
+        allIssues = PersistentList.empty();
+        uiState.setValue(IssuesUiState.empty());
+        executorService.execute(() -> {
+            try {
+                allIssues = repository.getCachedIssues(owner, repo);
+                if (!allIssues.isEmpty()) {
+                    postIssues(true, null);
+                }
+            } catch (IOException ignored) {
+                // Unreadable store: the sync below rebuilds it.
+            }
+            sync(owner, repo, openIssuesCount);
+        });
+    }
+
+    public void setFilter(@NonNull Filter filter) {
+        if (filter == this.filter) {
+            return;
+        }
+        this.filter = Objects.requireNonNull(filter, "filter == null");
+        IssuesUiState state = uiState.getValue();
+        boolean syncing = state != null && state.isSyncing();
+        executorService.execute(() -> postIssues(syncing, null));
+    }
+
+    /** Syncs again, e.g. after an error. */
+    public void refresh() {
+        String owner = this.owner;
+        String repo = this.repo;
+        int openIssuesCount = this.openIssuesCount;
+        if (owner == null) {
+            return;
+        }
+        executorService.execute(() -> {
+            postIssues(true, null);
+            sync(owner, repo, openIssuesCount);
+        });
+    }
+
+    private void sync(String owner, String repo, int openIssuesCount) {
+        try {
+            allIssues = repository.sync(owner, repo, openIssuesCount).getIssues();
+            postIssues(false, null);
+        } catch (IOException exception) {
+            String message = exception.getMessage();
+            if (message == null || message.trim().isEmpty()) {
+                message = "Unable to load issues right now.";
+            }
+            postIssues(false, message);
+        }
+    }
+
+    private void postIssues(boolean syncing, @Nullable String errorMessage) {
+        Filter current = filter;
+        PersistentList<IssueSummary> issues = allIssues;
+        PersistentList<IssueSummary> visible = current == Filter.ALL
+                ? issues
+                : issues.filter(issue -> issue.isPullRequest() == (current == Filter.PULL_REQUESTS));
+        uiState.postValue(new IssuesUiState(visible, current, issues.size(), syncing, errorMessage));
+    }
+
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Immutable UI state of the issues list.
+     */
+    public static final class IssuesUiState {
+        private final PersistentList<IssueSummary> issues;
+        private final Filter filter;
+        private final int totalCount;
+        private final boolean syncing;
+        private final String errorMessage;
+
+        IssuesUiState(@NonNull PersistentList<IssueSummary> issues,
+                      @NonNull Filter filter,
+                      int totalCount,
+                      boolean syncing,
+                      @Nullable String errorMessage) {
+            this.issues = Objects.requireNonNull(issues, "issues == null");
+            this.filter = Objects.requireNonNull(filter, "filter == null");
+            this.totalCount = totalCount;
+            this.syncing = syncing;
+            this.errorMessage = errorMessage;
+        }
+
+        public static IssuesUiState empty() {
+            return new IssuesUiState(PersistentList.empty(), Filter.ALL, 0, true, null);
+        }
+
+        /** Items matching the filter, most recently updated first. */
+        @NonNull
+        public PersistentList<IssueSummary> getIssues() {
+            return issues;
+        }
+
+        @NonNull
+        public Filter getFilter() {
+            return filter;
+        }
+
+        /** Stored open issues and pull requests, whatever the filter. */
+        public int getTotalCount() {
+            return totalCount;
+        }
+
+        public boolean isSyncing() {
+            return syncing;
+        }
+
+        @Nullable
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+    }
+}
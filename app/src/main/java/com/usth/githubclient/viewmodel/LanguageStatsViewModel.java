@@ -0,0 +1,179 @@
+package com.usth.githubclient.viewmodel;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.ViewModel;
+
+import com.usth.githubclient.data.remote.ApiClient;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.repository.AuthRepository;
+import com.usth.githubclient.data.repository.LanguageStatsRepository;
+import com.usth.githubclient.data.repository.RepoRepository;
+import com.usth.githubclient.di.ServiceLocator;
+import com.usth.githubclient.domain.model.LanguageStats;
+import com.usth.githubclient.domain.model.ReposDataEntry;
+import com.usth.githubclient.domain.model.UserSessionData;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ViewModel exposing the language breakdown of a user's own (non-fork) repositories.
+ */
+public class LanguageStatsViewModel extends ViewModel {
+
+    private static final String FALLBACK_USERNAME = "octocat";
+    private static final int MAX_PER_PAGE = 100;
+    private static final int MAX_PAGES = 10;
+    private static final int MAX_CONCURRENCY = 4;
+    private static final String SORT = "pushed";
+
+    private final MutableLiveData<LanguageStatsUiState> uiState =
+            new MutableLiveData<>(LanguageStatsUiState.idle());
+    private final ExecutorService executorService;
+    private final AuthRepository authRepository;
+    private final RepoRepository repoRepository;
+    private final LanguageStatsRepository languageStatsRepository;
+
+    private String currentUsername;
+
+    public LanguageStatsViewModel() {
+        this(ServiceLocator.getInstance().authRepository(), new ApiClient().createService(GithubApiService.class));
+    }
+
+    private LanguageStatsViewModel(@NonNull AuthRepository authRepository,
+                                   @NonNull GithubApiService service) {
+        this(authRepository,
+                new RepoRepository(service, ServiceLocator.getInstance().repoMapper(),
+                        ServiceLocator.getInstance().repoCache()),
+                new LanguageStatsRepository(service,
+                        ServiceLocator.getInstance().repoLanguageCache(),
+                        ApiClient.getRateLimitBudget(),
+                        MAX_CONCURRENCY));
+    }
+
+    public LanguageStatsViewModel(@NonNull AuthRepository authRepository,
+                                  @NonNull RepoRepository repoRepository,
+                                  @NonNull LanguageStatsRepository languageStatsRepository) {
+        this.authRepository = Objects.requireNonNull(authRepository, "authRepository == null");
+        this.repoRepository = Objects.requireNonNull(repoRepository, "repoRepository == null");
+        this.languageStatsRepository =
+                Objects.requireNonNull(languageStatsRepository, "languageStatsRepository == null");
+        this.executorService = Executors.newSingleThreadExecutor();
+    }
+
+    public LiveData<LanguageStatsUiState> getUiState() {
+        return uiState;
+    }
+
+    public void loadStats(@Nullable String username) {
+        String normalized = username == null ? "" : username.trim();
+        if (normalized.isEmpty()) {
+            UserSessionData session = authRepository.getCachedSession();
+            normalized = session != null ? session.getUsername() : FALLBACK_USERNAME;
+        }
+        currentUsername = normalized;
+
+        LanguageStats cached = languageStatsRepository.getCached(normalized);
+        uiState.setValue(LanguageStatsUiState.loading(cached));
+
+        final String requestedUsername = normalized;
+        executorService.execute(() -> {
+            try {
+                LanguageStats stats = languageStatsRepository.refresh(
+                        requestedUsername, fetchOwnRepositories(requestedUsername));
+                uiState.postValue(LanguageStatsUiState.success(stats));
+            } catch (IOException exception) {
+                String message = exception.getMessage();
+                if (message == null || message.trim().isEmpty()) {
+                    message = "Unable to compute language statistics right now.";
+                }
+                uiState.postValue(LanguageStatsUiState.error(message, cached));
+            }
+        });
+    }
+
+    public void retry() {
+        loadStats(currentUsername);
+    }
+
+    /** Every page of the user's repositories, without forks since their code is not the user's. */
+    private List<ReposDataEntry> fetchOwnRepositories(String username) throws IOException {
+        List<ReposDataEntry> repositories = new ArrayList<>();
+        for (int page = 1; page <= MAX_PAGES; page++) {
+            List<ReposDataEntry> batch =
+                    repoRepository.fetchUserRepositories(username, MAX_PER_PAGE, page, SORT);
+            for (ReposDataEntry repository : batch) {
+                if (!repository.isFork()) {
+                    repositories.add(repository);
+                }
+            }
+            if (batch.size() < MAX_PER_PAGE) {
+                break;
+            }
+        }
+        return repositories;
+    }
+
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        executorService.shutdownNow();
+        languageStatsRepository.shutdown();
+    }
+
+    /**
+     * Immutable UI state for the language breakdown.
+     */
+    public static final class LanguageStatsUiState {
+        private final boolean loading;
+        private final LanguageStats stats;
+        private final String errorMessage;
+
+        private LanguageStatsUiState(boolean loading,
+                                     @Nullable LanguageStats stats,
+                                     @Nullable String errorMessage) {
+            this.loading = loading;
+            this.stats = stats;
+            this.errorMessage = errorMessage;
+        }
+
+        public static LanguageStatsUiState idle() {
+            return new LanguageStatsUiState(false, null, null);
+        }
+
+        public static LanguageStatsUiState loading(@Nullable LanguageStats previous) {
+            return new LanguageStatsUiState(true, previous, null);
+        }
+
+        public static LanguageStatsUiState success(@NonNull LanguageStats stats) {
+            return new LanguageStatsUiState(false, Objects.requireNonNull(stats, "stats == null"), null);
+        }
+
+        public static LanguageStatsUiState error(@NonNull String message,
+                                                 @Nullable LanguageStats previous) {
+            return new LanguageStatsUiState(false, previous,
+                    Objects.requireNonNull(message, "message == null"));
+        }
+
+        public boolean isLoading() {
+            return loading;
+        }
+
+        @Nullable
+        public LanguageStats getStats() {
+            return stats;
+        }
+
+        @Nullable
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+    }
+}
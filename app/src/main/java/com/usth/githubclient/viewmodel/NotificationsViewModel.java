@@ -0,0 +1,179 @@
+package com.usth.githubclient.viewmodel;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.ViewModel;
+
+import com.usth.githubclient.data.remote.ApiClient;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.repository.NotificationRepository;
+import com.usth.githubclient.di.ServiceLocator;
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.model.NotificationThread;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ViewModel polling the notifications inbox on the shared poll scheduler while a screen showing it
+ * is started. Every screen reads the same process-wide inbox, so starting a second one does not
+ * cost an extra request.
+ */
+public class NotificationsViewModel extends ViewModel {
+
+    private static final long RETRY_DELAY_SECONDS = 60L;
+
+    private final MutableLiveData<NotificationsUiState> uiState;
+    private final ScheduledExecutorService scheduler;
+    private final NotificationRepository repository;
+
+    private ScheduledFuture<?> pendingPoll;
+    private int generation;
+
+    public NotificationsViewModel() {
+        this(new NotificationRepository(
+                        new ApiClient().createService(GithubApiService.class),
+                        ServiceLocator.getInstance().notificationInbox(),
+                        ServiceLocator.getInstance().notificationMapper()),
+                ServiceLocator.getInstance().pollScheduler());
+    }
+
+    public NotificationsViewModel(@NonNull NotificationRepository repository,
+                                  @NonNull ScheduledExecutorService scheduler) {
+        this.repository = Objects.requireNonNull(repository, "repository == null");
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler == null");
+        this.uiState = new MutableLiveData<>(NotificationsUiState.loading(
+                repository.getInbox().snapshot(), repository.getInbox().getUnreadCount()));
+    }
+
+    public LiveData<NotificationsUiState> getUiState() {
+        return uiState;
+    }
+
+    /** Starts polling; the first poll runs at once unless the inbox was polled moments ago. */
+    public void startPolling() {
+        int started;
+        synchronized (this) {
+            cancelPending();
+            started = ++generation;
+        }
+        schedulePoll(started, true, 0L);
+    }
+
+    /** Stops polling until the next {@link #startPolling}; the inbox is kept. */
+    public synchronized void stopPolling() {
+        cancelPending();
+        generation++;
+    }
+
+    public void retry() {
+        startPolling();
+    }
+
+    private void cancelPending() {
+        if (pendingPoll != null) {
+            pendingPoll.cancel(false);
+            pendingPoll = null;
+        }
+    }
+
+    /** Schedules a poll unless polling was stopped or restarted since {@code started}. */
+    private synchronized void schedulePoll(int started, boolean refresh, long delayMillis) {
+        if (started != generation || scheduler.isShutdown()) {
+            return;
+        }
+        pendingPoll = scheduler.schedule(() -> poll(started, refresh), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void poll(int started, boolean refresh) {
+        long nextDelay;
+        boolean failed = false;
+        try {
+            NotificationRepository.PollResult result = repository.poll();
+            // Another screen may have merged changes since this one last posted.
+            if (refresh || result.getChangedCount() > 0 || !result.isRequested()) {
+                uiState.postValue(NotificationsUiState.success(
+                        result.getThreads(), repository.getInbox().getUnreadCount()));
+            }
+            nextDelay = result.getNextPollDelayMillis();
+        } catch (IOException exception) {
+            String message = exception.getMessage();
+            if (message == null || message.trim().isEmpty()) {
+                message = "Unable to load notifications right now.";
+            }
+            uiState.postValue(NotificationsUiState.error(message,
+                    repository.getInbox().snapshot(), repository.getInbox().getUnreadCount()));
+            nextDelay = TimeUnit.SECONDS.toMillis(RETRY_DELAY_SECONDS);
+            failed = true;
+        }
+        schedulePoll(started, failed, nextDelay);
+    }
+
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        // The scheduler is shared; only this screen's poll is cancelled.
+        stopPolling();
+    }
+
+    /**
+     * Immutable UI state for the notifications inbox.
+     */
+    public static final class NotificationsUiState {
+        private final boolean loading;
+        private final PersistentList<NotificationThread> threads;
+        private final int unreadCount;
+        private final String errorMessage;
+
+        private NotificationsUiState(boolean loading,
+                                     @NonNull PersistentList<NotificationThread> threads,
+                                     int unreadCount,
+                                     @Nullable String errorMessage) {
+            this.loading = loading;
+            this.threads = Objects.requireNonNull(threads, "threads == null");
+            this.unreadCount = unreadCount;
+            this.errorMessage = errorMessage;
+        }
+
+        public static NotificationsUiState loading(@NonNull PersistentList<NotificationThread> previous,
+                                                   int unreadCount) {
+            return new NotificationsUiState(true, previous, unreadCount, null);
+        }
+
+        public static NotificationsUiState success(@NonNull PersistentList<NotificationThread> threads,
+                                                   int unreadCount) {
+            return new NotificationsUiState(false, threads, unreadCount, null);
+        }
+
+        public static NotificationsUiState error(@NonNull String message,
+                                                 @NonNull PersistentList<NotificationThread> previous,
+                                                 int unreadCount) {
+            return new NotificationsUiState(false, previous, unreadCount,
+                    Objects.requireNonNull(message, "message == null"));
+        }
+
+        public boolean isLoading() {
+            return loading;
+        }
+
+        /** Threads most recently updated first. */
+        @NonNull
+        public PersistentList<NotificationThread> getThreads() {
+            return threads;
+        }
+
+        public int getUnreadCount() {
+            return unreadCount;
+        }
+
+        @Nullable
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.usth.githubclient.viewmodel;
+
+import android.app.Application;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.usth.githubclient.data.local.OrgDashboardStore;
+import com.usth.githubclient.data.remote.ApiClient;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.repository.OrgDashboardRepository;
+import com.usth.githubclient.di.ServiceLocator;
+import com.usth.githubclient.domain.model.OrgSummary;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ViewModel behind the organization dashboard. The persisted totals are shown as soon as they are
+ * read back, then recomputed from every repository and member page.
+ */
+public class OrgDashboardViewModel extends AndroidViewModel {
+
+    private static final int MAX_CONCURRENCY = 4;
+
+    private final MutableLiveData<OrgDashboardUiState> uiState =
+            new MutableLiveData<>(OrgDashboardUiState.idle());
+    private final ExecutorService executorService;
+    private final OrgDashboardRepository repository;
+
+    private String organization;
+
+    public OrgDashboardViewModel(@NonNull Application application) {
+        super(application);
+        this.executorService = Executors.newSingleThreadExecutor();
+        this.repository = new OrgDashboardRepository(
+                new ApiClient().createService(GithubApiService.class),
+                ServiceLocator.getInstance().orgDashboardStore(application),
+                ApiClient.getRateLimitBudget(),
+                MAX_CONCURRENCY);
+    }
+
+    public LiveData<OrgDashboardUiState> getUiState() {
+        return uiState;
+    }
+
+    /** Shows the dashboard of {@code organization}; ignored if it is already shown. */
+    public void open(@Nullable String organization) {
+        String normalized = organization == null ? "" : organization.trim();
+        if (normalized.equalsIgnoreCase(this.organization)) {
+            return;
+        }
+        if (!OrgDashboardStore.isValidName(normalized)) {
+            uiState.setValue(OrgDashboardUiState.error("Not an organization name.", null));
+            return;
+        }
+        this.organization = normalized;
+        load(normalized);
+    }
+
+    public void refresh() {
+        if (organization != null) {
+            load(organization);
+        }
+    }
+
+    private void load(String organization) {
+        OrgDashboardUiState current = uiState.getValue();
+        OrgSummary shown = current != null && current.getSummary() != null
+                && current.getSummary().getOrganization().equalsIgnoreCase(organization)
+                ? current.getSummary() : null;
+        uiState.setValue(OrgDashboardUiState.loading(shown));
+        executorService.execute(() -> {
+            OrgSummary previous = shown;
+            try {
+                if (previous == null) {
+                    previous = repository.getCached(organization);
+                    if (previous != null) {
+                        uiState.postValue(OrgDashboardUiState.loading(previous));
+                    }
+                }
+                uiState.postValue(OrgDashboardUiState.success(repository.refresh(organization)));
+            } catch (IOException exception) {
+                String message = exception.getMessage();
+                if (message == null || message.trim().isEmpty()) {
+                    message = "Unable to load this organization right now.";
+                }
+                uiState.postValue(OrgDashboardUiState.error(message, previous));
+            }
+        });
+    }
+
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        executorService.shutdownNow();
+        repository.shutdown();
+    }
+
+    /**
+     * Immutable UI state for the organization dashboard.
+     */
+    public static final class OrgDashboardUiState {
+        private final boolean loading;
+        private final OrgSummary summary;
+        private final String errorMessage;
+
+        private OrgDashboardUiState(boolean loading,
+                                    @Nullable OrgSummary summary,
+                                    @Nullable String errorMessage) {
+            this.loading = loading;
+            this.summary = summary;
+            this.errorMessage = errorMessage;
+        }
+
+        public static OrgDashboardUiState idle() {
+            return new OrgDashboardUiState(false, null, null);
+        }
+
+        public static OrgDashboardUiState loading(@Nullable OrgSummary previous) {
+            return new OrgDashboardUiState(true, previous, null);
+        }
+
+        public static OrgDashboardUiState success(@NonNull OrgSummary summary) {
+            return new OrgDashboardUiState(false, Objects.requireNonNull(summary, "summary == null"), null);
+        }
+
+        public static OrgDashboardUiState error(@NonNull String message, @Nullable OrgSummary previous) {
+            return new OrgDashboardUiState(false, previous, Objects.requireNonNull(message, "message == null"));
+        }
+
+        public boolean isLoading() {
+            return loading;
+        }
+
+        /** The totals shown, possibly from an earlier visit while they are being recomputed. */
+        @Nullable
+        public OrgSummary getSummary() {
+            return summary;
+        }
+
+        @Nullable
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.usth.githubclient.viewmodel;
+
+import android.text.Html;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.ViewModel;
+
+import com.usth.githubclient.data.remote.ApiClient;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.repository.ReadmeRepository;
+import com.usth.githubclient.di.ServiceLocator;
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.model.Readme;
+import com.usth.githubclient.domain.model.ReposDataEntry;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ViewModel loading the README of the selected repository. Chunks are converted to spans on a
+ * background thread and published as they are rendered, so the top of a long README shows first.
+ */
+public class ReadmeViewModel extends ViewModel {
+
+    private final MutableLiveData<ReadmeUiState> uiState = new MutableLiveData<>(ReadmeUiState.empty());
+    private final ExecutorService executorService;
+    private final ReadmeRepository readmeRepository;
+
+    private Long currentRepositoryId;
+    private Future<?> pendingLoad;
+
+    public ReadmeViewModel() {
+        this(buildDefaultRepository());
+    }
+
+    public ReadmeViewModel(@NonNull ReadmeRepository readmeRepository) {
+        this.readmeRepository = Objects.requireNonNull(readmeRepository, "readmeRepository == null");
+        this.executorService = Executors.newSingleThreadExecutor();
+    }
+
+    private static ReadmeRepository buildDefaultRepository() {
+        ApiClient apiClient = new ApiClient();
+        GithubApiService service = apiClient.createService(GithubApiService.class);
+        return new ReadmeRepository(service, ServiceLocator.getInstance().readmeCache());
+    }
+
+    public LiveData<ReadmeUiState> getUiState() {
+        return uiState;
+    }
+
+    /** Loads the README of {@code repository}; does nothing if it is already shown or loading. */
+    public void loadReadme(@Nullable ReposDataEntry repository) {
+        Long repositoryId = repository == null ? null : repository.getId();
+        if (Objects.equals(repositoryId, currentRepositoryId)) {
+            return;
+        }
+        currentRepositoryId = repositoryId;
+        if (pendingLoad != null) {
+            pendingLoad.cancel(true);
+            pendingLoad = null;
+        }
+        String owner = repository == null ? null : repository.getOwnerLogin().orElse(null);
+        if (owner == null) {
+            uiState.setValue(ReadmeUiState.empty());
+            return;
+        }
+        uiState.setValue(ReadmeUiState.loading(repositoryId, PersistentList.empty()));
+
+        String name = repository.getName();
+        pendingLoad = executorService.submit(() -> {
+            AtomicReference<PersistentList<CharSequence>> shown =
+                    new AtomicReference<>(PersistentList.empty());
+            try {
+                Readme readme = readmeRepository.fetchReadme(owner, name, (index, html) -> {
+                    if (Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                    CharSequence chunk = Html.fromHtml(html, Html.FROM_HTML_MODE_COMPACT);
+                    uiState.postValue(ReadmeUiState.loading(
+                            repositoryId, shown.updateAndGet(list -> list.plus(chunk))));
+                });
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                uiState.postValue(readme == null
+                        ? ReadmeUiState.missing(repositoryId)
+                        : ReadmeUiState.success(repositoryId, shown.get()));
+            } catch (InterruptedIOException cancelled) {
+                // Another repository was selected.
+            } catch (IOException exception) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                String message = exception.getMessage();
+                if (message == null || message.trim().isEmpty()) {
+                    message = "Unable to load the README right now.";
+                }
+                uiState.postValue(ReadmeUiState.error(repositoryId, message, shown.get()));
+            } catch (RuntimeException | Error failure) {
+                // submit() would keep this in its Future and leave the pane loading forever.
+                if (!Thread.currentThread().isInterrupted()) {
+                    uiState.postValue(ReadmeUiState.error(
+                            repositoryId, "Unable to display this README.", shown.get()));
+                }
+            }
+        });
+    }
+
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Immutable UI state for the README pane.
+     */
+    public static final class ReadmeUiState {
+        private final Long repositoryId;
+        private final boolean loading;
+        private final boolean missing;
+        private final PersistentList<CharSequence> chunks;
+        private final String errorMessage;
+
+        private ReadmeUiState(@Nullable Long repositoryId,
+                              boolean loading,
+                              boolean missing,
+                              @NonNull PersistentList<CharSequence> chunks,
+                              @Nullable String errorMessage) {
+            this.repositoryId = repositoryId;
+            this.loading = loading;
+            this.missing = missing;
+            this.chunks = chunks;
+            this.errorMessage = errorMessage;
+        }
+
+        public static ReadmeUiState empty() {
+            return new ReadmeUiState(null, false, false, PersistentList.empty(), null);
+        }
+
+        public static ReadmeUiState loading(long repositoryId, @NonNull PersistentList<CharSequence> chunks) {
+            return new ReadmeUiState(repositoryId, true, false, chunks, null);
+        }
+
+        public static ReadmeUiState success(long repositoryId, @NonNull PersistentList<CharSequence> chunks) {
+            return new ReadmeUiState(repositoryId, false, false, chunks, null);
+        }
+
+        public static ReadmeUiState missing(long repositoryId) {
+            return new ReadmeUiState(repositoryId, false, true, PersistentList.empty(), null);
+        }
+
+        public static ReadmeUiState error(long repositoryId,
+                                          @NonNull String message,
+                                          @NonNull PersistentList<CharSequence> chunks) {
+            return new ReadmeUiState(repositoryId, false, false, chunks,
+                    Objects.requireNonNull(message, "message == null"));
+        }
+
+        @Nullable
+        public Long getRepositoryId() {
+            return repositoryId;
+        }
+
+        public boolean isLoading() {
+            return loading;
+        }
+
+        /** The repository has no README. */
+        public boolean isMissing() {
+            return missing;
+        }
+
+        /** Rendered chunks so far, in document order. */
+        @NonNull
+        public PersistentList<CharSequence> getChunks() {
+            return chunks;
+        }
+
+        @Nullable
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+    }
+}
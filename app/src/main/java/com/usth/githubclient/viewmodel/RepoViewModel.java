@@ -11,12 +11,12 @@ import com.usth.githubclient.data.remote.GithubApiService;
 import com.usth.githubclient.data.repository.AuthRepository;
 import com.usth.githubclient.data.repository.RepoRepository;
 import com.usth.githubclient.di.ServiceLocator;
+import com.usth.githubclient.domain.collection.PersistentList;
 import com.usth.githubclient.domain.model.MockDataFactory;
 import com.usth.githubclient.domain.model.ReposDataEntry;
 import com.usth.githubclient.domain.model.UserSessionData;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -58,7 +58,8 @@ public class RepoViewModel extends ViewModel {
     private static RepoRepository buildDefaultRepoRepository() {
         ApiClient apiClient = new ApiClient();
         GithubApiService service = apiClient.createService(GithubApiService.class);
-        return new RepoRepository(service, ServiceLocator.getInstance().repoMapper());
+        return new RepoRepository(service, ServiceLocator.getInstance().repoMapper(),
+                ServiceLocator.getInstance().repoCache());
     }
 
     public LiveData<RepositoriesUiState> getRepositoriesState() {
@@ -138,10 +139,38 @@ public class RepoViewModel extends ViewModel {
         repositoryDetailState.setValue(RepositoryDetailUiState.from(repository, usingMock));
     }
 
+    /**
+     * Shows one repository, e.g. a starred one opened from another screen. A repository listed
+     * recently is shown from the cache without a request.
+     */
+    public void openRepository(@NonNull String owner, @NonNull String name) {
+        ReposDataEntry cached = repoRepository.getCachedRepository(owner, name);
+        if (cached != null) {
+            selectedRepositoryId = cached.getId();
+            repositoryDetailState.setValue(RepositoryDetailUiState.from(cached, false));
+            return;
+        }
+        repositoryDetailState.setValue(RepositoryDetailUiState.empty());
+        executorService.execute(() -> {
+            try {
+                ReposDataEntry repository = repoRepository.fetchRepository(owner, name);
+                selectedRepositoryId = repository.getId();
+                repositoryDetailState.postValue(RepositoryDetailUiState.from(repository, false));
+            } catch (IOException exception) {
+                String message = exception.getMessage();
+                if (message == null || message.trim().isEmpty()) {
+                    message = "Unable to load repositories right now.";
+                }
+                repositoriesState.postValue(RepositoriesUiState.error(
+                        message, Collections.emptyList(), false));
+            }
+        });
+    }
+
     private void emitRepositoriesSuccess(@NonNull List<ReposDataEntry> repositories,
                                          boolean usingMockData,
                                          boolean fromBackgroundThread) {
-        List<ReposDataEntry> copy = Collections.unmodifiableList(new ArrayList<>(repositories));
+        List<ReposDataEntry> copy = PersistentList.copyOf(repositories);
         if (fromBackgroundThread) {
             repositoriesState.postValue(RepositoriesUiState.success(copy, usingMockData));
         } else {
@@ -204,7 +233,7 @@ public class RepoViewModel extends ViewModel {
                                     @Nullable String errorMessage,
                                     boolean usingMockData) {
             this.loading = loading;
-            this.repositories = Collections.unmodifiableList(new ArrayList<>(repositories));
+            this.repositories = PersistentList.copyOf(repositories);
             this.errorMessage = errorMessage;
             this.usingMockData = usingMockData;
         }
@@ -0,0 +1,311 @@
+package com.usth.githubclient.viewmodel;
+
+import android.app.Application;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import com.usth.githubclient.data.local.MappedTextFile;
+import com.usth.githubclient.data.remote.ApiClient;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.repository.GitContentRepository;
+import com.usth.githubclient.di.ServiceLocator;
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.model.GitTree;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * ViewModel behind the repository file browser. Directories are loaded one level at a time when
+ * opened; files are memory-mapped from the blob cache and indexed by row, and the view reads the
+ * rows it shows on demand.
+ */
+public class RepositoryFilesViewModel extends AndroidViewModel {
+
+    private final MutableLiveData<FilesUiState> uiState = new MutableLiveData<>(FilesUiState.empty());
+    private final ExecutorService executorService;
+    private final GitContentRepository repository;
+    private final Deque<Directory> directories = new ArrayDeque<>();
+
+    private String owner;
+    private String repo;
+    private String ref;
+    private Future<?> pendingLoad;
+
+    public RepositoryFilesViewModel(@NonNull Application application) {
+        this(application, buildDefaultRepository(application));
+    }
+
+    public RepositoryFilesViewModel(@NonNull Application application,
+                                    @NonNull GitContentRepository repository) {
+        super(application);
+        this.repository = Objects.requireNonNull(repository, "repository == null");
+        this.executorService = Executors.newSingleThreadExecutor();
+    }
+
+    private static GitContentRepository buildDefaultRepository(@NonNull Application application) {
+        ApiClient apiClient = new ApiClient();
+        GithubApiService service = apiClient.createService(GithubApiService.class);
+        ServiceLocator locator = ServiceLocator.getInstance();
+        return new GitContentRepository(
+                service, locator.gitObjectCache(application), locator.gitTreeMapper());
+    }
+
+    public LiveData<FilesUiState> getUiState() {
+        return uiState;
+    }
+
+    /** Starts browsing {@code owner/repo} at {@code ref}; ignored if that is already open. */
+    public void open(@NonNull String owner, @NonNull String repo, @NonNull String ref) {
+        if (owner.equals(this.owner) && repo.equals(this.repo) && ref.equals(this.ref)) {
+            return;
+        }
+        this.owner = owner;
+        this.repo = repo;
+        this.ref = ref;
+        directories.clear();
+        directories.push(new Directory("", null));
+        loadDirectory();
+    }
+
+    /** Opens a directory or file of the current listing. Submodules cannot be opened. */
+    public void openEntry(@NonNull GitTree.Entry entry) {
+        Directory current = directories.peek();
+        if (current == null) {
+            return;
+        }
+        String path = current.path.isEmpty() ? entry.getName() : current.path + "/" + entry.getName();
+        if (entry.getType() == GitTree.Type.DIRECTORY) {
+            directories.push(new Directory(path, entry.getSha()));
+            loadDirectory();
+        } else if (entry.getType() == GitTree.Type.FILE) {
+            loadFile(path, entry);
+        }
+    }
+
+    /** Closes the open file or goes to the parent directory; false when already at the root. */
+    public boolean navigateUp() {
+        FilesUiState state = uiState.getValue();
+        if (state != null && state.getFileName() != null) {
+            loadDirectory();
+            return true;
+        }
+        if (directories.size() <= 1) {
+            return false;
+        }
+        directories.pop();
+        loadDirectory();
+        return true;
+    }
+
+    public void retry() {
+        FilesUiState state = uiState.getValue();
+        if (state != null && state.getFileEntry() != null) {
+            loadFile(state.getPath(), state.getFileEntry());
+            return;
+        }
+        loadDirectory();
+    }
+
+    private void loadDirectory() {
+        Directory directory = directories.peek();
+        if (directory == null) {
+            return;
+        }
+        cancelPending();
+        uiState.setValue(FilesUiState.loadingDirectory(directory.path));
+        String owner = this.owner;
+        String repo = this.repo;
+        String ref = this.ref;
+        pendingLoad = executorService.submit(() -> {
+            try {
+                GitTree tree = directory.treeSha == null
+                        ? repository.fetchRootTree(owner, repo, ref)
+                        : repository.fetchTree(owner, repo, directory.treeSha);
+                directory.treeSha = tree.getSha();
+                if (!Thread.currentThread().isInterrupted()) {
+                    uiState.postValue(FilesUiState.directory(directory.path, tree));
+                }
+            } catch (InterruptedIOException cancelled) {
+                // Navigated elsewhere.
+            } catch (IOException exception) {
+                postError(FilesUiState.loadingDirectory(directory.path), exception);
+            } catch (RuntimeException | Error failure) {
+                // submit() would keep this in its Future and leave the pane loading forever.
+                postError(FilesUiState.loadingDirectory(directory.path), "Unable to display this folder.");
+            }
+        });
+    }
+
+    private void loadFile(@NonNull String path, @NonNull GitTree.Entry entry) {
+        cancelPending();
+        FilesUiState opening = FilesUiState.file(path, entry, null);
+        uiState.setValue(opening);
+        String owner = this.owner;
+        String repo = this.repo;
+        pendingLoad = executorService.submit(() -> {
+            try {
+                File blob = repository.fetchBlob(owner, repo, entry.getSha());
+                MappedTextFile content = MappedTextFile.open(blob);
+                if (!Thread.currentThread().isInterrupted()) {
+                    uiState.postValue(FilesUiState.file(path, entry, content));
+                }
+            } catch (InterruptedIOException cancelled) {
+                // Navigated elsewhere.
+            } catch (IOException exception) {
+                postError(opening, exception);
+            } catch (RuntimeException | Error failure) {
+                postError(opening, "Unable to display this file.");
+            }
+        });
+    }
+
+    private void postError(@NonNull FilesUiState base, @NonNull IOException exception) {
+        String message = exception.getMessage();
+        if (message == null || message.trim().isEmpty()) {
+            message = "Unable to load repository contents right now.";
+        }
+        postError(base, message);
+    }
+
+    private void postError(@NonNull FilesUiState base, @NonNull String message) {
+        if (!Thread.currentThread().isInterrupted()) {
+            uiState.postValue(base.withError(message));
+        }
+    }
+
+    private void cancelPending() {
+        if (pendingLoad != null) {
+            pendingLoad.cancel(true);
+            pendingLoad = null;
+        }
+    }
+
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        executorService.shutdownNow();
+    }
+
+    /** A level of the navigation stack; the root's SHA is known once it has loaded. */
+    private static final class Directory {
+        final String path;
+        volatile String treeSha;
+
+        Directory(String path, @Nullable String treeSha) {
+            this.path = path;
+            this.treeSha = treeSha;
+        }
+    }
+
+    /**
+     * Immutable UI state: either a directory listing or an open file.
+     */
+    public static final class FilesUiState {
+        private final String path;
+        private final boolean loading;
+        private final PersistentList<GitTree.Entry> entries;
+        private final boolean truncated;
+        private final GitTree.Entry fileEntry;
+        private final MappedTextFile fileContent;
+        private final String errorMessage;
+
+        private FilesUiState(@NonNull String path,
+                             boolean loading,
+                             @NonNull PersistentList<GitTree.Entry> entries,
+                             boolean truncated,
+                             @Nullable GitTree.Entry fileEntry,
+                             @Nullable MappedTextFile fileContent,
+                             @Nullable String errorMessage) {
+            this.path = path;
+            this.loading = loading;
+            this.entries = entries;
+            this.truncated = truncated;
+            this.fileEntry = fileEntry;
+            this.fileContent = fileContent;
+            this.errorMessage = errorMessage;
+        }
+
+        public static FilesUiState empty() {
+            return loadingDirectory("");
+        }
+
+        public static FilesUiState loadingDirectory(@NonNull String path) {
+            return new FilesUiState(path, true, PersistentList.empty(), false, null, null, null);
+        }
+
+        public static FilesUiState directory(@NonNull String path, @NonNull GitTree tree) {
+            return new FilesUiState(path, false, PersistentList.copyOf(tree.getEntries()),
+                    tree.isTruncated(), null, null, null);
+        }
+
+        /** An open file; {@code content} is {@code null} while it is being downloaded and indexed. */
+        public static FilesUiState file(@NonNull String path,
+                                        @NonNull GitTree.Entry entry,
+                                        @Nullable MappedTextFile content) {
+            return new FilesUiState(path, content == null, PersistentList.empty(), false, entry,
+                    content, null);
+        }
+
+        FilesUiState withError(@NonNull String message) {
+            return new FilesUiState(path, false, entries, truncated, fileEntry, fileContent,
+                    Objects.requireNonNull(message, "message == null"));
+        }
+
+        /** Path of the directory or file shown, relative to the repository root. */
+        @NonNull
+        public String getPath() {
+            return path;
+        }
+
+        public boolean isLoading() {
+            return loading;
+        }
+
+        @NonNull
+        public PersistentList<GitTree.Entry> getEntries() {
+            return entries;
+        }
+
+        /** The directory has more entries than the API returns. */
+        public boolean isTruncated() {
+            return truncated;
+        }
+
+        /** Name of the open file, or {@code null} while a directory is shown. */
+        @Nullable
+        public String getFileName() {
+            return fileEntry == null ? null : fileEntry.getName();
+        }
+
+        @Nullable
+        public GitTree.Entry getFileEntry() {
+            return fileEntry;
+        }
+
+        @Nullable
+        public MappedTextFile getFileContent() {
+            return fileContent;
+        }
+
+        public boolean isBinary() {
+            return fileContent != null && fileContent.isBinary();
+        }
+
+        @Nullable
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+    }
+}
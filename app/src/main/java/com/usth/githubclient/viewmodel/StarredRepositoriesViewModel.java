@@ -0,0 +1,125 @@
+package com.usth.githubclient.viewmodel;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.ViewModel;
+
+import com.usth.githubclient.data.remote.ApiClient;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.repository.RepoRepository;
+import com.usth.githubclient.di.ServiceLocator;
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.model.ReposDataEntry;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ViewModel behind the starred repositories screen. Importing the list also fills the shared
+ * repository cache, so opening any of them afterwards costs no request.
+ */
+public class StarredRepositoriesViewModel extends ViewModel {
+
+    private final MutableLiveData<StarredUiState> uiState = new MutableLiveData<>(StarredUiState.loading());
+    private final ExecutorService executorService;
+    private final RepoRepository repoRepository;
+
+    private boolean started;
+    private String username;
+
+    public StarredRepositoriesViewModel() {
+        this(new RepoRepository(new ApiClient().createService(GithubApiService.class),
+                ServiceLocator.getInstance().repoMapper(),
+                ServiceLocator.getInstance().repoCache()));
+    }
+
+    public StarredRepositoriesViewModel(@NonNull RepoRepository repoRepository) {
+        this.repoRepository = Objects.requireNonNull(repoRepository, "repoRepository == null");
+        this.executorService = Executors.newSingleThreadExecutor();
+    }
+
+    public LiveData<StarredUiState> getUiState() {
+        return uiState;
+    }
+
+    /** Imports the repositories {@code username} starred, or the signed-in user's when {@code null}. */
+    public void load(@Nullable String username) {
+        if (started) {
+            return;
+        }
+        started = true;
+        this.username = username;
+        uiState.setValue(StarredUiState.loading());
+        executorService.execute(() -> {
+            try {
+                uiState.postValue(StarredUiState.loaded(repoRepository.importStarredRepositories(username)));
+            } catch (IOException exception) {
+                String message = exception.getMessage();
+                if (message == null || message.trim().isEmpty()) {
+                    message = "Unable to load starred repositories right now.";
+                }
+                uiState.postValue(StarredUiState.error(message));
+            }
+        });
+    }
+
+    public void retry() {
+        started = false;
+        load(username);
+    }
+
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Immutable UI state of the starred list.
+     */
+    public static final class StarredUiState {
+        private final PersistentList<ReposDataEntry> repositories;
+        private final boolean loading;
+        private final String errorMessage;
+
+        private StarredUiState(@NonNull PersistentList<ReposDataEntry> repositories,
+                               boolean loading,
+                               @Nullable String errorMessage) {
+            this.repositories = repositories;
+            this.loading = loading;
+            this.errorMessage = errorMessage;
+        }
+
+        public static StarredUiState loading() {
+            return new StarredUiState(PersistentList.empty(), true, null);
+        }
+
+        public static StarredUiState loaded(@NonNull PersistentList<ReposDataEntry> repositories) {
+            return new StarredUiState(Objects.requireNonNull(repositories, "repositories == null"),
+                    false, null);
+        }
+
+        public static StarredUiState error(@NonNull String message) {
+            return new StarredUiState(PersistentList.empty(), false,
+                    Objects.requireNonNull(message, "message == null"));
+        }
+
+        @NonNull
+        public PersistentList<ReposDataEntry> getRepositories() {
+            return repositories;
+        }
+
+        public boolean isLoading() {
+            return loading;
+        }
+
+        @Nullable
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+    }
+}
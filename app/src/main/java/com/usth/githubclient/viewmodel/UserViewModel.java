@@ -52,7 +52,8 @@ public class UserViewModel extends ViewModel {
     private static UserRepository buildDefaultUserRepository() {
         ApiClient apiClient = new ApiClient();
         GithubApiService service = apiClient.createService(GithubApiService.class);
-        return new UserRepository(service, ServiceLocator.getInstance().userMapper());
+        return new UserRepository(service, ServiceLocator.getInstance().userMapper(),
+                ServiceLocator.getInstance().profileCache());
     }
 
     public LiveData<UserUiState> getUiState() {
@@ -0,0 +1,25 @@
+package com.usth.githubclient.benchmark;
+
+import org.junit.Assume;
+
+/**
+ * Opt-in measurements. The classes in this package time large inputs and print what they measure,
+ * so they are skipped unless the {@value #PROPERTY} system property is {@code true}; with Gradle,
+ * {@code ./gradlew testDebugUnitTest -Pbenchmarks} sets it.
+ */
+public final class Benchmarks {
+
+    public static final String PROPERTY = "githubclient.benchmarks";
+
+    private Benchmarks() {
+    }
+
+    /** Skips the calling test unless benchmarks were asked for. */
+    public static void assumeEnabled() {
+        Assume.assumeTrue("benchmarks are opt-in: -D" + PROPERTY + "=true", Boolean.getBoolean(PROPERTY));
+    }
+
+    public static void report(String line) {
+        System.out.println(line);
+    }
+}
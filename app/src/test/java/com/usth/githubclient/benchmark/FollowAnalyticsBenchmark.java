@@ -0,0 +1,56 @@
+package com.usth.githubclient.benchmark;
+
+import com.usth.githubclient.domain.collection.LongIdSet;
+import com.usth.githubclient.domain.model.FollowAnalytics;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class FollowAnalyticsBenchmark {
+
+    private static final int IDS_PER_SIDE = 100_000;
+    private static final Instant NOW = Instant.parse("2024-03-01T00:00:00Z");
+
+    @Before
+    public void setUp() {
+        Benchmarks.assumeEnabled();
+    }
+
+    /** Full partition and incremental follower update at 100k x 100k ids. */
+    @Test
+    public void computeAndPatchAtHundredThousandPerSide() {
+        Random random = new Random(42L);
+        LongIdSet followerIds = randomIds(random);
+        LongIdSet followingIds = randomIds(random);
+        LongIdSet added = LongIdSet.of(3L * IDS_PER_SIDE + 1, 3L * IDS_PER_SIDE + 2);
+        LongIdSet removed = LongIdSet.of(followerIds.get(0));
+        for (int warmup = 0; warmup < 5; warmup++) {
+            FollowAnalytics.compute("octocat", followerIds, followingIds, NOW)
+                    .withFollowerChanges(added, removed, NOW);
+        }
+
+        long start = System.nanoTime();
+        FollowAnalytics analytics = FollowAnalytics.compute("octocat", followerIds, followingIds, NOW);
+        long computeNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        FollowAnalytics patched = analytics.withFollowerChanges(added, removed, NOW);
+        long patchNanos = System.nanoTime() - start;
+
+        Benchmarks.report("FollowAnalytics " + followerIds.size() + " x " + followingIds.size()
+                + ": compute=" + computeNanos / 1_000 + "us, incremental=" + patchNanos / 1_000 + "us");
+        assertEquals(IDS_PER_SIDE + 1, patched.getFollowers().size());
+    }
+
+    /** {@link #IDS_PER_SIDE} distinct ids out of three times as many. */
+    private static LongIdSet randomIds(Random random) {
+        LongIdSet.Builder ids = LongIdSet.builder(IDS_PER_SIDE);
+        random.ints(0, 3 * IDS_PER_SIDE).distinct().limit(IDS_PER_SIDE).forEach(ids::add);
+        return ids.build();
+    }
+}
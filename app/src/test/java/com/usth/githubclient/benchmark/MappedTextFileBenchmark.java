@@ -0,0 +1,77 @@
+package com.usth.githubclient.benchmark;
+
+import com.usth.githubclient.data.local.MappedTextFile;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class MappedTextFileBenchmark {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        Benchmarks.assumeEnabled();
+    }
+
+    /** Index time, heap growth and page latency on a 100 MB file; reports index time, heap growth and page latency. */
+    @Test
+    public void open_hundredMegabytes_keepsHeapFlat() throws Exception {
+        File file = folder.newFile();
+        Random random = new Random(7L);
+        long lines = 0L;
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file), 1 << 16)) {
+            byte[] line = new byte[200];
+            long written = 0L;
+            while (written < 100L * 1024 * 1024) {
+                int length = 10 + random.nextInt(120);
+                for (int i = 0; i < length; i++) {
+                    line[i] = (byte) ('a' + random.nextInt(26));
+                }
+                line[length] = '\n';
+                out.write(line, 0, length + 1);
+                written += length + 1;
+                lines++;
+            }
+        }
+
+        long heapBefore = usedHeap();
+        long start = System.nanoTime();
+        MappedTextFile text = MappedTextFile.open(file);
+        long indexMillis = (System.nanoTime() - start) / 1_000_000;
+        long heapGrowth = usedHeap() - heapBefore;
+
+        assertEquals(lines, text.getRowCount());
+        int pages = 1_000;
+        start = System.nanoTime();
+        for (int i = 0; i < pages; i++) {
+            List<String> page = text.readRows(random.nextInt(text.getRowCount() - 64), 64);
+            assertEquals(64, page.size());
+        }
+        long pageMicros = (System.nanoTime() - start) / 1_000 / pages;
+
+        assertTrue("heap grew by " + heapGrowth, heapGrowth < 4L * 1024 * 1024);
+        Benchmarks.report("MappedTextFile 100 MB, " + lines + " rows: index=" + indexMillis + "ms"
+                + ", heap growth=" + heapGrowth / 1024 + " KB, 64-row page=" + pageMicros + "us");
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
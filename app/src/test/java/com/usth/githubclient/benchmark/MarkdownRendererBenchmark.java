@@ -0,0 +1,74 @@
+package com.usth.githubclient.benchmark;
+
+import com.usth.githubclient.domain.markdown.MarkdownRenderer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.markdownj.MarkdownProcessor;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MarkdownRendererBenchmark {
+
+    @Before
+    public void setUp() {
+        Benchmarks.assumeEnabled();
+    }
+
+    /**
+     * Whole-document vs chunked rendering of a ~256 KB README. markdownj overflows a default stack
+     * on the whole document, so that baseline gets a 256 MB stack.
+     */
+    @Test
+    public void render_largeDocument() throws Exception {
+        String markdown = largeReadme(256_000);
+        MarkdownRenderer renderer = new MarkdownRenderer();
+        renderer.render(markdown.substring(0, 100_000), null);
+
+        long[] wholeNanos = {-1L};
+        Thread baseline = new Thread(null, () -> {
+            long start = System.nanoTime();
+            new MarkdownProcessor().markdown(markdown);
+            wholeNanos[0] = System.nanoTime() - start;
+        }, "markdown-baseline", 256L << 20);
+        baseline.start();
+        baseline.join();
+
+        long[] firstChunkNanos = {-1L};
+        long chunkedStart = System.nanoTime();
+        List<String> chunks = renderer.render(markdown, (index, html) -> {
+            if (index == 0) {
+                firstChunkNanos[0] = System.nanoTime() - chunkedStart;
+            }
+        });
+        long chunkedNanos = System.nanoTime() - chunkedStart;
+
+        assertTrue(chunks.size() > 50);
+        assertTrue(firstChunkNanos[0] >= 0L);
+        Benchmarks.report("Markdown " + markdown.length() / 1_024 + " KB: whole="
+                + (wholeNanos[0] < 0L ? "failed" : wholeNanos[0] / 1_000_000 + "ms")
+                + ", chunked total=" + chunkedNanos / 1_000_000 + "ms in " + chunks.size() + " chunks"
+                + ", first chunk=" + firstChunkNanos[0] / 1_000 + "us");
+    }
+
+    private static String largeReadme(int targetChars) {
+        StringBuilder markdown = new StringBuilder();
+        int section = 0;
+        while (markdown.length() < targetChars) {
+            markdown.append("## Section ").append(section).append("\n\n")
+                    .append("Some **bold** text, `inline code` and a [link][ref").append(section % 50)
+                    .append("] in a paragraph that goes on for a while to look like real prose.\n\n")
+                    .append("- item one\n- item two with _emphasis_\n- item three\n\n")
+                    .append("```\nfor (int i = 0; i < n; i++) {\n    total += values[i];\n}\n```\n\n")
+                    .append("    indented code\n    block\n\n")
+                    .append("> A quote\n\n");
+            section++;
+        }
+        for (int i = 0; i < 50; i++) {
+            markdown.append("[ref").append(i).append("]: https://example.com/").append(i).append('\n');
+        }
+        return markdown.toString();
+    }
+}
@@ -0,0 +1,89 @@
+package com.usth.githubclient.benchmark;
+
+import com.usth.githubclient.domain.collection.PersistentList;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PersistentListBenchmark {
+
+    private static final int BENCHMARK_SIZE = 50_000;
+
+    @Before
+    public void setUp() {
+        Benchmarks.assumeEnabled();
+    }
+
+    /**
+     * Replays one follower update through the UI flow: filtering with an empty query, the fragment
+     * snapshot, the adapter hand-off and the view-model state. The old flow copied the list at
+     * every step; with a persistent list each step reuses the same instance.
+     */
+    @Test
+    public void updateFlowAllocations() {
+        List<Integer> source = range(BENCHMARK_SIZE);
+        PersistentList<Integer> persistentSource = PersistentList.copyOf(source);
+
+        // Warm up both paths so class loading and JIT do not skew the numbers.
+        for (int i = 0; i < 5; i++) {
+            copyingFlow(source);
+            persistentFlow(persistentSource);
+        }
+
+        long copyingBytes = measureAllocatedBytes(() -> copyingFlow(source));
+        long persistentBytes = measureAllocatedBytes(() -> persistentFlow(persistentSource));
+        long appendBytes = measureAllocatedBytes(() -> persistentSource.plusAll(range(100)));
+
+        Benchmarks.report("Update flow at " + BENCHMARK_SIZE + " items: copying=" + copyingBytes
+                + " B, persistent=" + persistentBytes + " B, append 100=" + appendBytes + " B");
+        if (copyingBytes >= 0 && persistentBytes >= 0) {
+            assertTrue(persistentBytes * 100 < copyingBytes);
+            assertTrue(appendBytes * 20 < copyingBytes);
+        }
+    }
+
+    private static Object copyingFlow(List<Integer> all) {
+        List<Integer> filtered = new ArrayList<>(all);
+        List<Integer> pending = new ArrayList<>(filtered);
+        List<Integer> submitted = new ArrayList<>(pending);
+        List<Integer> emitted = Collections.unmodifiableList(new ArrayList<>(submitted));
+        return Collections.unmodifiableList(new ArrayList<>(emitted));
+    }
+
+    private static Object persistentFlow(PersistentList<Integer> all) {
+        PersistentList<Integer> filtered = all.filter(value -> true);
+        PersistentList<Integer> pending = PersistentList.copyOf(filtered);
+        PersistentList<Integer> submitted = PersistentList.copyOf(pending);
+        PersistentList<Integer> emitted = PersistentList.copyOf(submitted);
+        return PersistentList.copyOf(emitted);
+    }
+
+    /** Bytes allocated by the current thread while running {@code action}, or -1 if unsupported. */
+    private static long measureAllocatedBytes(Runnable action) {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            action.run();
+            return -1L;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        action.run();
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private static List<Integer> range(int size) {
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(i);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,114 @@
+package com.usth.githubclient.benchmark;
+
+import com.usth.githubclient.domain.model.ReposDataEntry;
+import com.usth.githubclient.domain.query.RepositoryIndex;
+import com.usth.githubclient.domain.query.RepositoryQuery;
+import com.usth.githubclient.domain.query.RepositoryQuery.Inclusion;
+import com.usth.githubclient.domain.query.RepositoryQuery.SortField;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class RepositoryIndexBenchmark {
+
+    private static final int REPOSITORY_COUNT = 10_000;
+    private static final String[] LANGUAGES = {"Java", "Kotlin", "Go", "Rust", "TypeScript", "C", null};
+
+    @Before
+    public void setUp() {
+        Benchmarks.assumeEnabled();
+    }
+
+    /** Index build and query switching cost at 10k repositories. */
+    @Test
+    public void switchingSortAtTenThousand() {
+        List<ReposDataEntry> repositories = randomRepositories(REPOSITORY_COUNT, 5);
+        SortField[] fields = {SortField.STARS, SortField.FORKS, SortField.PUSHED_AT, SortField.NAME};
+        for (int warmup = 0; warmup < 5; warmup++) {
+            RepositoryIndex index = RepositoryIndex.of(repositories);
+            for (SortField field : fields) {
+                index.query(RepositoryQuery.builder().sort(field, true).build());
+            }
+            comparatorSort(repositories, SortField.NAME);
+        }
+
+        long start = System.nanoTime();
+        RepositoryIndex index = RepositoryIndex.of(repositories);
+        long buildNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (SortField field : fields) {
+            index.query(RepositoryQuery.builder().sort(field, true).build());
+        }
+        long firstPassNanos = System.nanoTime() - start;
+
+        // Second pass: every permutation is cached, only the filter walk and list build remain.
+        start = System.nanoTime();
+        for (SortField field : fields) {
+            index.query(RepositoryQuery.builder().sort(field, true).archived(Inclusion.EXCLUDE).build());
+        }
+        long cachedPassNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (SortField field : fields) {
+            comparatorSort(repositories, field);
+        }
+        long comparatorNanos = System.nanoTime() - start;
+
+        Benchmarks.report("RepositoryIndex 10k: build=" + buildNanos / 1_000 + "us, first sorts="
+                + firstPassNanos / 1_000 + "us, cached sorts=" + cachedPassNanos / 1_000
+                + "us, comparator sorts=" + comparatorNanos / 1_000 + "us");
+        assertTrue(cachedPassNanos < comparatorNanos);
+    }
+
+    /** What the screen did before the index: copy and sort with a comparator, descending. */
+    private static List<ReposDataEntry> comparatorSort(List<ReposDataEntry> repositories, SortField field) {
+        List<ReposDataEntry> result = new ArrayList<>(repositories);
+        result.sort(comparatorFor(field).reversed());
+        return result;
+    }
+
+    private static Comparator<ReposDataEntry> comparatorFor(SortField field) {
+        switch (field) {
+            case STARS:
+                return Comparator.comparingInt(ReposDataEntry::getStargazersCount);
+            case FORKS:
+                return Comparator.comparingInt(ReposDataEntry::getForksCount);
+            case PUSHED_AT:
+                return Comparator.comparingLong(repository ->
+                        repository.getPushedAt().map(Instant::toEpochMilli).orElse(Long.MIN_VALUE));
+            case NAME:
+                return Comparator.comparing(ReposDataEntry::getName, String.CASE_INSENSITIVE_ORDER);
+            default:
+                return null;
+        }
+    }
+
+    private static List<ReposDataEntry> randomRepositories(int count, long seed) {
+        Random random = new Random(seed);
+        Instant base = Instant.parse("2020-01-01T00:00:00Z");
+        List<ReposDataEntry> repositories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Small value ranges force plenty of ties.
+            String name = (random.nextBoolean() ? "Repo-" : "repo-") + random.nextInt(count / 2);
+            repositories.add(ReposDataEntry.builder(i + 1, name, "https://github.com/octocat/" + name)
+                    .language(LANGUAGES[random.nextInt(LANGUAGES.length)])
+                    .stargazersCount(random.nextInt(500))
+                    .forksCount(random.nextInt(50))
+                    .isFork(random.nextInt(4) == 0)
+                    .isPrivate(random.nextInt(3) == 0)
+                    .isArchived(random.nextInt(5) == 0)
+                    .pushedAt(random.nextInt(10) == 0 ? null : base.plusSeconds(random.nextInt(100_000) * 60L))
+                    .build());
+        }
+        return repositories;
+    }
+}
@@ -0,0 +1,237 @@
+package com.usth.githubclient.data.graph;
+
+import com.usth.githubclient.data.remote.AuthInterceptor;
+import com.usth.githubclient.data.remote.ClientConfig;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.remote.RateLimitBudget;
+import com.usth.githubclient.data.repository.UserRepository;
+import com.usth.githubclient.domain.collection.LongIdSet;
+import com.usth.githubclient.domain.mapper.UserMapper;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs the crawler against a synthetic follower graph served by a local mock server.
+ */
+public class SocialGraphCrawlerTest {
+
+    private static final int USERS = 60;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile String cancelOnPath;
+    private volatile SocialGraphCrawler crawlerToCancel;
+    private MockWebServer server;
+    private UserRepository userRepository;
+    private RateLimitBudget budget;
+    private File checkpointFile;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new SyntheticGraphDispatcher());
+        server.start();
+
+        budget = new RateLimitBudget(0);
+        ClientConfig config = new ClientConfig(null, budget);
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(new AuthInterceptor(() -> config))
+                .addNetworkInterceptor(AuthInterceptor.budgetRecorder())
+                .build();
+        GithubApiService service = new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .addConverterFactory(GsonConverterFactory.create())
+                .client(client)
+                .build()
+                .create(GithubApiService.class);
+        userRepository = new UserRepository(service, new UserMapper());
+        checkpointFile = File.createTempFile("crawl", ".bin");
+        assertTrue(checkpointFile.delete());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+        checkpointFile.delete();
+    }
+
+    @Test
+    public void crawl_discoversSameNodesAsReferenceBfs() throws Exception {
+        SocialGraphCrawler crawler = new SocialGraphCrawler(userRepository, budget, config());
+
+        SocialGraph graph = crawler.crawl("user0");
+
+        Set<Integer> expected = referenceBfs(0, 2);
+        assertEquals(expected.size(), graph.nodeCount());
+        for (int user : expected) {
+            assertTrue("missing user" + user, graph.indexOf(user + 1L) >= 0);
+        }
+        // user0 follows user1 and user1 follows user0 back (every user follows i + 1 and i - 1).
+        LongIdSet mutuals = graph.mutualsOf(graph.indexOf(1L));
+        assertTrue(mutuals.contains(2L));
+        assertTrue(mutuals.contains(USERS * 1L));
+        assertEquals(5000, budget.getLimit());
+    }
+
+    @Test
+    public void crawl_resumesFromCheckpointWithoutRefetching() throws Exception {
+        new SocialGraphCrawler(userRepository, budget, config()).crawl("user0");
+        int firstRunRequests = requestCount.get();
+
+        SocialGraph resumed = new SocialGraphCrawler(userRepository, budget, config()).crawl("user0");
+
+        assertEquals(firstRunRequests, requestCount.get());
+        assertEquals(referenceBfs(0, 2).size(), resumed.nodeCount());
+    }
+
+    @Test
+    public void crawl_cancelledMidNodeResumesWithoutLosingItsEdges() throws Exception {
+        SocialGraph expected = new SocialGraphCrawler(userRepository, budget, config(null)).crawl("user0");
+        SocialGraphCrawler cancelled = new SocialGraphCrawler(userRepository, budget, config());
+        // user1 has three followers, two pages; cancel once the second one is being served.
+        cancelOnPath = "/users/user1/followers?per_page=2&page=2";
+        crawlerToCancel = cancelled;
+
+        try {
+            cancelled.crawl("user0");
+            fail("expected the crawl to be cancelled");
+        } catch (InterruptedIOException expectedException) {
+            // Checkpointed without user1, whose following pages were never fetched.
+        }
+        cancelOnPath = null;
+        SocialGraph resumed = new SocialGraphCrawler(userRepository, budget, config()).crawl("user0");
+
+        assertEquals(expected.nodeCount(), resumed.nodeCount());
+        assertEquals(expected.edgeCount(), resumed.edgeCount());
+        assertTrue(resumed.isExpanded(resumed.indexOf(2L)));
+    }
+
+    private SocialGraphCrawler.Config config() {
+        return config(checkpointFile);
+    }
+
+    private SocialGraphCrawler.Config config(File checkpoint) {
+        return SocialGraphCrawler.Config.builder()
+                .maxDepth(2)
+                .maxWorkers(4)
+                .perPage(2)
+                .maxPagesPerNode(10)
+                .checkpointInterval(3)
+                .pauseBounds(0L, 10L)
+                .checkpointFile(checkpoint)
+                .build();
+    }
+
+    /** Each user follows {@code i - 1}, {@code i + 1} and {@code i * 7}, modulo the user count. */
+    private static int[] following(int user) {
+        Set<Integer> result = new TreeSet<>();
+        result.add(Math.floorMod(user - 1, USERS));
+        result.add(Math.floorMod(user + 1, USERS));
+        result.add(Math.floorMod(user * 7, USERS));
+        result.remove(user);
+        return result.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] followers(int user) {
+        Set<Integer> result = new TreeSet<>();
+        for (int candidate = 0; candidate < USERS; candidate++) {
+            for (int target : following(candidate)) {
+                if (target == user) {
+                    result.add(candidate);
+                }
+            }
+        }
+        return result.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static Set<Integer> referenceBfs(int seed, int maxDepth) {
+        Set<Integer> visited = new HashSet<>();
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        visited.add(seed);
+        queue.add(new int[]{seed, 0});
+        while (!queue.isEmpty()) {
+            int[] entry = queue.poll();
+            if (entry[1] == maxDepth) {
+                continue;
+            }
+            Set<Integer> neighbours = new HashSet<>();
+            for (int f : followers(entry[0])) {
+                neighbours.add(f);
+            }
+            for (int f : following(entry[0])) {
+                neighbours.add(f);
+            }
+            for (int neighbour : neighbours) {
+                if (visited.add(neighbour)) {
+                    queue.add(new int[]{neighbour, entry[1] + 1});
+                }
+            }
+        }
+        return visited;
+    }
+
+    private final class SyntheticGraphDispatcher extends Dispatcher {
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            requestCount.incrementAndGet();
+            if (request.getPath().equals(cancelOnPath)) {
+                crawlerToCancel.cancel();
+            }
+            String[] segments = request.getRequestUrl().encodedPath().split("/");
+            // /users/{login}[/followers|/following]
+            int user = Integer.parseInt(segments[2].substring("user".length()));
+            if (segments.length == 3) {
+                return json(userJson(user));
+            }
+            int[] ids;
+            if ("followers".equals(segments[3])) {
+                ids = followers(user);
+            } else {
+                ids = following(user);
+            }
+            int perPage = Integer.parseInt(request.getRequestUrl().queryParameter("per_page"));
+            int page = Integer.parseInt(request.getRequestUrl().queryParameter("page"));
+            StringBuilder body = new StringBuilder("[");
+            int from = (page - 1) * perPage;
+            for (int i = from; i < Math.min(ids.length, from + perPage); i++) {
+                if (body.length() > 1) {
+                    body.append(',');
+                }
+                body.append(userJson(ids[i]));
+            }
+            return json(body.append(']').toString());
+        }
+
+        private MockResponse json(String body) {
+            return new MockResponse()
+                    .setResponseCode(200)
+                    .setHeader("Content-Type", "application/json")
+                    .setHeader("X-RateLimit-Limit", "5000")
+                    .setHeader("X-RateLimit-Remaining", "4000")
+                    .setBody(body);
+        }
+
+        private String userJson(int user) {
+            return "{\"id\":" + (user + 1) + ",\"login\":\"user" + user + "\"}";
+        }
+    }
+}
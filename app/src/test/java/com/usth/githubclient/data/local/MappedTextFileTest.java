@@ -0,0 +1,112 @@
+package com.usth.githubclient.data.local;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MappedTextFileTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readRows_splitsLinesAndWrapsLongOnes() throws Exception {
+        StringBuilder longLine = new StringBuilder();
+        while (longLine.length() < 3 * MappedTextFile.MAX_ROW_BYTES) {
+            longLine.append("héllo wörld ");
+        }
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            lines.add(i % 7 == 0 ? "" : "line " + i);
+        }
+        lines.set(100, longLine.toString());
+        File file = folder.newFile();
+        Files.write(file.toPath(), (String.join("\r\n", lines) + "\n").getBytes(StandardCharsets.UTF_8));
+
+        MappedTextFile text = MappedTextFile.open(file);
+        List<String> rows = text.readRows(0, Integer.MAX_VALUE);
+
+        assertFalse(text.isBinary());
+        assertEquals(text.getRowCount(), rows.size());
+        assertTrue(rows.size() > lines.size());
+        assertEquals(lines.subList(0, 100), rows.subList(0, 100));
+        StringBuilder rejoined = new StringBuilder();
+        int row = 100;
+        for (; rejoined.length() < longLine.length(); row++) {
+            assertTrue(rows.get(row).getBytes(StandardCharsets.UTF_8).length <= MappedTextFile.MAX_ROW_BYTES + 4);
+            rejoined.append(rows.get(row));
+        }
+        assertEquals(longLine.toString(), rejoined.toString());
+        assertEquals(lines.subList(101, lines.size()), rows.subList(row, rows.size()));
+        // Ranges starting between checkpoints match the full read.
+        assertEquals(rows.subList(130, 170), text.readRows(130, 40));
+        assertEquals(rows.get(rows.size() - 1), text.readRow(rows.size() - 1));
+    }
+
+    @Test
+    public void open_detectsBinaryAndEmptyFiles() throws Exception {
+        File binary = folder.newFile();
+        Files.write(binary.toPath(), new byte[]{'P', 'K', 3, 4, 0, 0, 1});
+        assertTrue(MappedTextFile.open(binary).isBinary());
+        assertEquals(0, MappedTextFile.open(binary).getRowCount());
+
+        MappedTextFile empty = MappedTextFile.open(folder.newFile());
+        assertEquals(0, empty.getRowCount());
+        assertTrue(empty.readRows(0, 10).isEmpty());
+    }
+
+    /** Rows come out the same whatever the segment size, including lines that straddle segments. */
+    @Test
+    public void readRows_isIndependentOfSegmentBoundaries() throws Exception {
+        List<String> lines = new ArrayList<>();
+        StringBuilder longLine = new StringBuilder("a");
+        while (longLine.length() < 5_000) {
+            longLine.append('é');
+        }
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            String line = i == 150 ? longLine.toString() : i % 11 == 0 ? "" : "row " + i + " €".repeat(i % 5);
+            lines.add(line);
+            content.append(line).append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        File file = folder.newFile();
+        Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+        List<String> expected = wrap(lines);
+
+        for (int shift : new int[]{3, 7, 12}) {
+            MappedTextFile text = MappedTextFile.open(file, shift);
+            assertEquals(expected.size(), text.getRowCount());
+            assertEquals(expected, text.readRows(0, Integer.MAX_VALUE));
+            for (int row = 0; row < expected.size(); row++) {
+                assertEquals(expected.get(row), text.readRow(row));
+            }
+        }
+        assertEquals(expected, MappedTextFile.open(file).readRows(0, Integer.MAX_VALUE));
+    }
+
+    /** Splits each line into rows of at least MAX_ROW_BYTES, ending on a character boundary. */
+    private static List<String> wrap(List<String> lines) {
+        List<String> rows = new ArrayList<>();
+        for (String line : lines) {
+            byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+            int start = 0;
+            do {
+                int end = Math.min(bytes.length, start + MappedTextFile.MAX_ROW_BYTES);
+                while (end < bytes.length && (bytes[end] & 0xC0) == 0x80) {
+                    end++;
+                }
+                rows.add(new String(bytes, start, end - start, StandardCharsets.UTF_8));
+                start = end;
+            } while (start < bytes.length);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,47 @@
+package com.usth.githubclient.data.local;
+
+import com.usth.githubclient.domain.model.GitHubUserProfileDataEntry;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ProfileCacheTest {
+
+    @Test
+    public void put_evictsTheLeastRecentlyUsedProfile() {
+        ProfileCache cache = new ProfileCache(3);
+        cache.put(profile(1, "alice"));
+        cache.put(profile(2, "bob"));
+        cache.put(profile(3, "carol"));
+
+        // Reading alice makes bob the eldest entry.
+        assertNotNull(cache.get("alice"));
+        cache.put(profile(4, "dave"));
+
+        assertTrue(cache.contains("alice"));
+        assertFalse(cache.contains("bob"));
+        assertTrue(cache.contains("carol"));
+        assertTrue(cache.contains("dave"));
+    }
+
+    @Test
+    public void get_ignoresLoginCaseAndCountsHitsAndMisses() {
+        ProfileCache cache = new ProfileCache();
+        cache.put(profile(1, "Octocat"));
+
+        assertEquals(1L, cache.get("OCTOCAT").getId());
+        assertNull(cache.get("hubot"));
+        // contains() leaves the statistics alone.
+        assertTrue(cache.contains("octocat"));
+
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+        cache.put(profile(2, "octocat"));
+        assertEquals(2L, cache.get("Octocat").getId());
+    }
+
+    private static GitHubUserProfileDataEntry profile(long id, String login) {
+        return GitHubUserProfileDataEntry.builder(id, login).build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.usth.githubclient.data.remote;
+
+import com.usth.githubclient.data.local.GitObjectCache;
+import com.usth.githubclient.data.repository.GitContentRepository;
+import com.usth.githubclient.domain.mapper.GitTreeMapper;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import okhttp3.OkHttpClient;
+import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+import okio.Buffer;
+import retrofit2.Response;
+
+import static org.junit.Assert.*;
+
+/** Runs requests through the interceptors the app installs, not a bare Retrofit. */
+public class ApiClientTest {
+
+    private static final String BLOB = "cccccccccccccccccccccccccccccccccccccccc";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private MockWebServer server;
+    private ResilienceInterceptor resilience;
+    private GithubApiService service;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        OkHttpClient base = ApiClient.newBaseClient();
+        resilience = new ResilienceInterceptor(ResiliencePolicy.defaults(), base);
+        service = ApiClient.newRetrofit(server.url("/").toString(), base,
+                new AuthInterceptor(() -> new ClientConfig("token", new RateLimitBudget())), resilience)
+                .create(GithubApiService.class);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        resilience.shutdown();
+        server.shutdown();
+    }
+
+    @Test
+    public void blob_isHandedOverBeforeItsBodyIsRead() throws Exception {
+        // Half the body, then the connection drops: a stack buffering bodies fails in execute().
+        server.enqueue(new MockResponse()
+                .setBody(new Buffer().write(new byte[1024 * 1024]))
+                .setSocketPolicy(SocketPolicy.DISCONNECT_DURING_RESPONSE_BODY));
+
+        Response<ResponseBody> response = service.getBlob("octocat", "hello", BLOB).execute();
+
+        assertTrue(response.isSuccessful());
+        assertEquals("Bearer token", server.takeRequest().getHeader("Authorization"));
+        try (InputStream content = response.body().byteStream()) {
+            byte[] chunk = new byte[8192];
+            while (content.read(chunk) != -1) {
+                // Drain until the drop surfaces.
+            }
+            fail("expected the dropped connection to surface while reading");
+        } catch (IOException expected) {
+            // Streamed: the failure reaches the reader, not execute().
+        }
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void fetchBlob_writesTheStreamedBlobToDisk() throws Exception {
+        GitContentRepository repository = new GitContentRepository(
+                service, new GitObjectCache(folder.newFolder()), new GitTreeMapper());
+        byte[] content = new byte[3 * 1024 * 1024];
+        Arrays.fill(content, (byte) 'x');
+        server.enqueue(new MockResponse().setBody(new Buffer().write(content)));
+
+        File blob = repository.fetchBlob("octocat", "hello", BLOB);
+
+        assertArrayEquals(content, Files.readAllBytes(blob.toPath()));
+    }
+}
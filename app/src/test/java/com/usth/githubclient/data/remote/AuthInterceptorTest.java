@@ -0,0 +1,197 @@
+package com.usth.githubclient.data.remote;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.QueueDispatcher;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.*;
+
+public class AuthInterceptorTest {
+
+    private static final String PREFIX = "Bearer token-";
+    private static final int WORKERS = 8;
+    private static final int REQUESTS_PER_WORKER = 50;
+
+    private final AtomicReference<ClientConfig> active = new AtomicReference<>();
+    // Budget of every config handed out, by token number.
+    private final Map<Integer, RateLimitBudget> budgets = new ConcurrentHashMap<>();
+    private MockWebServer server;
+    private OkHttpClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        // Echoes the header, and reports the token number as the remaining budget so a response
+        // recorded in the wrong account's budget shows up.
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String authorization = request.getHeader("Authorization");
+                MockResponse response = new MockResponse()
+                        .setBody(authorization == null ? "" : authorization);
+                if (authorization != null && authorization.startsWith(PREFIX)) {
+                    response.setHeader("X-RateLimit-Limit", "5000")
+                            .setHeader("X-RateLimit-Remaining", authorization.substring(PREFIX.length()))
+                            .setHeader("X-RateLimit-Reset", "4102444800");
+                }
+                return response;
+            }
+        });
+        server.start();
+        activate(0);
+        client = new OkHttpClient.Builder()
+                .addInterceptor(new AuthInterceptor(active::get))
+                .addNetworkInterceptor(AuthInterceptor.budgetRecorder())
+                .build();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void intercept_sendsTheTokenCurrentWhenEachRequestStarts() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(WORKERS + 1);
+        Queue<String> failures = new ConcurrentLinkedQueue<>();
+        AtomicBoolean done = new AtomicBoolean();
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Future<?> flipper = pool.submit(() -> {
+                start.await();
+                for (int n = 1; !done.get(); n++) {
+                    activate(n);
+                    Thread.yield();
+                }
+                return null;
+            });
+            List<Future<?>> workers = new ArrayList<>();
+            for (int w = 0; w < WORKERS; w++) {
+                workers.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < REQUESTS_PER_WORKER; i++) {
+                        // Tokens only grow, so the one sent lies between these two.
+                        int before = tokenNumber(active.get());
+                        String sent = send();
+                        int after = tokenNumber(active.get());
+                        if (!sent.startsWith(PREFIX)) {
+                            failures.add("missing header: '" + sent + "'");
+                            continue;
+                        }
+                        int number = Integer.parseInt(sent.substring(PREFIX.length()));
+                        if (number < before || number > after) {
+                            failures.add("token-" + number + " sent between token-" + before
+                                    + " and token-" + after);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+            done.set(true);
+            flipper.get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertTrue(failures.toString(), failures.isEmpty());
+        assertEquals(WORKERS * REQUESTS_PER_WORKER, server.getRequestCount());
+        for (Map.Entry<Integer, RateLimitBudget> entry : budgets.entrySet()) {
+            if (entry.getValue().isKnown()) {
+                assertEquals("budget of token-" + entry.getKey(),
+                        (int) entry.getKey(), entry.getValue().getRemaining());
+            }
+        }
+    }
+
+    @Test
+    public void intercept_withoutTokenSendsNoHeader() throws Exception {
+        active.set(new ClientConfig("", new RateLimitBudget()));
+
+        assertEquals("", send());
+        assertNull(server.takeRequest().getHeader("Authorization"));
+    }
+
+    @Test
+    public void budgetRecorder_countsEveryRetriedAttempt() throws Exception {
+        server.setDispatcher(new QueueDispatcher());
+        server.enqueue(rateLimited(503, 4999));
+        server.enqueue(rateLimited(503, 4998));
+        // A proxy error carries no rate limit headers; only the attempts before it tell the budget.
+        server.enqueue(new MockResponse().setResponseCode(502));
+        // The base client the app derives every client and hedge from.
+        OkHttpClient base = ApiClient.newBaseClient();
+        ResilienceInterceptor resilience = new ResilienceInterceptor(ResiliencePolicy.builder()
+                .maxAttempts(3)
+                .retryDelayBounds(1L, 5L)
+                .hedging(false)
+                .build(), base);
+        client = base.newBuilder()
+                .addInterceptor(new AuthInterceptor(active::get))
+                .addInterceptor(resilience)
+                .build();
+        try {
+            Request request = new Request.Builder().url(server.url("/user")).build();
+            try (Response response = client.newCall(request).execute()) {
+                assertEquals(502, response.code());
+            }
+        } finally {
+            resilience.shutdown();
+        }
+
+        assertEquals(3, server.getRequestCount());
+        assertEquals(4998, budgets.get(0).getRemaining());
+        assertEquals(5000, budgets.get(0).getLimit());
+    }
+
+    private static MockResponse rateLimited(int code, int remaining) {
+        return new MockResponse()
+                .setResponseCode(code)
+                .setHeader("X-RateLimit-Limit", "5000")
+                .setHeader("X-RateLimit-Remaining", String.valueOf(remaining))
+                .setHeader("X-RateLimit-Reset", "4102444800");
+    }
+
+    private void activate(int number) {
+        RateLimitBudget budget = new RateLimitBudget();
+        budgets.put(number, budget);
+        active.set(new ClientConfig("token-" + number, budget));
+    }
+
+    private String send() throws Exception {
+        Request request = new Request.Builder().url(server.url("/user")).build();
+        try (Response response = client.newCall(request).execute()) {
+            return response.body().string();
+        }
+    }
+
+    private static int tokenNumber(ClientConfig config) {
+        return Integer.parseInt(config.getToken().substring("token-".length()));
+    }
+}
@@ -0,0 +1,300 @@
+package com.usth.githubclient.data.remote;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+
+import static org.junit.Assert.*;
+
+public class ResilienceInterceptorTest {
+
+    private static final String HEDGE_HEADER = "X-Test-Hedge";
+    private static final int WARM_UP = 5;
+
+    private final MutableClock clock = new MutableClock();
+    private final List<ResilienceInterceptor> interceptors = new ArrayList<>();
+    private volatile boolean warmedUp;
+    private MockWebServer server;
+    private OkHttpClient hedgeClient;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        hedgeClient = new OkHttpClient();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        for (ResilienceInterceptor interceptor : interceptors) {
+            interceptor.shutdown();
+        }
+        server.shutdown();
+    }
+
+    @Test
+    public void get_isRetriedOnServerErrorsAndTimeouts() throws Exception {
+        OkHttpClient client = client(ResiliencePolicy.builder()
+                .maxAttempts(4)
+                .retryDelayBounds(1L, 5L)
+                .hedging(false)
+                .build());
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE));
+        server.enqueue(new MockResponse().setResponseCode(502));
+        server.enqueue(new MockResponse().setBody("ok"));
+
+        try (Response response = client.newCall(get()).execute()) {
+            assertEquals(200, response.code());
+            assertEquals("ok", response.body().string());
+        }
+        assertEquals(4, server.getRequestCount());
+    }
+
+    @Test
+    public void get_returnsTheLastErrorOnceAttemptsRunOut() throws Exception {
+        OkHttpClient client = client(ResiliencePolicy.builder()
+                .maxAttempts(2)
+                .retryDelayBounds(1L, 5L)
+                .hedging(false)
+                .build());
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setBody("too late"));
+
+        try (Response response = client.newCall(get()).execute()) {
+            assertEquals(503, response.code());
+        }
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void post_andClientErrorsAreNotRetried() throws Exception {
+        OkHttpClient client = client(ResiliencePolicy.builder()
+                .retryDelayBounds(1L, 5L)
+                .hedging(false)
+                .build());
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setResponseCode(404));
+        server.enqueue(new MockResponse().setBody("unused"));
+
+        Request post = new Request.Builder()
+                .url(server.url("/graphql"))
+                .post(RequestBody.create("{}", MediaType.get("application/json")))
+                .build();
+        try (Response response = client.newCall(post).execute()) {
+            assertEquals(503, response.code());
+        }
+        try (Response response = client.newCall(get()).execute()) {
+            assertEquals(404, response.code());
+        }
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void circuit_opensAfterConsecutiveFailuresAndClosesAfterASuccessfulTrial() throws Exception {
+        ResilienceInterceptor interceptor = track(new ResilienceInterceptor(ResiliencePolicy.builder()
+                .maxAttempts(1)
+                .hedging(false)
+                .circuitBreaker(3, 10_000L)
+                .build(), hedgeClient, clock, new Random(1)));
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(interceptor).build();
+        String host = server.url("/").host();
+        for (int i = 0; i < 3; i++) {
+            server.enqueue(new MockResponse().setResponseCode(500));
+            client.newCall(get()).execute().close();
+        }
+        assertTrue(interceptor.isCircuitOpen(host));
+
+        try {
+            client.newCall(get()).execute();
+            fail("expected the open circuit to fail fast");
+        } catch (CircuitOpenException expected) {
+            assertEquals(host, expected.getHost());
+            assertEquals(10_000L, expected.getRetryAfterMillis());
+        }
+        assertEquals(3, server.getRequestCount());
+
+        // The trial fails: open for another period.
+        clock.advance(10_000L);
+        server.enqueue(new MockResponse().setResponseCode(503));
+        client.newCall(get()).execute().close();
+        assertTrue(interceptor.isCircuitOpen(host));
+        try {
+            client.newCall(get()).execute();
+            fail("expected the reopened circuit to fail fast");
+        } catch (CircuitOpenException expected) {
+            assertEquals(4, server.getRequestCount());
+        }
+
+        // The next trial succeeds: closed again.
+        clock.advance(10_000L);
+        server.enqueue(new MockResponse().setBody("back"));
+        server.enqueue(new MockResponse().setBody("again"));
+        client.newCall(get()).execute().close();
+        assertFalse(interceptor.isCircuitOpen(host));
+        try (Response response = client.newCall(get()).execute()) {
+            assertEquals("again", response.body().string());
+        }
+    }
+
+    @Test
+    public void get_slowerThanThePercentileIsHedgedAndAWinningHedgeIsReadable() throws Exception {
+        CountDownLatch releasePrimary = new CountDownLatch(1);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getHeader(HEDGE_HEADER) != null) {
+                    return new MockResponse().setBody("hedge");
+                }
+                if (warmedUp) {
+                    // The primary answers only once the test is done with the hedge.
+                    releasePrimary.await(10, TimeUnit.SECONDS);
+                }
+                return new MockResponse().setBody("primary");
+            }
+        });
+        OkHttpClient client = hedgingClient();
+        warmUp(client);
+
+        try (Response response = client.newCall(get()).execute()) {
+            assertEquals("hedge", response.body().string());
+        } finally {
+            releasePrimary.countDown();
+        }
+        assertEquals(WARM_UP + 2, server.getRequestCount());
+    }
+
+    @Test
+    public void get_primaryAnsweringBeforeTheHedgeCancelsOnlyTheHedge() throws Exception {
+        CountDownLatch hedgeSent = new CountDownLatch(1);
+        CountDownLatch releaseHedge = new CountDownLatch(1);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getHeader(HEDGE_HEADER) != null) {
+                    hedgeSent.countDown();
+                    releaseHedge.await(10, TimeUnit.SECONDS);
+                    return new MockResponse().setBody("hedge");
+                }
+                if (warmedUp) {
+                    // Slow enough to be hedged, then answers while the hedge is still pending.
+                    hedgeSent.await(10, TimeUnit.SECONDS);
+                }
+                return new MockResponse().setBody("primary");
+            }
+        });
+        OkHttpClient client = hedgingClient();
+        warmUp(client);
+
+        try (Response response = client.newCall(get()).execute()) {
+            assertEquals("primary", response.body().string());
+        } finally {
+            releaseHedge.countDown();
+        }
+        assertEquals(WARM_UP + 2, server.getRequestCount());
+    }
+
+    @Test
+    public void nextDelay_staysWithinTheDecorrelatedJitterBounds() {
+        ResilienceInterceptor interceptor = track(new ResilienceInterceptor(ResiliencePolicy.builder()
+                .retryDelayBounds(100L, 1_000L)
+                .build(), hedgeClient, clock, new Random(42)));
+        long delay = 100L;
+        for (int i = 0; i < 1_000; i++) {
+            long next = interceptor.nextDelay(delay);
+            assertTrue(next >= 100L);
+            assertTrue(next <= Math.min(1_000L, delay * 3L));
+            delay = next;
+        }
+    }
+
+    private OkHttpClient client(ResiliencePolicy policy) {
+        return new OkHttpClient.Builder()
+                .readTimeout(200, TimeUnit.MILLISECONDS)
+                .addInterceptor(track(new ResilienceInterceptor(policy, hedgeClient, clock, new Random(7))))
+                .build();
+    }
+
+    /** Hedges carry a header so the dispatcher can answer them differently. */
+    private OkHttpClient hedgingClient() {
+        OkHttpClient marked = hedgeClient.newBuilder()
+                .addInterceptor(chain -> chain.proceed(chain.request().newBuilder()
+                        .header(HEDGE_HEADER, "1")
+                        .build()))
+                .build();
+        return new OkHttpClient.Builder()
+                .addInterceptor(track(new ResilienceInterceptor(ResiliencePolicy.builder()
+                        .maxAttempts(1)
+                        .hedging(true, 0.95, WARM_UP, 20)
+                        .build(), marked)))
+                .build();
+    }
+
+    /** Nothing is hedged until enough latencies are known. */
+    private void warmUp(OkHttpClient client) throws Exception {
+        for (int i = 0; i < WARM_UP; i++) {
+            client.newCall(get()).execute().close();
+        }
+        warmedUp = true;
+    }
+
+    private ResilienceInterceptor track(ResilienceInterceptor interceptor) {
+        interceptors.add(interceptor);
+        return interceptor;
+    }
+
+    private Request get() {
+        return new Request.Builder().url(server.url("/users/octocat")).build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private long millis = 1_700_000_000_000L;
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.remote.ApiClient;
+import com.usth.githubclient.domain.mapper.RepoMapper;
+import com.usth.githubclient.domain.mapper.UserMapper;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import static org.junit.Assert.*;
+
+public class AuthRepositoryTest {
+
+    private MockWebServer server;
+    private RecordingApiClient apiClient;
+    private AuthRepository repository;
+    private final List<String> removedAccounts = new ArrayList<>();
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        // The token names the account: "token-alice" signs in as Alice; anything else is rejected.
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String authorization = request.getHeader("Authorization");
+                if (authorization == null || !authorization.startsWith("Bearer token-")) {
+                    return new MockResponse().setResponseCode(401).setBody("{\"message\":\"Bad credentials\"}");
+                }
+                String login = authorization.substring("Bearer token-".length());
+                if (request.getPath().startsWith("/user/repos")) {
+                    return new MockResponse().setBody("[]");
+                }
+                return new MockResponse().setBody("{\"id\":" + login.hashCode() + ",\"login\":\""
+                        + Character.toUpperCase(login.charAt(0)) + login.substring(1) + "\"}");
+            }
+        });
+        server.start();
+        apiClient = new RecordingApiClient();
+        UserMapper userMapper = new UserMapper();
+        repository = new AuthRepository(apiClient, userMapper, new RepoMapper(userMapper));
+        repository.setAccountListener(removedAccounts::add);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void authenticate_keepsEarlierAccountsAndSwitchAccountActivatesOne() throws Exception {
+        repository.authenticate("token-alice");
+        repository.authenticate("token-bob");
+
+        assertEquals("bob", repository.getActiveLogin());
+        assertEquals(2, repository.getSessions().size());
+        assertEquals("Alice", repository.getSessions().get(0).getUsername());
+
+        assertEquals("Alice", repository.switchAccount("ALICE").getUsername());
+        assertEquals("alice", repository.getActiveLogin());
+        assertEquals("token-alice", repository.getCachedSession().getAccessToken());
+        assertEquals(Arrays.asList("set:token-alice", "set:token-bob", "set:token-alice"), apiClient.calls);
+
+        try {
+            repository.switchAccount("carol");
+            fail("expected an account that is not signed in to be rejected");
+        } catch (IllegalArgumentException expected) {
+            assertEquals("alice", repository.getActiveLogin());
+        }
+    }
+
+    @Test
+    public void signOut_dropsTheActiveAccountAndFallsBackToTheLatestRemaining() throws Exception {
+        repository.authenticate("token-alice");
+        repository.authenticate("token-bob");
+        repository.authenticate("token-carol");
+        repository.switchAccount("bob");
+        apiClient.calls.clear();
+
+        repository.signOut();
+
+        assertEquals("carol", repository.getActiveLogin());
+        assertEquals(Arrays.asList("bob"), removedAccounts);
+        assertEquals(Arrays.asList("remove:token-bob", "clear", "set:token-carol"), apiClient.calls);
+
+        repository.signOut();
+        assertEquals("alice", repository.getActiveLogin());
+
+        apiClient.calls.clear();
+        repository.signOut();
+        assertNull(repository.getActiveLogin());
+        assertNull(repository.getCachedSession());
+        assertTrue(repository.getSessions().isEmpty());
+        assertEquals(Arrays.asList("bob", "carol", "alice"), removedAccounts);
+        assertEquals(Arrays.asList("remove:token-alice", "clear"), apiClient.calls);
+
+        // Nothing left to sign out: no listener call.
+        repository.signOut();
+        assertEquals(3, removedAccounts.size());
+    }
+
+    @Test
+    public void authenticate_failureDropsOnlyATokenNoAccountUses() throws Exception {
+        repository.authenticate("token-alice");
+        apiClient.calls.clear();
+
+        try {
+            repository.authenticate("wrong");
+            fail("expected bad credentials to fail");
+        } catch (IOException expected) {
+            assertTrue(expected.getMessage().contains("Bad credentials"));
+        }
+
+        assertEquals(Arrays.asList("remove:wrong"), apiClient.calls);
+        assertEquals("alice", repository.getActiveLogin());
+        assertEquals(1, repository.getSessions().size());
+        assertTrue(removedAccounts.isEmpty());
+    }
+
+    /** Sends every service to the mock server and records what would change the shared clients. */
+    private final class RecordingApiClient extends ApiClient {
+
+        final List<String> calls = new ArrayList<>();
+
+        @Override
+        public <T> T createService(String token, Class<T> serviceClass) {
+            OkHttpClient client = new OkHttpClient.Builder()
+                    .addInterceptor(chain -> chain.proceed(chain.request().newBuilder()
+                            .header("Authorization", "Bearer " + token)
+                            .build()))
+                    .build();
+            return new Retrofit.Builder()
+                    .baseUrl(server.url("/"))
+                    .addConverterFactory(GsonConverterFactory.create())
+                    .client(client)
+                    .build()
+                    .create(serviceClass);
+        }
+
+        @Override
+        public void setAuthToken(String token) {
+            calls.add("set:" + token);
+        }
+
+        @Override
+        public void clearAuthToken() {
+            calls.add("clear");
+        }
+
+        @Override
+        public void removeAuthToken(String token) {
+            calls.add("remove:" + token);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.CommitCache;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.domain.mapper.CommitMapper;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import static org.junit.Assert.*;
+
+public class CommitHistoryRepositoryTest {
+
+    private static final String ETAG = "\"history-v1\"";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private MockWebServer server;
+    private GithubApiService service;
+    private File cacheDir;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        service = new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .addConverterFactory(GsonConverterFactory.create())
+                .build()
+                .create(GithubApiService.class);
+        cacheDir = folder.newFolder("commits");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void pagesArePinnedToTheHeadAndServedFromCacheAfterReopening() throws Exception {
+        CommitHistoryRepository repository = newRepository();
+        server.enqueue(page(0, 100, "2"));
+        String head = repository.resolveHead("octocat", "hello", "main");
+        RecordedRequest resolve = server.takeRequest();
+
+        assertEquals(sha(0), head);
+        assertEquals("main", resolve.getRequestUrl().queryParameter("sha"));
+        assertNull(resolve.getHeader("If-None-Match"));
+
+        // Page 1 is fetched by SHA; it is the last one, so nothing is prefetched.
+        server.enqueue(page(100, 30, null));
+        CommitHistoryRepository.Page second = repository.loadPage("octocat", "hello", head, 1);
+        RecordedRequest pageRequest = server.takeRequest();
+
+        assertEquals(head, pageRequest.getRequestUrl().queryParameter("sha"));
+        assertEquals("2", pageRequest.getRequestUrl().queryParameter("page"));
+        assertEquals(30, second.getCommits().size());
+        assertEquals(sha(100), second.getCommits().get(0).getSha());
+        assertFalse(second.hasMore());
+
+        // A new process: the same files answer without the network, and the branch revalidates.
+        CommitHistoryRepository reopened = newRepository();
+        assertEquals(head, reopened.getCachedHead("octocat", "hello", "main"));
+        CommitHistoryRepository.Page first = reopened.getCachedPage(head, 0);
+        assertNotNull(first);
+        assertEquals(100, first.getCommits().size());
+        assertEquals("Commit 42", first.getCommits().get(42).getHeadline());
+        assertTrue(first.hasMore());
+        assertEquals(30, reopened.loadPage("octocat", "hello", head, 1).getCommits().size());
+        assertEquals(2, server.getRequestCount());
+
+        server.enqueue(new MockResponse().setResponseCode(304));
+        assertEquals(head, reopened.resolveHead("octocat", "hello", "main"));
+        assertEquals(ETAG, server.takeRequest().getHeader("If-None-Match"));
+    }
+
+    @Test
+    public void resolveHead_returnsNullForAnEmptyRepository() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(409)
+                .setBody("{\"message\":\"Git Repository is empty.\"}"));
+
+        assertNull(newRepository().resolveHead("octocat", "empty", "HEAD"));
+    }
+
+    @Test
+    public void nextPage_readsTheNextLink() {
+        assertEquals(3, CommitHistoryRepository.nextPage(retrofit2.Response.success("",
+                okhttp3.Headers.of("Link", "<https://api.github.com/x?sha=a&page=3>; rel=\"next\", "
+                        + "<https://api.github.com/x?sha=a&page=9>; rel=\"last\""))));
+        assertEquals(0, CommitHistoryRepository.nextPage(retrofit2.Response.success("",
+                okhttp3.Headers.of("Link", "<https://api.github.com/x?page=1>; rel=\"prev\""))));
+    }
+
+    private CommitHistoryRepository newRepository() {
+        // Prefetches run inline so the test sees every request.
+        return new CommitHistoryRepository(service, new CommitCache(cacheDir), new CommitMapper(),
+                Runnable::run);
+    }
+
+    private MockResponse page(int first, int count, String nextPage) {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = first; i < first + count; i++) {
+            if (i > first) {
+                body.append(',');
+            }
+            body.append("{\"sha\":\"").append(sha(i)).append("\",")
+                    .append("\"commit\":{\"message\":\"Commit ").append(i).append("\\n\\nDetails\",")
+                    .append("\"author\":{\"name\":\"Mona\",\"date\":\"2024-01-01T00:00:00Z\"}},")
+                    .append("\"author\":{\"login\":\"octocat\"}}");
+        }
+        MockResponse response = new MockResponse().setHeader("ETag", ETAG).setBody(body.append(']').toString());
+        if (nextPage != null) {
+            response.setHeader("Link", "<" + server.url("/repos/octocat/hello/commits?page=" + nextPage)
+                    + ">; rel=\"next\"");
+        }
+        return response;
+    }
+
+    private static String sha(int index) {
+        // Distinct leading digits, as the cache indexes commits by their SHA prefix.
+        return String.format("%08x%032x", index * 2654435761L & 0xffffffffL, index);
+    }
+}
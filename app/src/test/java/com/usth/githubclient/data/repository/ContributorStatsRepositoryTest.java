@@ -0,0 +1,137 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.ContributorStatsCache;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.domain.mapper.ContributorStatsMapper;
+import com.usth.githubclient.domain.model.ContributorStats;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import static org.junit.Assert.*;
+
+public class ContributorStatsRepositoryTest {
+
+    private static final Instant PUSHED = Instant.parse("2024-01-01T00:00:00Z");
+    private static final String STATS = "["
+            + "{\"author\":{\"login\":\"bob\"},\"total\":3,"
+            + "\"weeks\":[{\"w\":1700000000,\"a\":10,\"d\":2,\"c\":3}]},"
+            + "{\"author\":null,\"total\":50,\"weeks\":[]},"
+            + "{\"author\":{\"login\":\"alice\"},\"total\":12,"
+            + "\"weeks\":[{\"w\":1700000000,\"a\":100,\"d\":20,\"c\":4},"
+            + "{\"w\":1700604800,\"a\":5,\"d\":1,\"c\":8}]}]";
+
+    // Server side: how many 202s to answer before the statistics are ready.
+    private final AtomicInteger pendingComputations = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+    // Client side: the thread each request was sent from.
+    private final List<String> requestThreads = new CopyOnWriteArrayList<>();
+    private MockWebServer server;
+    private ScheduledExecutorService scheduler;
+    private ExecutorService ioExecutor;
+    private ContributorStatsRepository repository;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                requests.incrementAndGet();
+                if (pendingComputations.getAndDecrement() > 0) {
+                    return new MockResponse().setResponseCode(202).setBody("{}");
+                }
+                return new MockResponse().setBody(STATS);
+            }
+        });
+        server.start();
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    requestThreads.add(Thread.currentThread().getName());
+                    return chain.proceed(chain.request());
+                })
+                .build();
+        Retrofit retrofit = new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .client(client)
+                .addConverterFactory(GsonConverterFactory.create())
+                .build();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "poller"));
+        ioExecutor = Executors.newCachedThreadPool(runnable -> new Thread(runnable, "io"));
+        repository = new ContributorStatsRepository(retrofit.create(GithubApiService.class),
+                new ContributorStatsMapper(), new ContributorStatsCache(), scheduler, ioExecutor, 10L, 5);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        scheduler.shutdownNow();
+        ioExecutor.shutdownNow();
+        server.shutdown();
+    }
+
+    @Test
+    public void load_pollsWhileComputingAndSharesThePendingFuture() throws Exception {
+        pendingComputations.set(3);
+
+        CompletableFuture<List<ContributorStats>> first = repository.load("octocat", "hello", PUSHED);
+        CompletableFuture<List<ContributorStats>> second = repository.load("OCTOCAT", "Hello", PUSHED);
+        assertSame(first, second);
+
+        List<ContributorStats> leaders = repository.fetch("octocat", "hello", PUSHED);
+        assertSame(leaders, first.get(5, TimeUnit.SECONDS));
+        assertEquals(4, requests.get());
+        assertEquals(2, leaders.size());
+        assertEquals(new ContributorStats("alice", null, 12, 105L, 21L), leaders.get(0));
+        assertEquals("bob", leaders.get(1).getLogin());
+        assertEquals("/repos/octocat/hello/stats/contributors", server.takeRequest().getPath());
+        // The poll scheduler only timed the retries; every request went out on the I/O executor.
+        assertEquals(List.of("io", "io", "io", "io"), requestThreads);
+    }
+
+    @Test
+    public void load_reusesResultsUntilPushedAtMoves() throws Exception {
+        List<ContributorStats> leaders = repository.fetch("octocat", "hello", PUSHED);
+        assertEquals(1, requests.get());
+
+        assertSame(leaders, repository.fetch("octocat", "hello", PUSHED));
+        assertSame(leaders, repository.getCached("octocat", "hello", PUSHED));
+        assertEquals(1, requests.get());
+
+        Instant pushedLater = PUSHED.plusSeconds(60);
+        assertNull(repository.getCached("octocat", "hello", pushedLater));
+        assertEquals(leaders, repository.fetch("octocat", "hello", pushedLater));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void load_givesUpAfterMaxPolls() throws Exception {
+        pendingComputations.set(Integer.MAX_VALUE);
+        try {
+            repository.fetch("octocat", "hello", PUSHED);
+            fail("Expected the statistics to still be computing");
+        } catch (IOException expected) {
+            assertEquals(5, requests.get());
+        }
+        assertNull(repository.getCached("octocat", "hello", PUSHED));
+    }
+}
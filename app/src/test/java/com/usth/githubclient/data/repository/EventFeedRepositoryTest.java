@@ -0,0 +1,191 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.EventFeedCache;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.domain.mapper.EventMapper;
+import com.usth.githubclient.domain.model.FeedEvent;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import static org.junit.Assert.*;
+
+public class EventFeedRepositoryTest {
+
+    private MockWebServer server;
+    private MutableClock clock;
+    private EventFeedStats stats;
+    private EventFeedRepository repository;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        Retrofit retrofit = new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .addConverterFactory(GsonConverterFactory.create())
+                .build();
+        clock = new MutableClock();
+        stats = new EventFeedStats();
+        repository = new EventFeedRepository(retrofit.create(GithubApiService.class),
+                new EventFeedCache(4, 3), new EventMapper(), stats, clock);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void poll_honorsPollIntervalAndRevalidatesWithEtag() throws Exception {
+        server.enqueue(eventsResponse("\"etag-1\"", 30, 2, 1));
+        EventFeedRepository.PollResult first = repository.poll(EventFeedRepository.Feed.RECEIVED, "octocat");
+        RecordedRequest firstRequest = server.takeRequest();
+
+        assertEquals("/users/octocat/received_events?per_page=100", firstRequest.getPath());
+        assertNull(firstRequest.getHeader("If-None-Match"));
+        assertEquals(2, first.getNewEventCount());
+        assertEquals(30_000L, first.getNextPollDelayMillis());
+        assertEquals(2L, first.getEvents().get(0).getId());
+        assertEquals("octocat/hello", first.getEvents().get(0).getRepoName());
+
+        // Too early: answered locally, no request.
+        clock.advance(10_000L);
+        EventFeedRepository.PollResult early = repository.poll(EventFeedRepository.Feed.RECEIVED, "octocat");
+        assertFalse(early.isRequested());
+        assertEquals(20_000L, early.getNextPollDelayMillis());
+        assertEquals(1, server.getRequestCount());
+
+        // Unchanged: a body-less 304, nothing parsed or added.
+        clock.advance(20_000L);
+        server.enqueue(new MockResponse().setResponseCode(304).setHeader("X-Poll-Interval", "60"));
+        EventFeedRepository.PollResult unchanged = repository.poll(EventFeedRepository.Feed.RECEIVED, "octocat");
+        assertEquals("\"etag-1\"", server.takeRequest().getHeader("If-None-Match"));
+        assertTrue(unchanged.isNotModified());
+        assertEquals(0, unchanged.getNewEventCount());
+        assertEquals(2, unchanged.getEvents().size());
+        assertEquals(60_000L, unchanged.getNextPollDelayMillis());
+
+        assertEquals(2L, stats.getPolls());
+        assertEquals(1L, stats.getNotModified());
+        assertEquals(1L, stats.getSkipped());
+        assertEquals(2L, stats.getEventsIngested());
+    }
+
+    @Test
+    public void poll_mergesNewEventsIntoBoundedBufferWithoutDuplicates() throws Exception {
+        server.enqueue(eventsResponse("\"etag-1\"", 1, 2, 1));
+        repository.poll(EventFeedRepository.Feed.PERFORMED, "octocat");
+        assertEquals("/users/octocat/events?per_page=100", server.takeRequest().getPath());
+
+        clock.advance(1_000L);
+        // The page overlaps the previous one; the buffer holds three events.
+        server.enqueue(eventsResponse("\"etag-2\"", 1, 4, 3, 2, 1));
+        EventFeedRepository.PollResult result = repository.poll(EventFeedRepository.Feed.PERFORMED, "octocat");
+
+        assertEquals(2, result.getNewEventCount());
+        List<FeedEvent> events = result.getEvents();
+        assertEquals(3, events.size());
+        assertEquals(4L, events.get(0).getId());
+        assertEquals(3L, events.get(1).getId());
+        assertEquals(2L, events.get(2).getId());
+        assertEquals(4L, stats.getEventsIngested());
+        assertEquals(events, repository.getCached(EventFeedRepository.Feed.PERFORMED, "OctoCat"));
+    }
+
+    @Test
+    public void getCached_doesNotWaitForAPollInFlight() throws Exception {
+        CountDownLatch arrived = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                arrived.countDown();
+                release.await(10, TimeUnit.SECONDS);
+                return eventsResponse("\"etag-1\"", 60, 1);
+            }
+        });
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<EventFeedRepository.PollResult> poll =
+                    pool.submit(() -> repository.poll(EventFeedRepository.Feed.RECEIVED, "octocat"));
+            assertTrue(arrived.await(10, TimeUnit.SECONDS));
+
+            // What the profile screen reads on the main thread in onStart().
+            Future<List<FeedEvent>> cached =
+                    pool.submit(() -> repository.getCached(EventFeedRepository.Feed.RECEIVED, "octocat"));
+            assertTrue(cached.get(1, TimeUnit.SECONDS).isEmpty());
+
+            release.countDown();
+            assertEquals(1, poll.get(10, TimeUnit.SECONDS).getNewEventCount());
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    private static MockResponse eventsResponse(String etag, int pollIntervalSeconds, long... ids) {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < ids.length; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"id\":\"").append(ids[i]).append("\",\"type\":\"PushEvent\",")
+                    .append("\"actor\":{\"login\":\"octocat\"},\"repo\":{\"name\":\"octocat/hello\"},")
+                    .append("\"payload\":{\"commits\":[]},\"public\":true,")
+                    .append("\"created_at\":\"2024-01-01T00:00:00Z\"}");
+        }
+        return new MockResponse()
+                .setHeader("ETag", etag)
+                .setHeader("X-Poll-Interval", String.valueOf(pollIntervalSeconds))
+                .setBody(body.append(']').toString());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private long millis = 1_700_000_000_000L;
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.FollowerSnapshotStore;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.domain.collection.LongIdSet;
+import com.usth.githubclient.domain.mapper.UserMapper;
+import com.usth.githubclient.domain.model.FollowerChange;
+import com.usth.githubclient.domain.model.FollowerDiff;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import static org.junit.Assert.*;
+
+public class FollowerSyncRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-01T00:00:00Z");
+
+    // Follower ids in the order GitHub lists them, newest first.
+    private final List<Long> followers = new CopyOnWriteArrayList<>();
+    private volatile int failingPage = -1;
+    private MockWebServer server;
+    private UserRepository userRepository;
+    private FollowerSnapshotStore store;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new FollowerDispatcher());
+        server.start();
+        GithubApiService service = new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .addConverterFactory(GsonConverterFactory.create())
+                .build()
+                .create(GithubApiService.class);
+        userRepository = new UserRepository(service, new UserMapper());
+        store = new FollowerSnapshotStore();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void sync_diffsEachPageAgainstThePreviousSnapshot() throws Exception {
+        FollowerSyncRepository repository = newRepository(FollowerSyncRepository.MAX_PAGES);
+        for (long id = 250; id >= 1; id--) {
+            followers.add(id);
+        }
+        List<String> pages = new ArrayList<>();
+        FollowerDiff baseline = repository.sync("octocat",
+                (page, pageSize, newIds) -> pages.add(page + ":" + pageSize + ":" + newIds.size()));
+
+        assertTrue(baseline.isBaseline());
+        assertFalse(baseline.hasChanges());
+        assertEquals(250, baseline.getTotalFollowers());
+        assertEquals(List.of("1:100:0", "2:100:0", "3:50:0"), pages);
+        assertEquals(250, repository.getSnapshot("octocat").size());
+
+        // 5 and 150 unfollow; 1000 and 1001 follow and are listed first.
+        followers.remove(Long.valueOf(5L));
+        followers.remove(Long.valueOf(150L));
+        followers.add(0, 1000L);
+        followers.add(0, 1001L);
+        List<LongIdSet> newIdsPerPage = new ArrayList<>();
+        FollowerDiff diff = repository.sync("octocat", (page, pageSize, newIds) -> newIdsPerPage.add(newIds));
+
+        assertFalse(diff.isBaseline());
+        assertEquals(List.of(LongIdSet.of(1000L, 1001L), LongIdSet.empty(), LongIdSet.empty()),
+                newIdsPerPage);
+        assertEquals(LongIdSet.of(1000L, 1001L), diff.getAdded());
+        assertEquals(LongIdSet.of(5L, 150L), diff.getRemoved());
+        assertEquals(250, diff.getTotalFollowers());
+        List<FollowerChange> log = repository.getChangeLog("octocat");
+        assertEquals(4, log.size());
+        assertTrue(log.contains(new FollowerChange(1000L, "user1000", FollowerChange.Type.FOLLOWED, NOW)));
+        assertTrue(log.contains(new FollowerChange(150L, null, FollowerChange.Type.UNFOLLOWED, NOW)));
+        assertTrue(repository.getSnapshot("octocat").contains(1001L));
+        assertFalse(repository.getSnapshot("octocat").contains(5L));
+    }
+
+    @Test
+    public void sync_cutOffAtMaxPagesReportsNoUnfollows() throws Exception {
+        FollowerSyncRepository repository = newRepository(2);
+        LongIdSet.Builder known = LongIdSet.builder(350);
+        for (long id = 350; id >= 1; id--) {
+            known.add(id);
+            followers.add(id);
+        }
+        store.putSnapshot("octocat", known.build());
+        // 340 unfollowed but sits on a page the capped walk reads; 10 sits past the cap.
+        followers.remove(Long.valueOf(340L));
+        followers.remove(Long.valueOf(10L));
+        followers.add(0, 999L);
+
+        FollowerDiff diff = repository.sync("octocat");
+
+        assertEquals(2, server.getRequestCount());
+        assertEquals(LongIdSet.of(999L), diff.getAdded());
+        assertTrue(diff.getRemoved().isEmpty());
+        LongIdSet snapshot = repository.getSnapshot("octocat");
+        assertEquals(351, snapshot.size());
+        assertTrue(snapshot.contains(10L));
+        assertTrue(snapshot.contains(340L));
+    }
+
+    @Test
+    public void sync_failedPageLeavesTheSnapshotAlone() throws Exception {
+        FollowerSyncRepository repository = newRepository(FollowerSyncRepository.MAX_PAGES);
+        for (long id = 150; id >= 1; id--) {
+            followers.add(id);
+        }
+        repository.sync("octocat");
+        followers.add(0, 500L);
+        failingPage = 2;
+
+        try {
+            repository.sync("octocat");
+            fail("Expected an IOException");
+        } catch (IOException expected) {
+            // The first page was read, but nothing is committed without the second.
+        }
+
+        assertEquals(150, repository.getSnapshot("octocat").size());
+        assertFalse(repository.getSnapshot("octocat").contains(500L));
+        assertTrue(repository.getChangeLog("octocat").isEmpty());
+    }
+
+    private FollowerSyncRepository newRepository(int maxPages) {
+        return new FollowerSyncRepository(userRepository, store, Clock.fixed(NOW, ZoneOffset.UTC), maxPages);
+    }
+
+    private final class FollowerDispatcher extends Dispatcher {
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            HttpUrl url = request.getRequestUrl();
+            if (url == null || !url.encodedPath().equals("/users/octocat/followers")) {
+                return new MockResponse().setResponseCode(404);
+            }
+            int perPage = Integer.parseInt(url.queryParameter("per_page"));
+            int page = Integer.parseInt(url.queryParameter("page"));
+            if (page == failingPage) {
+                return new MockResponse().setResponseCode(502);
+            }
+            StringBuilder body = new StringBuilder("[");
+            for (int i = (page - 1) * perPage; i < Math.min(followers.size(), page * perPage); i++) {
+                long id = followers.get(i);
+                if (body.length() > 1) {
+                    body.append(',');
+                }
+                body.append("{\"id\":").append(id).append(",\"login\":\"user").append(id).append("\"}");
+            }
+            return new MockResponse().setBody(body.append(']').toString());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.GitObjectCache;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.domain.mapper.GitTreeMapper;
+import com.usth.githubclient.domain.model.GitTree;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import static org.junit.Assert.*;
+
+public class GitContentRepositoryTest {
+
+    private static final String ROOT = sha('a');
+    private static final String SRC = sha('b');
+    private static final String BLOB = sha('c');
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private MockWebServer server;
+    private GithubApiService service;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        service = new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .addConverterFactory(GsonConverterFactory.create())
+                .build()
+                .create(GithubApiService.class);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void trees_areLoadedPerDirectoryAndServedFromCacheBySha() throws Exception {
+        GitContentRepository repository = new GitContentRepository(
+                service, new GitObjectCache(folder.newFolder()), new GitTreeMapper());
+        server.enqueue(new MockResponse().setHeader("ETag", "\"root\"").setBody("{\"sha\":\"" + ROOT + "\","
+                + "\"truncated\":false,\"tree\":["
+                + "{\"path\":\"README.md\",\"mode\":\"100644\",\"type\":\"blob\",\"sha\":\"" + BLOB + "\",\"size\":5},"
+                + "{\"path\":\"src\",\"mode\":\"040000\",\"type\":\"tree\",\"sha\":\"" + SRC + "\"}]}"));
+        server.enqueue(new MockResponse().setBody("{\"sha\":\"" + SRC + "\",\"tree\":[]}"));
+
+        GitTree root = repository.fetchRootTree("octocat", "hello", "main");
+        assertEquals("/repos/octocat/hello/git/trees/main", server.takeRequest().getPath());
+        assertEquals(GitTree.Type.DIRECTORY, root.getEntries().get(0).getType());
+        assertEquals("README.md", root.getEntries().get(1).getName());
+
+        GitTree src = repository.fetchTree("octocat", "hello", root.getEntries().get(0).getSha());
+        assertEquals("/repos/octocat/hello/git/trees/" + SRC, server.takeRequest().getPath());
+
+        // Same SHA in a fork: no request at all.
+        assertSame(src, repository.fetchTree("someone", "hello-fork", SRC));
+
+        // The branch root is revalidated.
+        server.enqueue(new MockResponse().setResponseCode(304));
+        assertSame(root, repository.fetchRootTree("octocat", "hello", "main"));
+        assertEquals("\"root\"", server.takeRequest().getHeader("If-None-Match"));
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    public void blobs_areStreamedToDiskOncePerSha() throws Exception {
+        File directory = folder.newFolder();
+        GitContentRepository repository = new GitContentRepository(
+                service, new GitObjectCache(directory), new GitTreeMapper());
+        byte[] content = new byte[3 * 1024 * 1024];
+        Arrays.fill(content, (byte) 'x');
+        server.enqueue(new MockResponse().setBody(new Buffer().write(content)));
+
+        File blob = repository.fetchBlob("octocat", "hello", BLOB);
+        RecordedRequest request = server.takeRequest();
+        assertEquals("/repos/octocat/hello/git/blobs/" + BLOB, request.getPath());
+        assertEquals("application/vnd.github.raw+json", request.getHeader("Accept"));
+        assertArrayEquals(content, Files.readAllBytes(blob.toPath()));
+
+        assertEquals(blob, repository.fetchBlob("someone", "fork", BLOB));
+        assertEquals(1, server.getRequestCount());
+
+        // A new cache over the same directory finds the file again.
+        GitObjectCache reopened = new GitObjectCache(directory);
+        assertEquals(content.length, reopened.getBlobBytes());
+        assertEquals(blob, reopened.getBlob(BLOB));
+    }
+
+    @Test
+    public void blobCache_evictsLeastRecentlyUsedBeyondLimit() throws Exception {
+        GitObjectCache cache = new GitObjectCache(folder.newFolder(), 100, 25L);
+        cache.putBlob(sha('1'), new ByteArrayInputStream(new byte[10]));
+        cache.putBlob(sha('2'), new ByteArrayInputStream(new byte[10]));
+        assertNotNull(cache.getBlob(sha('1')));
+        File third = cache.putBlob(sha('3'), new ByteArrayInputStream(new byte[10]));
+
+        assertNotNull(cache.getBlob(sha('1')));
+        assertNull(cache.getBlob(sha('2')));
+        assertTrue(third.isFile());
+        assertEquals(20L, cache.getBlobBytes());
+    }
+
+    private static String sha(char c) {
+        char[] chars = new char[40];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+}
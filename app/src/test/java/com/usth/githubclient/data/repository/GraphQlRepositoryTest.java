@@ -0,0 +1,102 @@
+package com.usth.githubclient.data.repository;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.usth.githubclient.data.remote.GithubGraphQlService;
+import com.usth.githubclient.domain.mapper.UserMapper;
+import com.usth.githubclient.domain.model.GitHubUserProfileDataEntry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import static org.junit.Assert.*;
+
+public class GraphQlRepositoryTest {
+
+    private MockWebServer server;
+    private GraphQlRepository repository;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        GithubGraphQlService service = new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .addConverterFactory(GsonConverterFactory.create())
+                .build()
+                .create(GithubGraphQlService.class);
+        repository = new GraphQlRepository(service, new UserMapper());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void fetchProfiles_aliasesEveryLoginInOneQuery() throws Exception {
+        server.enqueue(new MockResponse().setBody("{\"data\":{"
+                + "\"u0\":{\"databaseId\":1,\"login\":\"octocat\",\"name\":\"The Octocat\"},"
+                + "\"u1\":null,"
+                + "\"u2\":{\"databaseId\":3,\"login\":\"hubot\",\"bio\":\"Robot\"}}}"));
+
+        List<GitHubUserProfileDataEntry> profiles =
+                repository.fetchProfiles(List.of("octocat", "nobody", "hubot"));
+        RecordedRequest request = server.takeRequest();
+
+        assertEquals("/graphql", request.getPath());
+        JsonObject body = JsonParser.parseString(request.getBody().readUtf8()).getAsJsonObject();
+        String query = body.get("query").getAsString();
+        assertTrue(query, query.contains("u0: user(login: $l0)"));
+        assertTrue(query, query.contains("u2: user(login: $l2)"));
+        assertEquals("nobody", body.getAsJsonObject("variables").get("l1").getAsString());
+        // Unknown logins are left out rather than failing the batch.
+        assertEquals(2, profiles.size());
+        assertEquals("octocat", profiles.get(0).getUsername());
+        assertEquals("The Octocat", profiles.get(0).getDisplayName().orElse(null));
+        assertEquals(3L, profiles.get(1).getId());
+        assertEquals("Robot", profiles.get(1).getBio().orElse(null));
+    }
+
+    @Test
+    public void fetchProfiles_reportsGraphQlErrors() {
+        server.enqueue(new MockResponse().setBody(
+                "{\"errors\":[{\"message\":\"Something went wrong while executing your query.\"}]}"));
+
+        try {
+            repository.fetchProfiles(List.of("octocat"));
+            fail("Expected an IOException");
+        } catch (IOException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().contains("Something went wrong"));
+        }
+    }
+
+    @Test
+    public void fetchProfiles_skipsTheRequestForNoLoginsAndRejectsOversizedBatches() throws Exception {
+        assertTrue(repository.fetchProfiles(Collections.emptyList()).isEmpty());
+        assertEquals(0, server.getRequestCount());
+
+        List<String> logins = new ArrayList<>();
+        for (int i = 0; i <= GraphQlRepository.MAX_BATCH_SIZE; i++) {
+            logins.add("user" + i);
+        }
+        try {
+            repository.fetchProfiles(logins);
+            fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            assertEquals(0, server.getRequestCount());
+        }
+    }
+}
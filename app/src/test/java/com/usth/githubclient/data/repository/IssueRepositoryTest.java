@@ -0,0 +1,198 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.IssueStore;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.domain.collection.PersistentList;
+import com.usth.githubclient.domain.mapper.IssueMapper;
+import com.usth.githubclient.domain.model.IssueSummary;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import static org.junit.Assert.*;
+
+public class IssueRepositoryTest {
+
+    private static final String FIRST_SYNC_DATE = "Mon, 01 Jan 2024 12:00:00 GMT";
+    private static final String SECOND_SYNC_DATE = "Tue, 02 Jan 2024 12:00:00 GMT";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private MockWebServer server;
+    private GithubApiService service;
+    private File storeDir;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        service = new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .addConverterFactory(GsonConverterFactory.create())
+                .build()
+                .create(GithubApiService.class);
+        storeDir = folder.newFolder("issues");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void sync_downloadsOpenItemsOnceThenOnlyWhatChanged() throws Exception {
+        IssueRepository repository = newRepository();
+        server.enqueue(page(FIRST_SYNC_DATE, 1, 100));
+        server.enqueue(page(FIRST_SYNC_DATE, 101, 20));
+        IssueRepository.SyncResult first = repository.sync("octocat", "hello", 120);
+        RecordedRequest firstRequest = server.takeRequest();
+        server.takeRequest();
+
+        assertTrue(first.isFull());
+        assertEquals(2, first.getRequestCount());
+        assertEquals("open", firstRequest.getRequestUrl().queryParameter("state"));
+        assertNull(firstRequest.getRequestUrl().queryParameter("since"));
+        assertEquals(120, first.getIssues().size());
+        // Higher numbers were updated later in this fixture.
+        assertEquals(120, first.getIssues().get(0).getNumber());
+
+        // A new process reads the same store, then asks only for what changed since the first sync.
+        IssueRepository reopened = newRepository();
+        assertEquals(first.getIssues(), reopened.getCachedIssues("octocat", "hello"));
+
+        server.enqueue(new MockResponse().setHeader("Date", SECOND_SYNC_DATE).setBody("["
+                + issue(5, "open", false, "2024-01-02T10:00:00Z") + ","
+                + issue(6, "closed", false, "2024-01-02T09:00:00Z") + ","
+                + issue(500, "closed", true, "2024-01-02T08:00:00Z") + "]"));
+        IssueRepository.SyncResult second = reopened.sync("octocat", "hello", 120);
+        RecordedRequest incremental = server.takeRequest();
+
+        assertFalse(second.isFull());
+        assertEquals(1, second.getRequestCount());
+        assertEquals("all", incremental.getRequestUrl().queryParameter("state"));
+        assertEquals("2024-01-01T12:00:00Z", incremental.getRequestUrl().queryParameter("since"));
+        // #5 changed and #6 closed; #500 was never stored.
+        assertEquals(2, second.getChangedCount());
+        PersistentList<IssueSummary> issues = second.getIssues();
+        assertEquals(119, issues.size());
+        assertEquals(5, issues.get(0).getNumber());
+        assertEquals(120, issues.get(1).getNumber());
+        for (IssueSummary issue : issues) {
+            assertNotEquals(6, issue.getNumber());
+        }
+
+        server.enqueue(new MockResponse().setHeader("Date", SECOND_SYNC_DATE).setBody("[]"));
+        newRepository().sync("octocat", "hello", 120);
+        assertEquals("2024-01-02T12:00:00Z", server.takeRequest().getRequestUrl().queryParameter("since"));
+    }
+
+    @Test
+    public void sync_startsOverWhenTheFirstSyncWasInterrupted() throws Exception {
+        IssueRepository repository = newRepository();
+        server.enqueue(page(FIRST_SYNC_DATE, 1, 100));
+        server.enqueue(new MockResponse().setResponseCode(502));
+        try {
+            repository.sync("octocat", "hello", 150);
+            fail("Expected an IOException");
+        } catch (IOException expected) {
+            // The first page stays visible, but no watermark was recorded.
+        }
+        assertEquals(100, repository.getCachedIssues("octocat", "hello").size());
+
+        server.enqueue(page(FIRST_SYNC_DATE, 1, 30));
+        IssueRepository.SyncResult retried = repository.sync("octocat", "hello", 150);
+
+        assertTrue(retried.isFull());
+        assertEquals(30, retried.getIssues().size());
+    }
+
+    @Test
+    public void store_tenThousandIssues() throws Exception {
+        IssueRepository repository = newRepository();
+        int pages = 100;
+        for (int i = 0; i < pages; i++) {
+            server.enqueue(page(FIRST_SYNC_DATE, i * 100 + 1, i == pages - 1 ? 99 : 100));
+        }
+        repository.sync("octocat", "big", 10_000);
+
+        PersistentList<IssueSummary> loaded = new IssueStore(storeDir).snapshot("octocat", "big");
+        assertEquals(9_999, loaded.size());
+
+        server.enqueue(new MockResponse().setHeader("Date", SECOND_SYNC_DATE)
+                .setBody("[" + issue(42, "open", false, "2024-01-02T10:00:00Z") + "]"));
+        IssueRepository.SyncResult result = repository.sync("octocat", "big", 10_000);
+        assertFalse(result.isFull());
+        assertEquals(42, result.getIssues().get(0).getNumber());
+        assertEquals(9_999, result.getIssues().size());
+        assertEquals(result.getIssues(), new IssueStore(storeDir).snapshot("octocat", "big"));
+    }
+
+    @Test
+    public void store_dropsATornRecordBeforeAppendingAgain() throws Exception {
+        Instant created = Instant.parse("2024-01-01T00:00:00Z");
+        IssueStore store = new IssueStore(storeDir);
+        store.beginFullSync("octocat", "hello", 2);
+        store.upsert("octocat", "hello", Arrays.asList(
+                new IssueSummary(1, "One", true, false, "octocat", 0, created, created),
+                new IssueSummary(2, "Two", true, false, "octocat", 0, created, created)));
+        store.setWatermark("octocat", "hello", created);
+        // The process died while writing the watermark.
+        try (RandomAccessFile file = new RandomAccessFile(new File(storeDir, "octocat@hello"), "rw")) {
+            file.setLength(file.length() - 3);
+        }
+
+        IssueStore reopened = new IssueStore(storeDir);
+        assertNull(reopened.getWatermark("octocat", "hello"));
+        Instant later = Instant.parse("2024-01-02T00:00:00Z");
+        reopened.upsert("octocat", "hello", Collections.singletonList(
+                new IssueSummary(3, "Three", true, true, null, 4, later, later)));
+        reopened.setWatermark("octocat", "hello", later);
+
+        IssueStore replayed = new IssueStore(storeDir);
+        assertEquals(later, replayed.getWatermark("octocat", "hello"));
+        PersistentList<IssueSummary> issues = replayed.snapshot("octocat", "hello");
+        assertEquals(3, issues.size());
+        assertEquals(3, issues.get(0).getNumber());
+        assertEquals(4, issues.get(0).getCommentCount());
+    }
+
+    private IssueRepository newRepository() {
+        return new IssueRepository(service, new IssueStore(storeDir), new IssueMapper());
+    }
+
+    private static MockResponse page(String date, int firstNumber, int count) {
+        StringBuilder body = new StringBuilder("[");
+        for (int number = firstNumber; number < firstNumber + count; number++) {
+            if (number > firstNumber) {
+                body.append(',');
+            }
+            body.append(issue(number, "open", number % 3 == 0,
+                    Instant.parse("2023-01-01T00:00:00Z").plusSeconds(number * 60L).toString()));
+        }
+        return new MockResponse().setHeader("Date", date).setBody(body.append(']').toString());
+    }
+
+    private static String issue(int number, String state, boolean pullRequest, String updatedAt) {
+        return "{\"number\":" + number + ",\"title\":\"Issue " + number + "\",\"state\":\"" + state + "\","
+                + "\"user\":{\"login\":\"octocat\"},\"comments\":2,"
+                + "\"created_at\":\"2022-06-01T00:00:00Z\",\"updated_at\":\"" + updatedAt + "\""
+                + (pullRequest ? ",\"pull_request\":{\"url\":\"x\"}" : "") + "}";
+    }
+}
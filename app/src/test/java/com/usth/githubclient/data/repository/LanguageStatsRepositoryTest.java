@@ -0,0 +1,193 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.RepoLanguageCache;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.remote.RateLimitBudget;
+import com.usth.githubclient.domain.model.LanguageStats;
+import com.usth.githubclient.domain.model.ReposDataEntry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import static org.junit.Assert.*;
+
+public class LanguageStatsRepositoryTest {
+
+    private static final String LOGIN = "octocat";
+    private static final int REPOSITORY_COUNT = 20;
+    private static final int MAX_CONCURRENCY = 3;
+    private static final Instant PUSHED = Instant.parse("2024-01-01T00:00:00Z");
+
+    // Server side: languages per repository name; the ETag is derived from the content.
+    private final Map<String, Map<String, Long>> serverLanguages = new ConcurrentHashMap<>();
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+    private MockWebServer server;
+    private LanguageStatsRepository repository;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new LanguagesDispatcher());
+        server.start();
+        Retrofit retrofit = new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .addConverterFactory(GsonConverterFactory.create())
+                .build();
+        repository = new LanguageStatsRepository(retrofit.create(GithubApiService.class),
+                new RepoLanguageCache(), new RateLimitBudget(), MAX_CONCURRENCY);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        repository.shutdown();
+        server.shutdown();
+    }
+
+    @Test
+    public void refresh_fetchesOnlyRepositoriesPushedSinceLastRefresh() throws Exception {
+        List<ReposDataEntry> repositories = new ArrayList<>();
+        for (int i = 0; i < REPOSITORY_COUNT; i++) {
+            String name = "repo-" + i;
+            serverLanguages.put(name, languages("Java", 1_000L * (i + 1), i % 2 == 0 ? "Kotlin" : "Go", 500L));
+            repositories.add(repository(i, name, PUSHED));
+        }
+
+        LanguageStats first = repository.refresh(LOGIN, repositories);
+        assertEquals(REPOSITORY_COUNT, fullResponses.get());
+        assertTrue("max in flight " + maxConcurrent.get(), maxConcurrent.get() <= MAX_CONCURRENCY);
+        assertEquals(expectedTotals(repositories), totalsOf(first));
+
+        // Nothing pushed: no request at all.
+        LanguageStats unchanged = repository.refresh(LOGIN, repositories);
+        assertEquals(REPOSITORY_COUNT, fullResponses.get());
+        assertEquals(0, notModifiedResponses.get());
+        assertEquals(totalsOf(first), totalsOf(unchanged));
+
+        // Three pushes; only repo-2's languages actually changed, the others answer 304.
+        Instant later = PUSHED.plusSeconds(3_600);
+        serverLanguages.put("repo-2", languages("Java", 9_000L, "Rust", 4_000L));
+        for (int i : new int[]{1, 2, 3}) {
+            repositories.set(i, repository(i, "repo-" + i, later));
+        }
+        LanguageStats pushed = repository.refresh(LOGIN, repositories);
+        assertEquals(REPOSITORY_COUNT + 1, fullResponses.get());
+        assertEquals(2, notModifiedResponses.get());
+        assertEquals(expectedTotals(repositories), totalsOf(pushed));
+        assertEquals(0, pushed.getIncompleteRepositoryCount());
+
+        // A deleted repository is subtracted without any request.
+        repositories.remove(0);
+        LanguageStats removed = repository.refresh(LOGIN, repositories);
+        assertEquals(REPOSITORY_COUNT + 1, fullResponses.get());
+        assertEquals(expectedTotals(repositories), totalsOf(removed));
+        assertSame(removed, repository.getCached(LOGIN));
+    }
+
+    @Test
+    public void refresh_keepsLastKnownNumbersWhenFetchFails() throws Exception {
+        serverLanguages.put("repo-0", languages("Java", 100L, "Go", 50L));
+        List<ReposDataEntry> repositories = new ArrayList<>();
+        repositories.add(repository(0, "repo-0", PUSHED));
+        repository.refresh(LOGIN, repositories);
+
+        serverLanguages.remove("repo-0");
+        repositories.set(0, repository(0, "repo-0", PUSHED.plusSeconds(60)));
+        repositories.add(repository(1, "missing", PUSHED));
+        LanguageStats stats = repository.refresh(LOGIN, repositories);
+
+        assertEquals(2, stats.getIncompleteRepositoryCount());
+        assertEquals(150L, stats.getTotalBytes());
+        assertEquals("Java", stats.getLanguages().get(0).getLanguage());
+    }
+
+    private Map<String, Long> expectedTotals(List<ReposDataEntry> repositories) {
+        Map<String, Long> totals = new HashMap<>();
+        for (ReposDataEntry entry : repositories) {
+            serverLanguages.get(entry.getName()).forEach((language, bytes) -> totals.merge(language, bytes, Long::sum));
+        }
+        return totals;
+    }
+
+    private static Map<String, Long> totalsOf(LanguageStats stats) {
+        Map<String, Long> totals = new HashMap<>();
+        long sum = 0L;
+        for (LanguageStats.LanguageShare share : stats.getLanguages()) {
+            totals.put(share.getLanguage(), share.getBytes());
+            sum += share.getBytes();
+        }
+        assertEquals(sum, stats.getTotalBytes());
+        return totals;
+    }
+
+    private static Map<String, Long> languages(String first, long firstBytes, String second, long secondBytes) {
+        Map<String, Long> languages = new LinkedHashMap<>();
+        languages.put(first, firstBytes);
+        languages.put(second, secondBytes);
+        return languages;
+    }
+
+    private static ReposDataEntry repository(long id, String name, Instant pushedAt) {
+        return ReposDataEntry.builder(id + 1, name, "https://github.com/" + LOGIN + "/" + name)
+                .fullName(LOGIN + "/" + name)
+                .pushedAt(pushedAt)
+                .build();
+    }
+
+    private final class LanguagesDispatcher extends Dispatcher {
+        @Override
+        public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+            int inFlight = concurrent.incrementAndGet();
+            maxConcurrent.accumulateAndGet(inFlight, Math::max);
+            try {
+                // Hold the request briefly so parallel fetches overlap.
+                Thread.sleep(10L);
+                String path = request.getPath();
+                String prefix = "/repos/" + LOGIN + "/";
+                if (path == null || !path.startsWith(prefix) || !path.endsWith("/languages")) {
+                    return new MockResponse().setResponseCode(404);
+                }
+                String name = path.substring(prefix.length(), path.length() - "/languages".length());
+                Map<String, Long> languages = serverLanguages.get(name);
+                if (languages == null) {
+                    return new MockResponse().setResponseCode(404).setBody("{\"message\":\"Not Found\"}");
+                }
+                String etag = "\"" + Integer.toHexString(languages.hashCode()) + "\"";
+                if (etag.equals(request.getHeader("If-None-Match"))) {
+                    notModifiedResponses.incrementAndGet();
+                    return new MockResponse().setResponseCode(304).setHeader("ETag", etag);
+                }
+                fullResponses.incrementAndGet();
+                StringBuilder body = new StringBuilder("{");
+                languages.forEach((language, bytes) -> {
+                    if (body.length() > 1) {
+                        body.append(',');
+                    }
+                    body.append('"').append(language).append("\":").append(bytes);
+                });
+                return new MockResponse().setHeader("ETag", etag).setBody(body.append('}').toString());
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.usth.githubclient.data.repository;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.remote.GithubGraphQlService;
+import com.usth.githubclient.domain.mapper.RepoMapper;
+import com.usth.githubclient.domain.mapper.UserMapper;
+import com.usth.githubclient.domain.model.GitHubUserProfileDataEntry;
+import com.usth.githubclient.domain.model.MainScreenSnapshot;
+import com.usth.githubclient.domain.model.ReposDataEntry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import static org.junit.Assert.*;
+
+/**
+ * Compares loading the main screen over REST (profile, repositories and followers as three
+ * requests) with the single GraphQL query, using GitHub-shaped fixtures on a local server that adds
+ * a fixed delay per response to stand in for network round-trip time.
+ */
+public class MainScreenPayloadComparisonTest {
+
+    private static final String LOGIN = "octocat";
+    private static final int PAGE_SIZE = 30;
+    private static final long ROUND_TRIP_MILLIS = 40L;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicLong responseBytes = new AtomicLong();
+    private MockWebServer server;
+    private Retrofit retrofit;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new FixtureDispatcher());
+        server.start();
+        retrofit = new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .addConverterFactory(GsonConverterFactory.create())
+                .build();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void graphQl_usesOneRoundTripAndSmallerPayloadWithSameData() throws Exception {
+        UserMapper userMapper = new UserMapper();
+        RepoMapper repoMapper = new RepoMapper(userMapper);
+        GithubApiService apiService = retrofit.create(GithubApiService.class);
+        UserRepository userRepository = new UserRepository(apiService, userMapper);
+        RepoRepository repoRepository = new RepoRepository(apiService, repoMapper);
+        GraphQlRepository graphQlRepository = new GraphQlRepository(
+                retrofit.create(GithubGraphQlService.class), userMapper, repoMapper);
+
+        long restStart = System.nanoTime();
+        GitHubUserProfileDataEntry restProfile = userRepository.fetchUserProfile(LOGIN);
+        List<ReposDataEntry> restRepos =
+                repoRepository.fetchUserRepositories(LOGIN, PAGE_SIZE, 1, "updated");
+        List<GitHubUserProfileDataEntry> restFollowers =
+                userRepository.fetchFollowers(LOGIN, PAGE_SIZE, 1);
+        long restMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - restStart);
+        int restRequests = requestCount.getAndSet(0);
+        long restBytes = responseBytes.getAndSet(0);
+
+        long graphQlStart = System.nanoTime();
+        MainScreenSnapshot snapshot = graphQlRepository.fetchMainScreen(LOGIN, PAGE_SIZE, PAGE_SIZE);
+        long graphQlMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - graphQlStart);
+        int graphQlRequests = requestCount.get();
+        long graphQlBytes = responseBytes.get();
+
+        assertEquals(3, restRequests);
+        assertEquals(1, graphQlRequests);
+        assertTrue(graphQlBytes < restBytes);
+        assertTrue(graphQlMillis < restMillis);
+
+        assertEquals(restProfile.getId(), snapshot.getProfile().getId());
+        assertEquals(restProfile.getFollowersCount(), snapshot.getProfile().getFollowersCount());
+        assertEquals(restProfile.getPublicReposCount(), snapshot.getProfile().getPublicReposCount());
+        assertEquals(restProfile.getBlogUrl(), snapshot.getProfile().getBlogUrl());
+
+        assertEquals(restRepos.size(), snapshot.getRepositories().size());
+        for (int i = 0; i < restRepos.size(); i++) {
+            ReposDataEntry rest = restRepos.get(i);
+            ReposDataEntry graphQl = snapshot.getRepositories().get(i);
+            assertEquals(rest.getId(), graphQl.getId());
+            assertEquals(rest.getFullName(), graphQl.getFullName());
+            assertEquals(rest.getDescription(), graphQl.getDescription());
+            assertEquals(rest.getLanguage(), graphQl.getLanguage());
+            assertEquals(rest.getStargazersCount(), graphQl.getStargazersCount());
+            assertEquals(rest.getForksCount(), graphQl.getForksCount());
+            assertEquals(rest.getOpenIssuesCount(), graphQl.getOpenIssuesCount());
+            assertEquals(rest.getUpdatedAt(), graphQl.getUpdatedAt());
+        }
+
+        assertEquals(restFollowers.size(), snapshot.getFollowers().size());
+        for (int i = 0; i < restFollowers.size(); i++) {
+            assertEquals(restFollowers.get(i).getId(), snapshot.getFollowers().get(i).getId());
+            assertEquals(restFollowers.get(i).getUsername(), snapshot.getFollowers().get(i).getUsername());
+        }
+    }
+
+    private final class FixtureDispatcher extends Dispatcher {
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            requestCount.incrementAndGet();
+            String path = request.getPath();
+            String body;
+            if (path.startsWith("/graphql")) {
+                body = graphQlResponse().toString();
+            } else if (path.startsWith("/users/" + LOGIN + "/repos")) {
+                JsonArray repos = new JsonArray();
+                for (int i = 0; i < PAGE_SIZE; i++) {
+                    repos.add(restRepo(i));
+                }
+                body = repos.toString();
+            } else if (path.startsWith("/users/" + LOGIN + "/followers")) {
+                JsonArray followers = new JsonArray();
+                for (int i = 0; i < PAGE_SIZE; i++) {
+                    followers.add(restUser(1000 + i, "follower" + i, false));
+                }
+                body = followers.toString();
+            } else if (path.startsWith("/users/" + LOGIN)) {
+                body = restUser(1, LOGIN, true).toString();
+            } else {
+                return new MockResponse().setResponseCode(404);
+            }
+            responseBytes.addAndGet(body.length());
+            return new MockResponse()
+                    .setHeader("Content-Type", "application/json")
+                    .setHeadersDelay(ROUND_TRIP_MILLIS, TimeUnit.MILLISECONDS)
+                    .setBody(body);
+        }
+    }
+
+    /** REST user as returned by GitHub, including the hypermedia links the app never reads. */
+    private static JsonObject restUser(long id, String login, boolean full) {
+        JsonObject user = new JsonObject();
+        String api = "https://api.github.com/users/" + login;
+        user.addProperty("login", login);
+        user.addProperty("id", id);
+        user.addProperty("node_id", "MDQ6VXNlcj" + id);
+        user.addProperty("avatar_url", "https://avatars.githubusercontent.com/u/" + id + "?v=4");
+        user.addProperty("gravatar_id", "");
+        user.addProperty("url", api);
+        user.addProperty("html_url", "https://github.com/" + login);
+        user.addProperty("followers_url", api + "/followers");
+        user.addProperty("following_url", api + "/following{/other_user}");
+        user.addProperty("gists_url", api + "/gists{/gist_id}");
+        user.addProperty("starred_url", api + "/starred{/owner}{/repo}");
+        user.addProperty("subscriptions_url", api + "/subscriptions");
+        user.addProperty("organizations_url", api + "/orgs");
+        user.addProperty("repos_url", api + "/repos");
+        user.addProperty("events_url", api + "/events{/privacy}");
+        user.addProperty("received_events_url", api + "/received_events");
+        user.addProperty("type", "User");
+        user.addProperty("site_admin", false);
+        if (full) {
+            user.addProperty("name", "The Octocat");
+            user.addProperty("company", "@github");
+            user.addProperty("blog", "https://github.blog");
+            user.addProperty("location", "San Francisco");
+            user.addProperty("bio", "Mascot");
+            user.addProperty("public_repos", PAGE_SIZE);
+            user.addProperty("public_gists", 8);
+            user.addProperty("followers", PAGE_SIZE);
+            user.addProperty("following", 9);
+            user.addProperty("created_at", "2011-01-25T18:44:36Z");
+            user.addProperty("updated_at", "2024-01-22T12:13:14Z");
+        }
+        return user;
+    }
+
+    private static JsonObject restRepo(int index) {
+        String name = "repo" + index;
+        String api = "https://api.github.com/repos/" + LOGIN + "/" + name;
+        JsonObject repo = new JsonObject();
+        repo.addProperty("id", 5000L + index);
+        repo.addProperty("node_id", "MDEwOlJlcG9zaXRvcnk" + index);
+        repo.addProperty("name", name);
+        repo.addProperty("full_name", LOGIN + "/" + name);
+        repo.addProperty("private", false);
+        repo.add("owner", restUser(1, LOGIN, false));
+        repo.addProperty("html_url", "https://github.com/" + LOGIN + "/" + name);
+        repo.addProperty("description", "Repository number " + index);
+        repo.addProperty("fork", false);
+        repo.addProperty("url", api);
+        for (String link : new String[] {"forks", "keys", "collaborators", "teams", "hooks",
+                "issue_events", "events", "assignees", "branches", "tags", "blobs", "git_tags",
+                "git_refs", "trees", "statuses", "languages", "stargazers", "contributors",
+                "subscribers", "subscription", "commits", "git_commits", "comments",
+                "issue_comment", "contents", "compare", "merges", "archive", "downloads",
+                "issues", "pulls", "milestones", "notifications", "labels", "releases",
+                "deployments"}) {
+            repo.addProperty(link + "_url", api + "/" + link);
+        }
+        repo.addProperty("created_at", "2020-01-01T00:00:00Z");
+        repo.addProperty("updated_at", "2024-02-" + (10 + index % 18) + "T00:00:00Z");
+        repo.addProperty("pushed_at", "2024-02-01T00:00:00Z");
+        repo.addProperty("git_url", "git://github.com/" + LOGIN + "/" + name + ".git");
+        repo.addProperty("ssh_url", "git@github.com:" + LOGIN + "/" + name + ".git");
+        repo.addProperty("clone_url", "https://github.com/" + LOGIN + "/" + name + ".git");
+        repo.addProperty("homepage", "");
+        repo.addProperty("size", 108);
+        repo.addProperty("stargazers_count", index * 3);
+        repo.addProperty("watchers_count", index * 3);
+        repo.addProperty("language", "Java");
+        repo.addProperty("has_issues", true);
+        repo.addProperty("has_projects", true);
+        repo.addProperty("has_wiki", true);
+        repo.addProperty("forks_count", index);
+        repo.addProperty("archived", false);
+        repo.addProperty("open_issues_count", index % 4 + index % 3);
+        repo.addProperty("license", (String) null);
+        repo.addProperty("visibility", "public");
+        repo.addProperty("default_branch", "main");
+        return repo;
+    }
+
+    private static JsonObject graphQlResponse() {
+        JsonObject user = graphQlUser(1, LOGIN);
+        user.addProperty("name", "The Octocat");
+        user.addProperty("company", "@github");
+        user.addProperty("websiteUrl", "https://github.blog");
+        user.addProperty("location", "San Francisco");
+        user.addProperty("bio", "Mascot");
+        user.add("followers", totalCount(PAGE_SIZE));
+        user.add("following", totalCount(9));
+        user.add("repositories", totalCount(PAGE_SIZE));
+
+        JsonArray repoNodes = new JsonArray();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            repoNodes.add(graphQlRepo(i));
+        }
+        user.add("repoPage", nodes(repoNodes));
+
+        JsonArray followerNodes = new JsonArray();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            followerNodes.add(graphQlUser(1000 + i, "follower" + i));
+        }
+        user.add("followerPage", nodes(followerNodes));
+
+        JsonObject data = new JsonObject();
+        data.add("user", user);
+        JsonObject response = new JsonObject();
+        response.add("data", data);
+        return response;
+    }
+
+    private static JsonObject graphQlUser(long id, String login) {
+        JsonObject user = new JsonObject();
+        user.addProperty("databaseId", id);
+        user.addProperty("login", login);
+        user.addProperty("avatarUrl", "https://avatars.githubusercontent.com/u/" + id + "?v=4");
+        user.addProperty("url", "https://github.com/" + login);
+        user.addProperty("createdAt", "2011-01-25T18:44:36Z");
+        user.addProperty("updatedAt", "2024-01-22T12:13:14Z");
+        return user;
+    }
+
+    private static JsonObject graphQlRepo(int index) {
+        String name = "repo" + index;
+        JsonObject repo = new JsonObject();
+        repo.addProperty("databaseId", 5000L + index);
+        repo.addProperty("name", name);
+        repo.addProperty("nameWithOwner", LOGIN + "/" + name);
+        repo.addProperty("description", "Repository number " + index);
+        repo.addProperty("url", "https://github.com/" + LOGIN + "/" + name);
+        JsonObject language = new JsonObject();
+        language.addProperty("name", "Java");
+        repo.add("primaryLanguage", language);
+        repo.addProperty("stargazerCount", index * 3);
+        repo.addProperty("forkCount", index);
+        repo.add("watchers", totalCount(index * 3));
+        repo.add("issues", totalCount(index % 4));
+        repo.add("pullRequests", totalCount(index % 3));
+        JsonObject branch = new JsonObject();
+        branch.addProperty("name", "main");
+        repo.add("defaultBranchRef", branch);
+        repo.addProperty("isPrivate", false);
+        repo.addProperty("isFork", false);
+        repo.addProperty("createdAt", "2020-01-01T00:00:00Z");
+        repo.addProperty("updatedAt", "2024-02-" + (10 + index % 18) + "T00:00:00Z");
+        repo.addProperty("pushedAt", "2024-02-01T00:00:00Z");
+        JsonObject owner = new JsonObject();
+        owner.addProperty("login", LOGIN);
+        owner.addProperty("databaseId", 1);
+        owner.addProperty("avatarUrl", "https://avatars.githubusercontent.com/u/1?v=4");
+        owner.addProperty("url", "https://github.com/" + LOGIN);
+        repo.add("owner", owner);
+        return repo;
+    }
+
+    private static JsonObject totalCount(int count) {
+        JsonObject connection = new JsonObject();
+        connection.addProperty("totalCount", count);
+        return connection;
+    }
+
+    private static JsonObject nodes(JsonArray nodes) {
+        JsonObject connection = new JsonObject();
+        connection.add("nodes", nodes);
+        return connection;
+    }
+}
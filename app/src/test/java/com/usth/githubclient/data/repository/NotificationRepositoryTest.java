@@ -0,0 +1,193 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.NotificationInbox;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.domain.mapper.NotificationMapper;
+import com.usth.githubclient.domain.model.NotificationThread;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import static org.junit.Assert.*;
+
+public class NotificationRepositoryTest {
+
+    private static final String LAST_MODIFIED = "Mon, 01 Jan 2024 10:00:00 GMT";
+
+    private MockWebServer server;
+    private MutableClock clock;
+    private NotificationInbox inbox;
+    private NotificationRepository repository;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        Retrofit retrofit = new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .addConverterFactory(GsonConverterFactory.create())
+                .build();
+        clock = new MutableClock();
+        inbox = new NotificationInbox(3);
+        repository = new NotificationRepository(retrofit.create(GithubApiService.class), inbox,
+                new NotificationMapper(), clock);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void poll_mergesChangesAndBacksOffWhileUnchanged() throws Exception {
+        server.enqueue(notificationsResponse(
+                thread(1, true, "2024-01-01T09:00:00Z"), thread(2, false, "2024-01-01T08:00:00Z")));
+        NotificationRepository.PollResult first = repository.poll();
+        RecordedRequest firstRequest = server.takeRequest();
+
+        assertNull(firstRequest.getRequestUrl().queryParameter("since"));
+        assertNull(firstRequest.getHeader("If-Modified-Since"));
+        assertEquals(2, first.getChangedCount());
+        assertEquals(1, inbox.getUnreadCount());
+        assertEquals(60_000L, first.getNextPollDelayMillis());
+
+        // Too early: no request.
+        clock.advance(30_000L);
+        assertFalse(repository.poll().isRequested());
+        assertEquals(1, server.getRequestCount());
+
+        // Unchanged twice: free 304s, and the delay doubles.
+        clock.advance(30_000L);
+        server.enqueue(new MockResponse().setResponseCode(304).setHeader("X-Poll-Interval", "60"));
+        assertEquals(60_000L, repository.poll().getNextPollDelayMillis());
+        RecordedRequest conditional = server.takeRequest();
+        assertEquals(LAST_MODIFIED, conditional.getHeader("If-Modified-Since"));
+        assertEquals("2024-01-01T09:00:00Z", conditional.getRequestUrl().queryParameter("since"));
+
+        clock.advance(60_000L);
+        server.enqueue(new MockResponse().setResponseCode(304).setHeader("X-Poll-Interval", "60"));
+        assertEquals(120_000L, repository.poll().getNextPollDelayMillis());
+        server.takeRequest();
+
+        // Thread 1 was read and thread 3 arrived: only they are merged.
+        clock.advance(120_000L);
+        server.enqueue(notificationsResponse(
+                thread(3, true, "2024-01-01T11:00:00Z"), thread(1, false, "2024-01-01T10:30:00Z")));
+        NotificationRepository.PollResult changed = repository.poll();
+        server.takeRequest();
+
+        assertEquals(2, changed.getChangedCount());
+        assertEquals(60_000L, changed.getNextPollDelayMillis());
+        assertEquals(1, inbox.getUnreadCount());
+        List<NotificationThread> threads = changed.getThreads();
+        assertEquals(3, threads.size());
+        assertEquals(3L, threads.get(0).getId());
+        assertEquals(1L, threads.get(1).getId());
+        assertFalse(threads.get(1).isUnread());
+    }
+
+    @Test
+    public void inbox_dropsOldestThreadsAndKeepsUnreadCountInStep() throws Exception {
+        server.enqueue(notificationsResponse(
+                thread(1, true, "2024-01-01T01:00:00Z"), thread(2, true, "2024-01-01T02:00:00Z"),
+                thread(3, true, "2024-01-01T03:00:00Z"), thread(4, false, "2024-01-01T04:00:00Z")));
+        repository.poll();
+
+        assertEquals(3, inbox.size());
+        assertNull(inbox.get(1L));
+        assertEquals(2, inbox.getUnreadCount());
+        assertEquals(4L, inbox.snapshot().get(0).getId());
+    }
+
+    @Test
+    public void inbox_staysReadableWhileAPollWaitsOnTheNetwork() throws Exception {
+        CountDownLatch arrived = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                arrived.countDown();
+                release.await(10, TimeUnit.SECONDS);
+                return notificationsResponse(thread(1, true, "2024-01-01T09:00:00Z"));
+            }
+        });
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<NotificationRepository.PollResult> poll = pool.submit(repository::poll);
+            assertTrue(arrived.await(10, TimeUnit.SECONDS));
+
+            // What the screens read on the main thread must not wait for the response.
+            Future<Integer> unread = pool.submit(() -> inbox.snapshot().size() + inbox.getUnreadCount());
+            assertEquals(0, (int) unread.get(1, TimeUnit.SECONDS));
+
+            release.countDown();
+            assertEquals(1, poll.get(10, TimeUnit.SECONDS).getChangedCount());
+            assertEquals(1, inbox.getUnreadCount());
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    private static String thread(long id, boolean unread, String updatedAt) {
+        return "{\"id\":\"" + id + "\",\"unread\":" + unread + ",\"reason\":\"mention\","
+                + "\"updated_at\":\"" + updatedAt + "\","
+                + "\"subject\":{\"title\":\"Thread " + id + "\",\"type\":\"Issue\"},"
+                + "\"repository\":{\"full_name\":\"octocat/hello\"}}";
+    }
+
+    private static MockResponse notificationsResponse(String... threads) {
+        return new MockResponse()
+                .setHeader("Last-Modified", LAST_MODIFIED)
+                .setHeader("X-Poll-Interval", "60")
+                .setBody("[" + String.join(",", threads) + "]");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private long millis = 1_700_000_000_000L;
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.OrgDashboardStore;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.remote.RateLimitBudget;
+import com.usth.githubclient.domain.model.OrgSummary;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import static org.junit.Assert.*;
+
+public class OrgDashboardRepositoryTest {
+
+    private static final String ORG = "acme";
+    private static final int REPOSITORY_COUNT = 1_250;
+    private static final int MEMBER_COUNT = 430;
+    private static final int MAX_CONCURRENCY = 4;
+    private static final String[] LANGUAGES = {"Java", "Go", "Kotlin", null};
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final Set<String> requested = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+    // The budget the dispatcher drains to its reserve once request drainAt arrives.
+    private volatile RateLimitBudget drainedBudget;
+    private volatile int drainAt = -1;
+    private MockWebServer server;
+    private Retrofit retrofit;
+    private File storeDirectory;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new OrgDispatcher());
+        server.start();
+        retrofit = new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .addConverterFactory(GsonConverterFactory.create())
+                .build();
+        storeDirectory = temporaryFolder.newFolder("orgs");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void refresh_foldsEveryPageOnceAndPersistsTheTotals() throws Exception {
+        OrgDashboardRepository repository = newRepository();
+        OrgSummary summary;
+        try {
+            assertNull(repository.getCached(ORG));
+            summary = repository.refresh(ORG);
+        } finally {
+            repository.shutdown();
+        }
+
+        // 13 repository pages and 5 member pages, each fetched once, a few at a time.
+        assertEquals(18, requests.get());
+        assertEquals(18, requested.size());
+        assertTrue("max in flight " + maxConcurrent.get(), maxConcurrent.get() <= MAX_CONCURRENCY);
+        assertTrue("pages were not fetched in parallel", maxConcurrent.get() > 1);
+
+        long expectedStars = 0L;
+        for (int i = 0; i < REPOSITORY_COUNT; i++) {
+            expectedStars += stars(i);
+        }
+        assertEquals(REPOSITORY_COUNT, summary.getRepositoryCount());
+        assertEquals(expectedStars, summary.getStars());
+        assertEquals(2L * REPOSITORY_COUNT, summary.getForks());
+        assertEquals(REPOSITORY_COUNT / 5, summary.getForkCount());
+        assertEquals(MEMBER_COUNT, summary.getMemberCount());
+        assertEquals(OrgDashboardRepository.MEMBER_SAMPLE, summary.getMemberSample().size());
+        assertEquals("member-000", summary.getMemberSample().get(0));
+        assertEquals(Arrays.asList(
+                        new OrgSummary.LanguageCount("Go", 313),
+                        new OrgSummary.LanguageCount("Java", 313),
+                        new OrgSummary.LanguageCount("Kotlin", 312)),
+                summary.getLanguages());
+        assertEquals(OrgDashboardRepository.TOP_REPOSITORIES, summary.getTopRepositories().size());
+        assertEquals(new OrgSummary.TopRepository("repo-1249", stars(1249)),
+                summary.getTopRepositories().get(0));
+        assertFalse(summary.isTruncated());
+
+        // Reopening reads the persisted totals without a request.
+        OrgDashboardRepository reopened = newRepository();
+        try {
+            OrgSummary cached = reopened.getCached("ACME");
+            assertEquals(18, requests.get());
+            assertEquals(summary.getStars(), cached.getStars());
+            assertEquals(summary.getLanguages(), cached.getLanguages());
+            assertEquals(summary.getTopRepositories(), cached.getTopRepositories());
+            assertEquals(summary.getMemberSample(), cached.getMemberSample());
+            assertEquals(summary.getComputedAt().toEpochMilli(), cached.getComputedAt().toEpochMilli());
+        } finally {
+            reopened.shutdown();
+        }
+    }
+
+    @Test
+    public void refresh_outOfBudgetKeepsTheStoredDashboard() throws Exception {
+        RateLimitBudget budget = new RateLimitBudget();
+        OrgDashboardRepository repository = newRepository(budget);
+        try {
+            OrgSummary complete = repository.refresh(ORG);
+
+            // Only the reserve is left before the first page.
+            budget.update("5000", "10", null);
+            try {
+                repository.refresh(ORG);
+                fail("Expected an IOException");
+            } catch (IOException expected) {
+                assertEquals(18, requests.get());
+            }
+
+            // The reserve is reached partway through.
+            budget.update("5000", "5000", null);
+            drainedBudget = budget;
+            drainAt = requests.get() + 3;
+            try {
+                repository.refresh(ORG);
+                fail("Expected an IOException");
+            } catch (IOException expected) {
+                assertTrue(requests.get() < 36);
+            }
+
+            OrgSummary stored = repository.getCached(ORG);
+            assertFalse(stored.isTruncated());
+            assertEquals(complete.getStars(), stored.getStars());
+            assertEquals(complete.getMemberCount(), stored.getMemberCount());
+        } finally {
+            repository.shutdown();
+        }
+    }
+
+    @Test
+    public void refresh_outOfBudgetWithNothingStoredReturnsTruncatedTotals() throws Exception {
+        RateLimitBudget budget = new RateLimitBudget();
+        drainedBudget = budget;
+        drainAt = 3;
+        OrgDashboardRepository repository = newRepository(budget);
+        try {
+            OrgSummary partial = repository.refresh(ORG);
+
+            assertTrue(partial.isTruncated());
+            assertTrue(partial.getRepositoryCount() < REPOSITORY_COUNT);
+            assertTrue(repository.getCached(ORG).isTruncated());
+        } finally {
+            repository.shutdown();
+        }
+    }
+
+    private OrgDashboardRepository newRepository() {
+        return newRepository(new RateLimitBudget());
+    }
+
+    private OrgDashboardRepository newRepository(RateLimitBudget budget) {
+        return new OrgDashboardRepository(retrofit.create(GithubApiService.class),
+                new OrgDashboardStore(storeDirectory), budget, MAX_CONCURRENCY);
+    }
+
+    private static int stars(int index) {
+        return index * 3;
+    }
+
+    private final class OrgDispatcher extends Dispatcher {
+        @Override
+        public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+            int now = concurrent.incrementAndGet();
+            maxConcurrent.accumulateAndGet(now, Math::max);
+            try {
+                if (requests.incrementAndGet() == drainAt) {
+                    drainedBudget.update("5000", "10", null);
+                }
+                requested.add(request.getPath());
+                Thread.sleep(20);
+                HttpUrl url = request.getRequestUrl();
+                int page = Integer.parseInt(url.queryParameter("page"));
+                int perPage = Integer.parseInt(url.queryParameter("per_page"));
+                boolean repos = url.encodedPath().equals("/orgs/" + ORG + "/repos");
+                int total = repos ? REPOSITORY_COUNT : MEMBER_COUNT;
+                int last = (total + perPage - 1) / perPage;
+                StringBuilder body = new StringBuilder("[");
+                for (int i = (page - 1) * perPage; i < Math.min(total, page * perPage); i++) {
+                    if (body.length() > 1) {
+                        body.append(',');
+                    }
+                    if (repos) {
+                        String language = LANGUAGES[i % LANGUAGES.length];
+                        body.append("{\"id\":").append(i)
+                                .append(",\"name\":\"repo-").append(i)
+                                .append("\",\"stargazers_count\":").append(stars(i))
+                                .append(",\"forks_count\":2,\"open_issues_count\":1")
+                                .append(",\"fork\":").append(i % 5 == 0)
+                                .append(",\"language\":").append(language == null ? "null" : "\"" + language + "\"")
+                                .append('}');
+                    } else {
+                        body.append(String.format("{\"id\":%d,\"login\":\"member-%03d\"}", i, i));
+                    }
+                }
+                body.append(']');
+                MockResponse response = new MockResponse().setBody(body.toString());
+                if (page < last) {
+                    String base = url.newBuilder().setQueryParameter("page", null).build().toString();
+                    response.addHeader("Link", "<" + base + "&page=" + (page + 1) + ">; rel=\"next\", <"
+                            + base + "&page=" + last + ">; rel=\"last\"");
+                }
+                return response;
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.usth.githubclient.data.repository;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.usth.githubclient.data.local.ProfileCache;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.data.remote.GithubGraphQlService;
+import com.usth.githubclient.domain.mapper.UserMapper;
+import com.usth.githubclient.domain.model.GitHubUserProfileDataEntry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import static org.junit.Assert.*;
+
+public class ProfileEnrichmentPipelineTest {
+
+    private final AtomicInteger graphQlRequests = new AtomicInteger();
+    private final Map<String, AtomicInteger> restRequests = new ConcurrentHashMap<>();
+    private volatile boolean graphQlFails;
+    private MockWebServer server;
+    private UserRepository userRepository;
+    private GraphQlRepository graphQlRepository;
+    private ProfileCache profileCache;
+    private QueuedExecutor executor;
+    private MutableClock clock;
+    private final List<String> enriched = Collections.synchronizedList(new ArrayList<>());
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.setDispatcher(new ProfileDispatcher());
+        server.start();
+        Retrofit retrofit = new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .addConverterFactory(GsonConverterFactory.create())
+                .build();
+        UserMapper userMapper = new UserMapper();
+        profileCache = new ProfileCache();
+        userRepository =
+                new UserRepository(retrofit.create(GithubApiService.class), userMapper, profileCache);
+        graphQlRepository = new GraphQlRepository(retrofit.create(GithubGraphQlService.class), userMapper);
+        executor = new QueuedExecutor();
+        clock = new MutableClock();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void request_servesCachedProfilesAndBatchesTheRest() {
+        ProfileEnrichmentPipeline pipeline = newPipeline(graphQlRepository);
+        for (int i = 0; i < 10; i++) {
+            profileCache.put(GitHubUserProfileDataEntry.builder(i, "user" + i).build());
+        }
+
+        pipeline.request(rows(0, 150), this::record);
+
+        // Cached rows arrive synchronously; 140 misses make one full batch and one of 40.
+        assertEquals(10, enriched.size());
+        assertEquals(2, executor.size());
+        executor.runAll();
+        assertEquals(150, enriched.size());
+        assertEquals(2, graphQlRequests.get());
+        assertTrue(restRequests.isEmpty());
+        assertTrue(profileCache.contains("user149"));
+    }
+
+    @Test
+    public void request_fallsBackToRestWhenTheBatchFails() {
+        ProfileEnrichmentPipeline pipeline = newPipeline(graphQlRepository);
+        graphQlFails = true;
+
+        pipeline.request(rows(0, 3), this::record);
+        executor.runAll();
+
+        assertEquals(1, graphQlRequests.get());
+        assertEquals(List.of("user0", "user1", "user2"), enriched);
+        assertEquals(3, restRequests.size());
+    }
+
+    @Test
+    public void request_dropsQueuedWorkForRowsThatScrolledAway() {
+        ProfileEnrichmentPipeline pipeline = newPipeline(null);
+
+        pipeline.request(rows(0, 5), this::record);
+        pipeline.request(rows(3, 5), this::record);
+        executor.runAll();
+
+        // 3 and 4 were already queued, 5 to 7 were added; 0 to 2 were never fetched.
+        assertEquals(List.of("user3", "user4", "user5", "user6", "user7"), enriched);
+        assertEquals(5, restRequests.size());
+    }
+
+    @Test
+    public void request_retriesAFailedLoginOnlyAfterTheRetryDelay() {
+        ProfileEnrichmentPipeline pipeline = newPipeline(null);
+        List<GitHubUserProfileDataEntry> ghost =
+                Collections.singletonList(GitHubUserProfileDataEntry.builder(1, "ghost").build());
+
+        pipeline.request(ghost, this::record);
+        executor.runAll();
+        pipeline.request(ghost, this::record);
+        clock.advance(ProfileEnrichmentPipeline.FAILURE_RETRY_MILLIS - 1);
+        pipeline.request(ghost, this::record);
+        assertEquals(0, executor.size());
+
+        clock.advance(1);
+        pipeline.request(ghost, this::record);
+        executor.runAll();
+
+        assertEquals(2, restRequests.get("ghost").get());
+        assertTrue(enriched.isEmpty());
+    }
+
+    private ProfileEnrichmentPipeline newPipeline(GraphQlRepository graphQl) {
+        return new ProfileEnrichmentPipeline(userRepository, graphQl, profileCache, executor, clock);
+    }
+
+    private void record(List<GitHubUserProfileDataEntry> profiles) {
+        for (GitHubUserProfileDataEntry profile : profiles) {
+            enriched.add(profile.getUsername());
+        }
+    }
+
+    private static List<GitHubUserProfileDataEntry> rows(int first, int count) {
+        List<GitHubUserProfileDataEntry> rows = new ArrayList<>(count);
+        for (int i = first; i < first + count; i++) {
+            rows.add(GitHubUserProfileDataEntry.builder(i, "user" + i).build());
+        }
+        return rows;
+    }
+
+    private final class ProfileDispatcher extends Dispatcher {
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            String path = request.getPath();
+            if (path.equals("/graphql")) {
+                graphQlRequests.incrementAndGet();
+                if (graphQlFails) {
+                    return new MockResponse().setResponseCode(502);
+                }
+                JsonObject variables = JsonParser.parseString(request.getBody().readUtf8())
+                        .getAsJsonObject().getAsJsonObject("variables");
+                JsonObject data = new JsonObject();
+                for (int i = 0; i < variables.size(); i++) {
+                    data.add("u" + i, user(variables.get("l" + i).getAsString(), true));
+                }
+                JsonObject body = new JsonObject();
+                body.add("data", data);
+                return new MockResponse().setBody(body.toString());
+            }
+            String login = path.substring("/users/".length());
+            restRequests.computeIfAbsent(login, ignored -> new AtomicInteger()).incrementAndGet();
+            if (login.equals("ghost")) {
+                return new MockResponse().setResponseCode(404);
+            }
+            return new MockResponse().setBody(user(login, false).toString());
+        }
+    }
+
+    private static JsonObject user(String login, boolean graphQl) {
+        JsonObject user = new JsonObject();
+        user.addProperty(graphQl ? "databaseId" : "id", Long.parseLong(login.substring("user".length())));
+        user.addProperty("login", login);
+        user.addProperty("bio", "Bio of " + login);
+        return user;
+    }
+
+    /** Holds submitted tasks until {@link #runAll()}, so tests decide when workers run. */
+    private static final class QueuedExecutor extends AbstractExecutorService {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean shutdown;
+
+        int size() {
+            return tasks.size();
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            List<Runnable> pending = new ArrayList<>(tasks);
+            tasks.clear();
+            return pending;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown && tasks.isEmpty();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return isTerminated();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private long millis = 1_700_000_000_000L;
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
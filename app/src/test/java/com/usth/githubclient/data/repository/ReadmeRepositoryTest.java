@@ -0,0 +1,93 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.ReadmeCache;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.domain.model.Readme;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.ByteString;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import static org.junit.Assert.*;
+
+public class ReadmeRepositoryTest {
+
+    private static final String SHA = "3d21ec53a331a6f037a91c368710b99387d012c1";
+
+    private MockWebServer server;
+    private ReadmeRepository repository;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        Retrofit retrofit = new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .addConverterFactory(GsonConverterFactory.create())
+                .build();
+        repository = new ReadmeRepository(retrofit.create(GithubApiService.class), new ReadmeCache());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void fetchReadme_revalidatesAndReusesRenderedHtmlBySha() throws Exception {
+        server.enqueue(readmeResponse("\"etag-1\""));
+        List<String> streamed = new ArrayList<>();
+        Readme first = repository.fetchReadme("octocat", "hello", (index, html) -> streamed.add(html));
+        RecordedRequest firstRequest = server.takeRequest();
+
+        assertEquals("/repos/octocat/hello/readme", firstRequest.getPath());
+        assertNull(firstRequest.getHeader("If-None-Match"));
+        assertEquals("README.md", first.getName());
+        assertEquals(first.getHtmlChunks(), streamed);
+        assertTrue(String.join("", streamed).contains("<h1>Hello</h1>"));
+
+        // Unchanged: a 304 with no body hands back the cached chunks.
+        server.enqueue(new MockResponse().setResponseCode(304).setHeader("ETag", "\"etag-1\""));
+        List<String> replayed = new ArrayList<>();
+        Readme second = repository.fetchReadme("octocat", "hello", (index, html) -> replayed.add(html));
+
+        assertEquals("\"etag-1\"", server.takeRequest().getHeader("If-None-Match"));
+        assertSame(first.getHtmlChunks(), second.getHtmlChunks());
+        assertEquals(streamed, replayed);
+
+        // A fork with the same blob renders nothing new.
+        server.enqueue(readmeResponse("\"etag-2\""));
+        Readme fork = repository.fetchReadme("someone", "hello", null);
+        assertNull(server.takeRequest().getHeader("If-None-Match"));
+        assertSame(first.getHtmlChunks(), fork.getHtmlChunks());
+    }
+
+    @Test
+    public void fetchReadme_returnsNullWithoutReadme() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(404).setBody("{\"message\":\"Not Found\"}"));
+        assertNull(repository.fetchReadme("octocat", "empty", null));
+    }
+
+    private static MockResponse readmeResponse(String etag) {
+        String markdown = "# Hello\n\nSome *text*.\n\n```\ncode\n```\n";
+        // GitHub wraps the base64 body every 60 characters.
+        String base64 = ByteString.of(markdown.getBytes(StandardCharsets.UTF_8)).base64()
+                .replaceAll("(.{60})", "$1\\\\n");
+        return new MockResponse()
+                .setHeader("ETag", etag)
+                .setBody("{\"name\":\"README.md\",\"path\":\"README.md\",\"sha\":\"" + SHA + "\","
+                        + "\"encoding\":\"base64\",\"content\":\"" + base64 + "\","
+                        + "\"html_url\":\"https://github.com/octocat/hello/blob/main/README.md\"}");
+    }
+}
@@ -0,0 +1,147 @@
+package com.usth.githubclient.data.repository;
+
+import com.usth.githubclient.data.local.RepoCache;
+import com.usth.githubclient.data.remote.GithubApiService;
+import com.usth.githubclient.domain.mapper.RepoMapper;
+import com.usth.githubclient.domain.mapper.UserMapper;
+import com.usth.githubclient.domain.model.ReposDataEntry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+import static org.junit.Assert.*;
+
+public class RepoRepositoryTest {
+
+    private MockWebServer server;
+    private RepoCache cache;
+    private RepoRepository repository;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        GithubApiService service = new Retrofit.Builder()
+                .baseUrl(server.url("/"))
+                .addConverterFactory(GsonConverterFactory.create())
+                .build()
+                .create(GithubApiService.class);
+        cache = new RepoCache();
+        repository = new RepoRepository(service, new RepoMapper(new UserMapper()), cache);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void importStarred_readsEveryPageAndMakesOpeningARepositoryACacheHit() throws Exception {
+        server.enqueue(new MockResponse().setBody(repos(0, RepoRepository.IMPORT_PER_PAGE)));
+        server.enqueue(new MockResponse().setBody(repos(RepoRepository.IMPORT_PER_PAGE, 5)));
+
+        List<ReposDataEntry> starred = repository.importStarredRepositories("octocat");
+
+        assertEquals(105, starred.size());
+        assertEquals(2, server.getRequestCount());
+        assertEquals("/users/octocat/starred?per_page=100&page=1", server.takeRequest().getPath());
+        assertEquals("/users/octocat/starred?per_page=100&page=2", server.takeRequest().getPath());
+        assertEquals(105, cache.size());
+        // Ten owners, one instance each.
+        assertSame(starred.get(0).getOwner().get(), starred.get(10).getOwner().get());
+        assertSame(starred.get(3).getOwner().get(), starred.get(103).getOwner().get());
+
+        ReposDataEntry opened = repository.fetchRepository("OWNER7", "repo-57");
+        assertSame(starred.get(57), opened);
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void importWatched_readsEveryPageAndKeepsAllOfItCached() throws Exception {
+        int pages = 51;
+        for (int page = 0; page < pages; page++) {
+            int first = page * RepoRepository.IMPORT_PER_PAGE;
+            server.enqueue(new MockResponse().setBody(repos(first, RepoRepository.IMPORT_PER_PAGE)));
+        }
+        server.enqueue(new MockResponse().setBody("[]"));
+
+        List<ReposDataEntry> watched = repository.importWatchedRepositories(null);
+
+        assertEquals(pages * RepoRepository.IMPORT_PER_PAGE, watched.size());
+        assertEquals(pages + 1, server.getRequestCount());
+        assertEquals("repo-5099", watched.get(watched.size() - 1).getName());
+        // Far more than the LRU holds, yet the first repository imported is still a hit.
+        assertSame(watched.get(0), repository.fetchRepository("owner0", "repo-0"));
+        assertSame(watched.get(2_500), repository.fetchRepository("owner0", "repo-2500"));
+        assertEquals(pages + 1, server.getRequestCount());
+    }
+
+    @Test
+    public void fetchRepository_storesWhatItFetched() throws Exception {
+        server.enqueue(new MockResponse().setBody(repo(1)));
+
+        ReposDataEntry first = repository.fetchRepository("owner1", "repo-1");
+        ReposDataEntry second = repository.fetchRepository("owner1", "repo-1");
+
+        assertSame(first, second);
+        assertEquals(1, server.getRequestCount());
+        assertEquals(1L, cache.getHitCount());
+    }
+
+    @Test
+    public void fetchUserRepositories_servesTheCacheWhileGitHubFails() throws Exception {
+        server.enqueue(new MockResponse().setBody(repos(0, 20)));
+        repository.fetchUserRepositories("owner3");
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setResponseCode(404));
+
+        List<ReposDataEntry> cached = repository.fetchUserRepositories("OWNER3");
+        assertEquals(2, cached.size());
+        for (ReposDataEntry entry : cached) {
+            assertEquals("owner3", entry.getOwnerLogin().get());
+        }
+        try {
+            repository.fetchUserRepositories("nobody-cached");
+            fail("expected the server error without cached repositories");
+        } catch (IOException expected) {
+            assertEquals(3, server.getRequestCount());
+        }
+        try {
+            repository.fetchUserRepositories("owner3");
+            fail("expected a client error to reach the caller");
+        } catch (IOException expected) {
+            assertEquals(4, server.getRequestCount());
+        }
+    }
+
+    private static String repos(int first, int count) {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = first; i < first + count; i++) {
+            if (i > first) {
+                body.append(',');
+            }
+            body.append(repo(i));
+        }
+        return body.append(']').toString();
+    }
+
+    private static String repo(int index) {
+        String owner = "owner" + index % 10;
+        return "{\"id\":" + (1000 + index) + ",\"name\":\"repo-" + index + "\","
+                + "\"full_name\":\"" + owner + "/repo-" + index + "\","
+                + "\"html_url\":\"https://github.com/" + owner + "/repo-" + index + "\","
+                + "\"stargazers_count\":" + index + ","
+                + "\"owner\":{\"id\":" + (index % 10 + 1) + ",\"login\":\"" + owner + "\","
+                + "\"html_url\":\"https://github.com/" + owner + "\"}}";
+    }
+}
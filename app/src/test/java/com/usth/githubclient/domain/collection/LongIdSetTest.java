@@ -0,0 +1,41 @@
+package com.usth.githubclient.domain.collection;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class LongIdSetTest {
+
+    @Test
+    public void of_sortsAndRemovesDuplicates() {
+        LongIdSet set = LongIdSet.of(5L, 1L, 3L, 5L, 1L);
+        assertArrayEquals(new long[]{1L, 3L, 5L}, set.toArray());
+        assertTrue(set.contains(3L));
+        assertFalse(set.contains(4L));
+    }
+
+    @Test
+    public void setAlgebra_matchesExpectedIds() {
+        LongIdSet followers = LongIdSet.of(1L, 2L, 3L, 4L);
+        LongIdSet following = LongIdSet.of(3L, 4L, 5L);
+
+        assertArrayEquals(new long[]{3L, 4L}, followers.intersect(following).toArray());
+        assertArrayEquals(new long[]{1L, 2L}, followers.difference(following).toArray());
+        assertArrayEquals(new long[]{5L}, following.difference(followers).toArray());
+        assertArrayEquals(new long[]{1L, 2L, 3L, 4L, 5L}, followers.union(following).toArray());
+        assertEquals(2, followers.intersectionSize(following));
+    }
+
+    @Test
+    public void builder_acceptsIdsInAnyOrder() {
+        LongIdSet.Builder builder = LongIdSet.builder(1);
+        for (long id = 100L; id > 0L; id--) {
+            builder.add(id);
+            builder.add(id);
+        }
+        LongIdSet set = builder.build();
+        assertEquals(100, set.size());
+        assertEquals(1L, set.get(0));
+        assertEquals(100L, set.get(99));
+    }
+}
@@ -0,0 +1,99 @@
+package com.usth.githubclient.domain.collection;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PersistentListTest {
+
+    @Test
+    public void builder_matchesArrayListAcrossTrieLevels() {
+        // 32 * 32 + 32 + 1 forces a second trie level; 40k forces a third.
+        for (int size : new int[]{0, 1, 31, 32, 33, 1024, 1056, 1057, 40_000}) {
+            List<Integer> expected = new ArrayList<>();
+            PersistentList.Builder<Integer> builder = PersistentList.builder();
+            for (int i = 0; i < size; i++) {
+                expected.add(i);
+                builder.add(i);
+            }
+            PersistentList<Integer> list = builder.build();
+            assertEquals(expected, list);
+            assertEquals(expected.hashCode(), list.hashCode());
+            for (int i = 0; i < size; i++) {
+                assertEquals(i, (int) list.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void plus_leavesEarlierVersionsUnchanged() {
+        PersistentList<Integer> list = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            versions.add(list);
+            list = list.plus(i);
+        }
+        for (int size = 0; size < versions.size(); size++) {
+            PersistentList<Integer> version = versions.get(size);
+            assertEquals(size, version.size());
+            if (size > 0) {
+                assertEquals(size - 1, (int) version.get(size - 1));
+            }
+        }
+    }
+
+    @Test
+    public void plusAll_appendsPagesAndSharesPrefix() {
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        while (expected.size() < 5_000) {
+            List<Integer> page = new ArrayList<>();
+            int pageSize = 1 + random.nextInt(100);
+            for (int i = 0; i < pageSize; i++) {
+                page.add(random.nextInt());
+            }
+            PersistentList<Integer> before = list;
+            int beforeSize = expected.size();
+            list = list.plusAll(page);
+            expected.addAll(page);
+            assertEquals(expected, list);
+            assertEquals(beforeSize, before.size());
+        }
+    }
+
+    @Test
+    public void filter_returnsSameInstanceWhenEverythingMatches() {
+        PersistentList<Integer> list = PersistentList.copyOf(range(100));
+
+        assertSame(list, list.filter(value -> true));
+        assertEquals(Collections.emptyList(), list.filter(value -> false));
+        PersistentList<Integer> even = list.filter(value -> value % 2 == 0);
+        assertEquals(50, even.size());
+        assertEquals(98, (int) even.get(49));
+    }
+
+    @Test
+    public void copyOf_persistentListIsNoOp() {
+        PersistentList<Integer> list = PersistentList.copyOf(range(10));
+        assertSame(list, PersistentList.copyOf(list));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void mutators_areRejected() {
+        PersistentList.copyOf(range(3)).add(4);
+    }
+
+    private static List<Integer> range(int size) {
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(i);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,85 @@
+package com.usth.githubclient.domain.markdown;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MarkdownRendererTest {
+
+    @Test
+    public void render_keepsFencesWholeAndResolvesReferencesAcrossChunks() {
+        StringBuilder markdown = new StringBuilder("# Title\n\nSee [the docs][docs] first.\n\n");
+        for (int i = 0; i < 20; i++) {
+            markdown.append("Paragraph ").append(i).append(" with some *emphasis* in it.\n\n");
+        }
+        markdown.append("```java\nint a = 1;\n\nif (a < 2) { }\n```\n\n");
+        for (int i = 20; i < 40; i++) {
+            markdown.append("Paragraph ").append(i).append(".\n\n");
+        }
+        markdown.append("[docs]: https://example.com/docs\n");
+
+        List<Integer> reported = new ArrayList<>();
+        List<String> chunks = new MarkdownRenderer(200).render(
+                markdown.toString(), (index, html) -> reported.add(index));
+
+        assertTrue("chunks " + chunks.size(), chunks.size() > 3);
+        assertEquals(chunks.size(), reported.size());
+        assertTrue(chunks.get(0).contains("<h1>Title</h1>"));
+        assertTrue(chunks.get(0).contains("<a href=\"https://example.com/docs\">the docs</a>"));
+        String html = String.join("", chunks);
+        assertTrue(html.contains("<pre><code class=\"language-java\">int a = 1;\n\nif (a &lt; 2) { }\n</code></pre>"));
+        assertFalse(html.contains("```"));
+        assertFalse(html.contains("[docs]:"));
+        for (int i = 0; i < 40; i++) {
+            assertTrue("paragraph " + i, html.contains("<p>Paragraph " + i + (i < 20 ? " with" : ".")));
+        }
+    }
+
+    @Test
+    public void render_stopsWhenInterrupted() {
+        StringBuilder markdown = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            markdown.append("Paragraph ").append(i).append("\n\n");
+        }
+        Thread.currentThread().interrupt();
+        try {
+            assertNull(new MarkdownRenderer(50).render(markdown.toString(), null));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    /**
+     * A list item continued by indented paragraphs for 200 KB offers no regular split point; the
+     * chunks must still stay small enough to render on a small stack.
+     */
+    @Test
+    public void render_capsChunksWithoutASplitPoint() throws Exception {
+        StringBuilder markdown = new StringBuilder("- one item\n\n");
+        for (int i = 0; markdown.length() < 200_000; i++) {
+            markdown.append("    continued with *paragraph* ").append(i).append("\n\n");
+        }
+        int target = 1_000;
+        List<Integer> sizes = new ArrayList<>();
+        Throwable[] failure = new Throwable[1];
+        Thread small = new Thread(null, () -> {
+            try {
+                new MarkdownRenderer(target).render(markdown.toString(), (index, html) -> sizes.add(html.length()));
+            } catch (Throwable throwable) {
+                failure[0] = throwable;
+            }
+        }, "markdown-small-stack", 256L << 10);
+        small.start();
+        small.join();
+
+        assertNull(failure[0]);
+        assertTrue("chunks " + sizes.size(), sizes.size() > 40);
+        for (int size : sizes) {
+            // Some HTML per source character, but nothing near the unbounded 200 KB.
+            assertTrue("chunk of " + size, size < target * MarkdownRenderer.MAX_CHUNK_FACTOR * 3);
+        }
+    }
+}
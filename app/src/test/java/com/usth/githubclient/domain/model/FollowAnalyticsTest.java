@@ -0,0 +1,65 @@
+package com.usth.githubclient.domain.model;
+
+import com.usth.githubclient.domain.collection.LongIdSet;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class FollowAnalyticsTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-01T00:00:00Z");
+
+    @Test
+    public void compute_splitsIntoMutualsFansAndNonFollowbacks() {
+        FollowAnalytics analytics = FollowAnalytics.compute(
+                "octocat", LongIdSet.of(1L, 2L, 3L), LongIdSet.of(2L, 3L, 4L), NOW);
+
+        assertArrayEquals(new long[]{2L, 3L}, analytics.getMutuals().toArray());
+        assertArrayEquals(new long[]{1L}, analytics.getFans().toArray());
+        assertArrayEquals(new long[]{4L}, analytics.getNotFollowingBack().toArray());
+    }
+
+    @Test
+    public void withFollowerChanges_matchesFullRecompute() {
+        LongIdSet following = LongIdSet.of(2L, 3L, 4L, 5L);
+        FollowAnalytics before = FollowAnalytics.compute(
+                "octocat", LongIdSet.of(1L, 2L, 3L), following, NOW);
+
+        FollowAnalytics patched = before.withFollowerChanges(
+                LongIdSet.of(4L, 9L), LongIdSet.of(1L, 3L), NOW);
+        FollowAnalytics expected = FollowAnalytics.compute(
+                "octocat", LongIdSet.of(2L, 4L, 9L), following, NOW);
+
+        assertEquals(expected.getFollowers(), patched.getFollowers());
+        assertEquals(expected.getMutuals(), patched.getMutuals());
+        assertEquals(expected.getFans(), patched.getFans());
+        assertEquals(expected.getNotFollowingBack(), patched.getNotFollowingBack());
+    }
+
+    /** Partitions stay consistent at 100k ids per side. */
+    @Test
+    public void compute_handlesHundredThousandIdsPerSide() {
+        Random random = new Random(42L);
+        LongIdSet.Builder followers = LongIdSet.builder(100_000);
+        LongIdSet.Builder following = LongIdSet.builder(100_000);
+        for (int i = 0; i < 100_000; i++) {
+            followers.add(random.nextInt(300_000));
+            following.add(random.nextInt(300_000));
+        }
+        LongIdSet followerIds = followers.build();
+        LongIdSet followingIds = following.build();
+
+        FollowAnalytics analytics = FollowAnalytics.compute("octocat", followerIds, followingIds, NOW);
+        FollowAnalytics patched = analytics.withFollowerChanges(
+                LongIdSet.of(300_001L, 300_002L), LongIdSet.of(followerIds.get(0)), NOW);
+
+        assertEquals(followerIds.size(), analytics.getMutuals().size() + analytics.getFans().size());
+        assertEquals(followingIds.size(),
+                analytics.getMutuals().size() + analytics.getNotFollowingBack().size());
+        assertEquals(followerIds.size() + 1, patched.getFollowers().size());
+    }
+}
@@ -0,0 +1,152 @@
+package com.usth.githubclient.domain.query;
+
+import com.usth.githubclient.domain.model.ReposDataEntry;
+import com.usth.githubclient.domain.query.RepositoryQuery.Inclusion;
+import com.usth.githubclient.domain.query.RepositoryQuery.SortField;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class RepositoryIndexTest {
+
+    private static final int REPOSITORY_COUNT = 10_000;
+    private static final String[] LANGUAGES = {"Java", "Kotlin", "Go", "Rust", "TypeScript", "C", null};
+
+    @Test
+    public void sorts_matchComparatorOrderWithApiOrderTieBreak() {
+        List<ReposDataEntry> repositories = randomRepositories(REPOSITORY_COUNT, 1);
+        RepositoryIndex index = RepositoryIndex.of(repositories);
+
+        for (SortField field : SortField.values()) {
+            for (boolean descending : new boolean[]{false, true}) {
+                RepositoryQuery query = RepositoryQuery.builder().sort(field, descending).build();
+                assertEquals(field + " desc=" + descending,
+                        reference(repositories, query), index.query(query).getRepositories());
+            }
+        }
+    }
+
+    @Test
+    public void filters_combineLanguageAndFlags() {
+        List<ReposDataEntry> repositories = randomRepositories(REPOSITORY_COUNT, 2);
+        RepositoryIndex index = RepositoryIndex.of(repositories);
+        RepositoryQuery query = RepositoryQuery.builder()
+                .sort(SortField.STARS, true)
+                .language("Go")
+                .forks(Inclusion.EXCLUDE)
+                .archived(Inclusion.EXCLUDE)
+                .privateRepositories(Inclusion.ONLY)
+                .build();
+
+        List<ReposDataEntry> result = index.query(query).getRepositories();
+
+        assertFalse(result.isEmpty());
+        assertEquals(reference(repositories, query), result);
+        assertTrue(index.query(query.toBuilder().language("COBOL").build()).getRepositories().isEmpty());
+    }
+
+    @Test
+    public void groupByLanguage_keepsSortOrderInsideEachGroup() {
+        List<ReposDataEntry> repositories = randomRepositories(2_000, 3);
+        RepositoryIndex index = RepositoryIndex.of(repositories);
+        RepositoryQuery query = RepositoryQuery.builder()
+                .sort(SortField.PUSHED_AT, true)
+                .groupByLanguage(true)
+                .build();
+
+        RepositoryQueryResult result = index.query(query);
+
+        List<String> groupLanguages = new ArrayList<>();
+        int covered = 0;
+        for (RepositoryQueryResult.LanguageGroup group : result.getGroups()) {
+            assertEquals(covered, group.getStart());
+            groupLanguages.add(group.getLanguage());
+            List<ReposDataEntry> members = result.getRepositories()
+                    .subList(group.getStart(), group.getStart() + group.getSize());
+            List<ReposDataEntry> expected = reference(repositories, query).stream()
+                    .filter(repository -> java.util.Objects.equals(
+                            repository.getLanguage().orElse(null), group.getLanguage()))
+                    .collect(Collectors.toList());
+            assertEquals(expected, members);
+            covered += group.getSize();
+        }
+        assertEquals(repositories.size(), covered);
+        assertEquals(java.util.Arrays.asList("C", "Go", "Java", "Kotlin", "Rust", "TypeScript", null),
+                groupLanguages);
+    }
+
+    @Test
+    public void defaultsAndRepeatedQueries_reuseResults() {
+        List<ReposDataEntry> repositories = randomRepositories(100, 4);
+        RepositoryIndex index = RepositoryIndex.of(repositories);
+        RepositoryQuery byName = RepositoryQuery.builder().sort(SortField.NAME, false).build();
+
+        assertSame(index.getRepositories(), index.query(RepositoryQuery.defaults()).getRepositories());
+        RepositoryQueryResult first = index.query(byName);
+        assertSame(first, index.query(RepositoryQuery.builder().sort(SortField.NAME, false).build()));
+    }
+
+    private static List<ReposDataEntry> reference(List<ReposDataEntry> repositories, RepositoryQuery query) {
+        Comparator<ReposDataEntry> comparator = comparatorFor(query.getSortField());
+        List<ReposDataEntry> result = repositories.stream()
+                .filter(repository -> matches(repository.isFork(), query.getForks()))
+                .filter(repository -> matches(repository.isPrivate(), query.getPrivateRepositories()))
+                .filter(repository -> matches(repository.isArchived(), query.getArchived()))
+                .filter(repository -> query.getLanguage() == null
+                        || query.getLanguage().equals(repository.getLanguage().orElse(null)))
+                .collect(Collectors.toList());
+        if (comparator != null) {
+            // List.sort is stable, so ties keep the API order in both directions.
+            result.sort(query.isDescending() ? comparator.reversed() : comparator);
+        }
+        return result;
+    }
+
+    private static Comparator<ReposDataEntry> comparatorFor(SortField field) {
+        switch (field) {
+            case STARS:
+                return Comparator.comparingInt(ReposDataEntry::getStargazersCount);
+            case FORKS:
+                return Comparator.comparingInt(ReposDataEntry::getForksCount);
+            case PUSHED_AT:
+                return Comparator.comparingLong(repository ->
+                        repository.getPushedAt().map(Instant::toEpochMilli).orElse(Long.MIN_VALUE));
+            case NAME:
+                return Comparator.comparing(ReposDataEntry::getName, String.CASE_INSENSITIVE_ORDER);
+            default:
+                return null;
+        }
+    }
+
+    private static boolean matches(boolean value, Inclusion inclusion) {
+        return inclusion == Inclusion.ANY || (inclusion == Inclusion.ONLY) == value;
+    }
+
+    private static List<ReposDataEntry> randomRepositories(int count, long seed) {
+        Random random = new Random(seed);
+        Instant base = Instant.parse("2020-01-01T00:00:00Z");
+        List<ReposDataEntry> repositories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Small value ranges force plenty of ties.
+            String name = (random.nextBoolean() ? "Repo-" : "repo-") + random.nextInt(count / 2);
+            repositories.add(ReposDataEntry.builder(i + 1, name, "https://github.com/octocat/" + name)
+                    .language(LANGUAGES[random.nextInt(LANGUAGES.length)])
+                    .stargazersCount(random.nextInt(500))
+                    .forksCount(random.nextInt(50))
+                    .isFork(random.nextInt(4) == 0)
+                    .isPrivate(random.nextInt(3) == 0)
+                    .isArchived(random.nextInt(5) == 0)
+                    .pushedAt(random.nextInt(10) == 0 ? null : base.plusSeconds(random.nextInt(100_000) * 60L))
+                    .build());
+        }
+        return repositories;
+    }
+}
@@ -0,0 +1,33 @@
+package com.usth.githubclient.image;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AvatarUrlsTest {
+
+    @Test
+    public void sized_appendsSizeToExistingQuery() {
+        assertEquals("https://avatars.githubusercontent.com/u/583231?v=4&s=168",
+                AvatarUrls.sized("https://avatars.githubusercontent.com/u/583231?v=4", 168));
+    }
+
+    @Test
+    public void sized_addsQueryWhenMissing() {
+        assertEquals("https://avatars.githubusercontent.com/u/1?s=96",
+                AvatarUrls.sized("https://avatars.githubusercontent.com/u/1", 96));
+    }
+
+    @Test
+    public void sized_replacesExistingSize() {
+        assertEquals("https://avatars0.githubusercontent.com/u/1?v=4&s=64",
+                AvatarUrls.sized("https://avatars0.githubusercontent.com/u/1?s=460&v=4", 64));
+    }
+
+    @Test
+    public void sized_leavesOtherHostsAndNullUntouched() {
+        assertEquals("https://example.com/a.png?v=1",
+                AvatarUrls.sized("https://example.com/a.png?v=1", 64));
+        assertNull(AvatarUrls.sized(null, 64));
+    }
+}